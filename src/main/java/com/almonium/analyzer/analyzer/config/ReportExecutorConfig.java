@@ -0,0 +1,42 @@
+package com.almonium.analyzer.analyzer.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ReportExecutorConfig {
+
+    @Value("${app.analyzer.report.pool-size}")
+    private int poolSize;
+
+    @Value("${app.analyzer.report.batch-concurrency}")
+    private int batchConcurrency;
+
+    @Bean
+    public ThreadPoolTaskExecutor reportTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("report-");
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        // stages rejected by a saturated pool are reported as missing instead of queuing indefinitely
+        executor.setQueueCapacity(poolSize * 4);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(5);
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor batchReportTaskExecutor() {
+        // each task builds a whole report and fans its stages out to reportTaskExecutor
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("batch-report-");
+        executor.setCorePoolSize(batchConcurrency);
+        executor.setMaxPoolSize(batchConcurrency);
+        executor.setQueueCapacity(1000);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(5);
+        return executor;
+    }
+}
@@ -3,8 +3,14 @@ package com.almonium.analyzer.analyzer.controller;
 import static lombok.AccessLevel.PRIVATE;
 
 import com.almonium.analyzer.analyzer.dto.AnalysisDto;
+import com.almonium.analyzer.analyzer.dto.BatchReportItemDto;
+import com.almonium.analyzer.analyzer.dto.BatchReportRequest;
+import com.almonium.analyzer.analyzer.service.BatchReportService;
 import com.almonium.analyzer.analyzer.service.LanguageProcessor;
 import com.almonium.analyzer.client.words.dto.WordsReportDto;
+import com.almonium.analyzer.speech.model.SpeechAudio;
+import com.almonium.analyzer.speech.model.SpeechKey;
+import com.almonium.analyzer.speech.service.SpeechService;
 import com.almonium.analyzer.translator.dto.MLTranslationCard;
 import com.almonium.analyzer.translator.dto.TranslationCardDto;
 import com.almonium.analyzer.translator.model.enums.Language;
@@ -12,11 +18,18 @@ import com.almonium.auth.common.annotation.Auth;
 import com.almonium.card.core.dto.CardDto;
 import com.almonium.card.core.service.CardService;
 import com.almonium.user.core.model.entity.User;
+import jakarta.validation.Valid;
+import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
-import org.springframework.core.io.ByteArrayResource;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -25,8 +38,12 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 
+@Slf4j
 @RestController
 @RequestMapping("/lang")
 @RequiredArgsConstructor
@@ -34,10 +51,24 @@ import org.springframework.web.bind.annotation.RestController;
 public class LangController {
     CardService cardService;
     LanguageProcessor languageProcessor;
+    BatchReportService batchReportService;
+    SpeechService speechService;
+
+    @NonFinal
+    @Value("${app.analyzer.report.batch-timeout}")
+    long batchTimeoutMs;
+
+    @NonFinal
+    @Value("${app.analyzer.speech.max-age}")
+    long audioMaxAgeSeconds;
 
     @GetMapping("/cards/search/{text}")
-    public ResponseEntity<List<CardDto>> search(@PathVariable String text, @Auth User user) {
-        return ResponseEntity.ok(cardService.searchByEntry(text, user.getLearner()));
+    public ResponseEntity<List<CardDto>> search(
+            @PathVariable String text,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @Auth User user) {
+        return ResponseEntity.ok(cardService.searchByEntry(text, user.getLearner(), page, size));
     }
 
     @GetMapping("/translate/{langFrom}/{langTo}/{text}")
@@ -63,14 +94,26 @@ public class LangController {
     }
 
     @GetMapping("/words/{text}/audio/{lang}")
-    public ResponseEntity<Resource> bulkPronounce(@PathVariable String lang, @PathVariable String text) {
-        byte[] bytes = languageProcessor.textToSpeech(lang, text).toByteArray();
+    public ResponseEntity<Resource> bulkPronounce(
+            @PathVariable String lang, @PathVariable String text, WebRequest webRequest) {
+        SpeechKey key = speechService.keyOf(lang, text);
+        // the ETag is derived from the key, so a revalidation is answered without synthesizing or reading audio
+        String eTag = "\"" + key.hash() + "\"";
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        SpeechAudio audio = speechService.textToSpeech(key);
 
+        // the file is streamed from disk; Range requests are served from it as well
         return ResponseEntity.ok()
-                .headers(createAudioHeaders())
-                .contentLength(bytes.length)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=file.mp3")
+                .cacheControl(CacheControl.maxAge(audioMaxAgeSeconds, TimeUnit.SECONDS)
+                        .cachePublic()
+                        .immutable())
+                .eTag(eTag)
+                .contentLength(audio.size())
                 .contentType(MediaType.parseMediaType("audio/mpeg"))
-                .body(new ByteArrayResource(bytes));
+                .body(new FileSystemResource(audio.file()));
     }
 
     @GetMapping("/words/{text}/{lang}/report")
@@ -79,12 +122,30 @@ public class LangController {
         return ResponseEntity.ok(languageProcessor.getReport(text, lang, user.getLearner()));
     }
 
-    private HttpHeaders createAudioHeaders() {
-        HttpHeaders header = new HttpHeaders();
-        header.add(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=file.mp3");
-        header.add("Cache-Control", "no-cache, no-store, must-revalidate");
-        header.add("Pragma", "no-cache");
-        header.add("Expires", "0");
-        return header;
+    // streams one JSON object per line (NDJSON) as soon as each report is ready
+    @PostMapping(value = "/words/{lang}/reports", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseBodyEmitter getReports(
+            @PathVariable String lang, @Valid @RequestBody BatchReportRequest request, @Auth User user) {
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(batchTimeoutMs);
+        batchReportService
+                .streamReports(
+                        request.entries(),
+                        Language.valueOf(lang),
+                        languageProcessor.getFluentLanguage(user.getLearner()),
+                        item -> sendLine(emitter, item))
+                .whenComplete((ignored, ex) -> emitter.complete());
+        return emitter;
+    }
+
+    private void sendLine(ResponseBodyEmitter emitter, BatchReportItemDto item) {
+        // items arrive from several threads, the object and its line break must not interleave
+        synchronized (emitter) {
+            try {
+                emitter.send(item, MediaType.APPLICATION_JSON);
+                emitter.send("\n", MediaType.TEXT_PLAIN);
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Batch report client went away: {}", e.getMessage());
+            }
+        }
     }
 }
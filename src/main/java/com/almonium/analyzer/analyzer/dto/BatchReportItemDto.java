@@ -0,0 +1,17 @@
+package com.almonium.analyzer.analyzer.dto;
+
+import java.util.List;
+
+/**
+ * One line of a batch report stream: the report for a lemma and all submitted entries that reduce to it.
+ * Exactly one of {@code report} and {@code error} is set.
+ */
+public record BatchReportItemDto(String lemma, List<String> entries, AnalysisDto report, String error) {
+    public static BatchReportItemDto success(String lemma, List<String> entries, AnalysisDto report) {
+        return new BatchReportItemDto(lemma, entries, report, null);
+    }
+
+    public static BatchReportItemDto failure(String lemma, List<String> entries, String error) {
+        return new BatchReportItemDto(lemma, entries, null, error);
+    }
+}
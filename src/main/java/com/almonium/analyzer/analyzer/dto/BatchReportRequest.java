@@ -0,0 +1,8 @@
+package com.almonium.analyzer.analyzer.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record BatchReportRequest(@NotEmpty @Size(max = 200) List<@NotBlank String> entries) {}
@@ -0,0 +1,5 @@
+package com.almonium.analyzer.analyzer.model;
+
+import com.almonium.analyzer.analyzer.model.enums.POS;
+
+public record NlpToken(String word, POS pos, String lemma) {}
@@ -1,5 +1,6 @@
 package com.almonium.analyzer.analyzer.model.enums;
 
+import java.util.Optional;
 import lombok.Getter;
 
 @Getter
@@ -49,12 +50,17 @@ public enum POS {
     }
 
     public static POS fromString(String text) {
+        return find(text).orElseThrow(() -> new IllegalArgumentException("Can't find POS for: " + text));
+    }
+
+    // empty for tags of punctuation, quotes and brackets, which aren't parts of speech
+    public static Optional<POS> find(String text) {
         for (POS pos : POS.values()) {
             if (pos.code.equalsIgnoreCase(text)) {
-                return pos;
+                return Optional.of(pos);
             }
         }
-        throw new IllegalArgumentException("Can't find POS for: " + text);
+        return Optional.empty();
     }
 
     public boolean isAdjective() {
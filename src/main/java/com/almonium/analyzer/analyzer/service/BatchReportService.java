@@ -0,0 +1,116 @@
+package com.almonium.analyzer.analyzer.service;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.analyzer.analyzer.dto.AnalysisDto;
+import com.almonium.analyzer.analyzer.dto.BatchReportItemDto;
+import com.almonium.analyzer.analyzer.model.NlpToken;
+import com.almonium.analyzer.translator.model.enums.Language;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class BatchReportService {
+    LanguageProcessor languageProcessor;
+    CoreNLPServiceImpl coreNLPServiceImpl;
+    ThreadPoolTaskExecutor batchReportTaskExecutor;
+
+    /**
+     * Reports every distinct lemma of {@code entries} once and hands each result to {@code sink} as soon as it's
+     * ready, so a slow entry doesn't hold back the others. The sink may be called from several threads.
+     * The returned future completes after the last result has been handed over.
+     * Entries are lemmatized on {@code batchReportTaskExecutor} and a lemma's report starts as soon as the first
+     * entry reducing to it is lemmatized; results are handed over once every entry is lemmatized, so each one
+     * lists all the entries of its lemma.
+     */
+    public CompletableFuture<Void> streamReports(
+            List<String> entries, Language sourceLang, Language fluentLang, Consumer<BatchReportItemDto> sink) {
+        Map<String, CompletableFuture<AnalysisDto>> reports = new ConcurrentHashMap<>();
+        List<CompletableFuture<String>> lemmas = entries.stream()
+                .map(entry -> lemmaOf(entry).thenApply(lemma -> {
+                    reports.computeIfAbsent(lemma, key -> report(key, sourceLang, fluentLang));
+                    return lemma;
+                }))
+                .toList();
+
+        return CompletableFuture.allOf(lemmas.toArray(CompletableFuture[]::new))
+                .thenCompose(ignored -> {
+                    Map<String, List<String>> entriesByLemma = new LinkedHashMap<>();
+                    for (int i = 0; i < entries.size(); i++) {
+                        entriesByLemma
+                                .computeIfAbsent(lemmas.get(i).join(), lemma -> new ArrayList<>())
+                                .add(entries.get(i));
+                    }
+                    CompletableFuture<?>[] items = entriesByLemma.entrySet().stream()
+                            .map(group -> item(group.getKey(), group.getValue(), reports.get(group.getKey()))
+                                    .thenAccept(sink))
+                            .toArray(CompletableFuture[]::new);
+                    return CompletableFuture.allOf(items);
+                });
+    }
+
+    private CompletableFuture<String> lemmaOf(String entry) {
+        try {
+            return CompletableFuture.supplyAsync(() -> lemmatize(entry), batchReportTaskExecutor)
+                    .exceptionally(ex -> {
+                        log.warn("Could not lemmatize '{}': {}", entry, ex.toString());
+                        return asIs(entry);
+                    });
+        } catch (RejectedExecutionException ex) {
+            return CompletableFuture.completedFuture(asIs(entry));
+        }
+    }
+
+    private String lemmatize(String entry) {
+        String lemma = coreNLPServiceImpl.annotate(entry).stream()
+                .map(NlpToken::lemma)
+                .collect(Collectors.joining(" "))
+                .toLowerCase(Locale.ROOT);
+        // nothing but punctuation; keep the entry as is
+        return lemma.isEmpty() ? asIs(entry) : lemma;
+    }
+
+    private static String asIs(String entry) {
+        return entry.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private CompletableFuture<AnalysisDto> report(String lemma, Language sourceLang, Language fluentLang) {
+        try {
+            return CompletableFuture.supplyAsync(
+                    () -> languageProcessor.getReport(lemma, sourceLang, fluentLang), batchReportTaskExecutor);
+        } catch (RejectedExecutionException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+
+    private static CompletableFuture<BatchReportItemDto> item(
+            String lemma, List<String> entries, CompletableFuture<AnalysisDto> report) {
+        return report.handle((analysis, ex) -> {
+            if (ex == null) {
+                return BatchReportItemDto.success(lemma, entries, analysis);
+            }
+            if (ex instanceof RejectedExecutionException) {
+                log.warn("Batch report for '{}' rejected, batch executor is saturated", lemma);
+                return BatchReportItemDto.failure(lemma, entries, "Too many reports in progress, try again later");
+            }
+            log.warn("Batch report for '{}' failed: {}", lemma, ex.toString());
+            return BatchReportItemDto.failure(lemma, entries, "Report could not be built");
+        });
+    }
+}
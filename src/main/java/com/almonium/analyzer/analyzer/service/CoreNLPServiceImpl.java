@@ -2,52 +2,111 @@ package com.almonium.analyzer.analyzer.service;
 
 import static lombok.AccessLevel.PRIVATE;
 
+import com.almonium.analyzer.analyzer.model.NlpToken;
 import com.almonium.analyzer.analyzer.model.enums.POS;
+import com.google.common.base.Suppliers;
 import edu.stanford.nlp.ling.CoreAnnotations;
-import edu.stanford.nlp.ling.CoreLabel;
 import edu.stanford.nlp.pipeline.Annotation;
 import edu.stanford.nlp.pipeline.StanfordCoreNLP;
-import edu.stanford.nlp.util.CoreMap;
-import java.util.ArrayList;
-import java.util.LinkedList;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import java.util.List;
 import java.util.Properties;
-import lombok.AllArgsConstructor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
 
-// @Service
+/**
+ * Owns the single CoreNLP pipeline of the application.
+ * The models are loaded once (at startup, in the background or on first use, see {@link WarmUp}),
+ * and every call does one annotation pass that yields tokens, POS tags and lemmas together.
+ */
 @Slf4j
-@AllArgsConstructor
+@Service
 @FieldDefaults(level = PRIVATE, makeFinal = true)
 public class CoreNLPServiceImpl {
-    private StanfordCoreNLP pipeline;
+    private static final String ANNOTATORS = "tokenize, ssplit, pos, lemma";
+    private static final String WARM_UP_TEXT = "The quick brown fox jumps over the lazy dog.";
 
-    public CoreNLPServiceImpl() {
-        Properties props = new Properties();
-        props.put("annotators", "tokenize, ssplit, pos, lemma");
-        this.pipeline = new StanfordCoreNLP(props);
+    Supplier<StanfordCoreNLP> pipeline;
+    Semaphore sessions;
+    WarmUp warmUp;
+    MeterRegistry meterRegistry;
+    Timer annotateTimer;
+
+    public enum WarmUp {
+        EAGER,
+        BACKGROUND,
+        LAZY
     }
 
-    public List<POS> posTagging(String documentText) {
-        List<POS> pos = new ArrayList<>();
-        for (CoreLabel tok : pipeline.processToCoreDocument(documentText).tokens()) {
-            System.out.printf("%s\t%s%n", tok.word(), tok.tag());
-            pos.add(POS.fromString(tok.tag()));
-        }
-        return pos;
+    public CoreNLPServiceImpl(
+            MeterRegistry meterRegistry,
+            @Value("${app.analyzer.nlp.warm-up}") WarmUp warmUp,
+            @Value("${app.analyzer.nlp.max-sessions}") int maxSessions) {
+        this(meterRegistry, warmUp, maxSessions, () -> loadPipeline(meterRegistry));
     }
 
-    public List<String> lemmatize(String documentText) {
-        List<String> lemmas = new LinkedList<>();
-        Annotation document = new Annotation(documentText);
-        pipeline.annotate(document);
-        List<CoreMap> sentences = document.get(CoreAnnotations.SentencesAnnotation.class);
-        for (CoreMap sentence : sentences) {
-            for (CoreLabel token : sentence.get(CoreAnnotations.TokensAnnotation.class)) {
-                lemmas.add(token.get(CoreAnnotations.LemmaAnnotation.class));
+    CoreNLPServiceImpl(
+            MeterRegistry meterRegistry, WarmUp warmUp, int maxSessions, Supplier<StanfordCoreNLP> loader) {
+        this.pipeline = Suppliers.memoize(loader::get);
+        this.meterRegistry = meterRegistry;
+        this.warmUp = warmUp;
+        // annotators are thread-safe and shared, the permits only keep parsing from starving the CPU
+        this.sessions = new Semaphore(maxSessions);
+        this.annotateTimer = meterRegistry.timer("nlp.annotate");
+    }
+
+    @PostConstruct
+    void init() {
+        switch (warmUp) {
+            case EAGER -> pipeline.get();
+            case BACKGROUND -> {
+                Thread loader = new Thread(pipeline::get, "corenlp-warm-up");
+                loader.setDaemon(true);
+                loader.start();
             }
+            case LAZY -> log.info("CoreNLP pipeline will be loaded on first use");
         }
-        return lemmas;
+    }
+
+    /**
+     * Punctuation, quotes and brackets are left out, so {@code "run."} yields a single token.
+     */
+    public List<NlpToken> annotate(String text) {
+        StanfordCoreNLP nlp = pipeline.get();
+        sessions.acquireUninterruptibly();
+        try {
+            return annotateTimer.record(() -> tokens(nlp, text));
+        } finally {
+            sessions.release();
+        }
+    }
+
+    private static List<NlpToken> tokens(StanfordCoreNLP nlp, String text) {
+        Annotation document = new Annotation(text);
+        nlp.annotate(document);
+        return document.get(CoreAnnotations.TokensAnnotation.class).stream()
+                .flatMap(token -> POS.find(token.tag())
+                        .map(pos -> new NlpToken(token.word(), pos, token.lemma()))
+                        .stream())
+                .toList();
+    }
+
+    private static StanfordCoreNLP loadPipeline(MeterRegistry meterRegistry) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Properties props = new Properties();
+        props.put("annotators", ANNOTATORS);
+        StanfordCoreNLP loaded = new StanfordCoreNLP(props);
+        // the first annotation initializes lazily loaded parts of the annotators
+        loaded.annotate(new Annotation(WARM_UP_TEXT));
+        long nanos = sample.stop(meterRegistry.timer("nlp.pipeline.init"));
+        log.info("CoreNLP pipeline ready in {} ms", TimeUnit.NANOSECONDS.toMillis(nanos));
+        return loaded;
     }
 }
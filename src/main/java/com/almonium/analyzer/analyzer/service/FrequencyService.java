@@ -1,9 +1,11 @@
 package com.almonium.analyzer.analyzer.service;
 
 import com.almonium.analyzer.client.ngrams.adapter.NgramsAdapter;
+import com.almonium.analyzer.frequency.FrequencyIndex;
 import com.almonium.analyzer.translator.model.enums.Language;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalDouble;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -15,9 +17,15 @@ public class FrequencyService {
     private static final double FREQUENCY_THRESHOLD = Math.pow(10, -EXPONENT);
     private static final double ENGLISH_SCALE = 12.78990589161462;
     private static final Map<Language, Double> languageScale = Map.of(Language.EN, ENGLISH_SCALE);
+    private final FrequencyIndex frequencyIndex;
     private final NgramsAdapter ngramsAdapter;
 
+    // the Ngrams API is only a fallback for words missing from the offline index
     public Optional<Integer> getFrequency(Language language, String input) {
+        OptionalDouble indexed = frequencyIndex.find(language, input);
+        if (indexed.isPresent()) {
+            return Optional.of(calculateRelativeFrequency(indexed.getAsDouble(), language));
+        }
         Optional<Double> reportedFrequencyOptional = ngramsAdapter.getRelativeFrequency(input, language);
         return reportedFrequencyOptional.map(aDouble -> calculateRelativeFrequency(aDouble, language));
     }
@@ -30,7 +38,7 @@ public class FrequencyService {
             return LOWEST_SCORE;
         }
         double normalizeByZero = Math.log10(frequency) + EXPONENT; // lowest log can get is -e, so we add e to normalize
-        double result = languageScale.get(language) * normalizeByZero + LOWEST_SCORE;
+        double result = languageScale.getOrDefault(language, ENGLISH_SCALE) * normalizeByZero + LOWEST_SCORE;
         return Math.toIntExact(Math.round(result));
     }
 }
@@ -3,42 +3,50 @@ package com.almonium.analyzer.analyzer.service;
 import static lombok.AccessLevel.PRIVATE;
 
 import com.almonium.analyzer.analyzer.dto.AnalysisDto;
-import com.almonium.analyzer.analyzer.mapper.DictionaryDtoMapper;
+import com.almonium.analyzer.analyzer.model.NlpToken;
 import com.almonium.analyzer.analyzer.model.enums.POS;
+import com.almonium.analyzer.client.ApiProvider;
 import com.almonium.analyzer.client.datamuse.DatamuseClient;
 import com.almonium.analyzer.client.datamuse.dto.DatamuseEntryDto;
 import com.almonium.analyzer.client.google.GoogleClient;
 import com.almonium.analyzer.client.google.dto.GoogleDto;
+import com.almonium.analyzer.client.resilience.ProviderBulkhead;
 import com.almonium.analyzer.client.wordnik.WordnikClient;
 import com.almonium.analyzer.client.wordnik.dto.WordnikAudioDto;
 import com.almonium.analyzer.client.words.WordsClient;
 import com.almonium.analyzer.client.words.dto.WordsReportDto;
-import com.almonium.analyzer.client.yandex.YandexClient;
-import com.almonium.analyzer.client.yandex.dto.YandexDto;
+import com.almonium.analyzer.frequency.FrequencyIndex;
 import com.almonium.analyzer.translator.dto.MLTranslationCard;
 import com.almonium.analyzer.translator.dto.TranslationCardDto;
 import com.almonium.analyzer.translator.model.enums.Language;
-import com.almonium.analyzer.translator.repository.LangPairTranslatorRepository;
-import com.almonium.analyzer.translator.repository.TranslatorRepository;
+import com.almonium.analyzer.translator.model.enums.TranslatorType;
+import com.almonium.analyzer.translator.service.TranslationEngine;
 import com.almonium.analyzer.translator.service.TranslationService;
 import com.almonium.user.core.model.entity.Learner;
-import com.google.protobuf.ByteString;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import lombok.AllArgsConstructor;
-import lombok.SneakyThrows;
+import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.NotImplementedException;
-import org.springframework.http.HttpStatus;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 
 @Service
 @Slf4j
-@AllArgsConstructor
+@RequiredArgsConstructor
 @FieldDefaults(level = PRIVATE, makeFinal = true)
 public class LanguageProcessor {
     private static final double LOW_BOUND = 1e-9;
@@ -48,62 +56,29 @@ public class LanguageProcessor {
     DatamuseClient datamuseClient;
     GoogleClient googleClient;
     WordnikClient wordnikClient;
-    YandexClient yandexClient;
     WordsClient wordsClient;
-    CoreNLPServiceImpl coreNLPServiceImpl = null;
+    CoreNLPServiceImpl coreNLPServiceImpl;
+    FrequencyIndex frequencyIndex;
     TranslationService googleService;
-    LangPairTranslatorRepository langPairTranslatorRepository;
-    TranslatorRepository translatorRepository;
-    DictionaryDtoMapper dictionaryDtoMapper;
+    TranslationEngine translationEngine;
+    ThreadPoolTaskExecutor reportTaskExecutor;
+    ProviderBulkhead providerBulkhead;
+
+    @NonFinal
+    @Value("${app.analyzer.report.stage-timeout}")
+    long stageTimeoutMs;
 
     public MLTranslationCard bulkTranslate(String text, Language targetLang) {
         // todo deepL
         return new MLTranslationCard(
-                translatorRepository.getGoogle().getName(), googleService.bulkTranslateText(text, targetLang.name()));
+                TranslatorType.GOOGLE.name(), googleService.bulkTranslateText(text, targetLang.name()));
     }
 
-    @SneakyThrows
     public TranslationCardDto translate(String entry, Language sourceLang, Language targetLang) {
-
         if (sourceLang == null || targetLang == null) {
             return null;
         }
-
-        List<Long> translatorsIds =
-                langPairTranslatorRepository.getBySourceLangAndTargetLang(sourceLang.name(), targetLang.name());
-
-        if (translatorsIds.size() == 0) {
-            return null;
-        } else if (translatorsIds.size() == 1) {
-            if (translatorsIds.get(0).equals(translatorRepository.getYandex().getId())) {
-                ResponseEntity<YandexDto> responseEntity = yandexClient.translate(entry, sourceLang, targetLang);
-
-                if (responseEntity.getStatusCode().is2xxSuccessful()) {
-                    TranslationCardDto card = dictionaryDtoMapper.yandexToGeneral(responseEntity.getBody());
-                    card.setProvider(translatorRepository.getYandex().getName());
-                    return card;
-                }
-                if (responseEntity.getStatusCode() == HttpStatus.FORBIDDEN) {
-                    log.error("LIMIT EXCEEDED");
-                    return null;
-                } else if (responseEntity.getStatusCode() == HttpStatus.NOT_IMPLEMENTED) {
-                    log.error("Language pair not supported: probably, langPairTranslator table is out of date");
-                    throw new Exception("Unexpectedly not supported lang pair in this provider");
-                } else if (responseEntity.getStatusCode().is4xxClientError()) {
-                    log.error(responseEntity.getBody().toString());
-                    return null;
-                } else {
-                    return null;
-                }
-
-            } else {
-                log.error("Cannot recognize translator");
-                return null;
-            }
-        } else {
-            // TODO if multiple => which engines?
-            return null;
-        }
+        return translationEngine.translate(entry, sourceLang, targetLang).orElse(null);
     }
 
     public List<String> getAudioLink(String word) {
@@ -149,7 +124,15 @@ public class LanguageProcessor {
     }
 
     private void singleWordAnalysis(
-            AnalysisDto analysisDto, String entry, List<POS> posTags, List<String> lemmas, Language from, Language to) {
+            AnalysisDto analysisDto,
+            String entry,
+            List<POS> posTags,
+            Language from,
+            Language to,
+            CompletableFuture<Double> frequencyStage) {
+        CompletableFuture<String[]> nounsStage = CompletableFuture.completedFuture(null);
+        CompletableFuture<String[]> adjectivesStage = CompletableFuture.completedFuture(null);
+
         if (posTags.get(0).equals(POS.ADJECTIVE_COMPARATIVE)) {
             getBaseAdjectiveForComparative(entry);
         } else if (posTags.get(0).equals(POS.ADJECTIVE_SUPERLATIVE)) {
@@ -162,45 +145,68 @@ public class LanguageProcessor {
         } else if (posTags.get(0).equals(POS.NOUN_PLURAL)) {
             analysisDto.setIsPlural(true);
         } else if (posTags.get(0).isAdjective()) {
-            analysisDto.setNouns(getNounsForAdjective(entry));
+            nounsStage = runStage(ApiProvider.DATAMUSE, "nouns", () -> getNounsForAdjective(entry));
         } else if (posTags.get(0).equals(POS.NOUN)) {
-            analysisDto.setAdjectives(getAdjectivesForNoun(entry));
+            adjectivesStage = runStage(ApiProvider.DATAMUSE, "adjectives", () -> getAdjectivesForNoun(entry));
         }
-        analysisDto.setTranslationCards(this.translate(entry, from, to));
-        analysisDto.setHomophones(getHomophones(entry));
+        CompletableFuture<TranslationCardDto> translationStage =
+                runStage("translation", () -> this.translate(entry, from, to));
+        CompletableFuture<String[]> homophonesStage =
+                runStage(ApiProvider.DATAMUSE, "homophones", () -> getHomophones(entry));
+
+        CompletableFuture.allOf(frequencyStage, nounsStage, adjectivesStage, translationStage, homophonesStage)
+                .join();
+
+        applyFrequency(analysisDto, frequencyStage.join());
+        Optional.ofNullable(nounsStage.join()).ifPresent(analysisDto::setNouns);
+        Optional.ofNullable(adjectivesStage.join()).ifPresent(analysisDto::setAdjectives);
+        analysisDto.setTranslationCards(translationStage.join());
+        analysisDto.setHomophones(homophonesStage.join());
     }
 
+    /**
+     * Builds the word report. Provider lookups that don't depend on each other are fanned out to
+     * {@code reportTaskExecutor} and joined once; a stage that fails or misses its deadline is left empty,
+     * so the response time is bounded by the slowest stage rather than the sum of all of them.
+     */
     public AnalysisDto getReport(String entry, String languageCode, Learner learner) {
-        AnalysisDto analysisDto = new AnalysisDto();
-        List<String> lemmas = coreNLPServiceImpl.lemmatize(entry);
-        analysisDto.setLemmas(lemmas.stream().map(String::new).toArray(String[]::new));
+        return getReport(entry, Language.valueOf(languageCode), getFluentLanguage(learner));
+    }
 
-        Language sourceLang = Language.valueOf(languageCode);
-        Language fluentLanguage = learner.getFluentLangs().iterator().next();
+    public AnalysisDto getReport(String entry, Language sourceLang, Language fluentLanguage) {
+        AnalysisDto analysisDto = new AnalysisDto();
 
-        List<POS> posTags = coreNLPServiceImpl.posTagging(entry);
+        // annotated first: no stage is left running for a report that fails here
+        List<NlpToken> tokens = coreNLPServiceImpl.annotate(entry);
+        List<String> lemmas = tokens.stream().map(NlpToken::lemma).toList();
+        List<POS> posTags = tokens.stream().map(NlpToken::pos).toList();
+        analysisDto.setLemmas(lemmas.toArray(String[]::new));
         analysisDto.setPosTags(posTags.stream().map(POS::toString).toArray(String[]::new));
-        Double freq = getFrequency(entry, sourceLang);
-        if (freq != null) {
-            analysisDto.setFrequency(calculateRelativeFrequency(freq));
-        }
 
-        if (lemmas.size() != posTags.size()) {
-            log.error("Lemmas don't correspond with POS tags");
-        }
+        // the offline index answers in microseconds, Google Books is asked only for words it doesn't know
+        OptionalDouble indexedFrequency = frequencyIndex.find(sourceLang, entry);
+        CompletableFuture<Double> frequencyStage = indexedFrequency.isPresent()
+                ? CompletableFuture.completedFuture(indexedFrequency.getAsDouble())
+                : runStage(ApiProvider.GOOGLE, "frequency", () -> getFrequency(entry, sourceLang));
+
         if (lemmas.size() == 1) {
             log.info("one lemma analysis");
-            singleWordAnalysis(analysisDto, entry, posTags, lemmas, sourceLang, fluentLanguage);
-        } else if (lemmas.size() == 2) {
+            singleWordAnalysis(analysisDto, entry, posTags, sourceLang, fluentLanguage, frequencyStage);
+        } else if (lemmas.size() == 2
+                && posTags.get(0).equals(POS.TO)
+                && posTags.get(1).equals(POS.VERB)) {
             // TO VERB case
-            if (posTags.get(0).equals(POS.TO) && posTags.get(1).equals(POS.VERB)) {
-                entry = lemmas.get(1);
-                singleWordAnalysis(analysisDto, entry, posTags, lemmas, sourceLang, fluentLanguage);
-            }
+            singleWordAnalysis(analysisDto, lemmas.get(1), posTags, sourceLang, fluentLanguage, frequencyStage);
+        } else {
+            applyFrequency(analysisDto, frequencyStage.join());
         }
         return analysisDto;
     }
 
+    public Language getFluentLanguage(Learner learner) {
+        return learner.getFluentLangs().iterator().next();
+    }
+
     public WordsReportDto getRandom() {
         return wordsClient.getRandomWord().getBody();
     }
@@ -213,8 +219,39 @@ public class LanguageProcessor {
         throw new NotImplementedException("not yet");
     }
 
-    public ByteString textToSpeech(String code, String text) {
-        return googleService.textToSpeech(code, text);
+    private <T> CompletableFuture<T> runStage(ApiProvider provider, String stage, Supplier<T> lookup) {
+        return runStage(stage, () -> providerBulkhead.call(provider, lookup));
+    }
+
+    // for stages that take provider permits themselves, like the translation, see TranslationEngine
+    private <T> CompletableFuture<T> runStage(String stage, Supplier<T> lookup) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> task;
+        try {
+            task = reportTaskExecutor.submit(() -> {
+                try {
+                    result.complete(lookup.get());
+                } catch (RuntimeException ex) {
+                    result.completeExceptionally(ex);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            log.warn("Report stage '{}' rejected, report executor is saturated", stage);
+            return CompletableFuture.completedFuture(null);
+        }
+        return result.orTimeout(stageTimeoutMs, TimeUnit.MILLISECONDS).exceptionally(ex -> {
+            // orTimeout only completes the future: the lookup is interrupted, so it doesn't hold a report thread
+            // (or wait for a provider slot) for a report that has moved on
+            task.cancel(true);
+            log.warn("Report stage '{}' left empty: {}", stage, ex.toString());
+            return null;
+        });
+    }
+
+    private static void applyFrequency(AnalysisDto analysisDto, Double frequency) {
+        if (frequency != null) {
+            analysisDto.setFrequency(calculateRelativeFrequency(frequency));
+        }
     }
 
     private static double calculateRelativeFrequency(double frequency) {
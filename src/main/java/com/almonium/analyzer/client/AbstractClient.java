@@ -1,13 +1,17 @@
 package com.almonium.analyzer.client;
 
 import static lombok.AccessLevel.PRIVATE;
+import static lombok.AccessLevel.PROTECTED;
 
+import com.almonium.analyzer.client.cache.DictionaryCache;
 import com.almonium.util.GeneralUtils;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import lombok.Getter;
 import lombok.experimental.FieldDefaults;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -16,10 +20,26 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.RestTemplate;
 
-@FieldDefaults(level = PRIVATE, makeFinal = true)
+@FieldDefaults(level = PRIVATE)
 public abstract class AbstractClient {
-    RestTemplate restTemplate = new RestTemplate();
-    ObjectMapper objectMapper = new ObjectMapper();
+    final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Getter(PROTECTED)
+    RestTemplate restTemplate;
+
+    @Autowired
+    void setRestTemplate(RestTemplate restTemplate) {
+        // shared, pooled client from HttpClientConfig
+        this.restTemplate = restTemplate;
+    }
+
+    @Getter(PROTECTED)
+    DictionaryCache dictionaryCache;
+
+    @Autowired
+    void setDictionaryCache(DictionaryCache dictionaryCache) {
+        this.dictionaryCache = dictionaryCache;
+    }
 
     protected <T> ResponseEntity<List<T>> requestList(String url, Map<String, String> params, Class<T> clazz) {
         HttpHeaders headers = new HttpHeaders();
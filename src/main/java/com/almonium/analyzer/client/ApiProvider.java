@@ -0,0 +1,27 @@
+package com.almonium.analyzer.client;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum ApiProvider {
+    DATAMUSE("api.datamuse.com"),
+    WORDNIK("api.wordnik.com"),
+    YANDEX("dictionary.yandex.net"),
+    NGRAMS(null), // WebClient, see NgramsClientConfig
+    GOOGLE("books.google.com"),
+    URBAN("mashape-community-urban-dictionary.p.rapidapi.com"),
+    WORDS("wordsapiv1.p.rapidapi.com"),
+    GPT(null); // WebClient, see GptClientConfig
+
+    private final String host;
+
+    ApiProvider(String host) {
+        this.host = host;
+    }
+
+    public static Optional<ApiProvider> fromHost(String host) {
+        return Arrays.stream(values())
+                .filter(provider -> provider.host != null && provider.host.equalsIgnoreCase(host))
+                .findFirst();
+    }
+}
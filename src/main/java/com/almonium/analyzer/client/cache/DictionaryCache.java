@@ -0,0 +1,153 @@
+package com.almonium.analyzer.client.cache;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.analyzer.client.cache.model.entity.DictionaryCacheEntry;
+import com.almonium.analyzer.client.cache.repository.DictionaryCacheEntryRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.function.Supplier;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Two-tier cache for responses of external lexical APIs.
+ * The first tier is a bounded in-process cache, the second (optional) one is the dictionary_cache_entry table,
+ * which survives restarts and is shared between instances.
+ * Empty answers are cached as well, with a shorter lifetime.
+ */
+@Slf4j
+@Component
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class DictionaryCache {
+    private static final int MAX_PERSISTENT_KEY_LENGTH = 512;
+
+    Cache<DictionaryCacheKey, Object> hits;
+    Cache<DictionaryCacheKey, Boolean> misses;
+    DictionaryCacheEntryRepository dictionaryCacheEntryRepository;
+    ObjectMapper objectMapper;
+    boolean persistentEnabled;
+    Duration ttl;
+    Duration negativeTtl;
+    Counter persistentHits;
+    Counter persistentMisses;
+
+    public DictionaryCache(
+            DictionaryCacheEntryRepository dictionaryCacheEntryRepository,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.dictionary-cache.max-size}") long maxSize,
+            @Value("${app.dictionary-cache.ttl}") long ttlSeconds,
+            @Value("${app.dictionary-cache.negative-ttl}") long negativeTtlSeconds,
+            @Value("${app.dictionary-cache.persistent}") boolean persistentEnabled) {
+        this.dictionaryCacheEntryRepository = dictionaryCacheEntryRepository;
+        this.objectMapper = objectMapper;
+        this.persistentEnabled = persistentEnabled;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.negativeTtl = Duration.ofSeconds(negativeTtlSeconds);
+
+        this.hits = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.misses = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(negativeTtl)
+                .recordStats()
+                .build();
+        GuavaCacheMetrics.monitor(meterRegistry, hits, "dictionary");
+        GuavaCacheMetrics.monitor(meterRegistry, misses, "dictionary-negative");
+
+        this.persistentHits = meterRegistry.counter("dictionary.cache.persistent", "result", "hit");
+        this.persistentMisses = meterRegistry.counter("dictionary.cache.persistent", "result", "miss");
+    }
+
+    /**
+     * Returns the cached answer for the key or calls the loader and caches its result.
+     * An empty optional from the loader means "nothing found" and is cached negatively.
+     * Exceptions thrown by the loader are propagated and not cached.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Optional<T> get(DictionaryCacheKey key, TypeReference<T> type, Supplier<Optional<T>> loader) {
+        Object cached = hits.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of((T) cached);
+        }
+        if (misses.getIfPresent(key) != null) {
+            return Optional.empty();
+        }
+
+        Optional<DictionaryCacheEntry> stored = findStored(key);
+        if (stored.isPresent() && stored.get().isNegative()) {
+            misses.put(key, true);
+            return Optional.empty();
+        }
+        Optional<T> restored = stored.flatMap(entry -> readPayload(entry, type));
+        if (restored.isPresent()) {
+            hits.put(key, restored.get());
+            return restored;
+        }
+
+        Optional<T> loaded = loader.get();
+        loaded.ifPresentOrElse(v -> hits.put(key, v), () -> misses.put(key, true));
+        store(key, loaded);
+        return loaded;
+    }
+
+    private Optional<DictionaryCacheEntry> findStored(DictionaryCacheKey key) {
+        if (!isPersistable(key)) {
+            return Optional.empty();
+        }
+        try {
+            Optional<DictionaryCacheEntry> entry =
+                    dictionaryCacheEntryRepository.findByCacheKeyAndExpiresAtAfter(key.id(), Instant.now());
+            (entry.isPresent() ? persistentHits : persistentMisses).increment();
+            return entry;
+        } catch (DataAccessException e) {
+            log.warn("Could not read dictionary cache entry {}", key.id(), e);
+            return Optional.empty();
+        }
+    }
+
+    private <T> Optional<T> readPayload(DictionaryCacheEntry entry, TypeReference<T> type) {
+        try {
+            return Optional.of(objectMapper.readValue(entry.getPayload(), type));
+        } catch (JsonProcessingException e) {
+            // e.g. the DTO changed shape since the entry was written; just fetch it again
+            log.warn("Discarding unreadable dictionary cache entry {}", entry.getCacheKey(), e);
+            return Optional.empty();
+        }
+    }
+
+    private void store(DictionaryCacheKey key, Optional<?> value) {
+        if (!isPersistable(key)) {
+            return;
+        }
+        try {
+            String payload = value.isPresent() ? objectMapper.writeValueAsString(value.get()) : null;
+            Instant now = Instant.now();
+            Instant expiresAt = now.plus(value.isPresent() ? ttl : negativeTtl);
+            dictionaryCacheEntryRepository.save(
+                    new DictionaryCacheEntry(key.id(), key.provider(), key.operation(), payload, now, expiresAt));
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("Could not store dictionary cache entry {}", key.id(), e);
+        }
+    }
+
+    private boolean isPersistable(DictionaryCacheKey key) {
+        return persistentEnabled && key.id().length() <= MAX_PERSISTENT_KEY_LENGTH;
+    }
+}
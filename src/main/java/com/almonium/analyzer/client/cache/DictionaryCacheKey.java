@@ -0,0 +1,30 @@
+package com.almonium.analyzer.client.cache;
+
+import com.almonium.analyzer.client.ApiProvider;
+import com.almonium.analyzer.translator.model.enums.Language;
+import java.util.Locale;
+
+public record DictionaryCacheKey(ApiProvider provider, String operation, String word, String langPair) {
+    private static final String NO_LANG_PAIR = "";
+
+    public DictionaryCacheKey {
+        word = word.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public static DictionaryCacheKey of(ApiProvider provider, String operation, String word) {
+        return new DictionaryCacheKey(provider, operation, word, NO_LANG_PAIR);
+    }
+
+    public static DictionaryCacheKey of(ApiProvider provider, String operation, String word, Language language) {
+        return new DictionaryCacheKey(provider, operation, word, language.name());
+    }
+
+    public static DictionaryCacheKey of(
+            ApiProvider provider, String operation, String word, Language from, Language to) {
+        return new DictionaryCacheKey(provider, operation, word, from.name() + "-" + to.name());
+    }
+
+    public String id() {
+        return String.join(":", provider.name(), operation, langPair, word);
+    }
+}
@@ -0,0 +1,25 @@
+package com.almonium.analyzer.client.cache.cron;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.analyzer.client.cache.repository.DictionaryCacheEntryRepository;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class DictionaryCacheCleanupTask {
+    DictionaryCacheEntryRepository dictionaryCacheEntryRepository;
+
+    @Scheduled(cron = "0 30 0 * * ?") // Runs daily at 00:30
+    public void cleanExpiredEntries() {
+        int deleted = dictionaryCacheEntryRepository.deleteExpired(Instant.now());
+        log.info("Removed {} expired dictionary cache entries", deleted);
+    }
+}
@@ -0,0 +1,39 @@
+package com.almonium.analyzer.client.cache.model.entity;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.analyzer.client.ApiProvider;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+@Entity
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@FieldDefaults(level = PRIVATE)
+public class DictionaryCacheEntry {
+    @Id
+    String cacheKey;
+
+    @Enumerated(EnumType.STRING)
+    ApiProvider provider;
+
+    String operation;
+
+    // null for a cached "not found" answer
+    String payload;
+
+    Instant createdAt;
+    Instant expiresAt;
+
+    public boolean isNegative() {
+        return payload == null;
+    }
+}
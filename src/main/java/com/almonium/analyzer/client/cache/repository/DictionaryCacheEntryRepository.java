@@ -0,0 +1,18 @@
+package com.almonium.analyzer.client.cache.repository;
+
+import com.almonium.analyzer.client.cache.model.entity.DictionaryCacheEntry;
+import java.time.Instant;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface DictionaryCacheEntryRepository extends JpaRepository<DictionaryCacheEntry, String> {
+    Optional<DictionaryCacheEntry> findByCacheKeyAndExpiresAtAfter(String cacheKey, Instant now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM DictionaryCacheEntry e WHERE e.expiresAt < :now")
+    int deleteExpired(Instant now);
+}
@@ -1,6 +1,8 @@
 package com.almonium.analyzer.client.chatgpt.config;
 
+import com.almonium.analyzer.client.ApiProvider;
 import com.almonium.analyzer.client.chatgpt.client.GptClient;
+import com.almonium.analyzer.client.resilience.ProviderGuard;
 import com.almonium.auth.token.util.BearerTokenUtil;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -20,9 +22,10 @@ class GptClientConfig {
     private String openaiApiKey;
 
     @Bean
-    public GptClient gptClient() {
-        WebClient webClient = WebClient.builder()
+    public GptClient gptClient(WebClient.Builder webClientBuilder, ProviderGuard providerGuard) {
+        WebClient webClient = webClientBuilder
                 .baseUrl(openaiUrl)
+                .filter(providerGuard.filter(ApiProvider.GPT))
                 .defaultHeader(HttpHeaders.AUTHORIZATION, BearerTokenUtil.bearerOf(openaiApiKey))
                 .build();
 
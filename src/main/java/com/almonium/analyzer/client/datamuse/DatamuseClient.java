@@ -3,12 +3,16 @@ package com.almonium.analyzer.client.datamuse;
 import static lombok.AccessLevel.PRIVATE;
 
 import com.almonium.analyzer.client.AbstractClient;
+import com.almonium.analyzer.client.ApiProvider;
 import com.almonium.analyzer.client.Client;
+import com.almonium.analyzer.client.cache.DictionaryCacheKey;
 import com.almonium.analyzer.client.datamuse.dto.DatamuseEntryDto;
 import com.almonium.util.GeneralUtils;
+import com.fasterxml.jackson.core.type.TypeReference;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import lombok.AllArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
@@ -18,7 +22,6 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.client.RestTemplate;
 
 @Client
 @AllArgsConstructor
@@ -44,39 +47,38 @@ public class DatamuseClient extends AbstractClient {
     static String DEFINITION = "d";
     static String METADATA = "md";
     static String IPA = "ipa";
-
-    RestTemplate restTemplate;
+    static TypeReference<List<DatamuseEntryDto>> ENTRIES_TYPE = new TypeReference<>() {};
 
     public ResponseEntity<List<DatamuseEntryDto>> getHomophones(String word) {
-        return request(word, HOMOPHONES);
+        return cachedRequest(word, HOMOPHONES);
     }
 
     public ResponseEntity<List<DatamuseEntryDto>> getPredecessors(String word) {
-        return request(word, PREDECESSORS);
+        return cachedRequest(word, PREDECESSORS);
     }
 
     public ResponseEntity<List<DatamuseEntryDto>> getFollowers(String word) {
-        return request(word, FOLLOWERS);
+        return cachedRequest(word, FOLLOWERS);
     }
 
     public ResponseEntity<List<DatamuseEntryDto>> getSynonyms(String word) {
-        return request(word, SYNONYMS);
+        return cachedRequest(word, SYNONYMS);
     }
 
     public ResponseEntity<List<DatamuseEntryDto>> getAntonyms(String word) {
-        return request(word, ANTONYMS);
+        return cachedRequest(word, ANTONYMS);
     }
 
     public ResponseEntity<List<DatamuseEntryDto>> getMeansLike(String word) {
-        return request(word, MEANS_LIKE);
+        return cachedRequest(word, MEANS_LIKE);
     }
 
     public ResponseEntity<List<DatamuseEntryDto>> getNounsForAdjective(String adjective) {
-        return request(adjective, N_FOR_ADJ);
+        return cachedRequest(adjective, N_FOR_ADJ);
     }
 
     public ResponseEntity<List<DatamuseEntryDto>> getAdjectivesForNoun(String noun) {
-        return request(noun, ADJ_FOR_N);
+        return cachedRequest(noun, ADJ_FOR_N);
     }
 
     public ResponseEntity<List<DatamuseEntryDto>> getWordReport(String entry) {
@@ -93,8 +95,24 @@ public class DatamuseClient extends AbstractClient {
         String urlTemplate =
                 GeneralUtils.queryBuilder(BASE_URL + ENDPOINT, List.of(SPELLED_LIKE, QUERY_ECHO, METADATA, IPA, MAX));
 
-        return restTemplate.exchange(
-                urlTemplate, HttpMethod.GET, new HttpEntity<>(headers), new ParameterizedTypeReference<>() {}, params);
+        return getRestTemplate()
+                .exchange(
+                        urlTemplate,
+                        HttpMethod.GET,
+                        new HttpEntity<>(headers),
+                        new ParameterizedTypeReference<>() {},
+                        params);
+    }
+
+    private ResponseEntity<List<DatamuseEntryDto>> cachedRequest(String word, String parameter) {
+        List<DatamuseEntryDto> entries = getDictionaryCache()
+                .get(
+                        DictionaryCacheKey.of(ApiProvider.DATAMUSE, parameter, word),
+                        ENTRIES_TYPE,
+                        () -> Optional.ofNullable(request(word, parameter).getBody())
+                                .filter(body -> !body.isEmpty()))
+                .orElseGet(List::of);
+        return ResponseEntity.ok(entries);
     }
 
     private ResponseEntity<List<DatamuseEntryDto>> request(String word, String parameter) {
@@ -106,7 +124,12 @@ public class DatamuseClient extends AbstractClient {
         Map<String, String> params = new HashMap<>();
         params.put(parameter, word);
 
-        return restTemplate.exchange(
-                urlTemplate, HttpMethod.GET, new HttpEntity<>(headers), new ParameterizedTypeReference<>() {}, params);
+        return getRestTemplate()
+                .exchange(
+                        urlTemplate,
+                        HttpMethod.GET,
+                        new HttpEntity<>(headers),
+                        new ParameterizedTypeReference<>() {},
+                        params);
     }
 }
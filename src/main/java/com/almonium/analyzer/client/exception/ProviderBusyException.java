@@ -0,0 +1,9 @@
+package com.almonium.analyzer.client.exception;
+
+import com.almonium.analyzer.client.ApiProvider;
+
+public class ProviderBusyException extends ApiIntegrationException {
+    public ProviderBusyException(ApiProvider provider) {
+        super(String.format("Too many concurrent calls to %s", provider));
+    }
+}
@@ -0,0 +1,9 @@
+package com.almonium.analyzer.client.exception;
+
+import com.almonium.analyzer.client.ApiProvider;
+
+public class ProviderUnavailableException extends ApiIntegrationException {
+    public ProviderUnavailableException(ApiProvider provider, String reason) {
+        super(String.format("%s is unavailable: %s", provider, reason));
+    }
+}
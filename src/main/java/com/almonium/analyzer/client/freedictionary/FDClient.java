@@ -15,7 +15,6 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.client.RestTemplate;
 
 @Client
 @AllArgsConstructor
@@ -25,16 +24,16 @@ public class FDClient extends AbstractClient {
     static String BASE_URL = "https://api.dictionaryapi.dev/api/v2";
     static String ENDPOINT = "/entries";
     static String LANG_CODE = "/en/";
-    RestTemplate restTemplate;
 
     public ResponseEntity<List<FDEntry>> request(String word) {
         HttpHeaders headers = new HttpHeaders();
         headers.set(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
 
-        return restTemplate.exchange(
-                BASE_URL + ENDPOINT + LANG_CODE + word,
-                HttpMethod.GET,
-                new HttpEntity<>(headers),
-                new ParameterizedTypeReference<>() {});
+        return getRestTemplate()
+                .exchange(
+                        BASE_URL + ENDPOINT + LANG_CODE + word,
+                        HttpMethod.GET,
+                        new HttpEntity<>(headers),
+                        new ParameterizedTypeReference<>() {});
     }
 }
@@ -1,9 +1,13 @@
 package com.almonium.analyzer.client.ngrams.adapter;
 
+import com.almonium.analyzer.client.ApiProvider;
+import com.almonium.analyzer.client.cache.DictionaryCache;
+import com.almonium.analyzer.client.cache.DictionaryCacheKey;
 import com.almonium.analyzer.client.exception.ApiNoLangSupportException;
 import com.almonium.analyzer.client.ngrams.client.NgramsClient;
 import com.almonium.analyzer.client.ngrams.dto.NgramsResponseDto;
 import com.almonium.analyzer.translator.model.enums.Language;
+import com.fasterxml.jackson.core.type.TypeReference;
 import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
@@ -13,18 +17,28 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class NgramsAdapter {
     private static final String API_NAME = "ngrams";
+    private static final String RELATIVE_FREQUENCY = "relative-frequency";
+    private static final TypeReference<Double> FREQUENCY_TYPE = new TypeReference<>() {};
     private static final Map<Language, String> corpusName = Map.of(
             Language.EN, "eng",
             Language.RU, "rus",
             Language.DE, "ger");
 
     private final NgramsClient ngramsClient;
+    private final DictionaryCache dictionaryCache;
 
     public Optional<Double> getRelativeFrequency(String input, Language language) {
         if (corpusName.get(language) == null) {
             throw new ApiNoLangSupportException(language, API_NAME);
         }
 
+        return dictionaryCache.get(
+                DictionaryCacheKey.of(ApiProvider.NGRAMS, RELATIVE_FREQUENCY, input, language),
+                FREQUENCY_TYPE,
+                () -> fetchRelativeFrequency(input, language));
+    }
+
+    private Optional<Double> fetchRelativeFrequency(String input, Language language) {
         NgramsResponseDto dto = ngramsClient.searchWord(corpusName.get(language), input);
 
         return dto.ngrams().stream().findFirst().map(NgramsResponseDto.Ngram::relTotalMatchCount);
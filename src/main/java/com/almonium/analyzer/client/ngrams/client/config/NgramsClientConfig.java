@@ -1,7 +1,9 @@
 package com.almonium.analyzer.client.ngrams.client.config;
 
+import com.almonium.analyzer.client.ApiProvider;
 import com.almonium.analyzer.client.ngrams.client.NgramsClient;
 import com.almonium.analyzer.client.ngrams.exception.NgramsApiIntegrationException;
+import com.almonium.analyzer.client.resilience.ProviderGuard;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -18,9 +20,10 @@ public class NgramsClientConfig {
     private String ngramsBaseUrl;
 
     @Bean
-    public NgramsClient ngramsClient() {
-        WebClient webClient = WebClient.builder()
+    public NgramsClient ngramsClient(WebClient.Builder webClientBuilder, ProviderGuard providerGuard) {
+        WebClient webClient = webClientBuilder
                 .baseUrl(ngramsBaseUrl)
+                .filter(providerGuard.filter(ApiProvider.NGRAMS))
                 .defaultStatusHandler(HttpStatusCode::is4xxClientError, resp -> resp.bodyToMono(String.class)
                         .flatMap(errorBody ->
                                 Mono.error(new NgramsApiIntegrationException("Client error: " + errorBody))))
@@ -0,0 +1,106 @@
+package com.almonium.analyzer.client.resilience;
+
+/**
+ * Consecutive-failure circuit breaker.
+ * CLOSED lets calls through; after {@code failureThreshold} failures in a row it goes OPEN and rejects calls
+ * for {@code openDurationMs}; then a single probe call is let through (HALF_OPEN), whose outcome closes or
+ * reopens the circuit. Every call let through holds a permit from {@link #tryAcquire}, which it hands back
+ * with its outcome: while half-open only the probe's permit counts, while open no outcome does.
+ */
+class CircuitBreaker {
+    static final long REJECTED = -1;
+    // the permit of calls let through by a closed circuit, probes get increasing numbers above it
+    static final long NOT_PROBE = 0;
+
+    enum State {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDurationMs;
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private long lastProbe = NOT_PROBE;
+    private boolean probeInFlight;
+
+    CircuitBreaker(int failureThreshold, long openDurationMs) {
+        this.failureThreshold = failureThreshold;
+        this.openDurationMs = openDurationMs;
+    }
+
+    /**
+     * @return the permit of the call, {@link #REJECTED} if the circuit doesn't let it through
+     */
+    synchronized long tryAcquire(long nowMillis) {
+        return switch (state) {
+            case CLOSED -> NOT_PROBE;
+            case OPEN -> nowMillis - openedAt >= openDurationMs ? startProbe() : REJECTED;
+            case HALF_OPEN -> probeInFlight ? REJECTED : startProbe();
+        };
+    }
+
+    synchronized void onSuccess(long permit) {
+        switch (state) {
+            case CLOSED -> consecutiveFailures = 0;
+            case HALF_OPEN -> {
+                if (isProbe(permit)) {
+                    state = State.CLOSED;
+                    consecutiveFailures = 0;
+                    probeInFlight = false;
+                }
+            }
+            case OPEN -> {}
+        }
+    }
+
+    synchronized void onFailure(long permit, long nowMillis) {
+        switch (state) {
+            case CLOSED -> {
+                if (++consecutiveFailures >= failureThreshold) {
+                    open(nowMillis);
+                }
+            }
+            case HALF_OPEN -> {
+                if (isProbe(permit)) {
+                    open(nowMillis);
+                }
+            }
+            case OPEN -> {}
+        }
+    }
+
+    // the call let through ended without an outcome, a half-open circuit lets the next call probe instead
+    synchronized void release(long permit) {
+        if (state == State.HALF_OPEN && isProbe(permit)) {
+            probeInFlight = false;
+        }
+    }
+
+    // e.g. quota exhausted: no point in waiting for more failures
+    synchronized void trip(long nowMillis) {
+        open(nowMillis);
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+
+    private boolean isProbe(long permit) {
+        return probeInFlight && permit == lastProbe;
+    }
+
+    private long startProbe() {
+        state = State.HALF_OPEN;
+        probeInFlight = true;
+        return ++lastProbe;
+    }
+
+    private void open(long nowMillis) {
+        state = State.OPEN;
+        openedAt = nowMillis;
+        probeInFlight = false;
+    }
+}
@@ -0,0 +1,51 @@
+package com.almonium.analyzer.client.resilience;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.analyzer.client.ApiProvider;
+import com.almonium.analyzer.client.exception.ProviderBusyException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.experimental.FieldDefaults;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caps the number of in-flight calls per provider, so that a large batch can't flood a single API.
+ * A caller waits at most {@code maxWaitMs} for a free slot and gets a {@link ProviderBusyException} otherwise.
+ */
+@Component
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class ProviderBulkhead {
+    Map<ApiProvider, Semaphore> permits = new EnumMap<>(ApiProvider.class);
+    long maxWaitMs;
+
+    public ProviderBulkhead(
+            @Value("${external.provider-concurrency.max-calls}") int maxCalls,
+            @Value("${external.provider-concurrency.max-wait}") long maxWaitMs) {
+        this.maxWaitMs = maxWaitMs;
+        for (ApiProvider provider : ApiProvider.values()) {
+            permits.put(provider, new Semaphore(maxCalls));
+        }
+    }
+
+    public <T> T call(ApiProvider provider, Supplier<T> call) {
+        Semaphore semaphore = permits.get(provider);
+        try {
+            if (!semaphore.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS)) {
+                throw new ProviderBusyException(provider);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProviderBusyException(provider);
+        }
+        try {
+            return call.get();
+        } finally {
+            semaphore.release();
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.almonium.analyzer.client.resilience;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.analyzer.client.ApiProvider;
+import com.almonium.analyzer.client.exception.ProviderUnavailableException;
+import com.google.common.util.concurrent.RateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Client-side protection of third-party APIs: a token-bucket rate limiter sized to each provider's quota
+ * and a circuit breaker per provider. Calls to a provider with an open circuit fail fast, calls over the quota
+ * wait up to the acquire timeout for a permit; both fail with {@link ProviderUnavailableException} instead of
+ * being sent.
+ * Plugged into the shared RestTemplate (providers are recognized by host) and into the WebClient-based clients.
+ */
+@Slf4j
+@Component
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class ProviderGuard implements ClientHttpRequestInterceptor {
+    private static final String RATE_LIMIT_PROPERTY = "external.resilience.rate-limit.";
+
+    Map<ApiProvider, RateLimiter> rateLimiters = new EnumMap<>(ApiProvider.class);
+    Map<ApiProvider, CircuitBreaker> breakers = new EnumMap<>(ApiProvider.class);
+    Map<ApiProvider, Counter> rateLimitedCounters = new EnumMap<>(ApiProvider.class);
+    Map<ApiProvider, Counter> circuitOpenCounters = new EnumMap<>(ApiProvider.class);
+    long acquireTimeoutMs;
+
+    public ProviderGuard(
+            Environment environment,
+            MeterRegistry meterRegistry,
+            @Value("${external.resilience.failure-threshold}") int failureThreshold,
+            @Value("${external.resilience.open-duration}") long openDurationMs,
+            @Value("${external.resilience.acquire-timeout}") long acquireTimeoutMs) {
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        for (ApiProvider provider : ApiProvider.values()) {
+            String name = provider.name().toLowerCase(Locale.ROOT);
+            double permitsPerSecond = environment.getRequiredProperty(RATE_LIMIT_PROPERTY + name, Double.class);
+            CircuitBreaker breaker = new CircuitBreaker(failureThreshold, openDurationMs);
+
+            rateLimiters.put(provider, RateLimiter.create(permitsPerSecond));
+            breakers.put(provider, breaker);
+            rateLimitedCounters.put(
+                    provider, meterRegistry.counter("provider.rejected", "provider", name, "reason", "rate-limited"));
+            circuitOpenCounters.put(
+                    provider, meterRegistry.counter("provider.rejected", "provider", name, "reason", "circuit-open"));
+            // 0 - closed, 1 - half-open, 2 - open
+            Gauge.builder("provider.circuit.state", breaker, b -> b.getState().ordinal())
+                    .tag("provider", name)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Lets a call through. The circuit goes first, so calls rejected by an open circuit don't spend the quota.
+     *
+     * @return the circuit permit of the call, to be handed back with its outcome
+     */
+    public long acquire(ApiProvider provider) {
+        CircuitBreaker breaker = breakers.get(provider);
+        long permit = breaker.tryAcquire(System.currentTimeMillis());
+        if (permit == CircuitBreaker.REJECTED) {
+            circuitOpenCounters.get(provider).increment();
+            throw new ProviderUnavailableException(provider, "circuit is open");
+        }
+        if (!rateLimiters.get(provider).tryAcquire(1, acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+            breaker.release(permit);
+            rateLimitedCounters.get(provider).increment();
+            throw new ProviderUnavailableException(provider, "client-side rate limit reached");
+        }
+        return permit;
+    }
+
+    // the call ended without an outcome, e.g. it was cancelled
+    public void release(ApiProvider provider, long permit) {
+        breakers.get(provider).release(permit);
+    }
+
+    public void onResponse(ApiProvider provider, long permit, int status) {
+        CircuitBreaker breaker = breakers.get(provider);
+        if (status == HttpStatus.TOO_MANY_REQUESTS.value() || status == HttpStatus.FORBIDDEN.value()) {
+            // quota exhausted (Yandex answers 403 for that) or key rejected, retrying right away won't help
+            log.warn("{} answered {}, opening its circuit", provider, status);
+            breaker.trip(System.currentTimeMillis());
+        } else if (status >= 500) {
+            breaker.onFailure(permit, System.currentTimeMillis());
+        } else {
+            breaker.onSuccess(permit);
+        }
+    }
+
+    public void onError(ApiProvider provider, long permit) {
+        breakers.get(provider).onFailure(permit, System.currentTimeMillis());
+    }
+
+    @Override
+    public ClientHttpResponse intercept(
+            @NonNull HttpRequest request, @NonNull byte[] body, @NonNull ClientHttpRequestExecution execution)
+            throws IOException {
+        Optional<ApiProvider> provider = ApiProvider.fromHost(request.getURI().getHost());
+        if (provider.isEmpty()) {
+            return execution.execute(request, body);
+        }
+
+        long permit = acquire(provider.get());
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            onResponse(provider.get(), permit, response.getStatusCode().value());
+            return response;
+        } catch (IOException | RuntimeException e) {
+            onError(provider.get(), permit);
+            throw e;
+        }
+    }
+
+    public ExchangeFilterFunction filter(ApiProvider provider) {
+        return (request, next) -> Mono.defer(() -> {
+            // the permit while the call holds the circuit, a call cancelled by then gives a half-open probe back
+            AtomicLong inFlight = new AtomicLong(CircuitBreaker.REJECTED);
+            return Mono.fromRunnable(() -> inFlight.set(acquire(provider)))
+                    // waiting for a rate-limit permit blocks, keep it off the event loop
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .then(Mono.defer(() -> next.exchange(request)))
+                    .doOnNext(response -> {
+                        long permit = inFlight.getAndSet(CircuitBreaker.REJECTED);
+                        if (permit != CircuitBreaker.REJECTED) {
+                            onResponse(provider, permit, response.statusCode().value());
+                        }
+                    })
+                    .doOnError(e -> {
+                        long permit = inFlight.getAndSet(CircuitBreaker.REJECTED);
+                        if (permit != CircuitBreaker.REJECTED) {
+                            onError(provider, permit);
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        long permit = inFlight.getAndSet(CircuitBreaker.REJECTED);
+                        if (permit != CircuitBreaker.REJECTED) {
+                            release(provider, permit);
+                        }
+                    });
+        });
+    }
+}
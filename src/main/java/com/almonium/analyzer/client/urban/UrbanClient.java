@@ -17,7 +17,6 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 @Client
@@ -35,8 +34,6 @@ public class UrbanClient extends AbstractClient {
     @Value("${external.api.key.urban}")
     String urbanApiAuthHeaderKeyValue;
 
-    RestTemplate restTemplate;
-
     public ResponseEntity<UrbanResponse> submit(String word) {
         HttpHeaders headers = new HttpHeaders();
         headers.set(URBAN_API_AUTH_HEADER_HOST, URBAN_API_AUTH_HEADER_HOST_VALUE);
@@ -51,7 +48,7 @@ public class UrbanClient extends AbstractClient {
         Map<String, String> params = new HashMap<>();
         params.put("term", word);
 
-        return restTemplate.exchange(
-                urlTemplate, HttpMethod.GET, new HttpEntity<>(headers), UrbanResponse.class, params);
+        return getRestTemplate()
+                .exchange(urlTemplate, HttpMethod.GET, new HttpEntity<>(headers), UrbanResponse.class, params);
     }
 }
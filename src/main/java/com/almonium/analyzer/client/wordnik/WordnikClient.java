@@ -3,13 +3,17 @@ package com.almonium.analyzer.client.wordnik;
 import static lombok.AccessLevel.PRIVATE;
 
 import com.almonium.analyzer.client.AbstractClient;
+import com.almonium.analyzer.client.ApiProvider;
 import com.almonium.analyzer.client.Client;
+import com.almonium.analyzer.client.cache.DictionaryCacheKey;
 import com.almonium.analyzer.client.wordnik.dto.WordnikAudioDto;
 import com.almonium.analyzer.client.wordnik.dto.WordnikRandomWordDto;
 import com.almonium.util.GeneralUtils;
+import com.fasterxml.jackson.core.type.TypeReference;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
 import lombok.experimental.FieldDefaults;
@@ -21,7 +25,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.client.HttpClientErrorException;
 
 @Client
 @NoArgsConstructor
@@ -52,12 +56,11 @@ public class WordnikClient extends AbstractClient {
     static final String INCLUDE_POS = "includePartOfSpeech";
     static final String HAS_DICT_DEF = "hasDictionaryDef";
     static final String INCLUDE_POS_VALUE = "noun%2Cadjective%2Cadverb%2Cverb-intransitive%2Cverb-transitive";
+    static final TypeReference<List<WordnikAudioDto>> AUDIO_TYPE = new TypeReference<>() {};
 
     @Value("${external.api.key.wordnik}")
     String apikeyHeaderValue;
 
-    RestTemplate restTemplate;
-
     public ResponseEntity<WordnikRandomWordDto> getRandomWord() {
         HttpHeaders headers = new HttpHeaders();
         headers.set(APIKEY_HEADER_NAME, apikeyHeaderValue);
@@ -70,11 +73,27 @@ public class WordnikClient extends AbstractClient {
 
         String urlTemplate = GeneralUtils.queryBuilder(BASE_URL_WORDS, List.of(HAS_DICT_DEF, INCLUDE_POS, MIN_LENGTH));
 
-        return restTemplate.exchange(
-                urlTemplate, HttpMethod.GET, new HttpEntity<>(headers), WordnikRandomWordDto.class, params);
+        return getRestTemplate()
+                .exchange(urlTemplate, HttpMethod.GET, new HttpEntity<>(headers), WordnikRandomWordDto.class, params);
     }
 
     public ResponseEntity<List<WordnikAudioDto>> getAudioFile(String word) {
+        List<WordnikAudioDto> audio = getDictionaryCache()
+                .get(DictionaryCacheKey.of(ApiProvider.WORDNIK, AUDIO, word), AUDIO_TYPE, () -> fetchAudioFile(word))
+                .orElseGet(List::of);
+        return ResponseEntity.ok(audio);
+    }
+
+    private Optional<List<WordnikAudioDto>> fetchAudioFile(String word) {
+        try {
+            return Optional.ofNullable(requestAudioFile(word).getBody()).filter(body -> !body.isEmpty());
+        } catch (HttpClientErrorException.NotFound e) {
+            // wordnik answers 404 for words without recordings
+            return Optional.empty();
+        }
+    }
+
+    private ResponseEntity<List<WordnikAudioDto>> requestAudioFile(String word) {
         HttpHeaders headers = new HttpHeaders();
         headers.set(APIKEY_HEADER_NAME, apikeyHeaderValue);
         headers.set(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
@@ -83,7 +102,12 @@ public class WordnikClient extends AbstractClient {
 
         Map<String, Object> params = new HashMap<>();
 
-        return restTemplate.exchange(
-                urlTemplate, HttpMethod.GET, new HttpEntity<>(headers), new ParameterizedTypeReference<>() {}, params);
+        return getRestTemplate()
+                .exchange(
+                        urlTemplate,
+                        HttpMethod.GET,
+                        new HttpEntity<>(headers),
+                        new ParameterizedTypeReference<>() {},
+                        params);
     }
 }
@@ -16,7 +16,6 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.client.RestTemplate;
 
 @Client
 @FieldDefaults(level = PRIVATE, makeFinal = true)
@@ -27,11 +26,9 @@ public class WordsClient extends AbstractClient {
     private static final String BASE_URL = "https://wordsapiv1.p.rapidapi.com/words/";
     private static final String RANDOM = "random";
 
-    RestTemplate restTemplate;
     String apiKeyHeaderValue;
 
-    public WordsClient(RestTemplate restTemplate, @Value("${external.api.key.words}") String apiKeyHeaderValue) {
-        this.restTemplate = restTemplate;
+    public WordsClient(@Value("${external.api.key.words}") String apiKeyHeaderValue) {
         this.apiKeyHeaderValue = apiKeyHeaderValue;
     }
 
@@ -45,8 +42,8 @@ public class WordsClient extends AbstractClient {
 
         Map<String, Object> params = new HashMap<>();
 
-        return restTemplate.exchange(
-                urlTemplate, HttpMethod.GET, new HttpEntity<>(headers), WordsReportDto.class, params);
+        return getRestTemplate()
+                .exchange(urlTemplate, HttpMethod.GET, new HttpEntity<>(headers), WordsReportDto.class, params);
     }
 
     public ResponseEntity<WordsReportDto> getRandomWord() {
@@ -60,7 +57,7 @@ public class WordsClient extends AbstractClient {
         Map<String, Object> params = new HashMap<>();
         params.put(RANDOM, true);
 
-        return restTemplate.exchange(
-                urlTemplate, HttpMethod.GET, new HttpEntity<>(headers), WordsReportDto.class, params);
+        return getRestTemplate()
+                .exchange(urlTemplate, HttpMethod.GET, new HttpEntity<>(headers), WordsReportDto.class, params);
     }
 }
@@ -3,11 +3,16 @@ package com.almonium.analyzer.client.yandex;
 import static lombok.AccessLevel.PRIVATE;
 
 import com.almonium.analyzer.client.AbstractClient;
+import com.almonium.analyzer.client.ApiProvider;
 import com.almonium.analyzer.client.Client;
+import com.almonium.analyzer.client.cache.DictionaryCacheKey;
+import com.almonium.analyzer.client.yandex.dto.YandexDefDto;
 import com.almonium.analyzer.client.yandex.dto.YandexDto;
 import com.almonium.analyzer.translator.model.enums.Language;
+import com.fasterxml.jackson.core.type.TypeReference;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
 import lombok.experimental.FieldDefaults;
@@ -25,11 +30,24 @@ public class YandexClient extends AbstractClient {
     static final String LANG = "lang";
     static final String TEXT = "text";
     static final String KEY = "key";
+    static final String LOOKUP = "lookup";
+    static final TypeReference<YandexDto> YANDEX_TYPE = new TypeReference<>() {};
 
     @Value("${external.api.key.yandex}")
     String keyValue;
 
     public ResponseEntity<YandexDto> translate(String word, Language from, Language to) {
+        YandexDto dto = getDictionaryCache()
+                .get(
+                        DictionaryCacheKey.of(ApiProvider.YANDEX, LOOKUP, word, from, to),
+                        YANDEX_TYPE,
+                        () -> Optional.ofNullable(lookup(word, from, to).getBody())
+                                .filter(body -> body.getDef() != null && body.getDef().length > 0))
+                .orElseGet(() -> new YandexDto(new YandexDefDto[0]));
+        return ResponseEntity.ok(dto);
+    }
+
+    private ResponseEntity<YandexDto> lookup(String word, Language from, Language to) {
         String langPair = String.format(
                 "%s-%s", from.name().toLowerCase(Locale.ROOT), to.name().toLowerCase(Locale.ROOT));
 
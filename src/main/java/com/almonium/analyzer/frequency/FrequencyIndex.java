@@ -0,0 +1,112 @@
+package com.almonium.analyzer.frequency;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.analyzer.translator.model.enums.Language;
+import jakarta.annotation.PostConstruct;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Offline word frequencies, one {@link FrequencyTable} per language.
+ * A corpus is a {@code <lang>.tsv} file in the index directory with a {@code word<TAB>relative frequency} pair
+ * per line (the scale of Google Books Ngrams). On start-up every corpus newer than its {@code <lang>.idx} table is
+ * imported, then all tables are memory-mapped.
+ */
+@Slf4j
+@Component
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class FrequencyIndex {
+    private static final String CORPUS_EXTENSION = ".tsv";
+    private static final String TABLE_EXTENSION = ".idx";
+
+    Path directory;
+    Map<Language, FrequencyTable> tables = new ConcurrentHashMap<>();
+
+    public FrequencyIndex(@Value("${app.analyzer.frequency.directory}") String directory) {
+        this.directory = Path.of(directory);
+    }
+
+    @PostConstruct
+    void init() {
+        if (!Files.isDirectory(directory)) {
+            log.info("No frequency index directory at {}, frequencies will be looked up online", directory);
+            return;
+        }
+        for (Language language : Language.values()) {
+            try {
+                Path corpus = corpusOf(language);
+                Path table = tableOf(language);
+                if (Files.exists(corpus)
+                        && (!Files.exists(table)
+                                || Files.getLastModifiedTime(corpus).compareTo(Files.getLastModifiedTime(table)) > 0)) {
+                    importCorpus(language, corpus);
+                } else if (Files.exists(table)) {
+                    tables.put(language, FrequencyTable.open(table));
+                }
+            } catch (IOException | RuntimeException e) {
+                // one broken file shouldn't take the others down, the language falls back to the online lookup
+                log.error("Could not load frequency index for {}", language, e);
+            }
+        }
+        tables.forEach((language, table) -> log.info("Frequency index for {}: {} words", language, table.size()));
+    }
+
+    public OptionalDouble find(Language language, String word) {
+        FrequencyTable table = tables.get(language);
+        return table == null ? OptionalDouble.empty() : table.find(normalize(word));
+    }
+
+    /**
+     * Builds the table of the language from a corpus file and swaps it in. Case variants of a word are summed up.
+     */
+    public void importCorpus(Language language, Path corpus) {
+        Map<String, Double> frequencies = new HashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(corpus, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split("\t");
+                if (columns.length != 2) {
+                    throw new IllegalArgumentException("Malformed frequency corpus line: " + line);
+                }
+                frequencies.merge(normalize(columns[0]), Double.parseDouble(columns[1].trim()), Double::sum);
+            }
+
+            Files.createDirectories(directory);
+            Path table = tableOf(language);
+            FrequencyTable.write(frequencies, table);
+            tables.put(language, FrequencyTable.open(table));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not import frequency corpus " + corpus, e);
+        }
+        log.info("Imported frequency corpus {} for {}: {} words", corpus, language, frequencies.size());
+    }
+
+    private Path corpusOf(Language language) {
+        return directory.resolve(language.name().toLowerCase(Locale.ROOT) + CORPUS_EXTENSION);
+    }
+
+    private Path tableOf(Language language) {
+        return directory.resolve(language.name().toLowerCase(Locale.ROOT) + TABLE_EXTENSION);
+    }
+
+    private static String normalize(String word) {
+        return word.trim().toLowerCase(Locale.ROOT);
+    }
+}
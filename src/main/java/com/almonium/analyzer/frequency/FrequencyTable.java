@@ -0,0 +1,121 @@
+package com.almonium.analyzer.frequency;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.OptionalDouble;
+
+/**
+ * Read-only word -> relative frequency table in a memory-mapped file (a sorted string table):
+ * <pre>
+ * int magic, int count
+ * int[count + 1] offsets of each word in the words block
+ * double[count]  frequencies
+ * byte[]         words, UTF-8, sorted by unsigned byte order
+ * </pre>
+ * A lookup is a binary search over the mapped bytes and allocates nothing but the encoded key.
+ * Only absolute reads are used, so a table can be shared between threads.
+ */
+class FrequencyTable {
+    private static final int MAGIC = 0x46524531; // "FRE1"
+    private static final int HEADER_BYTES = 2 * Integer.BYTES;
+
+    private final ByteBuffer buffer;
+    private final int count;
+    private final int frequenciesStart;
+    private final int wordsStart;
+
+    private FrequencyTable(ByteBuffer buffer) {
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a frequency table");
+        }
+        this.buffer = buffer;
+        this.count = buffer.getInt(Integer.BYTES);
+        this.frequenciesStart = HEADER_BYTES + (count + 1) * Integer.BYTES;
+        this.wordsStart = frequenciesStart + count * Double.BYTES;
+    }
+
+    static FrequencyTable open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // the mapping stays valid after the channel is closed
+            return new FrequencyTable(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Writes the table to a temporary file and moves it into place, so a running instance never maps
+     * a half-written file.
+     */
+    static void write(Map<String, Double> frequencies, Path file) throws IOException {
+        byte[][] words =
+                frequencies.keySet().stream().map(word -> word.getBytes(UTF_8)).toArray(byte[][]::new);
+        Arrays.sort(words, Arrays::compareUnsigned);
+
+        Path temp = Files.createTempFile(
+                file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+        try (OutputStream fileOut = Files.newOutputStream(temp);
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOut))) {
+            out.writeInt(MAGIC);
+            out.writeInt(words.length);
+            int offset = 0;
+            for (byte[] word : words) {
+                out.writeInt(offset);
+                offset += word.length;
+            }
+            out.writeInt(offset);
+            for (byte[] word : words) {
+                out.writeDouble(frequencies.get(new String(word, UTF_8)));
+            }
+            for (byte[] word : words) {
+                out.write(word);
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    int size() {
+        return count;
+    }
+
+    OptionalDouble find(String word) {
+        byte[] key = word.getBytes(UTF_8);
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compareAt(mid, key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return OptionalDouble.of(buffer.getDouble(frequenciesStart + mid * Double.BYTES));
+            }
+        }
+        return OptionalDouble.empty();
+    }
+
+    private int compareAt(int index, byte[] key) {
+        int start = wordsStart + buffer.getInt(HEADER_BYTES + index * Integer.BYTES);
+        int length = wordsStart + buffer.getInt(HEADER_BYTES + (index + 1) * Integer.BYTES) - start;
+        int common = Math.min(length, key.length);
+        for (int i = 0; i < common; i++) {
+            int cmp = Byte.compareUnsigned(buffer.get(start + i), key[i]);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return Integer.compare(length, key.length);
+    }
+}
@@ -0,0 +1,186 @@
+package com.almonium.analyzer.speech.cache;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.analyzer.speech.model.SpeechAudio;
+import com.google.protobuf.ByteString;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Content-addressed store of synthesized speech: one {@code <hash>.mp3} file per {@code SpeechKey} in a local
+ * directory, bounded by total size and evicted in least-recently-used order. Responses stream the files lazily,
+ * so an evicted file is only deleted once the eviction grace period is over; stored again by then, it is kept.
+ * The index is rebuilt from the directory on start-up (ordered by last modification), so the cache survives restarts.
+ */
+@Slf4j
+@Component
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class AudioCache {
+    private static final String EXTENSION = ".mp3";
+
+    Path directory;
+    long maxBytes;
+    long evictionGraceMs;
+    // hash -> file size, in access order
+    Map<String, Long> index = new LinkedHashMap<>(256, 0.75f, true);
+    // hash -> time of eviction, in eviction order; the files are still on disk
+    Map<String, Long> evicted = new LinkedHashMap<>();
+
+    @NonFinal
+    long totalBytes;
+
+    public AudioCache(
+            MeterRegistry meterRegistry,
+            @Value("${app.analyzer.speech.cache.directory}") String directory,
+            @Value("${app.analyzer.speech.cache.max-size}") long maxBytes,
+            @Value("${app.analyzer.speech.cache.eviction-grace}") long evictionGraceMs) {
+        this.directory = Path.of(directory);
+        this.maxBytes = maxBytes;
+        this.evictionGraceMs = evictionGraceMs;
+        Gauge.builder("tts.cache.size", this, AudioCache::getTotalBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void init() throws IOException {
+        Files.createDirectories(directory);
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(directory)) {
+            files = stream.filter(file -> file.getFileName().toString().endsWith(EXTENSION))
+                    .sorted(Comparator.comparing(AudioCache::lastModified))
+                    .toList();
+        }
+        synchronized (this) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                long size = file.toFile().length();
+                index.put(name.substring(0, name.length() - EXTENSION.length()), size);
+                totalBytes += size;
+            }
+            evict(System.currentTimeMillis());
+            // nothing is being streamed yet
+            deleteEvicted(Long.MAX_VALUE);
+        }
+        log.info("Audio cache at {} holds {} files, {} bytes", directory, index.size(), totalBytes);
+    }
+
+    public Optional<SpeechAudio> get(String hash) {
+        Long size;
+        synchronized (this) {
+            size = index.get(hash);
+        }
+        if (size == null) {
+            return Optional.empty();
+        }
+        Path file = fileOf(hash);
+        if (!Files.exists(file)) {
+            // removed behind our back, forget it
+            remove(hash);
+            return Optional.empty();
+        }
+        return Optional.of(new SpeechAudio(hash, file, size));
+    }
+
+    /**
+     * Writes the audio straight from the protobuf buffer to disk. The file is written under a temporary name
+     * and moved into place, so readers never see a partial file.
+     */
+    public SpeechAudio put(String hash, ByteString audio) {
+        Path file = fileOf(hash);
+        synchronized (this) {
+            // the file is about to be replaced, it must not be deleted as an evicted one
+            evicted.remove(hash);
+        }
+        try {
+            Path temp = Files.createTempFile(directory, hash, ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                audio.writeTo(out);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not store synthesized audio " + hash, e);
+        }
+
+        synchronized (this) {
+            Long previous = index.put(hash, (long) audio.size());
+            totalBytes += audio.size() - (previous == null ? 0 : previous);
+            long now = System.currentTimeMillis();
+            evict(now);
+            deleteEvicted(now);
+        }
+        return new SpeechAudio(hash, file, audio.size());
+    }
+
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    private synchronized void remove(String hash) {
+        Long size = index.remove(hash);
+        if (size != null) {
+            totalBytes -= size;
+        }
+    }
+
+    // called with the monitor held; the files stay on disk until deleteEvicted
+    private void evict(long now) {
+        Iterator<Map.Entry<String, Long>> eldest = index.entrySet().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<String, Long> entry = eldest.next();
+            evicted.put(entry.getKey(), now);
+            totalBytes -= entry.getValue();
+            eldest.remove();
+        }
+    }
+
+    // called with the monitor held
+    private void deleteEvicted(long now) {
+        Iterator<Map.Entry<String, Long>> eldest = evicted.entrySet().iterator();
+        while (eldest.hasNext()) {
+            Map.Entry<String, Long> entry = eldest.next();
+            if (now - entry.getValue() < evictionGraceMs) {
+                return;
+            }
+            try {
+                Files.deleteIfExists(fileOf(entry.getKey()));
+            } catch (IOException e) {
+                log.warn("Could not evict cached audio {}", entry.getKey(), e);
+            }
+            eldest.remove();
+        }
+    }
+
+    private Path fileOf(String hash) {
+        return directory.resolve(hash + EXTENSION);
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.almonium.analyzer.speech.model;
+
+import java.nio.file.Path;
+
+/**
+ * Synthesized MP3 stored in the audio cache.
+ */
+public record SpeechAudio(String hash, Path file, long size) {}
@@ -0,0 +1,17 @@
+package com.almonium.analyzer.speech.model;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.hash.Hashing;
+
+public record SpeechKey(String languageCode, String voice, String text) {
+
+    /**
+     * Content address of the audio: equal keys always produce the same file name and ETag.
+     */
+    public String hash() {
+        return Hashing.sha256()
+                .hashString(String.join("\n", languageCode, voice, text), UTF_8)
+                .toString();
+    }
+}
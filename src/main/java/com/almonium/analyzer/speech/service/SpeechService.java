@@ -0,0 +1,82 @@
+package com.almonium.analyzer.speech.service;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.analyzer.speech.cache.AudioCache;
+import com.almonium.analyzer.speech.model.SpeechAudio;
+import com.almonium.analyzer.speech.model.SpeechKey;
+import com.almonium.analyzer.translator.service.TranslationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Text-to-speech backed by the {@link AudioCache}: a phrase is synthesized once per language and voice,
+ * and concurrent requests for the same phrase share a single synthesis.
+ */
+@Slf4j
+@Service
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class SpeechService {
+    // the voice GoogleTranslationServiceImpl asks for; part of the key so a voice change doesn't serve stale audio
+    private static final String VOICE = "neutral";
+
+    TranslationService googleService;
+    AudioCache audioCache;
+    Map<String, CompletableFuture<SpeechAudio>> inProgress = new ConcurrentHashMap<>();
+    Counter hits;
+    Counter misses;
+
+    public SpeechService(TranslationService googleService, AudioCache audioCache, MeterRegistry meterRegistry) {
+        this.googleService = googleService;
+        this.audioCache = audioCache;
+        this.hits = meterRegistry.counter("tts.cache", "result", "hit");
+        this.misses = meterRegistry.counter("tts.cache", "result", "miss");
+    }
+
+    public SpeechKey keyOf(String languageCode, String text) {
+        return new SpeechKey(languageCode, VOICE, text.strip());
+    }
+
+    public SpeechAudio textToSpeech(SpeechKey key) {
+        String hash = key.hash();
+        Optional<SpeechAudio> cached = audioCache.get(hash);
+        if (cached.isPresent()) {
+            hits.increment();
+            return cached.get();
+        }
+
+        CompletableFuture<SpeechAudio> synthesis = new CompletableFuture<>();
+        CompletableFuture<SpeechAudio> running = inProgress.putIfAbsent(hash, synthesis);
+        if (running != null) {
+            return join(running);
+        }
+        try {
+            misses.increment();
+            synthesis.complete(audioCache.put(hash, googleService.textToSpeech(key.languageCode(), key.text())));
+        } catch (RuntimeException e) {
+            synthesis.completeExceptionally(e);
+        } finally {
+            inProgress.remove(hash);
+        }
+        return join(synthesis);
+    }
+
+    private static SpeechAudio join(CompletableFuture<SpeechAudio> synthesis) {
+        try {
+            return synthesis.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.almonium.analyzer.translator.model;
+
+import com.almonium.analyzer.translator.model.enums.Language;
+import com.almonium.analyzer.translator.model.enums.TranslatorType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of lang_pair_translator_mapping: translators per language pair, by priority.
+ */
+public final class TranslatorRoutingTable {
+    public static final TranslatorRoutingTable EMPTY = new TranslatorRoutingTable(new EnumMap<>(Language.class));
+
+    private final Map<Language, Map<Language, List<TranslatorType>>> routes;
+
+    private TranslatorRoutingTable(Map<Language, Map<Language, List<TranslatorType>>> routes) {
+        this.routes = routes;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public List<TranslatorType> route(Language source, Language target) {
+        return routes.getOrDefault(source, Map.of()).getOrDefault(target, List.of());
+    }
+
+    public int size() {
+        return routes.values().stream().mapToInt(Map::size).sum();
+    }
+
+    /**
+     * Expects routes of a pair to be added in priority order.
+     */
+    public static final class Builder {
+        private final Map<Language, Map<Language, List<TranslatorType>>> routes = new EnumMap<>(Language.class);
+
+        private Builder() {}
+
+        public Builder add(Language source, Language target, TranslatorType translator) {
+            routes.computeIfAbsent(source, s -> new EnumMap<>(Language.class))
+                    .computeIfAbsent(target, t -> new ArrayList<>())
+                    .add(translator);
+            return this;
+        }
+
+        public TranslatorRoutingTable build() {
+            Map<Language, Map<Language, List<TranslatorType>>> frozen = new EnumMap<>(Language.class);
+            routes.forEach((source, targets) -> {
+                Map<Language, List<TranslatorType>> frozenTargets = new EnumMap<>(Language.class);
+                targets.forEach((target, translators) -> frozenTargets.put(target, List.copyOf(translators)));
+                frozen.put(source, Collections.unmodifiableMap(frozenTargets));
+            });
+            return new TranslatorRoutingTable(Collections.unmodifiableMap(frozen));
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.almonium.analyzer.translator.model.enums;
+
+import com.almonium.analyzer.client.ApiProvider;
+import java.util.Optional;
+
+// values match translator.name
+public enum TranslatorType {
+    GOOGLE(null), // Cloud Translation client library, not one of the guarded HTTP providers
+    DEEPL(null),
+    YANDEX(ApiProvider.YANDEX);
+
+    private final ApiProvider apiProvider;
+
+    TranslatorType(ApiProvider apiProvider) {
+        this.apiProvider = apiProvider;
+    }
+
+    public Optional<ApiProvider> getApiProvider() {
+        return Optional.ofNullable(apiProvider);
+    }
+}
@@ -6,12 +6,4 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface TranslatorRepository extends JpaRepository<Translator, Long> {
     Optional<Translator> getByName(String name);
-
-    default Translator getYandex() {
-        return this.getByName("YANDEX").orElseThrow();
-    }
-
-    default Translator getGoogle() {
-        return this.getByName("GOOGLE").orElseThrow();
-    }
 }
@@ -0,0 +1,240 @@
+package com.almonium.analyzer.translator.service;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.analyzer.client.ApiProvider;
+import com.almonium.analyzer.client.exception.ProviderBusyException;
+import com.almonium.analyzer.client.resilience.ProviderBulkhead;
+import com.almonium.analyzer.translator.dto.TranslationCardDto;
+import com.almonium.analyzer.translator.model.enums.Language;
+import com.almonium.analyzer.translator.model.enums.TranslatorType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Translates a word with the translators mapped to the language pair.
+ * The best translator is asked first; if it hasn't answered by its usual latency percentile, the next one is asked
+ * as well (hedging), and a failed or empty answer moves on to the next one immediately. The first good answer wins.
+ * Translators that fail or get slow too often are demoted behind the healthy ones for a while.
+ * Each translator call holds a {@link ProviderBulkhead} permit of its own provider, so a hedged request
+ * doesn't count against the provider it was hedged away from.
+ */
+@Slf4j
+@Service
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class TranslationEngine {
+    private static final int STATS_WINDOW = 100;
+    private static final int MIN_SAMPLES = 20;
+
+    TranslatorRouter translatorRouter;
+    Map<TranslatorType, WordTranslator> translators = new EnumMap<>(TranslatorType.class);
+    Map<TranslatorType, TranslatorStats> stats = new EnumMap<>(TranslatorType.class);
+    ThreadPoolTaskExecutor translationTaskExecutor;
+    ProviderBulkhead providerBulkhead;
+    MeterRegistry meterRegistry;
+    Counter hedgedCounter;
+
+    @NonFinal
+    @Value("${app.analyzer.translation.timeout}")
+    long timeoutMs;
+
+    @NonFinal
+    @Value("${app.analyzer.translation.hedge-percentile}")
+    double hedgePercentile;
+
+    @NonFinal
+    @Value("${app.analyzer.translation.hedge-min-delay}")
+    long hedgeMinDelayMs;
+
+    @NonFinal
+    @Value("${app.analyzer.translation.hedge-default-delay}")
+    long hedgeDefaultDelayMs;
+
+    @NonFinal
+    @Value("${app.analyzer.translation.demotion-failure-rate}")
+    double demotionFailureRate;
+
+    @NonFinal
+    @Value("${app.analyzer.translation.demotion-latency}")
+    long demotionLatencyMs;
+
+    @NonFinal
+    @Value("${app.analyzer.translation.demotion-period}")
+    long demotionPeriodMs;
+
+    public TranslationEngine(
+            TranslatorRouter translatorRouter,
+            List<WordTranslator> wordTranslators,
+            ThreadPoolTaskExecutor translationTaskExecutor,
+            ProviderBulkhead providerBulkhead,
+            MeterRegistry meterRegistry) {
+        this.translatorRouter = translatorRouter;
+        this.translationTaskExecutor = translationTaskExecutor;
+        this.providerBulkhead = providerBulkhead;
+        this.meterRegistry = meterRegistry;
+        this.hedgedCounter = meterRegistry.counter("translation.hedged");
+        wordTranslators.forEach(translator -> translators.put(translator.getType(), translator));
+        for (TranslatorType type : TranslatorType.values()) {
+            stats.put(type, new TranslatorStats(STATS_WINDOW));
+        }
+    }
+
+    public Optional<TranslationCardDto> translate(String entry, Language from, Language to) {
+        List<WordTranslator> candidates = candidates(from, to);
+        if (candidates.isEmpty()) {
+            return Optional.empty();
+        }
+        HedgedTranslation translation = new HedgedTranslation(entry, from, to, candidates);
+        translation.launchNext();
+        return Optional.ofNullable(translation
+                .result
+                .completeOnTimeout(null, timeoutMs, TimeUnit.MILLISECONDS)
+                .join());
+    }
+
+    List<WordTranslator> candidates(Language from, Language to) {
+        long now = System.currentTimeMillis();
+        // the sort is stable, so priority order is kept among healthy and among demoted translators
+        return translatorRouter.route(from, to).stream()
+                .map(translators::get)
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparing(
+                        translator -> stats.get(translator.getType()).isDemoted(now)))
+                .toList();
+    }
+
+    private long hedgeDelay(TranslatorType type) {
+        TranslatorStats translatorStats = stats.get(type);
+        if (translatorStats.size() < MIN_SAMPLES) {
+            return hedgeDefaultDelayMs;
+        }
+        return Math.max(hedgeMinDelayMs, translatorStats.latencyPercentile(hedgePercentile));
+    }
+
+    private Optional<TranslationCardDto> call(WordTranslator translator, String entry, Language from, Language to) {
+        Optional<ApiProvider> provider = translator.getType().getApiProvider();
+        if (provider.isEmpty()) {
+            return measure(translator, entry, from, to);
+        }
+        try {
+            return providerBulkhead.call(provider.get(), () -> measure(translator, entry, from, to));
+        } catch (ProviderBusyException e) {
+            // our own saturation, not the translator's fault: moves on without touching its stats
+            log.warn("Translator {} skipped: {}", translator.getType(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private Optional<TranslationCardDto> measure(WordTranslator translator, String entry, Language from, Language to) {
+        long start = System.nanoTime();
+        boolean failed = false;
+        try {
+            return translator.translate(entry, from, to);
+        } catch (RuntimeException e) {
+            failed = true;
+            log.warn("Translator {} failed for '{}': {}", translator.getType(), entry, e.toString());
+            return Optional.empty();
+        } finally {
+            record(translator.getType(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), failed);
+        }
+    }
+
+    private void record(TranslatorType type, long latencyMs, boolean failed) {
+        meterRegistry
+                .timer("translation.provider", "provider", type.name(), "outcome", failed ? "failure" : "success")
+                .record(latencyMs, TimeUnit.MILLISECONDS);
+
+        TranslatorStats translatorStats = stats.get(type);
+        translatorStats.record(latencyMs, failed);
+        if (translatorStats.size() >= MIN_SAMPLES
+                && (translatorStats.failureRate() >= demotionFailureRate
+                        || translatorStats.latencyPercentile(hedgePercentile) > demotionLatencyMs)) {
+            log.warn("Demoting translator {} for {} ms", type, demotionPeriodMs);
+            translatorStats.demote(System.currentTimeMillis() + demotionPeriodMs);
+        }
+    }
+
+    /**
+     * One translation request. Candidates are launched one by one: on a failed or empty answer, or when
+     * the latest one is slower than its hedge delay. Completes with the first answer, or with null
+     * once every candidate has answered without one.
+     */
+    private class HedgedTranslation {
+        final String entry;
+        final Language from;
+        final Language to;
+        final List<WordTranslator> candidates;
+        final CompletableFuture<TranslationCardDto> result = new CompletableFuture<>();
+        int launched;
+        int inFlight;
+
+        HedgedTranslation(String entry, Language from, Language to, List<WordTranslator> candidates) {
+            this.entry = entry;
+            this.from = from;
+            this.to = to;
+            this.candidates = candidates;
+        }
+
+        synchronized void launchNext() {
+            if (result.isDone()) {
+                return;
+            }
+            if (launched == candidates.size()) {
+                if (inFlight == 0) {
+                    result.complete(null);
+                }
+                return;
+            }
+
+            WordTranslator translator = candidates.get(launched++);
+            int attempt = launched;
+            inFlight++;
+            try {
+                CompletableFuture.supplyAsync(() -> call(translator, entry, from, to), translationTaskExecutor)
+                        .thenAccept(this::onAnswer);
+            } catch (RejectedExecutionException e) {
+                log.warn("Translator {} skipped, translation executor is saturated", translator.getType());
+                inFlight--;
+                launchNext();
+                return;
+            }
+
+            if (launched < candidates.size()) {
+                CompletableFuture.delayedExecutor(hedgeDelay(translator.getType()), TimeUnit.MILLISECONDS)
+                        .execute(() -> hedge(attempt));
+            }
+        }
+
+        synchronized void hedge(int attempt) {
+            // a later candidate may already be running because this one failed
+            if (!result.isDone() && launched == attempt) {
+                hedgedCounter.increment();
+                launchNext();
+            }
+        }
+
+        synchronized void onAnswer(Optional<TranslationCardDto> answer) {
+            inFlight--;
+            if (answer.isPresent()) {
+                result.complete(answer.get());
+            } else {
+                launchNext();
+            }
+        }
+    }
+}
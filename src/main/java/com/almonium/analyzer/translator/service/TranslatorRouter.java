@@ -0,0 +1,63 @@
+package com.almonium.analyzer.translator.service;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.analyzer.translator.model.TranslatorRoutingTable;
+import com.almonium.analyzer.translator.model.entity.LangPairTranslatorMapping;
+import com.almonium.analyzer.translator.model.enums.Language;
+import com.almonium.analyzer.translator.model.enums.TranslatorType;
+import com.almonium.analyzer.translator.repository.LangPairTranslatorRepository;
+import jakarta.annotation.PostConstruct;
+import java.util.Comparator;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.EnumUtils;
+import org.springframework.stereotype.Service;
+
+/**
+ * Answers "which translators serve this language pair" from memory.
+ * The table is loaded at startup and rebuilt on {@link #refresh()}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class TranslatorRouter {
+    LangPairTranslatorRepository langPairTranslatorRepository;
+
+    @NonFinal
+    volatile TranslatorRoutingTable routingTable = TranslatorRoutingTable.EMPTY;
+
+    @PostConstruct
+    void init() {
+        refresh();
+    }
+
+    public void refresh() {
+        TranslatorRoutingTable.Builder builder = TranslatorRoutingTable.builder();
+        langPairTranslatorRepository.findAll().stream()
+                .sorted(Comparator.comparingInt(LangPairTranslatorMapping::getPriority))
+                .forEach(mapping -> {
+                    String name = mapping.getTranslator().getName();
+                    TranslatorType translator = EnumUtils.getEnum(TranslatorType.class, name);
+                    if (translator == null) {
+                        log.warn("Skipping mapping to unknown translator {}", name);
+                        return;
+                    }
+                    builder.add(mapping.getSourceLang(), mapping.getTargetLang(), translator);
+                });
+
+        routingTable = builder.build();
+        log.info("Translator routing table loaded: {} language pairs", routingTable.size());
+    }
+
+    /**
+     * @return translators serving the pair, highest priority first; empty if the pair isn't supported
+     */
+    public List<TranslatorType> route(Language source, Language target) {
+        return routingTable.route(source, target);
+    }
+}
@@ -0,0 +1,69 @@
+package com.almonium.analyzer.translator.service;
+
+import java.util.Arrays;
+
+/**
+ * Latencies and outcomes of the last {@code window} calls to one translator.
+ */
+class TranslatorStats {
+    private final long[] latencies;
+    private final boolean[] failures;
+    private int next;
+    private int size;
+    private long demotedUntil;
+
+    TranslatorStats(int window) {
+        this.latencies = new long[window];
+        this.failures = new boolean[window];
+    }
+
+    synchronized void record(long latencyMs, boolean failed) {
+        latencies[next] = latencyMs;
+        failures[next] = failed;
+        next = (next + 1) % latencies.length;
+        size = Math.min(size + 1, latencies.length);
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @param percentile between 0 and 1
+     */
+    synchronized long latencyPercentile(double percentile) {
+        if (size == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(latencies, size);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * size) - 1;
+        return sorted[Math.max(0, Math.min(index, size - 1))];
+    }
+
+    synchronized double failureRate() {
+        if (size == 0) {
+            return 0;
+        }
+        int failed = 0;
+        for (int i = 0; i < size; i++) {
+            if (failures[i]) {
+                failed++;
+            }
+        }
+        return (double) failed / size;
+    }
+
+    /**
+     * Demotes the translator and forgets its history, so it's judged on fresh calls once the demotion is over.
+     */
+    synchronized void demote(long untilMillis) {
+        demotedUntil = untilMillis;
+        next = 0;
+        size = 0;
+    }
+
+    synchronized boolean isDemoted(long nowMillis) {
+        return nowMillis < demotedUntil;
+    }
+}
@@ -0,0 +1,16 @@
+package com.almonium.analyzer.translator.service;
+
+import com.almonium.analyzer.translator.dto.TranslationCardDto;
+import com.almonium.analyzer.translator.model.enums.Language;
+import com.almonium.analyzer.translator.model.enums.TranslatorType;
+import java.util.Optional;
+
+/**
+ * A single provider behind {@link TranslationEngine}.
+ * An empty result means the provider had nothing to offer, exceptions mean it failed.
+ */
+public interface WordTranslator {
+    TranslatorType getType();
+
+    Optional<TranslationCardDto> translate(String entry, Language from, Language to);
+}
@@ -0,0 +1,43 @@
+package com.almonium.analyzer.translator.service.impl;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.analyzer.translator.dto.DefinitionDto;
+import com.almonium.analyzer.translator.dto.TranslationCardDto;
+import com.almonium.analyzer.translator.dto.TranslationDto;
+import com.almonium.analyzer.translator.model.enums.Language;
+import com.almonium.analyzer.translator.model.enums.TranslatorType;
+import com.almonium.analyzer.translator.service.TranslationService;
+import com.almonium.analyzer.translator.service.WordTranslator;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Service;
+
+// machine translation, no dictionary details: the card has a single definition with a single translation
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class GoogleWordTranslator implements WordTranslator {
+    TranslationService googleService;
+
+    @Override
+    public TranslatorType getType() {
+        return TranslatorType.GOOGLE;
+    }
+
+    @Override
+    public Optional<TranslationCardDto> translate(String entry, Language from, Language to) {
+        String translated = googleService.bulkTranslateText(entry, to.name());
+        if (StringUtils.isBlank(translated)) {
+            return Optional.empty();
+        }
+        TranslationDto translation = TranslationDto.builder().text(translated).build();
+        DefinitionDto definition = DefinitionDto.builder()
+                .text(entry)
+                .translations(new TranslationDto[] {translation})
+                .build();
+        return Optional.of(new TranslationCardDto(getType().name(), new DefinitionDto[] {definition}));
+    }
+}
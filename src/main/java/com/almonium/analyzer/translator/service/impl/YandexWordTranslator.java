@@ -0,0 +1,39 @@
+package com.almonium.analyzer.translator.service.impl;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.analyzer.analyzer.mapper.DictionaryDtoMapper;
+import com.almonium.analyzer.client.yandex.YandexClient;
+import com.almonium.analyzer.client.yandex.dto.YandexDto;
+import com.almonium.analyzer.translator.dto.TranslationCardDto;
+import com.almonium.analyzer.translator.model.enums.Language;
+import com.almonium.analyzer.translator.model.enums.TranslatorType;
+import com.almonium.analyzer.translator.service.WordTranslator;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class YandexWordTranslator implements WordTranslator {
+    YandexClient yandexClient;
+    DictionaryDtoMapper dictionaryDtoMapper;
+
+    @Override
+    public TranslatorType getType() {
+        return TranslatorType.YANDEX;
+    }
+
+    @Override
+    public Optional<TranslationCardDto> translate(String entry, Language from, Language to) {
+        YandexDto dto = yandexClient.translate(entry, from, to).getBody();
+        if (dto == null || dto.getDef() == null || dto.getDef().length == 0) {
+            return Optional.empty();
+        }
+        TranslationCardDto card = dictionaryDtoMapper.yandexToGeneral(dto);
+        card.setProvider(getType().name());
+        return Optional.of(card);
+    }
+}
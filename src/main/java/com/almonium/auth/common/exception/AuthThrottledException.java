@@ -0,0 +1,7 @@
+package com.almonium.auth.common.exception;
+
+public class AuthThrottledException extends RuntimeException {
+    public AuthThrottledException(String message) {
+        super(message);
+    }
+}
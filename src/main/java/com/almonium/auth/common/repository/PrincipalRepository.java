@@ -2,8 +2,14 @@ package com.almonium.auth.common.repository;
 
 import com.almonium.auth.common.model.entity.Principal;
 import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface PrincipalRepository extends JpaRepository<Principal, Long> {
     List<Principal> findByEmail(String email);
+
+    // the principal with what the request handlers read from its user, in one query
+    @EntityGraph(attributePaths = {"user", "user.profile", "user.learner"})
+    Optional<Principal> findWithUserById(long id);
 }
@@ -0,0 +1,85 @@
+package com.almonium.auth.common.service;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.auth.common.exception.AuthMethodNotFoundException;
+import com.almonium.auth.common.model.entity.Principal;
+import com.almonium.auth.common.repository.PrincipalRepository;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import java.time.Duration;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Principals of authenticated requests by id, loaded with their user, profile and learner. The signed token names
+ * the principal, so a request whose principal is cached is authenticated without a query. Entries are detached
+ * entities shared by the requests of one principal, so they are read-only: services that change the user, profile
+ * or learner reload them by id and evict the user here. Entries also expire after a short TTL.
+ */
+@Slf4j
+@Component
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class PrincipalCache {
+    PrincipalRepository principalRepository;
+    Cache<Long, Principal> principals;
+
+    public PrincipalCache(
+            PrincipalRepository principalRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.auth.principal-cache.ttl}") long ttlSeconds,
+            @Value("${app.auth.principal-cache.max-size}") long maxSize) {
+        this.principalRepository = principalRepository;
+        this.principals = CacheBuilder.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        GuavaCacheMetrics.monitor(meterRegistry, principals, "principals");
+    }
+
+    public Principal get(long id) {
+        Principal principal = principals.getIfPresent(id);
+        if (principal == null) {
+            principal = principalRepository
+                    .findWithUserById(id)
+                    .orElseThrow(() -> new AuthMethodNotFoundException("Principal not found by id: " + id));
+            principals.put(id, principal);
+        }
+        return principal;
+    }
+
+    /**
+     * Evicts the user's principals now and, when called in a transaction, once more after commit,
+     * so that a request reading the old state before the commit doesn't keep it cached.
+     */
+    public void evictUser(long userId) {
+        evict(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userId);
+                }
+            });
+        }
+    }
+
+    // a user has a handful of principals at most, they are found by scanning the cache
+    private void evict(long userId) {
+        boolean evicted = principals
+                .asMap()
+                .values()
+                .removeIf(principal ->
+                        principal.getUser() != null && principal.getUser().getId() == userId);
+        if (evicted) {
+            log.debug("Evicted cached principals of user {}", userId);
+        }
+    }
+}
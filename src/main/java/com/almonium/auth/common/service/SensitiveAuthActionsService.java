@@ -14,6 +14,7 @@ import com.almonium.auth.local.model.entity.LocalPrincipal;
 import com.almonium.auth.local.model.entity.VerificationToken;
 import com.almonium.auth.local.model.enums.TokenType;
 import com.almonium.auth.local.service.PasswordEncoderService;
+import com.almonium.card.core.service.CardSharingService;
 import com.almonium.subscription.service.PlanSubscriptionService;
 import com.almonium.user.core.model.entity.User;
 import com.almonium.user.core.repository.UserRepository;
@@ -39,6 +40,8 @@ public class SensitiveAuthActionsService {
     PlanSubscriptionService planSubscriptionService;
     VerificationTokenManagementService verificationTokenManagementService;
     AvatarService avatarService;
+    CardSharingService cardSharingService;
+    PrincipalCache principalCache;
 
     UserRepository userRepository;
     PrincipalRepository principalRepository;
@@ -104,13 +107,17 @@ public class SensitiveAuthActionsService {
         Principal principal = getProviderIfPossibleElseThrow(providerType, user);
         user.getPrincipals().remove(principal);
         principalRepository.delete(principal);
+        principalCache.evictUser(userId);
         log.info("Provider: {} unlinked for user: {}", providerType, userId);
     }
 
     public void deleteAccount(User user) {
         planSubscriptionService.cleanUpPaidSubscriptionsIfAny(user);
         avatarService.cleanUpAvatars(user.getId());
+        // friends' cards accepted from this user's suggestions would lose their translations and examples
+        cardSharingService.handOverContent(user.getLearner());
         userRepository.delete(user);
+        principalCache.evictUser(user.getId());
     }
 
     public void handleEmailChangeRequest(long id, Consumer<VerificationToken> action) {
@@ -32,8 +32,6 @@ public class UserAuthenticationService {
     public JwtTokenResponse authenticateUser(User user, HttpServletResponse response, Authentication authentication) {
         SecurityContextHolder.getContext().setAuthentication(authentication);
         profileService.updateLoginStreak(user.getProfile());
-        String accessToken = authTokenService.createAndSetAccessTokenForLiveLogin(authentication, response);
-        String refreshToken = authTokenService.createAndSetRefreshToken(authentication, response);
-        return new JwtTokenResponse(accessToken, refreshToken);
+        return authTokenService.createAndSetTokensForLiveLogin(authentication, response);
     }
 }
@@ -7,6 +7,7 @@ import com.almonium.auth.local.dto.request.LocalAuthRequest;
 import com.almonium.auth.local.dto.response.JwtAuthResponse;
 import com.almonium.auth.local.service.PublicLocalAuthService;
 import com.almonium.util.dto.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -26,8 +27,10 @@ public class PublicLocalAuthController {
 
     @PostMapping("/login")
     public ResponseEntity<JwtAuthResponse> login(
-            @Valid @RequestBody LocalAuthRequest localAuthRequest, HttpServletResponse response) {
-        return ResponseEntity.ok(publicLocalAuthService.login(localAuthRequest, response));
+            @Valid @RequestBody LocalAuthRequest localAuthRequest,
+            HttpServletRequest request,
+            HttpServletResponse response) {
+        return ResponseEntity.ok(publicLocalAuthService.login(localAuthRequest, request.getRemoteAddr(), response));
     }
 
     @PostMapping("/register")
@@ -3,6 +3,7 @@ package com.almonium.auth.local.service;
 import static lombok.AccessLevel.PRIVATE;
 
 import com.almonium.auth.common.model.entity.Principal;
+import com.almonium.auth.common.service.PrincipalCache;
 import com.almonium.auth.common.service.SensitiveAuthActionsService;
 import com.almonium.auth.common.service.VerificationTokenManagementService;
 import com.almonium.auth.local.model.entity.LocalPrincipal;
@@ -31,6 +32,7 @@ public class LocalAuthPublicVerificationService {
     UserService userService;
     VerificationTokenManagementService tokenService;
     SensitiveAuthActionsService sensitiveAuthActionsService;
+    PrincipalCache principalCache;
     PasswordEncoderService passwordEncoderService;
 
     UserRepository userRepository;
@@ -49,6 +51,7 @@ public class LocalAuthPublicVerificationService {
         user.setEmail(localPrincipal.getEmail());
         user.setEmailVerified(true);
         userRepository.save(user);
+        principalCache.evictUser(userId);
 
         // If app enforces single email per user, unlink all other auth methods with old email
         List<Principal> principalsToUnlink = user.getPrincipals().stream()
@@ -70,6 +73,7 @@ public class LocalAuthPublicVerificationService {
         User user = principal.getUser();
         user.setEmailVerified(true);
         userRepository.save(user);
+        principalCache.evictUser(user.getId());
     }
 
     public void resetPassword(String token, String newPassword) {
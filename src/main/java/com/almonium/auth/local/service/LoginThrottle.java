@@ -0,0 +1,145 @@
+package com.almonium.auth.local.service;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.auth.common.exception.AuthThrottledException;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.Striped;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.locks.Lock;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Failed password sign-ins per client IP and per account over a sliding window. Once either goes over its limit,
+ * further attempts are turned down before their password is hashed: per IP against credential stuffing, which tries
+ * many accounts once each, per account against guessing one password. A successful sign-in clears the account.
+ *
+ * <p>Windows are kept in memory, per instance, for the keys seen lately; updates of one key are serialized by a
+ * lock picked from a fixed set of stripes.</p>
+ *
+ * <p>The client IP is the request's remote address. Behind a reverse proxy, Tomcat takes it from X-Forwarded-For
+ * ({@code server.forward-headers-strategy: native}), and only for requests coming from a trusted proxy
+ * ({@code server.tomcat.remoteip.internal-proxies}, the private networks by default). Clients connecting directly
+ * can't choose their key by sending the header; a proxy outside those networks has to be added there, or every
+ * client behind it shares its address.</p>
+ */
+@Slf4j
+@Component
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class LoginThrottle {
+    private static final int STRIPES = 64;
+
+    Cache<String, SlidingWindow> windows;
+    Striped<Lock> locks = Striped.lock(STRIPES);
+    long windowMs;
+    int maxFailuresPerIp;
+    int maxFailuresPerAccount;
+
+    public LoginThrottle(
+            @Value("${app.auth.login-throttle.window}") long windowSeconds,
+            @Value("${app.auth.login-throttle.max-failures-per-ip}") int maxFailuresPerIp,
+            @Value("${app.auth.login-throttle.max-failures-per-account}") int maxFailuresPerAccount,
+            @Value("${app.auth.login-throttle.max-tracked-keys}") long maxTrackedKeys) {
+        this.windowMs = Duration.ofSeconds(windowSeconds).toMillis();
+        this.maxFailuresPerIp = maxFailuresPerIp;
+        this.maxFailuresPerAccount = maxFailuresPerAccount;
+        // a window stops counting two window lengths after its last failure
+        this.windows = CacheBuilder.newBuilder()
+                .expireAfterAccess(Duration.ofMillis(windowMs * 2))
+                .maximumSize(maxTrackedKeys)
+                .build();
+    }
+
+    public void checkAllowed(String clientIp, String email) {
+        long now = System.currentTimeMillis();
+        if (failures(ipKey(clientIp), now) >= maxFailuresPerIp
+                || failures(accountKey(email), now) >= maxFailuresPerAccount) {
+            log.warn("Sign-in from {} for {} throttled", clientIp, email);
+            throw new AuthThrottledException("Too many failed sign-in attempts, try again later.");
+        }
+    }
+
+    public void recordFailure(String clientIp, String email) {
+        long now = System.currentTimeMillis();
+        increment(ipKey(clientIp), now);
+        increment(accountKey(email), now);
+    }
+
+    public void recordSuccess(String email) {
+        windows.invalidate(accountKey(email));
+    }
+
+    private double failures(String key, long now) {
+        Lock lock = locks.get(key);
+        lock.lock();
+        try {
+            SlidingWindow window = windows.getIfPresent(key);
+            return window == null ? 0 : window.estimate(now, windowMs);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void increment(String key, long now) {
+        Lock lock = locks.get(key);
+        lock.lock();
+        try {
+            SlidingWindow window = windows.getIfPresent(key);
+            if (window == null) {
+                window = new SlidingWindow(now);
+                windows.put(key, window);
+            }
+            window.increment(now, windowMs);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static String ipKey(String clientIp) {
+        return "ip:" + clientIp;
+    }
+
+    private static String accountKey(String email) {
+        return "account:" + email.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Counts of the current and the previous fixed window; the count over the sliding window is estimated
+     * by weighting the previous one with the part of it the sliding window still covers.
+     */
+    private static class SlidingWindow {
+        long start;
+        int current;
+        int previous;
+
+        SlidingWindow(long now) {
+            this.start = now;
+        }
+
+        void increment(long now, long windowMs) {
+            advance(now, windowMs);
+            current++;
+        }
+
+        double estimate(long now, long windowMs) {
+            advance(now, windowMs);
+            double previousWeight = 1 - (double) (now - start) / windowMs;
+            return previous * previousWeight + current;
+        }
+
+        private void advance(long now, long windowMs) {
+            long elapsedWindows = (now - start) / windowMs;
+            if (elapsedWindows == 0) {
+                return;
+            }
+            previous = elapsedWindows == 1 ? current : 0;
+            current = 0;
+            start += elapsedWindows * windowMs;
+        }
+    }
+}
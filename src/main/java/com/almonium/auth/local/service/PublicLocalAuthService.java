@@ -26,6 +26,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -42,6 +43,7 @@ public class PublicLocalAuthService {
     UserService userService;
     PrincipalFactory principalFactory;
     UserFactory userFactory;
+    LoginThrottle loginThrottle;
     // repositories
     UserRepository userRepository;
     LocalPrincipalRepository localPrincipalRepository;
@@ -50,16 +52,26 @@ public class PublicLocalAuthService {
     @Value("${app.auth.email-verification-required}")
     boolean emailVerificationRequired;
 
-    public JwtAuthResponse login(LocalAuthRequest request, HttpServletResponse response) {
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(request.email(), request.password()));
+    public JwtAuthResponse login(LocalAuthRequest request, String clientIp, HttpServletResponse response) {
+        // turned down before the password is hashed, that's what makes bursts expensive
+        loginThrottle.checkAllowed(clientIp, request.email());
 
-        User user = validateAndGetLocalPrincipal(request);
+        Authentication authentication;
+        try {
+            authentication = authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(request.email(), request.password()));
+        } catch (AuthenticationException e) {
+            loginThrottle.recordFailure(clientIp, request.email());
+            throw e;
+        }
+        loginThrottle.recordSuccess(request.email());
+
+        User user = validateAndGetUser(authentication);
 
         JwtTokenResponse tokenResponse = userAuthenticationServiceImpl.authenticateUser(user, response, authentication);
 
         return new JwtAuthResponse(
-                tokenResponse.accessToken(), tokenResponse.refreshToken(), userService.buildUserInfoFromUser(user));
+                tokenResponse.accessToken(), tokenResponse.refreshToken(), userService.buildUserInfo(user));
     }
 
     public void register(LocalAuthRequest request) {
@@ -77,11 +89,9 @@ public class PublicLocalAuthService {
                         principal, TokenType.PASSWORD_RESET));
     }
 
-    private User validateAndGetLocalPrincipal(LocalAuthRequest request) {
-        // loadUserByUsername is executed prior to this, thus IllegalState - it should always return a user
-        User user = userRepository
-                .findByEmail(request.email())
-                .orElseThrow(() -> new IllegalStateException("User with email " + request.email() + " not found"));
+    // the principal and its user were loaded by loadUserByUsername, with everything the sign-in reads
+    private User validateAndGetUser(Authentication authentication) {
+        User user = ((LocalPrincipal) authentication.getPrincipal()).getUser();
 
         if (emailVerificationRequired && !user.isEmailVerified()) {
             throw new EmailNotVerifiedException("Email needs to be verified before logging in.");
@@ -18,8 +18,8 @@ public class AppleClientConfig {
     private String appleTokenUrl;
 
     @Bean
-    public AppleTokenClient appleTokenClient() {
-        WebClient webClient = WebClient.builder()
+    public AppleTokenClient appleTokenClient(WebClient.Builder webClientBuilder) {
+        WebClient webClient = webClientBuilder
                 .baseUrl(appleTokenUrl)
                 .defaultStatusHandler(HttpStatusCode::is4xxClientError, resp -> resp.bodyToMono(String.class)
                         .flatMap(errorBody ->
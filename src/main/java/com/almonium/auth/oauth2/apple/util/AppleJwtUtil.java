@@ -4,6 +4,8 @@ import static com.almonium.auth.oauth2.other.model.userinfo.OAuth2UserInfo.EMAIL
 import static com.almonium.auth.oauth2.other.model.userinfo.OAuth2UserInfo.EMAIL_VERIFIED;
 import static com.almonium.auth.oauth2.other.model.userinfo.OAuth2UserInfo.SUB;
 
+import com.almonium.auth.common.model.enums.AuthProviderType;
+import com.almonium.auth.oauth2.other.service.JwksManager;
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
@@ -19,8 +21,7 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class AppleJwtUtil {
 
-    @Value("${spring.security.oauth2.client.provider.apple.jwk-set-uri}")
-    String appleJwkUri;
+    private final JwksManager jwksManager;
 
     @Value("${app.auth.oauth2.apple-token-url}")
     String appleTokenUrl;
@@ -31,7 +32,7 @@ public class AppleJwtUtil {
     @SneakyThrows
     public Map<String, Object> verifyAndParseToken(String idToken) {
         RSAPublicKey publicKey =
-                JwksUtil.getPublicKey(appleJwkUri, JWT.decode(idToken).getKeyId());
+                jwksManager.getKey(AuthProviderType.APPLE, JWT.decode(idToken).getKeyId());
 
         Algorithm algorithm = Algorithm.RSA256(publicKey, null);
 
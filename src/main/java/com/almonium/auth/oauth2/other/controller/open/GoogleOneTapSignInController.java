@@ -10,20 +10,13 @@ import com.almonium.auth.oauth2.other.model.enums.OAuth2Intent;
 import com.almonium.auth.oauth2.other.model.userinfo.OAuth2UserInfo;
 import com.almonium.auth.oauth2.other.model.userinfo.OAuth2UserInfoFactory;
 import com.almonium.auth.oauth2.other.service.OAuth2AuthenticationService;
+import com.almonium.auth.oauth2.other.util.GoogleJwtUtil;
 import com.almonium.util.dto.ApiResponse;
-import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
-import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
-import com.google.api.client.http.javanet.NetHttpTransport;
-import com.google.api.client.json.gson.GsonFactory;
+import com.auth0.jwt.exceptions.JWTVerificationException;
 import jakarta.servlet.http.HttpServletResponse;
-import java.io.IOException;
-import java.security.GeneralSecurityException;
-import java.util.Collections;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
-import lombok.experimental.NonFinal;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -41,10 +34,7 @@ public class GoogleOneTapSignInController {
     OAuth2AuthenticationService authService;
     UserAuthenticationService userAuthenticationServiceImpl;
     OAuth2UserInfoFactory userInfoFactory;
-
-    @NonFinal
-    @Value("${spring.security.oauth2.client.registration.google.client-id}")
-    String googleClientId;
+    GoogleJwtUtil googleJwtUtil;
 
     @PostMapping("/google/one-tap")
     public ResponseEntity<?> loginWithGoogle(
@@ -52,12 +42,14 @@ public class GoogleOneTapSignInController {
         String idTokenString = requestBody.get("token");
 
         try {
-            GoogleIdToken idToken = verifyGoogleToken(idTokenString);
-            if (idToken == null) {
+            Map<String, Object> attributes;
+            try {
+                attributes = googleJwtUtil.verifyAndParseToken(idTokenString);
+            } catch (JWTVerificationException e) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new ApiResponse(false, "Invalid token."));
             }
 
-            OAuth2UserInfo userInfo = userInfoFactory.getOAuth2UserInfo(AuthProviderType.GOOGLE, idToken.getPayload());
+            OAuth2UserInfo userInfo = userInfoFactory.getOAuth2UserInfo(AuthProviderType.GOOGLE, attributes);
             OAuth2Principal principal = authService.authenticate(userInfo, OAuth2Intent.SIGN_IN);
 
             Authentication authentication = new UsernamePasswordAuthenticationToken(principal, null, Principal.ROLES);
@@ -70,12 +62,4 @@ public class GoogleOneTapSignInController {
                     .body(new ApiResponse(false, "Authentication failed."));
         }
     }
-
-    private GoogleIdToken verifyGoogleToken(String idTokenString) throws GeneralSecurityException, IOException {
-        GoogleIdTokenVerifier verifier = new GoogleIdTokenVerifier.Builder(
-                        new NetHttpTransport(), GsonFactory.getDefaultInstance())
-                .setAudience(Collections.singletonList(googleClientId))
-                .build();
-        return verifier.verify(idTokenString);
-    }
 }
@@ -0,0 +1,24 @@
+package com.almonium.auth.oauth2.other.cron;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.auth.oauth2.other.service.JwksManager;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class JwksRefreshTask {
+    JwksManager jwksManager;
+
+    // the first run loads the keys right after startup, before the first sign-in needs them
+    @Scheduled(
+            fixedDelayString = "${app.auth.jwks.refresh-interval}",
+            initialDelayString = "${app.auth.jwks.initial-delay}")
+    public void refreshKeys() {
+        jwksManager.refreshExpiring();
+    }
+}
@@ -0,0 +1,187 @@
+package com.almonium.auth.oauth2.other.service;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.auth.common.model.enums.AuthProviderType;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Public keys of the identity providers whose ID tokens are verified here, by provider and key id.
+ * A key set is kept for the max-age its response allows and refreshed ahead of that in the background,
+ * see {@code JwksRefreshTask}, so sign-ins find the keys in memory. A token signed with an unknown key,
+ * which is how providers roll keys out, triggers one refetch however many sign-ins are waiting for it;
+ * refetches for unknown keys are at most one per min-refetch-interval, so made-up key ids can't flood the provider.
+ */
+@Slf4j
+@Component
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class JwksManager {
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+
+    RestTemplate restTemplate;
+    MeterRegistry meterRegistry;
+    Map<AuthProviderType, String> urls = new EnumMap<>(AuthProviderType.class);
+    Map<AuthProviderType, KeySet> keySets = new ConcurrentHashMap<>();
+    Map<AuthProviderType, CompletableFuture<KeySet>> fetches = new ConcurrentHashMap<>();
+    Duration defaultTtl;
+    Duration refreshAhead;
+    Duration minRefetchInterval;
+
+    public JwksManager(
+            RestTemplate restTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${spring.security.oauth2.client.provider.apple.jwk-set-uri}") String appleJwkSetUri,
+            @Value("${app.auth.oauth2.google-jwk-set-uri}") String googleJwkSetUri,
+            @Value("${app.auth.jwks.default-ttl}") long defaultTtlSeconds,
+            @Value("${app.auth.jwks.refresh-ahead}") long refreshAheadSeconds,
+            @Value("${app.auth.jwks.min-refetch-interval}") long minRefetchIntervalSeconds) {
+        this.restTemplate = restTemplate;
+        this.meterRegistry = meterRegistry;
+        this.urls.put(AuthProviderType.APPLE, appleJwkSetUri);
+        this.urls.put(AuthProviderType.GOOGLE, googleJwkSetUri);
+        this.defaultTtl = Duration.ofSeconds(defaultTtlSeconds);
+        this.refreshAhead = Duration.ofSeconds(refreshAheadSeconds);
+        this.minRefetchInterval = Duration.ofSeconds(minRefetchIntervalSeconds);
+    }
+
+    public RSAPublicKey getKey(AuthProviderType provider, String kid) {
+        Instant now = Instant.now();
+        KeySet keySet = keySets.get(provider);
+        if (keySet != null && now.isBefore(keySet.expiresAt())) {
+            RSAPublicKey key = keySet.keys().get(kid);
+            if (key != null) {
+                return key;
+            }
+            if (now.isBefore(keySet.fetchedAt().plus(minRefetchInterval))) {
+                throw new IllegalStateException("Unknown " + provider + " key id: " + kid);
+            }
+        }
+
+        RSAPublicKey key = refetch(provider).keys().get(kid);
+        if (key == null) {
+            throw new IllegalStateException("Unknown " + provider + " key id: " + kid);
+        }
+        return key;
+    }
+
+    /**
+     * Refetches the key sets that are missing or expire within refresh-ahead. A failure is logged and the current
+     * keys are kept, the next run tries again.
+     */
+    public void refreshExpiring() {
+        Instant threshold = Instant.now().plus(refreshAhead);
+        for (AuthProviderType provider : urls.keySet()) {
+            KeySet keySet = keySets.get(provider);
+            if (keySet == null || keySet.expiresAt().isBefore(threshold)) {
+                try {
+                    refetch(provider);
+                } catch (RuntimeException e) {
+                    log.warn("Failed to refresh {} keys: {}", provider, e.toString());
+                }
+            }
+        }
+    }
+
+    // the first caller fetches, the ones arriving meanwhile wait for its result
+    private KeySet refetch(AuthProviderType provider) {
+        CompletableFuture<KeySet> fetch = new CompletableFuture<>();
+        CompletableFuture<KeySet> inFlight = fetches.putIfAbsent(provider, fetch);
+        if (inFlight != null) {
+            try {
+                return inFlight.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        try {
+            KeySet keySet = fetch(provider);
+            keySets.put(provider, keySet);
+            fetch.complete(keySet);
+            return keySet;
+        } catch (RuntimeException e) {
+            fetch.completeExceptionally(e);
+            throw e;
+        } finally {
+            fetches.remove(provider, fetch);
+        }
+    }
+
+    private KeySet fetch(AuthProviderType provider) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
+            ResponseEntity<JsonNode> response = restTemplate.getForEntity(urls.get(provider), JsonNode.class);
+            Map<String, RSAPublicKey> keys = parseKeys(response.getBody());
+            Instant now = Instant.now();
+            KeySet keySet =
+                    new KeySet(keys, now, now.plus(ttl(response.getHeaders().getCacheControl())));
+            outcome = "success";
+            log.debug("Fetched {} {} keys, valid until {}", keys.size(), provider, keySet.expiresAt());
+            return keySet;
+        } finally {
+            sample.stop(meterRegistry.timer("jwks.fetch", "provider", provider.name(), "outcome", outcome));
+        }
+    }
+
+    private Duration ttl(String cacheControl) {
+        if (cacheControl != null) {
+            Matcher maxAge = MAX_AGE.matcher(cacheControl);
+            if (maxAge.find()) {
+                return Duration.ofSeconds(Long.parseLong(maxAge.group(1)));
+            }
+        }
+        return defaultTtl;
+    }
+
+    private static Map<String, RSAPublicKey> parseKeys(JsonNode jwks) {
+        if (jwks == null || !jwks.has("keys")) {
+            throw new IllegalStateException("Malformed JWKS");
+        }
+        Map<String, RSAPublicKey> keys = new HashMap<>();
+        for (JsonNode key : jwks.get("keys")) {
+            if ("RSA".equals(key.path("kty").asText())) {
+                keys.put(key.path("kid").asText(), createPublicKey(key));
+            }
+        }
+        return Map.copyOf(keys);
+    }
+
+    private static RSAPublicKey createPublicKey(JsonNode key) {
+        BigInteger modulus =
+                new BigInteger(1, Base64.getUrlDecoder().decode(key.get("n").asText()));
+        BigInteger exponent =
+                new BigInteger(1, Base64.getUrlDecoder().decode(key.get("e").asText()));
+        try {
+            return (RSAPublicKey) KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(modulus, exponent));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid RSA key in JWKS", e);
+        }
+    }
+
+    private record KeySet(Map<String, RSAPublicKey> keys, Instant fetchedAt, Instant expiresAt) {}
+}
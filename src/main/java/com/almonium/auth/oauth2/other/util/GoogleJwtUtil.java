@@ -0,0 +1,52 @@
+package com.almonium.auth.oauth2.other.util;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.auth.common.model.enums.AuthProviderType;
+import com.almonium.auth.oauth2.other.service.JwksManager;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import java.security.interfaces.RSAPublicKey;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class GoogleJwtUtil {
+    private static final String[] GOOGLE_ISSUERS = {"https://accounts.google.com", "accounts.google.com"};
+
+    JwksManager jwksManager;
+
+    @NonFinal
+    @Value("${spring.security.oauth2.client.registration.google.client-id}")
+    String googleClientId;
+
+    /**
+     * Verifies a Google ID token against the cached Google keys.
+     *
+     * @return the token's claims, as OAuth2 user attributes
+     */
+    public Map<String, Object> verifyAndParseToken(String idToken) {
+        RSAPublicKey publicKey =
+                jwksManager.getKey(AuthProviderType.GOOGLE, JWT.decode(idToken).getKeyId());
+
+        JWTVerifier verifier = JWT.require(Algorithm.RSA256(publicKey, null))
+                .withIssuer(GOOGLE_ISSUERS)
+                .withAudience(googleClientId)
+                .build();
+
+        DecodedJWT jwt = verifier.verify(idToken);
+
+        Map<String, Object> attributes = new HashMap<>();
+        jwt.getClaims().forEach((name, claim) -> attributes.put(name, claim.as(Object.class)));
+        return attributes;
+    }
+}
@@ -6,6 +6,7 @@ import com.almonium.auth.common.util.CookieUtil;
 import com.almonium.auth.token.service.AuthTokenService;
 import com.almonium.util.dto.ApiResponse;
 import jakarta.validation.constraints.NotBlank;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import org.springframework.http.ResponseEntity;
@@ -24,12 +25,10 @@ public class RecentManualLoginVerificationController {
     @GetMapping("/access-token/verify-live")
     public ResponseEntity<ApiResponse> verifyTokenLiveStatus(
             @NotBlank @CookieValue(value = CookieUtil.ACCESS_TOKEN_COOKIE_NAME, required = false) String accessToken) {
-        if (accessToken == null || !authTokenService.validateToken(accessToken)) {
-            return ResponseEntity.ok().body(new ApiResponse(false, null));
-        }
-
-        return authTokenService
-                .recentLoginPrivilegeExpiresAt(accessToken)
+        return Optional.ofNullable(accessToken)
+                .flatMap(authTokenService::verifyToken)
+                .filter(authTokenService::isAccessToken)
+                .flatMap(authTokenService::recentLoginPrivilegeExpiresAt)
                 .map(expiresAtInstant -> ResponseEntity.ok().body(new ApiResponse(true, expiresAtInstant.toString())))
                 .orElseGet(() -> ResponseEntity.ok().body(new ApiResponse(false, null)));
     }
@@ -7,10 +7,10 @@ import com.almonium.auth.token.dto.response.JwtTokenResponse;
 import com.almonium.auth.token.service.AuthTokenService;
 import com.almonium.util.dto.ApiResponse;
 import jakarta.servlet.http.HttpServletResponse;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.CookieValue;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -28,13 +28,12 @@ public class RefreshTokenController {
             @CookieValue(value = CookieUtil.REFRESH_TOKEN_COOKIE_NAME, required = false) String refreshToken,
             HttpServletResponse response) {
 
-        if (refreshToken == null || !tokenService.validateToken(refreshToken)) {
+        Optional<JwtTokenResponse> tokens =
+                Optional.ofNullable(refreshToken).flatMap(token -> tokenService.rotateRefreshToken(token, response));
+        if (tokens.isEmpty()) {
             return ResponseEntity.badRequest().body(new ApiResponse(false, "invalid_grant"));
         }
 
-        Authentication authentication = tokenService.getAuthenticationFromToken(refreshToken);
-        String newAccessToken = tokenService.createAndSetAccessTokenForRefresh(authentication, response);
-
-        return ResponseEntity.ok(new JwtTokenResponse(newAccessToken, refreshToken));
+        return ResponseEntity.ok(tokens.get());
     }
 }
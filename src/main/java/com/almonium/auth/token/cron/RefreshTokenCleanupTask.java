@@ -0,0 +1,43 @@
+package com.almonium.auth.token.cron;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.auth.token.repository.RefreshTokenRepository;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class RefreshTokenCleanupTask {
+    RefreshTokenRepository refreshTokenRepository;
+
+    @NonFinal
+    @Value("${app.auth.jwt.refresh-token.purge-batch-size}")
+    int batchSize;
+
+    // deleted in chunks of short transactions, so the purge never holds many row locks at once
+    @Scheduled(cron = "0 15 0 * * ?") // Runs daily at 00:15
+    public void purgeExpiredTokens() {
+        Instant now = Instant.now();
+        int deleted = 0;
+        List<UUID> ids;
+        do {
+            ids = refreshTokenRepository.findExpiredIds(now, Limit.of(batchSize));
+            if (!ids.isEmpty()) {
+                deleted += refreshTokenRepository.deleteAllByIdIn(ids);
+            }
+        } while (ids.size() == batchSize);
+        log.info("Removed {} expired refresh tokens", deleted);
+    }
+}
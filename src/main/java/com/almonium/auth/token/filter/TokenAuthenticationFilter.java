@@ -5,6 +5,7 @@ import static lombok.AccessLevel.PRIVATE;
 import com.almonium.auth.common.util.CookieUtil;
 import com.almonium.auth.token.service.AuthTokenService;
 import com.almonium.auth.token.util.BearerTokenUtil;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -36,17 +37,21 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
         String bearer = BearerTokenUtil.getBearerTokenFromRequest(request);
 
-        Optional<String> token =
-                Optional.ofNullable(bearer).filter(StringUtils::hasText).filter(authTokenService::validateToken);
+        // each token is verified once, its claims are what the authentication is built from
+        Optional<Claims> claims =
+                Optional.ofNullable(bearer).filter(StringUtils::hasText).flatMap(authTokenService::verifyToken);
 
-        if (token.isEmpty()) {
-            token = CookieUtil.getCookie(request, CookieUtil.ACCESS_TOKEN_COOKIE_NAME)
+        if (claims.isEmpty()) {
+            claims = CookieUtil.getCookie(request, CookieUtil.ACCESS_TOKEN_COOKIE_NAME)
                     .map(Cookie::getValue)
-                    .filter(authTokenService::validateToken);
+                    .flatMap(authTokenService::verifyToken);
         }
 
-        token.ifPresent(validToken -> SecurityContextHolder.getContext()
-                .setAuthentication(authTokenService.getAuthenticationFromToken(validToken)));
+        // tokens of a revoked refresh token family are rejected for the rest of their short lifetime
+        claims.filter(authTokenService::isAccessToken)
+                .filter(verified -> !authTokenService.isRevoked(verified))
+                .ifPresent(verified -> SecurityContextHolder.getContext()
+                        .setAuthentication(authTokenService.getAuthentication(verified)));
 
         filterChain.doFilter(request, response);
     }
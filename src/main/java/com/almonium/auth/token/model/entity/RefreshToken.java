@@ -3,10 +3,12 @@ package com.almonium.auth.token.model.entity;
 import static lombok.AccessLevel.PRIVATE;
 
 import com.almonium.user.core.model.entity.User;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
-import jakarta.persistence.OneToOne;
+import jakarta.persistence.ManyToOne;
 import java.time.Instant;
 import java.util.UUID;
 import lombok.Getter;
@@ -14,6 +16,11 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.FieldDefaults;
 
+/**
+ * An issued refresh token, identified by its JTI and found by the hash of the token itself. Every refresh revokes
+ * the token used and issues the next one of the same family; a family starts with a sign-in.
+ * A rotated token keeps the id of its successor and the time it was rotated.
+ */
 @Entity
 @Getter
 @Setter
@@ -23,19 +30,30 @@ public class RefreshToken {
     @Id
     UUID id;
 
-    @OneToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     User user;
 
+    UUID familyId;
+
+    @Column(unique = true, length = 22)
+    String tokenHash;
+
     Instant issueDate;
 
     Instant expiryDate;
 
     boolean revoked;
 
-    public RefreshToken(UUID id, User user, Instant issueDate, Instant expiryDate) {
+    UUID replacedBy;
+
+    Instant rotatedAt;
+
+    public RefreshToken(UUID id, User user, UUID familyId, String tokenHash, Instant issueDate, Instant expiryDate) {
         this.id = id;
         this.user = user;
+        this.familyId = familyId;
+        this.tokenHash = tokenHash;
         this.issueDate = issueDate;
         this.expiryDate = expiryDate;
         this.revoked = false;
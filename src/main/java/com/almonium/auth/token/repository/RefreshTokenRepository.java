@@ -2,8 +2,42 @@ package com.almonium.auth.token.repository;
 
 import com.almonium.auth.token.model.entity.RefreshToken;
 import com.almonium.user.core.model.entity.User;
+import jakarta.persistence.LockModeType;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
-    void deleteAllByUser(User user);
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID> {
+    // locked, so that two refreshes with the same token can't both rotate it
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    @Query("select distinct t.familyId from RefreshToken t "
+            + "where t.user = :user and t.revoked = false and t.expiryDate > :now")
+    List<UUID> findActiveFamilies(@Param("user") User user, @Param("now") Instant now);
+
+    @Modifying
+    @Query("update RefreshToken t set t.revoked = true where t.familyId = :familyId and t.revoked = false")
+    int revokeFamily(@Param("familyId") UUID familyId);
+
+    @Modifying
+    @Query("update RefreshToken t set t.revoked = true where t.user = :user and t.revoked = false")
+    int revokeAllByUser(@Param("user") User user);
+
+    @Query("select t.id from RefreshToken t where t.expiryDate < :now")
+    List<UUID> findExpiredIds(@Param("now") Instant now, Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshToken t where t.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<UUID> ids);
 }
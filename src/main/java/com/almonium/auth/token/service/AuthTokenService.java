@@ -2,27 +2,25 @@ package com.almonium.auth.token.service;
 
 import static lombok.AccessLevel.PRIVATE;
 
-import com.almonium.auth.common.exception.AuthMethodNotFoundException;
 import com.almonium.auth.common.model.entity.Principal;
-import com.almonium.auth.common.repository.PrincipalRepository;
+import com.almonium.auth.common.service.PrincipalCache;
 import com.almonium.auth.common.util.CookieUtil;
+import com.almonium.auth.token.dto.response.JwtTokenResponse;
 import com.almonium.auth.token.model.entity.RefreshToken;
 import com.almonium.auth.token.repository.RefreshTokenRepository;
 import com.almonium.user.core.model.entity.User;
+import com.google.common.hash.Hashing;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.MalformedJwtException;
-import io.jsonwebtoken.UnsupportedJwtException;
-import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.http.HttpServletResponse;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
-import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import javax.crypto.SecretKey;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
@@ -39,12 +37,17 @@ import org.springframework.transaction.annotation.Transactional;
 public class AuthTokenService {
     private static final String LOCALHOST = "localhost";
     private static final String IS_LIVE_TOKEN_CLAIM = "is_live";
-
-    final PrincipalRepository principalRepository;
+    private static final String FAMILY_CLAIM = "fid";
+    private static final String TOKEN_TYPE_CLAIM = "token_type";
+    private static final String ACCESS_TOKEN_TYPE = "access";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
+    // 128 bits of SHA-256, 22 characters in unpadded base64
+    private static final int TOKEN_HASH_BYTES = 16;
+
+    final PrincipalCache principalCache;
     final RefreshTokenRepository refreshTokenRepository;
-
-    @Value("${app.auth.jwt.secret}")
-    String tokenSecret;
+    final TokenDenylist tokenDenylist;
+    final JwtEngine jwtEngine;
 
     @Value("${app.auth.jwt.access-token.lifetime}")
     int accessTokenLifetimeInSeconds;
@@ -52,6 +55,9 @@ public class AuthTokenService {
     @Value("${app.auth.jwt.refresh-token.lifetime}")
     int refreshTokenLifetimeInSeconds;
 
+    @Value("${app.auth.jwt.refresh-token.reuse-grace}")
+    int refreshTokenReuseGraceInSeconds;
+
     @Value("${app.auth.jwt.refresh-token.url}")
     String refreshTokenPath;
 
@@ -65,18 +71,17 @@ public class AuthTokenService {
 
     @Transactional
     public void revokeRefreshTokensByUser(User user) {
-        // here, we could mark the refresh token as revoked instead of deleting it
-        refreshTokenRepository.deleteAllByUser(user);
+        List<UUID> families = refreshTokenRepository.findActiveFamilies(user, Instant.now());
+        refreshTokenRepository.revokeAllByUser(user);
+        families.forEach(tokenDenylist::revoke);
+        principalCache.evictUser(user.getId());
     }
 
-    public boolean validateToken(String token) {
-        try {
-            extractClaims(token);
-            return true;
-        } catch (MalformedJwtException | ExpiredJwtException | UnsupportedJwtException | IllegalArgumentException ex) {
-            log.error("Token validation error: ", ex);
-            return false;
-        }
+    /**
+     * Verifies the token; callers carry the returned claims forward instead of parsing the token again.
+     */
+    public Optional<Claims> verifyToken(String token) {
+        return jwtEngine.verify(token);
     }
 
     public void clearTokenCookies(HttpServletResponse response) {
@@ -91,19 +96,104 @@ public class AuthTokenService {
                 getCleanBackendDomain()); // Refresh token cleared with path
     }
 
-    public String createAndSetAccessTokenForLiveLogin(Authentication authentication, HttpServletResponse response) {
-        String accessToken = generateLiveAccessToken(authentication);
-        CookieUtil.addCookie(
-                response,
-                CookieUtil.ACCESS_TOKEN_COOKIE_NAME,
-                accessToken,
-                accessTokenLifetimeInSeconds,
-                getCleanBackendDomain());
-        return accessToken;
+    /**
+     * Issues the tokens of a sign-in, which starts a new refresh token family.
+     */
+    @Transactional
+    public JwtTokenResponse createAndSetTokensForLiveLogin(
+            Authentication authentication, HttpServletResponse response) {
+        Principal principal = (Principal) authentication.getPrincipal();
+        UUID familyId = UUID.randomUUID();
+        String accessToken = createAndSetAccessToken(principal.getId(), familyId, true, response);
+        String refreshToken = createAndSetRefreshToken(UUID.randomUUID(), principal.getId(), familyId, response);
+        return new JwtTokenResponse(accessToken, refreshToken);
+    }
+
+    /**
+     * Exchanges a refresh token for a new access token and the next refresh token of its family.
+     * A refresh token is used once: presenting it again means it leaked, so its whole family is revoked.
+     * Within {@code reuse-grace} seconds of its rotation it is only turned down, as that is usually a concurrent
+     * refresh of the same client, which already got the successor.
+     *
+     * @return the new tokens, empty if the refresh token is invalid, unknown or already used
+     */
+    @Transactional
+    public Optional<JwtTokenResponse> rotateRefreshToken(String token, HttpServletResponse response) {
+        Optional<Claims> claims = verifyToken(token);
+        if (claims.isEmpty()) {
+            return Optional.empty();
+        }
+        Optional<RefreshToken> stored = refreshTokenRepository.findByTokenHash(hash(token));
+        if (stored.isEmpty()) {
+            return Optional.empty();
+        }
+
+        RefreshToken refreshToken = stored.get();
+        Instant now = Instant.now();
+        if (refreshToken.isRevoked()) {
+            if (isWithinReuseGrace(refreshToken, now)) {
+                log.info(
+                        "Refresh token {} reused right after rotation to {}",
+                        refreshToken.getId(),
+                        refreshToken.getReplacedBy());
+                return Optional.empty();
+            }
+            log.warn("Reuse of refresh token {}, revoking family {}", refreshToken.getId(), refreshToken.getFamilyId());
+            refreshTokenRepository.revokeFamily(refreshToken.getFamilyId());
+            tokenDenylist.revoke(refreshToken.getFamilyId());
+            return Optional.empty();
+        }
+        UUID nextId = UUID.randomUUID();
+        refreshToken.setRevoked(true);
+        refreshToken.setReplacedBy(nextId);
+        refreshToken.setRotatedAt(now);
+
+        long principalId = Long.parseLong(claims.get().getSubject());
+        String accessToken = createAndSetAccessToken(principalId, refreshToken.getFamilyId(), false, response);
+        String nextRefreshToken = createAndSetRefreshToken(nextId, principalId, refreshToken.getFamilyId(), response);
+        return Optional.of(new JwtTokenResponse(accessToken, nextRefreshToken));
+    }
+
+    // tokens revoked by a sign-out or a family revocation have no successor and get no grace
+    private boolean isWithinReuseGrace(RefreshToken refreshToken, Instant now) {
+        return refreshToken.getReplacedBy() != null
+                && refreshToken.getRotatedAt() != null
+                && now.isBefore(refreshToken.getRotatedAt().plusSeconds(refreshTokenReuseGraceInSeconds));
+    }
+
+    // refresh tokens are signed with the same key, they must not authenticate requests
+    public boolean isAccessToken(Claims claims) {
+        return ACCESS_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class));
+    }
+
+    // tokens name the refresh token family they were issued with, see TokenDenylist
+    public boolean isRevoked(Claims claims) {
+        String familyId = claims.get(FAMILY_CLAIM, String.class);
+        return familyId != null && tokenDenylist.isRevoked(UUID.fromString(familyId));
+    }
+
+    // the signed subject names the principal, which is usually cached, see PrincipalCache;
+    // the claims are kept as the details, so later checks of the request don't verify the token again
+    public Authentication getAuthentication(Claims claims) {
+        Principal principal = principalCache.get(Long.parseLong(claims.getSubject()));
+
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(principal, null, Principal.ROLES);
+        authentication.setDetails(claims);
+        return authentication;
     }
 
-    public String createAndSetAccessTokenForRefresh(Authentication authentication, HttpServletResponse response) {
-        String accessToken = generateRefreshedAccessToken(authentication);
+    private String createAndSetAccessToken(
+            long principalId, UUID familyId, boolean isReauthenticated, HttpServletResponse response) {
+        Instant now = Instant.now();
+        String accessToken = generateToken(
+                ACCESS_TOKEN_TYPE,
+                principalId,
+                UUID.randomUUID(),
+                familyId,
+                now,
+                now.plusSeconds(accessTokenLifetimeInSeconds),
+                isReauthenticated);
         CookieUtil.addCookie(
                 response,
                 CookieUtil.ACCESS_TOKEN_COOKIE_NAME,
@@ -113,14 +203,8 @@ public class AuthTokenService {
         return accessToken;
     }
 
-    public Authentication getAuthenticationFromToken(String token) {
-        Principal principal = getPrincipalFromAccessToken(token);
-
-        return new UsernamePasswordAuthenticationToken(principal, null, Principal.ROLES);
-    }
-
-    public String createAndSetRefreshToken(Authentication authentication, HttpServletResponse response) {
-        String refreshToken = createRefreshToken(authentication);
+    private String createAndSetRefreshToken(UUID id, long principalId, UUID familyId, HttpServletResponse response) {
+        String refreshToken = createRefreshToken(id, principalId, familyId);
 
         CookieUtil.addCookieWithPath(
                 response,
@@ -133,34 +217,16 @@ public class AuthTokenService {
         return refreshToken;
     }
 
-    public boolean isAccessTokenRefreshed(String accessToken) {
-        Claims claims = extractClaims(accessToken);
+    public boolean isAccessTokenRefreshed(Claims claims) {
         Object isLiveClaim = claims.get(IS_LIVE_TOKEN_CLAIM);
         return !(isLiveClaim instanceof Boolean && (Boolean) isLiveClaim);
     }
 
-    public Optional<Instant> recentLoginPrivilegeExpiresAt(String accessToken) {
-        if (isAccessTokenRefreshed(accessToken)) {
+    public Optional<Instant> recentLoginPrivilegeExpiresAt(Claims claims) {
+        if (isAccessTokenRefreshed(claims)) {
             return Optional.empty();
         }
-        return Optional.of(extractClaims(accessToken).getExpiration().toInstant());
-    }
-
-    private String generateLiveAccessToken(Authentication authentication) {
-        return generateToken(authentication, accessTokenLifetimeInSeconds, true);
-    }
-
-    private String generateRefreshedAccessToken(Authentication authentication) {
-        return generateToken(authentication, accessTokenLifetimeInSeconds, false);
-    }
-
-    private Principal getPrincipalFromAccessToken(String token) {
-        Claims claims = extractClaims(token);
-        long id = Long.parseLong(claims.getSubject());
-
-        return principalRepository
-                .findById(id)
-                .orElseThrow(() -> new AuthMethodNotFoundException("Principal not found by id: " + id));
+        return Optional.of(claims.getExpiration().toInstant());
     }
 
     private String getFullRefreshTokenPath() {
@@ -177,48 +243,43 @@ public class AuthTokenService {
         return backendDomain;
     }
 
-    private String createRefreshToken(Authentication authentication) {
-        String token = generateToken(authentication, refreshTokenLifetimeInSeconds, false);
-        Claims claims = extractClaims(token);
-        Instant issueDate = claims.getIssuedAt().toInstant();
-        Instant expiryDate = claims.getExpiration().toInstant();
-        UUID id = UUID.fromString(claims.getId());
-        Principal principal = getPrincipalFromAccessToken(token);
-        RefreshToken refreshToken = new RefreshToken(id, principal.getUser(), issueDate, expiryDate);
-        refreshTokenRepository.save(refreshToken);
+    // the claims are known from generating the token, it isn't parsed back
+    private String createRefreshToken(UUID id, long principalId, UUID familyId) {
+        // JWT dates have second precision
+        Instant issueDate = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        Instant expiryDate = issueDate.plusSeconds(refreshTokenLifetimeInSeconds);
+        String token = generateToken(REFRESH_TOKEN_TYPE, principalId, id, familyId, issueDate, expiryDate, false);
+
+        Principal principal = principalCache.get(principalId);
+        refreshTokenRepository.save(
+                new RefreshToken(id, principal.getUser(), familyId, hash(token), issueDate, expiryDate));
         return token;
     }
 
-    private Claims extractClaims(String refreshToken) {
-        return Jwts.parser()
-                .verifyWith(getSecretKey())
-                .build()
-                .parseSignedClaims(refreshToken)
-                .getPayload();
+    // the token itself isn't stored, only enough of its hash to find it by
+    private static String hash(String token) {
+        byte[] sha256 =
+                Hashing.sha256().hashString(token, StandardCharsets.UTF_8).asBytes();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(sha256, TOKEN_HASH_BYTES));
     }
 
     private String generateToken(
-            Authentication authentication, long tokenExpirationSeconds, boolean isReauthenticated) {
-        long id = ((Principal) (authentication.getPrincipal())).getId();
-
-        Instant now = Instant.now();
-        Date expiryDate = Date.from(now.plusSeconds(tokenExpirationSeconds)
-                .atZone(ZoneId.systemDefault())
-                .toInstant());
-        String jti = UUID.randomUUID().toString();
-        SecretKey key = getSecretKey();
-
-        return Jwts.builder()
-                .id(jti)
-                .subject(Long.toString(id))
+            String tokenType,
+            long principalId,
+            UUID jti,
+            UUID familyId,
+            Instant issueDate,
+            Instant expiryDate,
+            boolean isReauthenticated) {
+        return jwtEngine
+                .builder()
+                .id(jti.toString())
+                .subject(Long.toString(principalId))
+                .claim(TOKEN_TYPE_CLAIM, tokenType)
                 .claim(IS_LIVE_TOKEN_CLAIM, isReauthenticated)
-                .issuedAt(Date.from(now))
-                .expiration(expiryDate)
-                .signWith(key)
+                .claim(FAMILY_CLAIM, familyId.toString())
+                .issuedAt(Date.from(issueDate))
+                .expiration(Date.from(expiryDate))
                 .compact();
     }
-
-    private SecretKey getSecretKey() {
-        return Keys.hmacShaKeyFor(tokenSecret.getBytes(StandardCharsets.UTF_8));
-    }
 }
@@ -0,0 +1,52 @@
+package com.almonium.auth.token.service;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import javax.crypto.SecretKey;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Signs and verifies the app's JWTs. The HMAC key and the parser are derived from the secret once; both are
+ * immutable and thread-safe, so verifying a token costs one signature check and one parse of its payload.
+ */
+@Slf4j
+@Component
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class JwtEngine {
+    SecretKey key;
+    JwtParser parser;
+
+    public JwtEngine(@Value("${app.auth.jwt.secret}") String secret) {
+        this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(key).build();
+    }
+
+    // a builder signing with the app's key
+    public JwtBuilder builder() {
+        return Jwts.builder().signWith(key);
+    }
+
+    /**
+     * Claims of the token if its signature is valid and it hasn't expired, empty otherwise.
+     */
+    public Optional<Claims> verify(String token) {
+        try {
+            return Optional.of(parser.parseSignedClaims(token).getPayload());
+        } catch (JwtException | IllegalArgumentException e) {
+            // expired and tampered tokens are routine, they are just not authenticated
+            log.debug("Token rejected: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
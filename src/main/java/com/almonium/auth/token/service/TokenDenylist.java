@@ -0,0 +1,47 @@
+package com.almonium.auth.token.service;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import java.time.Duration;
+import java.util.UUID;
+import lombok.experimental.FieldDefaults;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recently revoked refresh token families. Access tokens aren't stored, so they are rejected by the family of the
+ * refresh token they were issued with. An entry is kept for an access token lifetime, after which every access
+ * token of the family has expired anyway. The list is per instance: on other instances those access tokens stay
+ * valid until they expire, while their refresh tokens are rejected everywhere.
+ */
+@Component
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class TokenDenylist {
+    private static final Boolean REVOKED = Boolean.TRUE;
+
+    Cache<UUID, Boolean> revokedFamilies;
+
+    public TokenDenylist(
+            MeterRegistry meterRegistry,
+            @Value("${app.auth.jwt.access-token.lifetime}") long accessTokenLifetimeSeconds,
+            @Value("${app.auth.jwt.denylist.max-size}") long maxSize) {
+        this.revokedFamilies = CacheBuilder.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(accessTokenLifetimeSeconds))
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        GuavaCacheMetrics.monitor(meterRegistry, revokedFamilies, "revoked-token-families");
+    }
+
+    public void revoke(UUID familyId) {
+        revokedFamilies.put(familyId, REVOKED);
+    }
+
+    public boolean isRevoked(UUID familyId) {
+        return revokedFamilies.getIfPresent(familyId) != null;
+    }
+}
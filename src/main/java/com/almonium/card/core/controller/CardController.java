@@ -6,7 +6,9 @@ import com.almonium.analyzer.translator.model.enums.Language;
 import com.almonium.auth.common.annotation.Auth;
 import com.almonium.card.core.dto.CardCreationDto;
 import com.almonium.card.core.dto.CardDto;
+import com.almonium.card.core.dto.CardPageDto;
 import com.almonium.card.core.dto.CardUpdateDto;
+import com.almonium.card.core.dto.TagFacetDto;
 import com.almonium.card.core.service.CardService;
 import com.almonium.user.core.model.entity.User;
 import jakarta.validation.Valid;
@@ -22,6 +24,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -54,6 +57,21 @@ public class CardController {
         return ResponseEntity.ok(cardService.getUsersCardsOfLang(lang, user.getLearner()));
     }
 
+    // keyset-paginated alternative to the two listings above, see CardService.getCardStackPage
+    @GetMapping("/stack")
+    public ResponseEntity<CardPageDto> getCardStackPage(
+            @RequestParam(required = false) Language lang,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @Auth User user) {
+        return ResponseEntity.ok(cardService.getCardStackPage(user.getLearner(), lang, cursor, size));
+    }
+
+    @GetMapping("/tags")
+    public ResponseEntity<List<TagFacetDto>> getTagFacets(@RequestParam Language lang, @Auth User user) {
+        return ResponseEntity.ok(cardService.getTagFacets(user.getLearner(), lang));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<CardDto> getCard(@PathVariable Long id) {
         return ResponseEntity.ok(cardService.getCardById(id));
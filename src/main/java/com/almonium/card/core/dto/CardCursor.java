@@ -0,0 +1,36 @@
+package com.almonium.card.core.dto;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.almonium.user.core.exception.BadUserRequestActionException;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in a card stack ordered by (updatedAt, id) descending, passed to clients as an opaque string.
+ */
+public record CardCursor(Instant updatedAt, long id) {
+    private static final String SEPARATOR = "|";
+
+    // sorts before every card, used for the first page
+    public static final CardCursor START = new CardCursor(Instant.parse("9999-12-31T23:59:59Z"), Long.MAX_VALUE);
+
+    public static CardCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return START;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), UTF_8);
+            int separator = decoded.lastIndexOf(SEPARATOR);
+            return new CardCursor(
+                    Instant.parse(decoded.substring(0, separator)), Long.parseLong(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BadUserRequestActionException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString((updatedAt + SEPARATOR + id).getBytes(UTF_8));
+    }
+}
@@ -2,6 +2,7 @@ package com.almonium.card.core.dto;
 
 import static lombok.AccessLevel.PRIVATE;
 
+import com.almonium.card.enrichment.model.enums.EnrichmentStatus;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 import java.time.Instant;
@@ -36,6 +37,9 @@ public class CardDto {
     Instant createdAt;
     Instant updatedAt;
     int iteration;
+    int frequency;
+    String audioUrl;
+    EnrichmentStatus enrichmentStatus;
     int priority;
     boolean activeLearning;
     boolean irregularPlural;
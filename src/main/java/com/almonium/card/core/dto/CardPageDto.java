@@ -0,0 +1,8 @@
+package com.almonium.card.core.dto;
+
+import java.util.List;
+
+/**
+ * One page of a card stack. {@code nextCursor} is passed back to get the following page and is null on the last one.
+ */
+public record CardPageDto(List<CardDto> cards, String nextCursor) {}
@@ -0,0 +1,8 @@
+package com.almonium.card.core.dto;
+
+import java.time.Instant;
+
+/**
+ * @param lastUsedAt when a card was last tagged with it
+ */
+public record TagFacetDto(String tag, int cardCount, Instant lastUsedAt) {}
@@ -19,4 +19,6 @@ public class TranslationDto {
 
     @NotBlank
     String translation;
+
+    boolean suggested;
 }
@@ -3,7 +3,14 @@ package com.almonium.card.core.mapper;
 import com.almonium.card.core.dto.CardCreationDto;
 import com.almonium.card.core.dto.CardDto;
 import com.almonium.card.core.dto.CardUpdateDto;
+import com.almonium.card.core.dto.ExampleDto;
+import com.almonium.card.core.dto.TagDto;
+import com.almonium.card.core.dto.TranslationDto;
 import com.almonium.card.core.model.entity.Card;
+import com.almonium.card.core.model.projection.CardExampleProjection;
+import com.almonium.card.core.model.projection.CardProjection;
+import com.almonium.card.core.model.projection.CardTagProjection;
+import com.almonium.card.core.model.projection.CardTranslationProjection;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -16,8 +23,22 @@ public interface CardMapper {
     @Mapping(target = "id", expression = "java(null)")
     Card copyCardDtoToEntity(CardDto dto);
 
+    // the review schedule is only changed by reviews
+    @Mapping(target = "lastRepeat", ignore = true)
+    @Mapping(target = "iteration", ignore = true)
     void update(CardUpdateDto dto, @MappingTarget Card card);
 
     @Mapping(target = "tags", source = "cardTags")
+    @Mapping(target = "translations", source = "contentCard.translations")
+    @Mapping(target = "examples", source = "contentCard.examples")
     CardDto cardEntityToDto(Card cardEntity);
+
+    @Mapping(target = "userId", source = "ownerId")
+    CardDto cardProjectionToDto(CardProjection projection);
+
+    TranslationDto translationProjectionToDto(CardTranslationProjection projection);
+
+    ExampleDto exampleProjectionToDto(CardExampleProjection projection);
+
+    TagDto tagProjectionToDto(CardTagProjection projection);
 }
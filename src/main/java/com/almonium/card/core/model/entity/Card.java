@@ -3,17 +3,21 @@ package com.almonium.card.core.model.entity;
 import static lombok.AccessLevel.PRIVATE;
 
 import com.almonium.analyzer.translator.model.enums.Language;
+import com.almonium.card.enrichment.model.enums.EnrichmentStatus;
 import com.almonium.user.core.model.entity.Learner;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import java.time.Instant;
 import java.util.List;
 import java.util.Set;
@@ -40,7 +44,9 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @EntityListeners(AuditingEntityListener.class)
 public class Card {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // pooled sequence: ids are allocated 50 at a time, so inserts can be batched
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "card_seq")
+    @SequenceGenerator(name = "card_seq", sequenceName = "card_seq", allocationSize = 50)
     Long id;
 
     @Builder.Default
@@ -61,6 +67,12 @@ public class Card {
     @Enumerated(EnumType.STRING)
     Language language;
 
+    // set on cards accepted from a suggestion: until their first edit they show the translations and examples
+    // of this card instead of having their own, see CardSharingService
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "content_source_id", referencedColumnName = "id")
+    Card contentSource;
+
     @OneToMany(mappedBy = "card")
     List<Example> examples;
 
@@ -70,11 +82,45 @@ public class Card {
     @OneToMany(mappedBy = "card")
     Set<CardTag> cardTags;
 
+    // number of successful reviews in a row
     @Builder.Default
     int iteration = 0;
 
     int frequency;
 
+    // filled in the background after creation, see CardEnricher
+    String audioUrl;
+
+    @Enumerated(EnumType.STRING)
+    EnrichmentStatus enrichmentStatus;
+
+    // review schedule, maintained by ReviewScheduler
+    Instant dueAt;
+
+    Instant lastRepeat;
+
+    @Builder.Default
+    double easeFactor = 2.5;
+
+    int intervalDays;
+
+    // number of the latest change in the owner's change sequence, see CardChangeLog
+    long changeVersion;
+
+    @PrePersist
+    private void scheduleFirstReview() {
+        if (dueAt == null) {
+            dueAt = Instant.now();
+        }
+    }
+
+    /**
+     * The card owning the translations and examples shown on this one: its content source or itself.
+     */
+    public Card getContentCard() {
+        return contentSource != null ? contentSource : this;
+    }
+
     public void removeCardTag(CardTag cardTag) {
         if (cardTag != null) {
             cardTags.remove(cardTag);
@@ -9,7 +9,9 @@ import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import java.util.Locale;
 import java.util.Set;
+import java.util.regex.Pattern;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
@@ -28,7 +30,7 @@ import org.hibernate.annotations.ColumnTransformer;
 @EqualsAndHashCode(of = {"id"})
 @FieldDefaults(level = PRIVATE)
 public class Tag {
-    private static final String WHITESPACE_PATTERN = "\\s+";
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
     private static final String CONNECTING_SYMBOL = "_";
 
     @Id
@@ -54,7 +56,10 @@ public class Tag {
         if (text == null) {
             throw new IllegalArgumentException("Text cannot be null for normalization");
         }
-        return text.trim().replaceAll(WHITESPACE_PATTERN, CONNECTING_SYMBOL).toLowerCase();
+        return WHITESPACE_PATTERN
+                .matcher(text.trim())
+                .replaceAll(CONNECTING_SYMBOL)
+                .toLowerCase(Locale.ROOT);
     }
 
     @PrePersist
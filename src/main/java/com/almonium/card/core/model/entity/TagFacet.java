@@ -0,0 +1,33 @@
+package com.almonium.card.core.model.entity;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.card.core.model.entity.pk.TagFacetPK;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Number of a learner's cards in one language carrying a tag, kept in step with card_tag by TagFacetService.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = {"id"})
+@FieldDefaults(level = PRIVATE)
+public class TagFacet {
+    @EmbeddedId
+    TagFacetPK id;
+
+    int cardCount;
+
+    Instant lastUsedAt;
+}
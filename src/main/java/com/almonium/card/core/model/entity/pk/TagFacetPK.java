@@ -0,0 +1,42 @@
+package com.almonium.card.core.model.entity.pk;
+
+import com.almonium.analyzer.translator.model.enums.Language;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import java.util.Objects;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Embeddable
+public class TagFacetPK {
+    private Long learnerId;
+
+    @Enumerated(EnumType.STRING)
+    private Language language;
+
+    private Long tagId;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        TagFacetPK that = (TagFacetPK) o;
+        return learnerId.equals(that.learnerId) && language == that.language && tagId.equals(that.tagId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(learnerId, language, tagId);
+    }
+}
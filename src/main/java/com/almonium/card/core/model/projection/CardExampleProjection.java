@@ -0,0 +1,3 @@
+package com.almonium.card.core.model.projection;
+
+public record CardExampleProjection(Long cardId, Long id, String example, String translation) {}
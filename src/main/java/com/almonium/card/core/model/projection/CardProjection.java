@@ -0,0 +1,22 @@
+package com.almonium.card.core.model.projection;
+
+import com.almonium.analyzer.translator.model.enums.Language;
+import com.almonium.card.enrichment.model.enums.EnrichmentStatus;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Columns of a card needed for listing, without its collections.
+ */
+public record CardProjection(
+        Long id,
+        UUID publicId,
+        Long ownerId,
+        String entry,
+        Language language,
+        Instant createdAt,
+        Instant updatedAt,
+        int iteration,
+        int frequency,
+        String audioUrl,
+        EnrichmentStatus enrichmentStatus) {}
@@ -0,0 +1,3 @@
+package com.almonium.card.core.model.projection;
+
+public record CardTagProjection(Long cardId, String text) {}
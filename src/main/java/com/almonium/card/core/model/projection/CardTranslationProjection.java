@@ -0,0 +1,3 @@
+package com.almonium.card.core.model.projection;
+
+public record CardTranslationProjection(Long cardId, Long id, String translation, boolean suggested) {}
@@ -2,11 +2,19 @@ package com.almonium.card.core.repository;
 
 import com.almonium.analyzer.translator.model.enums.Language;
 import com.almonium.card.core.model.entity.Card;
+import com.almonium.card.core.model.projection.CardProjection;
+import com.almonium.card.sync.model.projection.CardVersionProjection;
 import com.almonium.user.core.model.entity.Learner;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CardRepository extends JpaRepository<Card, Long> {
     List<Card> findAllByOwner(Learner owner);
@@ -15,7 +23,159 @@ public interface CardRepository extends JpaRepository<Card, Long> {
 
     void deleteAllByOwnerAndLanguage(Learner owner, Language language);
 
-    List<Card> findAllByOwnerAndEntryLikeIgnoreCase(Learner user, String entry);
-
     Optional<Card> getByPublicId(UUID id);
+
+    /**
+     * Keyset page of the learner's cards, most recently updated first.
+     * Served by the (owner_id, updated_at, id) index; pass {@code CardCursor.START} for the first page.
+     */
+    @Query(
+            """
+            select new com.almonium.card.core.model.projection.CardProjection(
+                        c.id, c.publicId, c.owner.id, c.entry, c.language, c.createdAt, c.updatedAt, c.iteration,
+                        c.frequency, c.audioUrl, c.enrichmentStatus)
+                    from Card c
+                    where c.owner = :owner
+                    and (c.updatedAt < :updatedAt or (c.updatedAt = :updatedAt and c.id < :id))
+                    order by c.updatedAt desc, c.id desc
+            """)
+    List<CardProjection> findPageByOwner(
+            @Param("owner") Learner owner, @Param("updatedAt") Instant updatedAt, @Param("id") long id, Limit limit);
+
+    @Query(
+            """
+            select new com.almonium.card.core.model.projection.CardProjection(
+                        c.id, c.publicId, c.owner.id, c.entry, c.language, c.createdAt, c.updatedAt, c.iteration,
+                        c.frequency, c.audioUrl, c.enrichmentStatus)
+                    from Card c
+                    where c.owner = :owner and c.language = :language
+                    and (c.updatedAt < :updatedAt or (c.updatedAt = :updatedAt and c.id < :id))
+                    order by c.updatedAt desc, c.id desc
+            """)
+    List<CardProjection> findPageByOwnerAndLanguage(
+            @Param("owner") Learner owner,
+            @Param("language") Language language,
+            @Param("updatedAt") Instant updatedAt,
+            @Param("id") long id,
+            Limit limit);
+
+    @Query(
+            """
+            select new com.almonium.card.core.model.projection.CardProjection(
+                        c.id, c.publicId, c.owner.id, c.entry, c.language, c.createdAt, c.updatedAt, c.iteration,
+                        c.frequency, c.audioUrl, c.enrichmentStatus)
+                    from Card c
+                    where c.id in :ids
+            """)
+    List<CardProjection> findProjectionsByIds(@Param("ids") Collection<Long> ids);
+
+    @Query(
+            """
+            select new com.almonium.card.core.model.projection.CardProjection(
+                        c.id, c.publicId, c.owner.id, c.entry, c.language, c.createdAt, c.updatedAt, c.iteration,
+                        c.frequency, c.audioUrl, c.enrichmentStatus)
+                    from Card c
+                    where c.owner = :owner and c.language = :language and c.dueAt <= :now
+                    order by c.dueAt, c.id
+            """)
+    List<CardProjection> findDueByOwnerAndLanguage(
+            @Param("owner") Learner owner,
+            @Param("language") Language language,
+            @Param("now") Instant now,
+            Limit limit);
+
+    List<Card> findAllByOwnerAndIdIn(Learner owner, Collection<Long> ids);
+
+    @Query("select c.id from Card c where c.owner = :owner and c.language = :language")
+    List<Long> findIdsByOwnerAndLanguage(@Param("owner") Learner owner, @Param("language") Language language);
+
+    /**
+     * The owner's cards changed after {@code version} and up to {@code upTo}, in change order; served by
+     * the (owner_id, change_version) index.
+     */
+    @Query(
+            """
+            select new com.almonium.card.sync.model.projection.CardVersionProjection(c.id, c.changeVersion)
+                    from Card c
+                    where c.owner.id = :ownerId and c.changeVersion > :version and c.changeVersion <= :upTo
+                    order by c.changeVersion
+            """)
+    List<CardVersionProjection> findChangedSince(
+            @Param("ownerId") long ownerId, @Param("version") long version, @Param("upTo") long upTo, Limit limit);
+
+    Optional<Card> findFirstByContentSourceOrderById(Card contentSource);
+
+    List<Card> findAllByContentSourceIn(Collection<Card> contentSources);
+
+    @Query("select distinct c.owner.id from Card c where c.id in :ids or c.contentSource.id in :ids")
+    List<Long> findOwnerIdsOfCardsAndTheirSharing(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("update Card c set c.contentSource = :to where c.contentSource = :from and c <> :to")
+    int reassignContentSource(@Param("from") Card from, @Param("to") Card to);
+
+    // the learner's cards whose content is shared with cards of other learners
+    @Query("select distinct c.contentSource from Card c where c.contentSource.owner = :owner and c.owner <> :owner")
+    List<Card> findContentSharedByOwner(@Param("owner") Learner owner);
+
+    @Query(
+            """
+            select distinct c.contentSource from Card c
+                    where c.contentSource.owner = :owner and c.contentSource.language = :language
+                        and (c.owner <> :owner or c.language <> :language)
+            """)
+    List<Card> findContentSharedByOwnerAndLanguage(@Param("owner") Learner owner, @Param("language") Language language);
+
+    @Query(
+            """
+            select new com.almonium.card.core.model.projection.CardProjection(
+                        c.id, c.publicId, c.owner.id, c.entry, c.language, c.createdAt, c.updatedAt, c.iteration,
+                        c.frequency, c.audioUrl, c.enrichmentStatus)
+                    from Card c
+                    where c.owner.id = :ownerId
+            """)
+    List<CardProjection> findProjectionsByOwnerId(@Param("ownerId") long ownerId);
+
+    /**
+     * Ids of the owner's cards matching {@code query} in their entry, translations or examples, best match first.
+     * PostgreSQL only: relies on pg_trgm word similarity ({@code <%}) and the trigram GIN indexes on the lowercased
+     * texts. An entry starting with the query ranks above any fuzzy match, example matches weigh half.
+     * Cards sharing another card's content are matched on that card's translations and examples.
+     *
+     * @param query lowercased search text
+     * @param prefix {@code query} with LIKE wildcards escaped, followed by {@code %}
+     */
+    @Query(
+            nativeQuery = true,
+            value =
+                    """
+                    with matches as (
+                        select c.id as card_id,
+                               word_similarity(:query, lower(c.entry))
+                                   + case when lower(c.entry) like :prefix then 1 else 0 end as score
+                        from card c
+                        where c.owner_id = :ownerId
+                          and (:query <% lower(c.entry) or lower(c.entry) like :prefix)
+                        union all
+                        select c.id, word_similarity(:query, lower(t.translation))
+                        from translation t
+                        join card c on coalesce(c.content_source_id, c.id) = t.card_id
+                        where c.owner_id = :ownerId and :query <% lower(t.translation)
+                        union all
+                        select c.id, 0.5 * word_similarity(:query, lower(e.example))
+                        from example e
+                        join card c on coalesce(c.content_source_id, c.id) = e.card_id
+                        where c.owner_id = :ownerId and :query <% lower(e.example)
+                    )
+                    select card_id from matches
+                    group by card_id
+                    order by max(score) desc, card_id desc
+                    limit :limit offset :offset
+                    """)
+    List<Long> searchRankedIds(
+            @Param("ownerId") long ownerId,
+            @Param("query") String query,
+            @Param("prefix") String prefix,
+            @Param("limit") int limit,
+            @Param("offset") int offset);
 }
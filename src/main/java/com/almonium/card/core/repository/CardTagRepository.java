@@ -3,9 +3,13 @@ package com.almonium.card.core.repository;
 import com.almonium.card.core.model.entity.Card;
 import com.almonium.card.core.model.entity.CardTag;
 import com.almonium.card.core.model.entity.pk.CardTagPK;
+import com.almonium.card.core.model.projection.CardTagProjection;
 import com.almonium.user.core.model.entity.Learner;
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -15,4 +19,16 @@ public interface CardTagRepository extends JpaRepository<CardTag, CardTagPK> {
 
     @Query(value = "from CardTag CT where CT.card = :card and CT.tag.text = :text")
     CardTag getByCardAndText(Card card, String text);
+
+    @Modifying
+    @Query("delete from CardTag ct where ct.card = :card and ct.id.tagId in :tagIds")
+    int deleteAllByCardAndTagIdIn(@Param("card") Card card, @Param("tagIds") Collection<Long> tagIds);
+
+    @Query(
+            """
+            select new com.almonium.card.core.model.projection.CardTagProjection(ct.card.id, ct.tag.text)
+                    from CardTag ct
+                    where ct.card.id in :cardIds
+            """)
+    List<CardTagProjection> findProjectionsByCardIds(@Param("cardIds") Collection<Long> cardIds);
 }
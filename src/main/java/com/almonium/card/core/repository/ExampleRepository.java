@@ -1,6 +1,37 @@
 package com.almonium.card.core.repository;
 
+import com.almonium.card.core.model.entity.Card;
 import com.almonium.card.core.model.entity.Example;
+import com.almonium.card.core.model.projection.CardExampleProjection;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface ExampleRepository extends JpaRepository<Example, Long> {}
+public interface ExampleRepository extends JpaRepository<Example, Long> {
+    /**
+     * Examples shown on the cards, keyed by card id; a card sharing another card's content gets that card's.
+     */
+    @Query(
+            """
+            select new com.almonium.card.core.model.projection.CardExampleProjection(
+                        c.id, e.id, e.example, e.translation)
+                    from Card c
+                    join Example e on e.card.id = coalesce(c.contentSource.id, c.id)
+                    where c.id in :cardIds
+                    order by e.id
+            """)
+    List<CardExampleProjection> findProjectionsByCardIds(@Param("cardIds") Collection<Long> cardIds);
+
+    List<Example> findAllByCardAndIdIn(Card card, Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from Example e where e.card = :card and e.id in :ids")
+    int deleteAllByCardAndIdIn(@Param("card") Card card, @Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("update Example e set e.card = :to where e.card = :from")
+    int reassignAll(@Param("from") Card from, @Param("to") Card to);
+}
@@ -0,0 +1,68 @@
+package com.almonium.card.core.repository;
+
+import com.almonium.analyzer.translator.model.enums.Language;
+import com.almonium.card.core.dto.TagFacetDto;
+import com.almonium.card.core.model.entity.TagFacet;
+import com.almonium.card.core.model.entity.pk.TagFacetPK;
+import jakarta.persistence.LockModeType;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface TagFacetRepository extends JpaRepository<TagFacet, TagFacetPK> {
+    @Query(
+            """
+            select new com.almonium.card.core.dto.TagFacetDto(t.text, f.cardCount, f.lastUsedAt)
+                    from TagFacet f
+                    join Tag t on t.id = f.id.tagId
+                    where f.id.learnerId = :learnerId and f.id.language = :language
+                    order by f.cardCount desc, t.text
+            """)
+    List<TagFacetDto> findFacets(@Param("learnerId") long learnerId, @Param("language") Language language);
+
+    // locked in tag id order, so concurrent updates of overlapping tags can't deadlock
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(
+            """
+            from TagFacet f
+                    where f.id.learnerId = :learnerId and f.id.language = :language and f.id.tagId in :tagIds
+                    order by f.id.tagId
+            """)
+    List<TagFacet> findForUpdate(
+            @Param("learnerId") long learnerId,
+            @Param("language") Language language,
+            @Param("tagIds") Collection<Long> tagIds);
+
+    @Modifying
+    @Query("delete from TagFacet f where f.id.learnerId = :learnerId and f.id.language = :language")
+    int deleteAllByLearnerAndLanguage(@Param("learnerId") long learnerId, @Param("language") Language language);
+
+    /**
+     * Creates the facets, adding to the counts of the ones a concurrent transaction has just created. PostgreSQL only.
+     *
+     * @param tagIds tag ids, each paired with the card count at the same index
+     */
+    @Modifying
+    @Query(
+            nativeQuery = true,
+            value =
+                    """
+                    insert into tag_facet (learner_id, language, tag_id, card_count, last_used_at)
+                    select :learnerId, :language, input.tag_id, input.card_count, :lastUsedAt
+                    from unnest(cast(:tagIds as bigint[]), cast(:cardCounts as int[])) as input(tag_id, card_count)
+                    on conflict (learner_id, language, tag_id) do update
+                        set card_count = tag_facet.card_count + excluded.card_count,
+                            last_used_at = excluded.last_used_at
+                    """)
+    int upsertAll(
+            @Param("learnerId") long learnerId,
+            @Param("language") String language,
+            @Param("tagIds") Long[] tagIds,
+            @Param("cardCounts") Integer[] cardCounts,
+            @Param("lastUsedAt") Instant lastUsedAt);
+}
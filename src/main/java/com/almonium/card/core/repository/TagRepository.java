@@ -1,13 +1,47 @@
 package com.almonium.card.core.repository;
 
 import com.almonium.card.core.model.entity.Tag;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface TagRepository extends JpaRepository<Tag, Long> {
     Optional<Tag> findByText(String text);
 
+    List<Tag> findAllByTextIn(Collection<String> texts);
+
     default Optional<Tag> findByTextWithNormalization(String text) {
         return findByText(Tag.normalizeText(text));
     }
+
+    /**
+     * Inserts the missing tags and returns all of them in one statement. PostgreSQL only: relies on the unique
+     * index on {@code lower(text)}. The final select reads the snapshot taken before the insert, so the two
+     * branches of the union don't overlap; a tag inserted concurrently by another transaction is in neither
+     * and has to be fetched again. Texts are read lowered like {@link Tag#getText()} is mapped, so older tags stored
+     * in another case come back under the normalized text they were asked by.
+     *
+     * @param texts normalized tag texts
+     */
+    @Query(
+            nativeQuery = true,
+            value =
+                    """
+                    with input as (
+                        select distinct unnest(cast(:texts as text[])) as text
+                    ),
+                    inserted as (
+                        insert into tag (id, text)
+                        select nextval('tag_seq'), text from input
+                        on conflict (lower(text)) do nothing
+                        returning id, text
+                    )
+                    select id, text from inserted
+                    union all
+                    select t.id, lower(t.text) as text from tag t join input i on lower(t.text) = i.text
+                    """)
+    List<Tag> upsertAll(@Param("texts") String[] texts);
 }
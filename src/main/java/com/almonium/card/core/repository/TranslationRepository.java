@@ -1,6 +1,37 @@
 package com.almonium.card.core.repository;
 
+import com.almonium.card.core.model.entity.Card;
 import com.almonium.card.core.model.entity.Translation;
+import com.almonium.card.core.model.projection.CardTranslationProjection;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface TranslationRepository extends JpaRepository<Translation, Long> {}
+public interface TranslationRepository extends JpaRepository<Translation, Long> {
+    /**
+     * Translations shown on the cards, keyed by card id; a card sharing another card's content gets that card's.
+     */
+    @Query(
+            """
+            select new com.almonium.card.core.model.projection.CardTranslationProjection(
+                        c.id, t.id, t.translation, t.suggested)
+                    from Card c
+                    join Translation t on t.card.id = coalesce(c.contentSource.id, c.id)
+                    where c.id in :cardIds
+                    order by t.id
+            """)
+    List<CardTranslationProjection> findProjectionsByCardIds(@Param("cardIds") Collection<Long> cardIds);
+
+    List<Translation> findAllByCardAndIdIn(Card card, Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from Translation t where t.card = :card and t.id in :ids")
+    int deleteAllByCardAndIdIn(@Param("card") Card card, @Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("update Translation t set t.card = :to where t.card = :from")
+    int reassignAll(@Param("from") Card from, @Param("to") Card to);
+}
@@ -0,0 +1,14 @@
+package com.almonium.card.core.search;
+
+import java.util.List;
+
+/**
+ * Fuzzy search over a learner's cards: entries, translations and examples, tolerant to typos and partial words.
+ */
+public interface CardSearchEngine {
+    /**
+     * @param query lowercased, trimmed search text
+     * @return ids of matching cards, best match first
+     */
+    List<Long> search(long ownerId, String query, int limit, int offset);
+}
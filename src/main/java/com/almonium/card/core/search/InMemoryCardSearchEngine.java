@@ -0,0 +1,50 @@
+package com.almonium.card.core.search;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.card.core.model.projection.CardExampleProjection;
+import com.almonium.card.core.model.projection.CardProjection;
+import com.almonium.card.core.model.projection.CardTranslationProjection;
+import com.almonium.card.core.repository.CardRepository;
+import com.almonium.card.core.repository.ExampleRepository;
+import com.almonium.card.core.repository.TranslationRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Search for databases without pg_trgm (H2 in tests and local runs): the owner's texts are loaded
+ * and matched through a {@link TrigramIndex} with the same scoring as {@link PostgresCardSearchEngine}.
+ */
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+@ConditionalOnProperty(name = "app.card-search.engine", havingValue = "in-memory")
+public class InMemoryCardSearchEngine implements CardSearchEngine {
+    private static final double EXAMPLE_WEIGHT = 0.5;
+
+    CardRepository cardRepository;
+    TranslationRepository translationRepository;
+    ExampleRepository exampleRepository;
+
+    @Override
+    public List<Long> search(long ownerId, String query, int limit, int offset) {
+        List<CardProjection> cards = cardRepository.findProjectionsByOwnerId(ownerId);
+        if (cards.isEmpty()) {
+            return List.of();
+        }
+
+        TrigramIndex index = new TrigramIndex();
+        cards.forEach(card -> index.addEntry(card.id(), card.entry()));
+        List<Long> cardIds = cards.stream().map(CardProjection::id).toList();
+        for (CardTranslationProjection translation : translationRepository.findProjectionsByCardIds(cardIds)) {
+            index.add(translation.cardId(), translation.translation(), 1);
+        }
+        for (CardExampleProjection example : exampleRepository.findProjectionsByCardIds(cardIds)) {
+            index.add(example.cardId(), example.example(), EXAMPLE_WEIGHT);
+        }
+        return index.search(query, limit, offset);
+    }
+}
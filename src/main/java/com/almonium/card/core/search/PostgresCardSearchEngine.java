@@ -0,0 +1,24 @@
+package com.almonium.card.core.search;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.card.core.repository.CardRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+@ConditionalOnProperty(name = "app.card-search.engine", havingValue = "postgres")
+public class PostgresCardSearchEngine implements CardSearchEngine {
+    CardRepository cardRepository;
+
+    @Override
+    public List<Long> search(long ownerId, String query, int limit, int offset) {
+        String prefix = query.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        return cardRepository.searchRankedIds(ownerId, query, prefix, limit, offset);
+    }
+}
@@ -0,0 +1,92 @@
+package com.almonium.card.core.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-memory inverted index of character trigrams, scored the way pg_trgm's word similarity is: the share of
+ * the query's trigrams found in a text. Words are padded like in pg_trgm (two spaces before, one after),
+ * so word starts weigh more than their middles.
+ */
+class TrigramIndex {
+    static final double THRESHOLD = 0.6; // pg_trgm.word_similarity_threshold default
+
+    private final Map<String, List<Posting>> postings = new HashMap<>();
+    private final Map<Long, String> entries = new HashMap<>();
+    private final Map<Long, Integer> entryTextIds = new HashMap<>();
+    private int nextText;
+
+    private record Posting(int textId, long cardId, double weight) {}
+
+    void addEntry(long cardId, String entry) {
+        entries.put(cardId, entry.toLowerCase(Locale.ROOT));
+        entryTextIds.put(cardId, add(cardId, entry, 1));
+    }
+
+    int add(long cardId, String text, double weight) {
+        int textId = nextText++;
+        for (String trigram : trigrams(text)) {
+            postings.computeIfAbsent(trigram, t -> new ArrayList<>()).add(new Posting(textId, cardId, weight));
+        }
+        return textId;
+    }
+
+    /**
+     * @return ids of matching cards, best match first; entries starting with the query rank above everything else
+     */
+    List<Long> search(String query, int limit, int offset) {
+        Set<String> queryTrigrams = trigrams(query);
+        Map<Integer, Integer> matchesPerText = new HashMap<>();
+        Map<Integer, Posting> texts = new HashMap<>();
+        for (String trigram : queryTrigrams) {
+            for (Posting posting : postings.getOrDefault(trigram, List.of())) {
+                matchesPerText.merge(posting.textId(), 1, Integer::sum);
+                texts.putIfAbsent(posting.textId(), posting);
+            }
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+        matchesPerText.forEach((textId, matches) -> {
+            double similarity = (double) matches / queryTrigrams.size();
+            if (similarity >= THRESHOLD) {
+                Posting text = texts.get(textId);
+                scores.merge(text.cardId(), text.weight() * similarity, Math::max);
+            }
+        });
+        entries.forEach((cardId, entry) -> {
+            if (entry.startsWith(query)) {
+                double similarity =
+                        (double) matchesPerText.getOrDefault(entryTextIds.get(cardId), 0) / queryTrigrams.size();
+                scores.merge(cardId, similarity + 1, Math::max);
+            }
+        });
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+                .skip(offset)
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    static Set<String> trigrams(String text) {
+        Set<String> trigrams = new HashSet<>();
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(padded.substring(i, i + 3));
+            }
+        }
+        return trigrams;
+    }
+}
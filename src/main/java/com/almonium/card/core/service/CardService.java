@@ -4,9 +4,14 @@ import static lombok.AccessLevel.PRIVATE;
 
 import com.almonium.analyzer.translator.model.enums.Language;
 import com.almonium.card.core.dto.CardCreationDto;
+import com.almonium.card.core.dto.CardCursor;
 import com.almonium.card.core.dto.CardDto;
+import com.almonium.card.core.dto.CardPageDto;
 import com.almonium.card.core.dto.CardUpdateDto;
+import com.almonium.card.core.dto.ExampleDto;
 import com.almonium.card.core.dto.TagDto;
+import com.almonium.card.core.dto.TagFacetDto;
+import com.almonium.card.core.dto.TranslationDto;
 import com.almonium.card.core.mapper.CardMapper;
 import com.almonium.card.core.model.entity.Card;
 import com.almonium.card.core.model.entity.CardTag;
@@ -14,26 +19,38 @@ import com.almonium.card.core.model.entity.Example;
 import com.almonium.card.core.model.entity.Tag;
 import com.almonium.card.core.model.entity.Translation;
 import com.almonium.card.core.model.entity.pk.CardTagPK;
+import com.almonium.card.core.model.projection.CardExampleProjection;
+import com.almonium.card.core.model.projection.CardProjection;
+import com.almonium.card.core.model.projection.CardTagProjection;
+import com.almonium.card.core.model.projection.CardTranslationProjection;
 import com.almonium.card.core.repository.CardRepository;
 import com.almonium.card.core.repository.CardTagRepository;
 import com.almonium.card.core.repository.ExampleRepository;
-import com.almonium.card.core.repository.TagRepository;
 import com.almonium.card.core.repository.TranslationRepository;
+import com.almonium.card.core.search.CardSearchEngine;
+import com.almonium.card.core.tag.TagResolver;
+import com.almonium.card.enrichment.service.CardEnrichmentOutbox;
+import com.almonium.card.sync.service.CardChangeLog;
 import com.almonium.user.core.model.entity.Learner;
-import com.almonium.user.core.repository.LearnerRepository;
 import com.google.common.collect.Sets;
+import jakarta.persistence.EntityManager;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -43,13 +60,21 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 @FieldDefaults(level = PRIVATE, makeFinal = true)
 public class CardService {
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_SEARCH_PAGE_SIZE = 50;
+
     CardRepository cardRepository;
     CardTagRepository cardTagRepository;
-    TagRepository tagRepository;
+    TagResolver tagResolver;
     ExampleRepository exampleRepository;
     TranslationRepository translationRepository;
-    LearnerRepository learnerRepository;
     CardMapper cardMapper;
+    CardSearchEngine cardSearchEngine;
+    TagFacetService tagFacetService;
+    CardSharingService cardSharingService;
+    CardChangeLog cardChangeLog;
+    CardEnrichmentOutbox cardEnrichmentOutbox;
+    EntityManager entityManager;
 
     public CardDto getCardById(Long id) {
         return cardMapper.cardEntityToDto(cardRepository.findById(id).orElseThrow());
@@ -72,154 +97,376 @@ public class CardService {
                 .collect(Collectors.toList());
     }
 
-    @Transactional
-    public List<CardDto> searchByEntry(String entry, Learner learner) {
-        return cardRepository
-                .findAllByOwnerAndEntryLikeIgnoreCase(
-                        learner, '%' + entry.trim().toLowerCase() + '%')
-                .stream()
-                .map(cardMapper::cardEntityToDto)
-                .collect(Collectors.toList());
+    /**
+     * Returns one page of the learner's cards, optionally of one language, most recently updated first.
+     * Cards are read as projections and their translations, examples and tags with one query each for the whole
+     * page, so a page costs four queries regardless of its size.
+     */
+    public CardPageDto getCardStackPage(Learner learner, Language language, String cursor, int size) {
+        CardCursor position = CardCursor.decode(cursor);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // one extra row tells whether there is a next page
+        Limit limit = Limit.of(pageSize + 1);
+        List<CardProjection> rows = language == null
+                ? cardRepository.findPageByOwner(learner, position.updatedAt(), position.id(), limit)
+                : cardRepository.findPageByOwnerAndLanguage(
+                        learner, language, position.updatedAt(), position.id(), limit);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<CardProjection> page = hasNext ? rows.subList(0, pageSize) : rows;
+        if (page.isEmpty()) {
+            return new CardPageDto(List.of(), null);
+        }
+
+        List<CardDto> cards = toDtos(page);
+        CardProjection last = page.get(page.size() - 1);
+        return new CardPageDto(cards, hasNext ? new CardCursor(last.updatedAt(), last.id()).encode() : null);
+    }
+
+    /**
+     * Ranked fuzzy search over the learner's entries, translations and examples, see {@link CardSearchEngine}.
+     */
+    public List<CardDto> searchByEntry(String entry, Learner learner, int page, int size) {
+        String query = entry.trim().toLowerCase(Locale.ROOT);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_SEARCH_PAGE_SIZE));
+        List<Long> rankedIds = cardSearchEngine.search(learner.getId(), query, pageSize, Math.max(0, page) * pageSize);
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+
+        // the projections aren't filtered by owner, an engine handing out someone else's card mustn't leak it
+        Map<Long, CardProjection> rows = cardRepository.findProjectionsByIds(rankedIds).stream()
+                .filter(row -> learner.getId().equals(row.ownerId()))
+                .collect(Collectors.toMap(CardProjection::id, Function.identity()));
+        return toDtos(rankedIds.stream().map(rows::get).filter(Objects::nonNull).toList());
     }
 
+    /**
+     * Completes projected cards into DTOs; translations, examples and tags of all the cards are loaded
+     * with one query each.
+     */
+    public List<CardDto> toDtos(List<CardProjection> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        List<Long> cardIds = rows.stream().map(CardProjection::id).toList();
+        Map<Long, List<TranslationDto>> translations = translationRepository.findProjectionsByCardIds(cardIds).stream()
+                .collect(Collectors.groupingBy(
+                        CardTranslationProjection::cardId,
+                        Collectors.mapping(cardMapper::translationProjectionToDto, Collectors.toList())));
+        Map<Long, List<ExampleDto>> examples = exampleRepository.findProjectionsByCardIds(cardIds).stream()
+                .collect(Collectors.groupingBy(
+                        CardExampleProjection::cardId,
+                        Collectors.mapping(cardMapper::exampleProjectionToDto, Collectors.toList())));
+        Map<Long, List<TagDto>> tags = cardTagRepository.findProjectionsByCardIds(cardIds).stream()
+                .collect(Collectors.groupingBy(
+                        CardTagProjection::cardId,
+                        Collectors.mapping(cardMapper::tagProjectionToDto, Collectors.toList())));
+
+        return rows.stream()
+                .map(row -> {
+                    CardDto dto = cardMapper.cardProjectionToDto(row);
+                    dto.setTranslations(
+                            translations.getOrDefault(row.id(), List.of()).toArray(TranslationDto[]::new));
+                    dto.setExamples(examples.getOrDefault(row.id(), List.of()).toArray(ExampleDto[]::new));
+                    dto.setTags(tags.getOrDefault(row.id(), List.of()).toArray(TagDto[]::new));
+                    return dto;
+                })
+                .toList();
+    }
+
+    // every card write takes its change number, i.e. the learner row lock, before any tag facet lock,
+    // so concurrent writes of one learner can't deadlock on them (see CardChangeLog and TagFacetService)
     @Transactional
     public void createCard(Learner learner, CardCreationDto dto) {
         Card card = initializeCard(learner, dto);
         List<CardTag> cardTags = createCardTags(card, dto.getTags());
-        saveEntities(card, card.getTranslations(), card.getExamples(), cardTags, learner);
+        cardChangeLog.recordChange(card);
+        saveEntities(card, card.getTranslations(), card.getExamples(), cardTags);
+        tagFacetService.add(learner, card.getLanguage(), tagIdsOf(cardTags));
+        cardEnrichmentOutbox.publish(card);
         log.info("Created card {} for user {}", card, learner);
     }
 
     @Transactional
     public void updateCard(Long id, CardUpdateDto dto, Learner learner) {
         Card entity = cardRepository.findById(dto.getId()).orElseThrow();
-        updateCardDetails(entity, dto);
-        updateTags(entity, dto.getTags(), learner);
+        // the learner lock first, see createCard
+        cardChangeLog.recordChange(entity);
+        Language previousLanguage = entity.getLanguage();
+        String previousEntry = entity.getEntry();
+        if (entity.getContentSource() == null) {
+            // cards sharing the content keep it as it is, the edited card takes a copy
+            cardSharingService.handOverContent(entity).ifPresent(entity::setContentSource);
+        }
+        if (entity.getContentSource() == null) {
+            updateCardDetails(entity, dto);
+        } else {
+            forkContent(entity, dto);
+        }
+        updateTags(entity, dto.getTags(), learner, previousLanguage);
         entity.setUpdatedAt(Instant.now());
+        if (!Objects.equals(previousEntry, entity.getEntry()) || previousLanguage != entity.getLanguage()) {
+            // frequency and audio of the old entry no longer apply
+            cardEnrichmentOutbox.publish(entity);
+        }
         cardRepository.save(entity);
     }
 
     @Transactional
     public void deleteById(Long id) {
+        cardRepository.findById(id).ifPresent(card -> {
+            // the learner lock first, see createCard
+            cardChangeLog.recordDeletion(card);
+            tagFacetService.remove(card.getOwner(), card.getLanguage(), tagIdsOf(card.getCardTags()));
+            cardSharingService.handOverContent(card);
+        });
         cardRepository.deleteById(id);
     }
 
+    @Transactional
     public void deleteByLanguage(Language code, Learner user) {
+        cardSharingService.handOverContent(user, code);
+        cardChangeLog.recordDeletions(user, cardRepository.findIdsByOwnerAndLanguage(user, code));
         cardRepository.deleteAllByOwnerAndLanguage(user, code);
+        tagFacetService.removeAll(user, code);
+    }
+
+    public List<TagFacetDto> getTagFacets(Learner learner, Language language) {
+        return tagFacetService.getFacets(learner, language);
     }
 
     private Card initializeCard(Learner learner, CardCreationDto dto) {
         Card card = cardMapper.cardDtoToEntity(dto);
         card.setCreatedAt(Instant.now());
         card.setUpdatedAt(Instant.now());
-        learner.addCard(card);
+        // the learner is the cached principal's, shared between requests, so only the owning side is set
+        card.setOwner(learner);
         return card;
     }
 
     private List<CardTag> createCardTags(Card card, TagDto[] tagDtos) {
+        List<String> texts = listOf(tagDtos).stream().map(TagDto::getText).toList();
+        Map<String, Tag> tags = tagResolver.resolve(texts);
         List<CardTag> cardTags = new ArrayList<>();
-        for (TagDto tagDto : tagDtos) {
+        texts.stream().map(Tag::normalizeText).distinct().forEach(text -> {
             CardTag cardTag = new CardTag();
             cardTag.setCard(card);
             cardTag.setLearner(card.getOwner());
-            cardTag.setTag(findOrCreateTag(tagDto.getText()));
+            cardTag.setTag(tags.get(text));
             cardTags.add(cardTag);
-        }
-        return cardTags;
-    }
-
-    private Tag findOrCreateTag(String text) {
-        return tagRepository.findByTextWithNormalization(text).orElseGet(() -> {
-            Tag tag = new Tag(text);
-            tagRepository.save(tag);
-            return tag;
         });
+        return cardTags;
     }
 
     private void saveEntities(
-            Card card,
-            List<Translation> translations,
-            List<Example> examples,
-            List<CardTag> cardTags,
-            Learner learner) {
+            Card card, List<Translation> translations, List<Example> examples, List<CardTag> cardTags) {
         cardRepository.save(card);
         translationRepository.saveAll(translations);
         exampleRepository.saveAll(examples);
         cardTagRepository.saveAll(cardTags);
-        learnerRepository.save(learner);
     }
 
+    /**
+     * Applies the diff of the update set by set, so the number of statements doesn't depend on how many
+     * translations and examples changed: one bulk delete and one IN fetch per child type, then the inserts and
+     * updates go out as JDBC batches on flush.
+     */
     private void updateCardDetails(Card entity, CardUpdateDto dto) {
         cardMapper.update(dto, entity);
 
-        Arrays.stream(dto.getDeletedTranslationsIds()).forEach(id -> translationRepository.deleteById((long) id));
+        Set<Long> deletedTranslationIds = toIds(dto.getDeletedTranslationsIds());
+        if (!deletedTranslationIds.isEmpty()) {
+            translationRepository.deleteAllByCardAndIdIn(entity, deletedTranslationIds);
+        }
+        Set<Long> deletedExampleIds = toIds(dto.getDeletedExamplesIds());
+        if (!deletedExampleIds.isEmpty()) {
+            exampleRepository.deleteAllByCardAndIdIn(entity, deletedExampleIds);
+        }
+
+        List<TranslationDto> translationDtos = listOf(dto.getTranslations());
+        Map<Long, Translation> translations = findExisting(
+                translationDtos,
+                TranslationDto::getId,
+                ids -> translationRepository.findAllByCardAndIdIn(entity, ids),
+                Translation::getId);
+        List<Translation> changedTranslations = translationDtos.stream()
+                .map(translationDto -> {
+                    Translation translation = translationDto.getId() == null
+                            ? Translation.builder().card(entity).build()
+                            : translations.get(translationDto.getId());
+                    translation.setTranslation(translationDto.getTranslation());
+                    // a suggested translation stays one until the learner accepts it
+                    translation.setSuggested(translationDto.getId() != null && translationDto.isSuggested());
+                    return translation;
+                })
+                .toList();
+        if (!changedTranslations.isEmpty()) {
+            translationRepository.saveAll(changedTranslations);
+        }
+
+        List<ExampleDto> exampleDtos = listOf(dto.getExamples());
+        Map<Long, Example> examples = findExisting(
+                exampleDtos,
+                ExampleDto::getId,
+                ids -> exampleRepository.findAllByCardAndIdIn(entity, ids),
+                Example::getId);
+        List<Example> changedExamples = exampleDtos.stream()
+                .map(exampleDto -> {
+                    Example example = exampleDto.getId() == null
+                            ? Example.builder().card(entity).build()
+                            : examples.get(exampleDto.getId());
+                    example.setExample(exampleDto.getExample());
+                    example.setTranslation(exampleDto.getTranslation());
+                    return example;
+                })
+                .toList();
+        if (!changedExamples.isEmpty()) {
+            exampleRepository.saveAll(changedExamples);
+        }
+    }
 
-        Arrays.stream(dto.getDeletedExamplesIds()).forEach(id -> exampleRepository.deleteById((long) id));
+    private void updateTags(Card entity, TagDto[] tagDtos, Learner learner, Language previousLanguage) {
+        Set<String> dtoTagSet = listOf(tagDtos).stream()
+                .map(tagDto -> Tag.normalizeText(tagDto.getText()))
+                .collect(Collectors.toSet());
 
-        Arrays.stream(dto.getTranslations()).forEach(translationDto -> {
-            Long id = translationDto.getId();
-            if (id != null) {
-                Translation translation = translationRepository.findById(id).orElseThrow();
-                translation.setTranslation(translationDto.getTranslation());
-                translationRepository.save(translation);
-            } else {
-                translationRepository.save(Translation.builder()
+        Map<String, CardTag> cardTags = entity.getCardTags().stream()
+                .collect(Collectors.toMap(cardTag -> cardTag.getTag().getText(), Function.identity()));
+
+        Set<String> added = Sets.difference(dtoTagSet, cardTags.keySet());
+        Set<String> deleted = Sets.difference(cardTags.keySet(), dtoTagSet);
+
+        List<CardTag> deletedCardTags = deleted.stream().map(cardTags::get).toList();
+        if (!deletedCardTags.isEmpty()) {
+            cardTagRepository.deleteAllByCardAndTagIdIn(entity, tagIdsOf(deletedCardTags));
+            deletedCardTags.forEach(entity::removeCardTag);
+        }
+
+        List<CardTag> addedCardTags = List.of();
+        if (!added.isEmpty()) {
+            addedCardTags = tagResolver.resolve(added).values().stream()
+                    .map(tag -> CardTag.builder()
+                            .learner(learner)
+                            .tag(tag)
+                            .card(entity)
+                            .id(new CardTagPK(entity.getId(), tag.getId()))
+                            .build())
+                    .toList();
+            // persisted rather than saved: the ids are assigned, so save would merge, i.e. select every row first
+            addedCardTags.forEach(entityManager::persist);
+        }
+
+        if (previousLanguage == entity.getLanguage()) {
+            tagFacetService.remove(learner, previousLanguage, tagIdsOf(deletedCardTags));
+            tagFacetService.add(learner, previousLanguage, tagIdsOf(addedCardTags));
+        } else {
+            // the card moved to another language, so did all of its tags
+            tagFacetService.remove(learner, previousLanguage, tagIdsOf(cardTags.values()));
+            tagFacetService.add(learner, entity.getLanguage(), tagIdsOf(entity.getCardTags()));
+            tagFacetService.add(learner, entity.getLanguage(), tagIdsOf(addedCardTags));
+        }
+    }
+
+    /**
+     * First edit of a card sharing another card's content: the card gets its own copy of the content, with the
+     * update applied on the way. Ids in the update refer to the content source's translations and examples.
+     */
+    private void forkContent(Card entity, CardUpdateDto dto) {
+        Card source = entity.getContentSource();
+        cardMapper.update(dto, entity);
+        entity.setContentSource(null);
+
+        Set<Long> deletedTranslationIds = toIds(dto.getDeletedTranslationsIds());
+        List<TranslationDto> translationDtos = listOf(dto.getTranslations());
+        Map<Long, TranslationDto> changedTranslations =
+                changesById(translationDtos, TranslationDto::getId, source.getTranslations(), Translation::getId);
+        List<Translation> translations = new ArrayList<>();
+        for (Translation translation : source.getTranslations()) {
+            if (!deletedTranslationIds.contains(translation.getId())) {
+                TranslationDto changed = changedTranslations.get(translation.getId());
+                translations.add(Translation.builder()
                         .card(entity)
-                        .translation(translationDto.getTranslation())
+                        .translation(changed == null ? translation.getTranslation() : changed.getTranslation())
+                        .suggested(changed == null ? translation.isSuggested() : changed.isSuggested())
                         .build());
             }
-        });
+        }
+        translationDtos.stream()
+                .filter(translationDto -> translationDto.getId() == null)
+                .forEach(translationDto -> translations.add(Translation.builder()
+                        .card(entity)
+                        .translation(translationDto.getTranslation())
+                        .build()));
+        translationRepository.saveAll(translations);
 
-        Arrays.stream(dto.getExamples()).forEach(exampleDto -> {
-            Long id = exampleDto.getId();
-            if (id != null) {
-                Example example = exampleRepository.findById(id).orElseThrow();
-                example.setExample(exampleDto.getExample());
-                example.setTranslation(exampleDto.getTranslation());
-                exampleRepository.save(example);
-            } else {
-                exampleRepository.save(Example.builder()
+        Set<Long> deletedExampleIds = toIds(dto.getDeletedExamplesIds());
+        List<ExampleDto> exampleDtos = listOf(dto.getExamples());
+        Map<Long, ExampleDto> changedExamples =
+                changesById(exampleDtos, ExampleDto::getId, source.getExamples(), Example::getId);
+        List<Example> examples = new ArrayList<>();
+        for (Example example : source.getExamples()) {
+            if (!deletedExampleIds.contains(example.getId())) {
+                ExampleDto changed = changedExamples.get(example.getId());
+                examples.add(Example.builder()
                         .card(entity)
-                        .example(exampleDto.getExample())
-                        .translation(exampleDto.getTranslation())
+                        .example(changed == null ? example.getExample() : changed.getExample())
+                        .translation(changed == null ? example.getTranslation() : changed.getTranslation())
                         .build());
             }
-        });
+        }
+        exampleDtos.stream()
+                .filter(exampleDto -> exampleDto.getId() == null)
+                .forEach(exampleDto -> examples.add(Example.builder()
+                        .card(entity)
+                        .example(exampleDto.getExample())
+                        .translation(exampleDto.getTranslation())
+                        .build()));
+        exampleRepository.saveAll(examples);
     }
 
-    private void updateTags(Card entity, TagDto[] tagDtos, Learner learner) {
-        HashSet<String> dtoTagSet =
-                Arrays.stream(tagDtos).map(TagDto::getText).collect(Collectors.toCollection(HashSet::new));
-
-        HashSet<String> cardTagSet = entity.getCardTags().stream()
-                .map(cardTag -> cardTag.getTag().getText())
-                .collect(Collectors.toCollection(HashSet::new));
-
-        Set<String> added = Sets.difference(dtoTagSet, cardTagSet);
-        Set<String> deleted = Sets.difference(cardTagSet, dtoTagSet);
+    // the dtos carrying an id, by id; every id must be one of the existing entities'
+    private static <D, E> Map<Long, D> changesById(
+            List<D> dtos, Function<D, Long> dtoId, List<E> existing, Function<E, Long> entityId) {
+        Set<Long> existingIds = existing.stream().map(entityId).collect(Collectors.toSet());
+        Map<Long, D> changes = dtos.stream()
+                .filter(dto -> dtoId.apply(dto) != null)
+                .collect(Collectors.toMap(dtoId, Function.identity(), (first, second) -> second));
+        if (!existingIds.containsAll(changes.keySet())) {
+            throw new NoSuchElementException("Not all of " + changes.keySet() + " belong to the card");
+        }
+        return changes;
+    }
 
-        for (String tagText : deleted) {
-            CardTag cardTag = cardTagRepository.getByCardAndText(entity, tagText);
-            cardTagRepository.delete(cardTag);
-            entity.removeCardTag(cardTag);
+    private static <D, E> Map<Long, E> findExisting(
+            List<D> dtos, Function<D, Long> dtoId, Function<Set<Long>, List<E>> finder, Function<E, Long> entityId) {
+        Set<Long> ids = dtos.stream().map(dtoId).filter(Objects::nonNull).collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, E> found = finder.apply(ids).stream().collect(Collectors.toMap(entityId, Function.identity()));
+        if (found.size() != ids.size()) {
+            throw new NoSuchElementException("Not all of " + ids + " belong to the card");
         }
+        return found;
+    }
 
-        for (String tagText : added) {
-            Optional<Tag> tagOptional = tagRepository.findByText(tagText);
+    private static List<Long> tagIdsOf(Collection<CardTag> cardTags) {
+        return cardTags == null
+                ? List.of()
+                : cardTags.stream().map(cardTag -> cardTag.getTag().getId()).toList();
+    }
 
-            Tag tag = tagOptional.orElseGet(() -> {
-                Tag createdTag = new Tag(tagText);
-                tagRepository.save(createdTag);
-                return createdTag;
-            });
+    private static Set<Long> toIds(int[] ids) {
+        return ids == null
+                ? Set.of()
+                : Arrays.stream(ids).mapToObj(id -> (long) id).collect(Collectors.toSet());
+    }
 
-            CardTag cardTag = CardTag.builder()
-                    .learner(learner)
-                    .tag(tag)
-                    .card(entity)
-                    .id(new CardTagPK(entity.getId(), tag.getId()))
-                    .build();
-            cardTagRepository.save(cardTag);
-        }
+    private static <T> List<T> listOf(T[] values) {
+        return values == null ? List.of() : Arrays.asList(values);
     }
 }
@@ -0,0 +1,88 @@
+package com.almonium.card.core.service;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.analyzer.translator.model.enums.Language;
+import com.almonium.card.core.model.entity.Card;
+import com.almonium.card.core.repository.CardRepository;
+import com.almonium.card.core.repository.ExampleRepository;
+import com.almonium.card.core.repository.TranslationRepository;
+import com.almonium.card.enrichment.model.enums.EnrichmentStatus;
+import com.almonium.card.enrichment.service.CardEnrichmentOutbox;
+import com.almonium.card.sync.service.CardChangeLog;
+import com.almonium.user.core.model.entity.Learner;
+import java.time.Instant;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Copy-on-write sharing of card content. A shared card is a card of its own (entry, tags, review schedule)
+ * pointing at the translations and examples of its content source instead of copying them; it gets its own copy
+ * on its first edit, see {@code CardService.updateCard}. Sharing is one level deep: content sources own their
+ * content, so a shared card is never the content source of another one.
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class CardSharingService {
+    CardRepository cardRepository;
+    TranslationRepository translationRepository;
+    ExampleRepository exampleRepository;
+    CardChangeLog cardChangeLog;
+    CardEnrichmentOutbox cardEnrichmentOutbox;
+
+    public Card share(Card card, Learner recipient) {
+        Instant now = Instant.now();
+        Card shared = Card.builder()
+                .entry(card.getEntry())
+                .language(card.getLanguage())
+                .frequency(card.getFrequency())
+                .audioUrl(card.getAudioUrl())
+                .enrichmentStatus(card.getEnrichmentStatus())
+                .owner(recipient)
+                .contentSource(card.getContentCard())
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        cardChangeLog.recordChange(shared);
+        Card saved = cardRepository.save(shared);
+        if (card.getEnrichmentStatus() != EnrichmentStatus.ENRICHED) {
+            // nothing to copy yet, the shared card is enriched on its own
+            cardEnrichmentOutbox.publish(saved);
+        }
+        return saved;
+    }
+
+    /**
+     * Moves the content of {@code source} to the oldest card sharing it, which the other sharing cards then point
+     * at, so that {@code source} can be deleted or edited on its own. Takes the same few statements however many
+     * cards share the content.
+     *
+     * @return the card the content was moved to, empty if no card shared it
+     */
+    public Optional<Card> handOverContent(Card source) {
+        Optional<Card> heir = cardRepository.findFirstByContentSourceOrderById(source);
+        heir.ifPresent(card -> {
+            translationRepository.reassignAll(source, card);
+            exampleRepository.reassignAll(source, card);
+            cardRepository.reassignContentSource(source, card);
+            card.setContentSource(null);
+            log.debug("Handed content of card {} over to card {}", source.getId(), card.getId());
+        });
+        return heir;
+    }
+
+    public void handOverContent(Learner owner) {
+        cardRepository.findContentSharedByOwner(owner).forEach(this::handOverContent);
+    }
+
+    public void handOverContent(Learner owner, Language language) {
+        cardRepository.findContentSharedByOwnerAndLanguage(owner, language).forEach(this::handOverContent);
+    }
+}
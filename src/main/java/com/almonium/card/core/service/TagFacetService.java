@@ -0,0 +1,96 @@
+package com.almonium.card.core.service;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.analyzer.translator.model.enums.Language;
+import com.almonium.card.core.dto.TagFacetDto;
+import com.almonium.card.core.model.entity.TagFacet;
+import com.almonium.card.core.repository.TagFacetRepository;
+import com.almonium.card.core.tag.TagFacetStore;
+import com.almonium.user.core.model.entity.Learner;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Per learner and language card counts of every tag, maintained incrementally: card changes report the tags
+ * they add and remove within their transaction, so the facets are read without scanning card_tag.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class TagFacetService {
+    TagFacetRepository tagFacetRepository;
+    TagFacetStore tagFacetStore;
+
+    @Transactional(readOnly = true)
+    public List<TagFacetDto> getFacets(Learner learner, Language language) {
+        return tagFacetRepository.findFacets(learner.getId(), language);
+    }
+
+    public void add(Learner learner, Language language, Collection<Long> tagIds) {
+        adjust(learner, language, countEach(tagIds, 1));
+    }
+
+    public void remove(Learner learner, Language language, Collection<Long> tagIds) {
+        adjust(learner, language, countEach(tagIds, -1));
+    }
+
+    public void removeAll(Learner learner, Language language) {
+        tagFacetRepository.deleteAllByLearnerAndLanguage(learner.getId(), language);
+    }
+
+    /**
+     * Moves the card counts of the tags by the given deltas: one locking read of the affected facets, then their
+     * updates and deletes go out as JDBC batches. Missing facets are created in one go by the {@link TagFacetStore},
+     * which doesn't trip over a concurrent transaction creating the same ones. Facets dropping to zero are deleted.
+     */
+    public void adjust(Learner learner, Language language, Map<Long, Integer> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        Map<Long, TagFacet> facets =
+                tagFacetRepository.findForUpdate(learner.getId(), language, deltas.keySet()).stream()
+                        .collect(Collectors.toMap(facet -> facet.getId().getTagId(), Function.identity()));
+
+        Instant now = Instant.now();
+        List<TagFacet> emptied = new ArrayList<>();
+        Map<Long, Integer> missing = new HashMap<>();
+        deltas.forEach((tagId, delta) -> {
+            TagFacet facet = facets.get(tagId);
+            if (facet == null) {
+                if (delta > 0) {
+                    missing.put(tagId, delta);
+                }
+                return;
+            }
+            facet.setCardCount(facet.getCardCount() + delta);
+            if (delta > 0) {
+                facet.setLastUsedAt(now);
+            }
+            if (facet.getCardCount() <= 0) {
+                emptied.add(facet);
+            }
+        });
+        if (!missing.isEmpty()) {
+            tagFacetStore.addAll(learner.getId(), language, missing, now);
+        }
+        tagFacetRepository.deleteAll(emptied);
+    }
+
+    private static Map<Long, Integer> countEach(Collection<Long> tagIds, int delta) {
+        Map<Long, Integer> deltas = new HashMap<>();
+        tagIds.forEach(tagId -> deltas.merge(tagId, delta, Integer::sum));
+        return deltas;
+    }
+}
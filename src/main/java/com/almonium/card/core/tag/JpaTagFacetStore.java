@@ -0,0 +1,33 @@
+package com.almonium.card.core.tag;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.analyzer.translator.model.enums.Language;
+import com.almonium.card.core.model.entity.TagFacet;
+import com.almonium.card.core.model.entity.pk.TagFacetPK;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Portable store for databases without {@code INSERT ... ON CONFLICT} (H2 in tests): plain inserts, so a facet
+ * created concurrently fails the transaction on the primary key.
+ */
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+@ConditionalOnProperty(name = "app.tags.store", havingValue = "jpa")
+public class JpaTagFacetStore implements TagFacetStore {
+    EntityManager entityManager;
+
+    @Override
+    public void addAll(long learnerId, Language language, Map<Long, Integer> counts, Instant lastUsedAt) {
+        // persist skips the lookup save() does for entities with an assigned id
+        counts.forEach((tagId, count) ->
+                entityManager.persist(new TagFacet(new TagFacetPK(learnerId, language, tagId), count, lastUsedAt)));
+    }
+}
@@ -0,0 +1,38 @@
+package com.almonium.card.core.tag;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.card.core.model.entity.Tag;
+import com.almonium.card.core.repository.TagRepository;
+import com.google.common.collect.Sets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Portable store for databases without {@code INSERT ... ON CONFLICT} (H2 in tests): one lookup and one batched
+ * insert of the missing tags.
+ */
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+@ConditionalOnProperty(name = "app.tags.store", havingValue = "jpa")
+public class JpaTagStore implements TagStore {
+    TagRepository tagRepository;
+
+    @Override
+    public List<Tag> upsertAll(Set<String> texts) {
+        List<Tag> tags = new ArrayList<>(tagRepository.findAllByTextIn(texts));
+        Set<String> found = tags.stream().map(Tag::getText).collect(Collectors.toSet());
+        List<Tag> created = Sets.difference(texts, found).stream().map(Tag::new).toList();
+        if (!created.isEmpty()) {
+            tags.addAll(tagRepository.saveAll(created));
+        }
+        return tags;
+    }
+}
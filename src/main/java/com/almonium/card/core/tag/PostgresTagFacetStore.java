@@ -0,0 +1,30 @@
+package com.almonium.card.core.tag;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.analyzer.translator.model.enums.Language;
+import com.almonium.card.core.repository.TagFacetRepository;
+import java.time.Instant;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+@ConditionalOnProperty(name = "app.tags.store", havingValue = "postgres")
+public class PostgresTagFacetStore implements TagFacetStore {
+    TagFacetRepository tagFacetRepository;
+
+    @Override
+    public void addAll(long learnerId, Language language, Map<Long, Integer> counts, Instant lastUsedAt) {
+        Long[] tagIds = counts.keySet().toArray(Long[]::new);
+        Integer[] cardCounts = new Integer[tagIds.length];
+        for (int i = 0; i < tagIds.length; i++) {
+            cardCounts[i] = counts.get(tagIds[i]);
+        }
+        tagFacetRepository.upsertAll(learnerId, language.name(), tagIds, cardCounts, lastUsedAt);
+    }
+}
@@ -0,0 +1,34 @@
+package com.almonium.card.core.tag;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.card.core.model.entity.Tag;
+import com.almonium.card.core.repository.TagRepository;
+import com.google.common.collect.Sets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+@ConditionalOnProperty(name = "app.tags.store", havingValue = "postgres")
+public class PostgresTagStore implements TagStore {
+    TagRepository tagRepository;
+
+    @Override
+    public List<Tag> upsertAll(Set<String> texts) {
+        List<Tag> tags = new ArrayList<>(tagRepository.upsertAll(texts.toArray(String[]::new)));
+        if (tags.size() < texts.size()) {
+            // created by a concurrent transaction after our snapshot, visible to the next statement
+            Set<String> found = tags.stream().map(Tag::getText).collect(Collectors.toSet());
+            tags.addAll(tagRepository.findAllByTextIn(Sets.difference(texts, found)));
+        }
+        return tags;
+    }
+}
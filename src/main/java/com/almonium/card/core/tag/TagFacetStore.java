@@ -0,0 +1,18 @@
+package com.almonium.card.core.tag;
+
+import com.almonium.analyzer.translator.model.enums.Language;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Storage side of the facets TagFacetService creates.
+ */
+public interface TagFacetStore {
+    /**
+     * Creates the facets of the given tags, or adds to their counts when a concurrent transaction has created
+     * them first.
+     *
+     * @param counts card count of every tag, positive
+     */
+    void addAll(long learnerId, Language language, Map<Long, Integer> counts, Instant lastUsedAt);
+}
@@ -0,0 +1,88 @@
+package com.almonium.card.core.tag;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.card.core.model.entity.Tag;
+import com.almonium.card.core.repository.TagRepository;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import lombok.experimental.FieldDefaults;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Turns tag texts into tags, creating the missing ones. Ids of known texts come from a bounded in-process cache,
+ * which never goes stale since tags are neither renamed nor deleted; the rest are resolved with one upsert.
+ * Tagging a card therefore costs one round trip at most, and none once its tags have been seen.
+ */
+@Service
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class TagResolver {
+    TagStore tagStore;
+    TagRepository tagRepository;
+    Cache<String, Long> ids;
+
+    public TagResolver(
+            TagStore tagStore,
+            TagRepository tagRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.tags.cache-size}") long cacheSize) {
+        this.tagStore = tagStore;
+        this.tagRepository = tagRepository;
+        this.ids =
+                CacheBuilder.newBuilder().maximumSize(cacheSize).recordStats().build();
+        GuavaCacheMetrics.monitor(meterRegistry, ids, "tags");
+    }
+
+    /**
+     * @param texts tag texts as entered, they are normalized here
+     * @return tags by normalized text; cached ones are uninitialized references, good for associations
+     */
+    @Transactional
+    public Map<String, Tag> resolve(Collection<String> texts) {
+        Map<String, Tag> tags = new HashMap<>();
+        Set<String> missing = new HashSet<>();
+        for (String text : texts) {
+            String normalized = Tag.normalizeText(text);
+            Long id = ids.getIfPresent(normalized);
+            if (id != null) {
+                tags.put(normalized, tagRepository.getReferenceById(id));
+            } else {
+                missing.add(normalized);
+            }
+        }
+        if (!missing.isEmpty()) {
+            Map<String, Long> resolved = new HashMap<>();
+            for (Tag tag : tagStore.upsertAll(missing)) {
+                resolved.put(tag.getText(), tag.getId());
+                tags.put(tag.getText(), tag);
+            }
+            remember(resolved);
+        }
+        return tags;
+    }
+
+    // tags created by a transaction that rolls back must not stay in the cache
+    private void remember(Map<String, Long> resolved) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            ids.putAll(resolved);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ids.putAll(resolved);
+            }
+        });
+    }
+}
@@ -0,0 +1,18 @@
+package com.almonium.card.core.tag;
+
+import com.almonium.card.core.model.entity.Tag;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Storage side of {@link TagResolver}.
+ */
+public interface TagStore {
+    /**
+     * Finds the tags with the given texts, creating the missing ones.
+     *
+     * @param texts normalized tag texts
+     * @return a tag for every text
+     */
+    List<Tag> upsertAll(Set<String> texts);
+}
@@ -0,0 +1,26 @@
+package com.almonium.card.enrichment.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class CardEnrichmentExecutorConfig {
+
+    @Value("${app.card-enrichment.concurrency}")
+    private int concurrency;
+
+    @Bean
+    public ThreadPoolTaskExecutor cardEnrichmentTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("card-enrichment-");
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        // batches are only claimed for free capacity, the queue absorbs batches split by language
+        executor.setQueueCapacity(concurrency * 4);
+        // unfinished batches are claimed again once their lease runs out, no need to hold the shutdown for them
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
@@ -0,0 +1,75 @@
+package com.almonium.card.enrichment.cron;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.analyzer.translator.model.enums.Language;
+import com.almonium.card.enrichment.model.entity.CardEnrichmentEvent;
+import com.almonium.card.enrichment.service.CardEnricher;
+import com.almonium.card.enrichment.service.CardEnrichmentOutbox;
+import com.google.common.collect.Lists;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Feeds the enrichment workers: claims as many events as the pool has room for, splits them into batches
+ * of one language and hands the batches to the workers. Pollers of several instances claim disjoint events,
+ * so throughput grows with the pool size and with the number of instances.
+ */
+@Slf4j
+@Component
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class CardEnrichmentPoller {
+    CardEnrichmentOutbox cardEnrichmentOutbox;
+    CardEnricher cardEnricher;
+    ThreadPoolTaskExecutor cardEnrichmentTaskExecutor;
+    int batchSize;
+
+    public CardEnrichmentPoller(
+            CardEnrichmentOutbox cardEnrichmentOutbox,
+            CardEnricher cardEnricher,
+            ThreadPoolTaskExecutor cardEnrichmentTaskExecutor,
+            @Value("${app.card-enrichment.batch-size}") int batchSize) {
+        this.cardEnrichmentOutbox = cardEnrichmentOutbox;
+        this.cardEnricher = cardEnricher;
+        this.cardEnrichmentTaskExecutor = cardEnrichmentTaskExecutor;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.card-enrichment.poll-interval}",
+            initialDelayString = "${app.card-enrichment.poll-interval}")
+    public void poll() {
+        int idleWorkers = cardEnrichmentTaskExecutor.getMaxPoolSize()
+                - cardEnrichmentTaskExecutor.getActiveCount()
+                - cardEnrichmentTaskExecutor.getQueueSize();
+        if (idleWorkers <= 0) {
+            return;
+        }
+
+        List<CardEnrichmentEvent> events = cardEnrichmentOutbox.claim(idleWorkers * batchSize);
+        Map<Language, List<Long>> byLanguage = events.stream()
+                .collect(Collectors.groupingBy(
+                        CardEnrichmentEvent::getLanguage,
+                        () -> new EnumMap<>(Language.class),
+                        Collectors.mapping(CardEnrichmentEvent::getId, Collectors.toList())));
+        byLanguage.forEach((language, eventIds) -> {
+            for (List<Long> batch : Lists.partition(eventIds, batchSize)) {
+                try {
+                    cardEnrichmentTaskExecutor.execute(() -> cardEnricher.enrich(language, batch));
+                } catch (RejectedExecutionException e) {
+                    // the events stay claimed until their lease runs out, then they are polled again
+                    log.warn("Enrichment pool is saturated, {} {} cards postponed", batch.size(), language);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,8 @@
+package com.almonium.card.enrichment.model;
+
+import java.util.List;
+
+/**
+ * What the providers found for a card; frequency and audio are null when nothing was found.
+ */
+public record CardEnrichment(Long cardId, Integer frequency, String audioUrl, List<String> translations) {}
@@ -0,0 +1,54 @@
+package com.almonium.card.enrichment.model.entity;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.analyzer.translator.model.enums.Language;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Outbox entry of a card waiting to be enriched, written in the transaction creating the card
+ * and deleted once the card is enriched or given up on, see CardEnrichmentOutbox.
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode(of = {"id"})
+@FieldDefaults(level = PRIVATE)
+public class CardEnrichmentEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "card_enrichment_event_seq")
+    @SequenceGenerator(
+            name = "card_enrichment_event_seq",
+            sequenceName = "card_enrichment_event_seq",
+            allocationSize = 50)
+    Long id;
+
+    Long cardId;
+
+    @Enumerated(EnumType.STRING)
+    Language language;
+
+    int attempts;
+
+    // claimed events are hidden from other workers until their lease runs out, failed ones until their retry is due
+    Instant availableAt;
+
+    Instant createdAt;
+}
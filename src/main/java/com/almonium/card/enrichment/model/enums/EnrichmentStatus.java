@@ -0,0 +1,7 @@
+package com.almonium.card.enrichment.model.enums;
+
+public enum EnrichmentStatus {
+    PENDING,
+    ENRICHED,
+    FAILED
+}
@@ -0,0 +1,10 @@
+package com.almonium.card.enrichment.model.projection;
+
+import com.almonium.analyzer.translator.model.enums.Language;
+
+/**
+ * A card waiting for enrichment with one of its owner's fluent languages (null if the owner has none),
+ * so a card comes in as many rows as its owner has fluent languages.
+ */
+public record CardEnrichmentTarget(
+        Long eventId, Long cardId, String entry, Language language, Language fluentLanguage) {}
@@ -0,0 +1,44 @@
+package com.almonium.card.enrichment.repository;
+
+import com.almonium.card.enrichment.model.entity.CardEnrichmentEvent;
+import com.almonium.card.enrichment.model.projection.CardEnrichmentTarget;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface CardEnrichmentEventRepository extends JpaRepository<CardEnrichmentEvent, Long> {
+
+    /**
+     * The oldest events available at {@code now}, locked. Rows locked by another worker are skipped
+     * (a lock timeout of -2 is SKIP LOCKED), so concurrent pollers claim disjoint batches.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select e from CardEnrichmentEvent e where e.availableAt <= :now order by e.id")
+    List<CardEnrichmentEvent> findAvailable(@Param("now") Instant now, Limit limit);
+
+    @Query(
+            """
+            select new com.almonium.card.enrichment.model.projection.CardEnrichmentTarget(
+                        e.id, c.id, c.entry, c.language, f)
+                    from CardEnrichmentEvent e
+                    join Card c on c.id = e.cardId
+                    join c.owner o
+                    left join o.fluentLangs f
+                    where e.id in :ids
+            """)
+    List<CardEnrichmentTarget> findTargets(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from CardEnrichmentEvent e where e.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,118 @@
+package com.almonium.card.enrichment.service;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.analyzer.analyzer.service.FrequencyService;
+import com.almonium.analyzer.client.wordnik.WordnikClient;
+import com.almonium.analyzer.client.wordnik.dto.WordnikAudioDto;
+import com.almonium.analyzer.translator.dto.DefinitionDto;
+import com.almonium.analyzer.translator.dto.TranslationCardDto;
+import com.almonium.analyzer.translator.dto.TranslationDto;
+import com.almonium.analyzer.translator.model.enums.Language;
+import com.almonium.analyzer.translator.service.TranslationEngine;
+import com.almonium.card.enrichment.model.CardEnrichment;
+import com.almonium.card.enrichment.model.projection.CardEnrichmentTarget;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Fills in what the learner didn't have to type: the frequency of the entry, a pronunciation recording
+ * (Wordnik only has English ones) and translations into the owner's fluent language, offered as suggestions.
+ * The providers are called without a transaction open; the results of a whole batch are stored at once.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class CardEnricher {
+    FrequencyService frequencyService;
+    WordnikClient wordnikClient;
+    TranslationEngine translationEngine;
+    CardEnrichmentOutbox cardEnrichmentOutbox;
+
+    @NonFinal
+    @Value("${app.card-enrichment.max-suggested-translations}")
+    int maxSuggestedTranslations;
+
+    /**
+     * Enriches the cards of a batch of claimed events, all of one language. A card whose lookup fails
+     * is retried later without holding back the rest of the batch.
+     */
+    public void enrich(Language language, Collection<Long> eventIds) {
+        Map<Long, List<CardEnrichmentTarget>> targets = cardEnrichmentOutbox.findTargets(eventIds).stream()
+                .collect(Collectors.groupingBy(CardEnrichmentTarget::eventId, LinkedHashMap::new, Collectors.toList()));
+
+        List<CardEnrichment> enrichments = new ArrayList<>();
+        List<Long> done = new ArrayList<>();
+        List<Long> failed = new ArrayList<>();
+        for (Long eventId : eventIds) {
+            List<CardEnrichmentTarget> rows = targets.get(eventId);
+            try {
+                // no rows: the card was deleted in the meantime
+                if (rows != null) {
+                    enrichments.add(enrich(rows));
+                }
+                done.add(eventId);
+            } catch (RuntimeException e) {
+                log.warn("Failed to enrich card {}: {}", rows.get(0).cardId(), e.toString());
+                failed.add(eventId);
+            }
+        }
+
+        cardEnrichmentOutbox.complete(done, enrichments);
+        if (!failed.isEmpty()) {
+            cardEnrichmentOutbox.retry(failed);
+        }
+        log.debug("Enriched {} {} cards, {} to retry", enrichments.size(), language, failed.size());
+    }
+
+    private CardEnrichment enrich(List<CardEnrichmentTarget> rows) {
+        CardEnrichmentTarget card = rows.get(0);
+        Integer frequency =
+                frequencyService.getFrequency(card.language(), card.entry()).orElse(null);
+        String audioUrl = card.language() == Language.EN ? findAudio(card.entry()) : null;
+        List<String> translations = rows.stream()
+                .map(CardEnrichmentTarget::fluentLanguage)
+                .filter(fluent -> fluent != null && fluent != card.language())
+                .min(Comparator.naturalOrder())
+                .map(fluent -> suggestTranslations(card.entry(), card.language(), fluent))
+                .orElse(List.of());
+        return new CardEnrichment(card.cardId(), frequency, audioUrl, translations);
+    }
+
+    private String findAudio(String entry) {
+        List<WordnikAudioDto> audio = wordnikClient.getAudioFile(entry).getBody();
+        return Optional.ofNullable(audio).orElse(List.of()).stream()
+                .map(WordnikAudioDto::getFileUrl)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private List<String> suggestTranslations(String entry, Language from, Language to) {
+        return translationEngine.translate(entry, from, to).map(TranslationCardDto::getDefinitions).stream()
+                .flatMap(Arrays::stream)
+                .map(DefinitionDto::getTranslations)
+                .filter(Objects::nonNull)
+                .flatMap(Arrays::stream)
+                .map(TranslationDto::getText)
+                .filter(text -> text != null && !text.isBlank())
+                .distinct()
+                .limit(maxSuggestedTranslations)
+                .toList();
+    }
+}
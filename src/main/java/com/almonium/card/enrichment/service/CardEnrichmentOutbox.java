@@ -0,0 +1,205 @@
+package com.almonium.card.enrichment.service;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.card.core.model.entity.Card;
+import com.almonium.card.core.model.entity.Translation;
+import com.almonium.card.core.model.projection.CardTranslationProjection;
+import com.almonium.card.core.repository.CardRepository;
+import com.almonium.card.core.repository.TranslationRepository;
+import com.almonium.card.enrichment.model.CardEnrichment;
+import com.almonium.card.enrichment.model.entity.CardEnrichmentEvent;
+import com.almonium.card.enrichment.model.enums.EnrichmentStatus;
+import com.almonium.card.enrichment.model.projection.CardEnrichmentTarget;
+import com.almonium.card.enrichment.repository.CardEnrichmentEventRepository;
+import com.almonium.card.sync.service.CardChangeLog;
+import com.almonium.user.core.model.entity.Learner;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Transactional outbox of card enrichment. The event is written with the card, so no card is lost between
+ * its creation and its enrichment, and the work queue survives restarts. Workers claim events for a lease,
+ * look the cards up without holding a transaction (see CardEnricher), then store the results and delete
+ * the events in one transaction; events of a worker that died are claimed again once their lease runs out.
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class CardEnrichmentOutbox {
+    CardEnrichmentEventRepository cardEnrichmentEventRepository;
+    CardRepository cardRepository;
+    TranslationRepository translationRepository;
+    CardChangeLog cardChangeLog;
+    EntityManager entityManager;
+
+    @NonFinal
+    @Value("${app.card-enrichment.lease}")
+    long leaseMs;
+
+    @NonFinal
+    @Value("${app.card-enrichment.retry-delay}")
+    long retryDelayMs;
+
+    @NonFinal
+    @Value("${app.card-enrichment.max-attempts}")
+    int maxAttempts;
+
+    // the card must have its id already
+    public void publish(Card card) {
+        Instant now = Instant.now();
+        card.setEnrichmentStatus(EnrichmentStatus.PENDING);
+        entityManager.persist(CardEnrichmentEvent.builder()
+                .cardId(card.getId())
+                .language(card.getLanguage())
+                .availableAt(now)
+                .createdAt(now)
+                .build());
+    }
+
+    /**
+     * Takes up to {@code limit} of the oldest available events and hides them from other workers
+     * for the lease period.
+     */
+    public List<CardEnrichmentEvent> claim(int limit) {
+        Instant now = Instant.now();
+        List<CardEnrichmentEvent> events = cardEnrichmentEventRepository.findAvailable(now, Limit.of(limit));
+        Instant leaseEnd = now.plusMillis(leaseMs);
+        events.forEach(event -> event.setAvailableAt(leaseEnd));
+        return events;
+    }
+
+    @Transactional(readOnly = true)
+    public List<CardEnrichmentTarget> findTargets(Collection<Long> eventIds) {
+        return cardEnrichmentEventRepository.findTargets(eventIds);
+    }
+
+    /**
+     * Stores what was found for the cards and deletes their events, along with the events of cards
+     * deleted in the meantime. A card may come with several events, its latest enrichment wins. Suggested translations are only added to cards owning their content,
+     * and only those the card doesn't have yet; the cards sharing that content are recorded as changed too.
+     * The owners are locked before the cards are read, so an edit or review committed meanwhile is kept.
+     */
+    public void complete(Collection<Long> eventIds, List<CardEnrichment> enrichments) {
+        if (!enrichments.isEmpty()) {
+            // a card edited while its first event was pending has several events, all enriched from its current state
+            Map<Long, CardEnrichment> byCardId = enrichments.stream()
+                    .collect(Collectors.toMap(
+                            CardEnrichment::cardId, Function.identity(), (earlier, later) -> later));
+            // Card rows are written whole, the cards are read under their owners' locks
+            Set<Long> lockedOwners =
+                    new HashSet<>(cardRepository.findOwnerIdsOfCardsAndTheirSharing(byCardId.keySet()));
+            cardChangeLog.lock(lockedOwners);
+            List<Card> cards = cardRepository.findAllById(byCardId.keySet());
+            Map<Long, Set<String>> knownTranslations =
+                    translationRepository.findProjectionsByCardIds(byCardId.keySet()).stream()
+                            .collect(Collectors.groupingBy(
+                                    CardTranslationProjection::cardId,
+                                    Collectors.mapping(CardTranslationProjection::translation, Collectors.toSet())));
+
+            List<Translation> suggested = new ArrayList<>();
+            List<Card> contentChanged = new ArrayList<>();
+            for (Card card : cards) {
+                CardEnrichment enrichment = byCardId.get(card.getId());
+                if (enrichment.frequency() != null) {
+                    card.setFrequency(enrichment.frequency());
+                }
+                card.setAudioUrl(enrichment.audioUrl());
+                card.setEnrichmentStatus(EnrichmentStatus.ENRICHED);
+                if (card.getContentSource() == null) {
+                    Set<String> known = knownTranslations.getOrDefault(card.getId(), Set.of());
+                    List<Translation> added = enrichment.translations().stream()
+                            .filter(translation -> !known.contains(translation))
+                            .map(translation -> Translation.builder()
+                                    .card(card)
+                                    .translation(translation)
+                                    .suggested(true)
+                                    .build())
+                            .toList();
+                    if (!added.isEmpty()) {
+                        suggested.addAll(added);
+                        contentChanged.add(card);
+                    }
+                }
+            }
+            translationRepository.saveAll(suggested);
+            List<Card> changed = new ArrayList<>(cards);
+            if (!contentChanged.isEmpty()) {
+                // shared while the enrichment was pending, the cards show the suggestions as well
+                changed.addAll(findSharingLocked(contentChanged, lockedOwners));
+            }
+            recordChanges(changed);
+        }
+        if (!eventIds.isEmpty()) {
+            cardEnrichmentEventRepository.deleteAllByIdIn(eventIds);
+        }
+    }
+
+    /**
+     * Puts the events back for another attempt, each attempt waiting twice as long as the previous one.
+     * Cards out of attempts are marked as failed and their events deleted.
+     */
+    public void retry(Collection<Long> eventIds) {
+        Instant now = Instant.now();
+        List<CardEnrichmentEvent> exhausted = new ArrayList<>();
+        for (CardEnrichmentEvent event : cardEnrichmentEventRepository.findAllById(eventIds)) {
+            event.setAttempts(event.getAttempts() + 1);
+            if (event.getAttempts() >= maxAttempts) {
+                exhausted.add(event);
+            } else {
+                event.setAvailableAt(now.plusMillis(retryDelayMs << (event.getAttempts() - 1)));
+            }
+        }
+        if (exhausted.isEmpty()) {
+            return;
+        }
+
+        List<Card> cards = cardRepository.findAllById(
+                exhausted.stream().map(CardEnrichmentEvent::getCardId).toList());
+        cards.forEach(card -> card.setEnrichmentStatus(EnrichmentStatus.FAILED));
+        recordChanges(cards);
+        cardEnrichmentEventRepository.deleteAll(exhausted);
+        log.warn("Gave up enriching {} cards after {} attempts", exhausted.size(), maxAttempts);
+    }
+
+    private List<Card> findSharingLocked(List<Card> contentSources, Set<Long> lockedOwners) {
+        List<Card> sharing = cardRepository.findAllByContentSourceIn(contentSources);
+        List<Card> sharedLate = sharing.stream()
+                .filter(card -> !lockedOwners.contains(card.getOwner().getId()))
+                .toList();
+        if (!sharedLate.isEmpty()) {
+            // shared after the locks were taken: lock their owners too and read the cards again
+            cardChangeLog.lock(sharedLate.stream().map(card -> card.getOwner().getId()).toList());
+            sharedLate.forEach(entityManager::refresh);
+        }
+        return sharing;
+    }
+
+    // owners in id order, so concurrent completions take the learner locks in the same order
+    private void recordChanges(List<Card> cards) {
+        cards.stream()
+                .collect(Collectors.groupingBy(
+                        Card::getOwner, () -> new TreeMap<>(Comparator.comparing(Learner::getId)), Collectors.toList()))
+                .forEach(cardChangeLog::recordChanges);
+    }
+}
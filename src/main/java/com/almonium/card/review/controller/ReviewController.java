@@ -0,0 +1,41 @@
+package com.almonium.card.review.controller;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.analyzer.translator.model.enums.Language;
+import com.almonium.auth.common.annotation.Auth;
+import com.almonium.card.core.dto.CardDto;
+import com.almonium.card.review.dto.ReviewBatchDto;
+import com.almonium.card.review.dto.ReviewScheduleDto;
+import com.almonium.card.review.service.ReviewService;
+import com.almonium.user.core.model.entity.User;
+import jakarta.validation.Valid;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/cards/review")
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class ReviewController {
+    ReviewService reviewService;
+
+    @GetMapping("/due")
+    public ResponseEntity<List<CardDto>> getDueCards(
+            @RequestParam Language lang, @RequestParam(defaultValue = "20") int size, @Auth User user) {
+        return ResponseEntity.ok(reviewService.getDueCards(user.getLearner(), lang, size));
+    }
+
+    @PostMapping
+    public ResponseEntity<List<ReviewScheduleDto>> review(@Valid @RequestBody ReviewBatchDto dto, @Auth User user) {
+        return ResponseEntity.ok(reviewService.review(user.getLearner(), dto.reviews()));
+    }
+}
@@ -0,0 +1,9 @@
+package com.almonium.card.review.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record ReviewBatchDto(@NotEmpty @Size(max = 500) List<@Valid @NotNull ReviewResultDto> reviews) {}
@@ -0,0 +1,11 @@
+package com.almonium.card.review.dto;
+
+import com.almonium.card.review.model.ReviewGrade;
+import jakarta.validation.constraints.NotNull;
+import java.time.Instant;
+
+/**
+ * @param reviewedAt when the card was answered; clients reviewing offline send it, otherwise the time of the request
+ *     is used
+ */
+public record ReviewResultDto(@NotNull Long cardId, @NotNull ReviewGrade grade, Instant reviewedAt) {}
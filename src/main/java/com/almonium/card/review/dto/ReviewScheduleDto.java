@@ -0,0 +1,5 @@
+package com.almonium.card.review.dto;
+
+import java.time.Instant;
+
+public record ReviewScheduleDto(Long cardId, Instant dueAt, int intervalDays, int iteration) {}
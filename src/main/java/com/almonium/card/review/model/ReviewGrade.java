@@ -0,0 +1,22 @@
+package com.almonium.card.review.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Answer buttons of a review, with the SM-2 response quality (0-5) each one stands for.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ReviewGrade {
+    AGAIN(1),
+    HARD(3),
+    GOOD(4),
+    EASY(5);
+
+    private final int quality;
+
+    public boolean isPassed() {
+        return quality >= 3;
+    }
+}
@@ -0,0 +1,54 @@
+package com.almonium.card.review.service;
+
+import com.almonium.card.core.model.entity.Card;
+import com.almonium.card.review.model.ReviewGrade;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * SM-2 scheduling: a passed review grows the interval by the card's ease factor (1 day, 6 days, then
+ * interval x ease), a failed one sends the card back to the start and shows it again shortly.
+ * The ease factor moves with the quality of every answer and never drops below 1.3.
+ */
+@Component
+public class ReviewScheduler {
+    static final double MIN_EASE = 1.3;
+
+    private final Duration relearnDelay;
+    private final int maxIntervalDays;
+
+    public ReviewScheduler(
+            @Value("${app.review.relearn-delay}") long relearnDelaySeconds,
+            @Value("${app.review.max-interval}") int maxIntervalDays) {
+        this.relearnDelay = Duration.ofSeconds(relearnDelaySeconds);
+        this.maxIntervalDays = maxIntervalDays;
+    }
+
+    public void apply(Card card, ReviewGrade grade, Instant reviewedAt) {
+        int quality = grade.getQuality();
+        double ease = card.getEaseFactor() + (0.1 - (5 - quality) * (0.08 + (5 - quality) * 0.02));
+        card.setEaseFactor(Math.max(MIN_EASE, ease));
+        card.setLastRepeat(reviewedAt);
+
+        if (!grade.isPassed()) {
+            card.setIteration(0);
+            card.setIntervalDays(0);
+            card.setDueAt(reviewedAt.plus(relearnDelay));
+            return;
+        }
+
+        int interval =
+                switch (card.getIteration()) {
+                    case 0 -> 1;
+                    case 1 -> 6;
+                    default -> (int) Math.round(Math.max(1, card.getIntervalDays()) * card.getEaseFactor());
+                };
+        interval = Math.min(interval, maxIntervalDays);
+        card.setIteration(card.getIteration() + 1);
+        card.setIntervalDays(interval);
+        card.setDueAt(reviewedAt.plus(interval, ChronoUnit.DAYS));
+    }
+}
@@ -0,0 +1,90 @@
+package com.almonium.card.review.service;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.analyzer.translator.model.enums.Language;
+import com.almonium.card.core.dto.CardDto;
+import com.almonium.card.core.model.entity.Card;
+import com.almonium.card.core.repository.CardRepository;
+import com.almonium.card.core.service.CardService;
+import com.almonium.card.review.dto.ReviewResultDto;
+import com.almonium.card.review.dto.ReviewScheduleDto;
+import com.almonium.card.sync.service.CardChangeLog;
+import com.almonium.user.core.model.entity.Learner;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class ReviewService {
+    private static final int MAX_QUEUE_SIZE = 100;
+
+    CardRepository cardRepository;
+    CardService cardService;
+    ReviewScheduler reviewScheduler;
+    CardChangeLog cardChangeLog;
+
+    /**
+     * The learner's cards due for review in the language, most overdue first. The page is read off the
+     * (owner_id, language, due_at) index, so its cost doesn't depend on the size of the deck; reviewed cards
+     * leave the queue, so the next call returns the next page.
+     */
+    public List<CardDto> getDueCards(Learner learner, Language language, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_QUEUE_SIZE));
+        return cardService.toDtos(
+                cardRepository.findDueByOwnerAndLanguage(learner, language, Instant.now(), Limit.of(limit)));
+    }
+
+    /**
+     * Applies a batch of answers: the cards are loaded with one query and rescheduled in the order the answers
+     * were given, and the updates are flushed as one JDBC batch. Answers to cards the learner no longer has
+     * (e.g. deleted while reviewing offline) are ignored.
+     */
+    @Transactional
+    public List<ReviewScheduleDto> review(Learner learner, List<ReviewResultDto> reviews) {
+        Set<Long> cardIds = reviews.stream().map(ReviewResultDto::cardId).collect(Collectors.toSet());
+        // Card rows are written whole, the cards are read under the learner's lock so a concurrent edit is kept
+        cardChangeLog.lock(List.of(learner.getId()));
+        Map<Long, Card> cards = cardRepository.findAllByOwnerAndIdIn(learner, cardIds).stream()
+                .collect(Collectors.toMap(Card::getId, Function.identity()));
+
+        Instant now = Instant.now();
+        reviews.stream()
+                .sorted(Comparator.comparing(review -> reviewedAt(review, now)))
+                .forEach(review -> {
+                    Card card = cards.get(review.cardId());
+                    if (card == null) {
+                        log.debug("Ignoring review of unknown card {} by learner {}", review.cardId(), learner.getId());
+                        return;
+                    }
+                    reviewScheduler.apply(card, review.grade(), reviewedAt(review, now));
+                });
+        cardChangeLog.recordChanges(learner, cards.values());
+        cardRepository.saveAll(cards.values());
+
+        return cards.values().stream()
+                .sorted(Comparator.comparing(Card::getId))
+                .map(card -> new ReviewScheduleDto(
+                        card.getId(), card.getDueAt(), card.getIntervalDays(), card.getIteration()))
+                .toList();
+    }
+
+    // a client clock ahead of ours must not push the schedule into the future
+    private static Instant reviewedAt(ReviewResultDto review, Instant now) {
+        return review.reviewedAt() == null || review.reviewedAt().isAfter(now) ? now : review.reviewedAt();
+    }
+}
@@ -0,0 +1,40 @@
+package com.almonium.card.suggestion.model.projection;
+
+import com.almonium.analyzer.translator.model.enums.Language;
+import com.almonium.card.core.model.projection.CardProjection;
+import com.almonium.card.enrichment.model.enums.EnrichmentStatus;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A suggestion in the recipient's inbox: who suggested it and the columns of the suggested card.
+ */
+public record SuggestedCardProjection(
+        Long senderId,
+        Long cardId,
+        UUID publicId,
+        Long ownerId,
+        String entry,
+        Language language,
+        Instant createdAt,
+        Instant updatedAt,
+        int iteration,
+        int frequency,
+        String audioUrl,
+        EnrichmentStatus enrichmentStatus) {
+
+    public CardProjection card() {
+        return new CardProjection(
+                cardId,
+                publicId,
+                ownerId,
+                entry,
+                language,
+                createdAt,
+                updatedAt,
+                iteration,
+                frequency,
+                audioUrl,
+                enrichmentStatus);
+    }
+}
@@ -2,12 +2,30 @@ package com.almonium.card.suggestion.repository;
 
 import com.almonium.card.core.model.entity.Card;
 import com.almonium.card.suggestion.model.entity.CardSuggestion;
+import com.almonium.card.suggestion.model.projection.SuggestedCardProjection;
 import com.almonium.user.core.model.entity.Learner;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CardSuggestionRepository extends JpaRepository<CardSuggestion, Long> {
     CardSuggestion getBySenderAndRecipientAndCard(Learner sender, Learner recipient, Card card);
 
     List<CardSuggestion> getByRecipient(Learner recipient);
+
+    /**
+     * The recipient's inbox in one query, newest suggestion first.
+     */
+    @Query(
+            """
+            select new com.almonium.card.suggestion.model.projection.SuggestedCardProjection(
+                        s.sender.id, c.id, c.publicId, c.owner.id, c.entry, c.language,
+                        c.createdAt, c.updatedAt, c.iteration, c.frequency, c.audioUrl, c.enrichmentStatus)
+                    from CardSuggestion s
+                    join s.card c
+                    where s.recipient = :recipient
+                    order by s.createdAt desc, s.id desc
+            """)
+    List<SuggestedCardProjection> findInbox(@Param("recipient") Learner recipient);
 }
@@ -3,21 +3,18 @@ package com.almonium.card.suggestion.service;
 import static lombok.AccessLevel.PRIVATE;
 
 import com.almonium.card.core.dto.CardDto;
-import com.almonium.card.core.mapper.CardMapper;
 import com.almonium.card.core.model.entity.Card;
-import com.almonium.card.core.model.entity.Example;
-import com.almonium.card.core.model.entity.Translation;
 import com.almonium.card.core.repository.CardRepository;
-import com.almonium.card.core.repository.ExampleRepository;
-import com.almonium.card.core.repository.TranslationRepository;
+import com.almonium.card.core.service.CardService;
+import com.almonium.card.core.service.CardSharingService;
 import com.almonium.card.suggestion.dto.CardSuggestionDto;
 import com.almonium.card.suggestion.model.entity.CardSuggestion;
+import com.almonium.card.suggestion.model.projection.SuggestedCardProjection;
 import com.almonium.card.suggestion.repository.CardSuggestionRepository;
 import com.almonium.user.core.model.entity.Learner;
 import com.almonium.user.core.repository.LearnerRepository;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.experimental.FieldDefaults;
@@ -33,19 +30,23 @@ import org.springframework.transaction.annotation.Transactional;
 public class CardSuggestionService {
     CardRepository cardRepository;
     CardSuggestionRepository cardSuggestionRepository;
-    ExampleRepository exampleRepository;
-    TranslationRepository translationRepository;
     LearnerRepository learnerRepository;
-    CardMapper cardMapper;
+    CardService cardService;
+    CardSharingService cardSharingService;
 
+    /**
+     * The suggested cards, each with the sender as its user: one query for the inbox, then the translations,
+     * examples and tags of all the cards are loaded with one query each.
+     */
+    @Transactional(readOnly = true)
     public List<CardDto> getSuggestedCards(Learner user) {
-        return cardSuggestionRepository.getByRecipient(user).stream()
-                .map(sug -> {
-                    CardDto dto = cardMapper.cardEntityToDto(sug.getCard());
-                    dto.setUserId(sug.getSender().getId());
-                    return dto;
-                })
-                .collect(Collectors.toList());
+        List<SuggestedCardProjection> inbox = cardSuggestionRepository.findInbox(user);
+        List<CardDto> cards = cardService.toDtos(
+                inbox.stream().map(SuggestedCardProjection::card).toList());
+        for (int i = 0; i < cards.size(); i++) {
+            cards.get(i).setUserId(inbox.get(i).senderId());
+        }
+        return cards;
     }
 
     public void declineSuggestion(Long id, Learner actionExecutor) {
@@ -59,7 +60,12 @@ public class CardSuggestionService {
         CardSuggestion cardSuggestion = getCardSuggestion(id);
         Learner recipient = cardSuggestion.getRecipient();
         checkAuthorization(actionExecutor, recipient);
-        cloneCard(cardSuggestion.getCard(), recipient);
+        Card card = cardSharingService.share(cardSuggestion.getCard(), recipient);
+        log.info(
+                "Shared card {} with learner {} as card {}",
+                cardSuggestion.getCard().getId(),
+                recipient.getId(),
+                card.getId());
         cardSuggestionRepository.delete(cardSuggestion);
     }
 
@@ -75,23 +81,6 @@ public class CardSuggestionService {
         return true;
     }
 
-    private void cloneCard(Card entity, Learner user) {
-        Card card = cardMapper.copyCardDtoToEntity(cardMapper.cardEntityToDto(entity));
-
-        user.addCard(card);
-
-        List<Example> examples = card.getExamples();
-        examples.forEach(example -> example.setCard(card));
-
-        List<Translation> translations = card.getTranslations();
-
-        cardRepository.save(card);
-        translationRepository.saveAll(translations);
-        exampleRepository.saveAll(examples);
-        learnerRepository.save(user);
-        log.info("Cloned card {} for user {}", card, user);
-    }
-
     @SneakyThrows
     private void checkAuthorization(Learner actionExecutor, Learner recipient) {
         if (!recipient.equals(actionExecutor)) {
@@ -0,0 +1,31 @@
+package com.almonium.card.sync.controller;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.auth.common.annotation.Auth;
+import com.almonium.card.sync.dto.CardSyncDto;
+import com.almonium.card.sync.service.CardSyncService;
+import com.almonium.user.core.model.entity.User;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/cards/sync")
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class CardSyncController {
+    CardSyncService cardSyncService;
+
+    @GetMapping
+    public ResponseEntity<CardSyncDto> sync(
+            @RequestParam(required = false) String token,
+            @RequestParam(defaultValue = "200") int size,
+            @Auth User user) {
+        return ResponseEntity.ok(cardSyncService.sync(user.getLearner(), token, size));
+    }
+}
@@ -0,0 +1,32 @@
+package com.almonium.card.sync.cron;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.card.sync.service.CardChangeLog;
+import java.time.Duration;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class CardTombstoneCleanupTask {
+    CardChangeLog cardChangeLog;
+
+    @NonFinal
+    @Value("${app.card-sync.tombstone-retention}")
+    long retentionDays;
+
+    @Scheduled(cron = "0 45 0 * * ?") // Runs daily at 00:45
+    public void purgeTombstones() {
+        int deleted = cardChangeLog.purgeTombstones(Instant.now().minus(Duration.ofDays(retentionDays)));
+        log.info("Removed {} card tombstones", deleted);
+    }
+}
@@ -0,0 +1,13 @@
+package com.almonium.card.sync.dto;
+
+import com.almonium.card.core.dto.CardDto;
+import java.util.List;
+
+/**
+ * Changes of the card stack since the client's sync token. {@code cards} are created or updated cards in their
+ * current state, {@code deletedIds} the ids of deleted ones. The client applies both, stores {@code syncToken}
+ * and syncs again right away while {@code hasMore} is set. With {@code reset} set the token was too old to
+ * tell the deletions since, and the client has to replace its stack with the cards of this and the following pages.
+ */
+public record CardSyncDto(
+        List<CardDto> cards, List<Long> deletedIds, String syncToken, boolean hasMore, boolean reset) {}
@@ -0,0 +1,43 @@
+package com.almonium.card.sync.dto;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.almonium.user.core.exception.BadUserRequestActionException;
+import java.util.Base64;
+
+/**
+ * Position in a learner's card change sequence, passed to clients as an opaque string.
+ * {@code fullSync} marks the pages of a sync from scratch: their versions may lie below the sync floor
+ * without the client having missed any deletion, so they are never reset.
+ */
+public record CardSyncToken(long version, boolean fullSync) {
+    // before every change, used for the first sync
+    public static final CardSyncToken START = new CardSyncToken(0, true);
+    private static final String FULL_SYNC_PREFIX = "f";
+
+    public CardSyncToken(long version) {
+        this(version, false);
+    }
+
+    public static CardSyncToken decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), UTF_8);
+            boolean fullSync = decoded.startsWith(FULL_SYNC_PREFIX);
+            long version = Long.parseLong(fullSync ? decoded.substring(FULL_SYNC_PREFIX.length()) : decoded);
+            if (version < 0) {
+                throw new BadUserRequestActionException("Invalid sync token");
+            }
+            return new CardSyncToken(version, fullSync);
+        } catch (IllegalArgumentException e) {
+            throw new BadUserRequestActionException("Invalid sync token");
+        }
+    }
+
+    public String encode() {
+        String value = fullSync ? FULL_SYNC_PREFIX + version : Long.toString(version);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(UTF_8));
+    }
+}
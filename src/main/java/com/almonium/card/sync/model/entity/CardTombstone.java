@@ -0,0 +1,35 @@
+package com.almonium.card.sync.model.entity;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Trace of a deleted card, telling syncing clients to drop it. Purged after the retention period,
+ * see CardTombstoneCleanupTask.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = {"cardId"})
+@FieldDefaults(level = PRIVATE)
+public class CardTombstone {
+    @Id
+    Long cardId;
+
+    Long learnerId;
+
+    long changeVersion;
+
+    Instant deletedAt;
+}
@@ -0,0 +1,3 @@
+package com.almonium.card.sync.model.projection;
+
+public record CardVersionProjection(Long id, long changeVersion) {}
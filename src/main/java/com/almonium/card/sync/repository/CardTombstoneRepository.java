@@ -0,0 +1,38 @@
+package com.almonium.card.sync.repository;
+
+import com.almonium.card.sync.model.entity.CardTombstone;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CardTombstoneRepository extends JpaRepository<CardTombstone, Long> {
+    // both bounds inclusive
+    List<CardTombstone> findByLearnerIdAndChangeVersionBetweenOrderByChangeVersion(
+            long learnerId, long fromVersion, long toVersion, Limit limit);
+
+    /**
+     * Raises the sync floor of the learners whose tombstones are about to be purged to the newest of them,
+     * so clients with older sync tokens are told to resync from scratch.
+     */
+    @Modifying
+    @Query(
+            nativeQuery = true,
+            value =
+                    """
+                    update learner set card_sync_floor = (
+                            select max(t.change_version) from card_tombstone t
+                            where t.learner_id = learner.id and t.deleted_at < :cutoff)
+                    where exists (
+                            select 1 from card_tombstone t
+                            where t.learner_id = learner.id and t.deleted_at < :cutoff)
+                    """)
+    int raiseSyncFloors(@Param("cutoff") Instant cutoff);
+
+    @Modifying
+    @Query("delete from CardTombstone t where t.deletedAt < :cutoff")
+    int deleteDeletedBefore(@Param("cutoff") Instant cutoff);
+}
@@ -0,0 +1,86 @@
+package com.almonium.card.sync.service;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.card.core.model.entity.Card;
+import com.almonium.card.sync.model.entity.CardTombstone;
+import com.almonium.card.sync.repository.CardTombstoneRepository;
+import com.almonium.user.core.model.entity.Learner;
+import com.almonium.user.core.repository.LearnerRepository;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Numbers the changes of each learner's card stack. Every card write takes the next numbers of its owner's
+ * sequence: changed cards keep the number of their latest change, deleted cards leave a tombstone with theirs.
+ * Taking numbers locks the learner row until commit, so a learner's changes become visible in number order
+ * and a client that has seen number n has seen every change up to n.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class CardChangeLog {
+    LearnerRepository learnerRepository;
+    CardTombstoneRepository cardTombstoneRepository;
+    EntityManager entityManager;
+
+    public void recordChange(Card card) {
+        recordChanges(card.getOwner(), List.of(card));
+    }
+
+    public void recordChanges(Learner owner, Collection<Card> cards) {
+        if (cards.isEmpty()) {
+            return;
+        }
+        long version = take(owner.getId(), cards.size());
+        for (Card card : cards) {
+            card.setChangeVersion(version++);
+        }
+    }
+
+    /**
+     * Takes the learners' locks ahead of reading their cards, so that a write committed while waiting for them
+     * isn't overwritten with the cards as they were before it. Learners are locked in id order, as in
+     * every write changing the cards of several learners.
+     */
+    public void lock(Collection<Long> learnerIds) {
+        learnerIds.stream().distinct().sorted().forEach(id -> learnerRepository.advanceCardChangeSeq(id, 0));
+    }
+
+    public void recordDeletion(Card card) {
+        recordDeletions(card.getOwner(), List.of(card.getId()));
+    }
+
+    public void recordDeletions(Learner owner, List<Long> cardIds) {
+        if (cardIds.isEmpty()) {
+            return;
+        }
+        long version = take(owner.getId(), cardIds.size());
+        Instant now = Instant.now();
+        for (Long cardId : cardIds) {
+            entityManager.persist(new CardTombstone(cardId, owner.getId(), version++, now));
+        }
+    }
+
+    /**
+     * Deletes the tombstones of cards deleted before {@code cutoff}; clients whose sync tokens predate them
+     * will be told to resync from scratch.
+     */
+    public int purgeTombstones(Instant cutoff) {
+        cardTombstoneRepository.raiseSyncFloors(cutoff);
+        return cardTombstoneRepository.deleteDeletedBefore(cutoff);
+    }
+
+    // the first of count consecutive numbers
+    private long take(long learnerId, int count) {
+        learnerRepository.advanceCardChangeSeq(learnerId, count);
+        return learnerRepository.getCardChangeSeq(learnerId) - count + 1;
+    }
+}
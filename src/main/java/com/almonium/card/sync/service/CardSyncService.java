@@ -0,0 +1,110 @@
+package com.almonium.card.sync.service;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.card.core.dto.CardDto;
+import com.almonium.card.core.model.projection.CardProjection;
+import com.almonium.card.core.repository.CardRepository;
+import com.almonium.card.core.service.CardService;
+import com.almonium.card.sync.dto.CardSyncDto;
+import com.almonium.card.sync.dto.CardSyncToken;
+import com.almonium.card.sync.model.entity.CardTombstone;
+import com.almonium.card.sync.model.projection.CardVersionProjection;
+import com.almonium.card.sync.repository.CardTombstoneRepository;
+import com.almonium.user.core.model.entity.Learner;
+import com.almonium.user.core.repository.LearnerRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Delta sync of the card stack for clients keeping a local copy: the cards changed and deleted after
+ * the client's sync token, in the order of the learner's change sequence (see {@link CardChangeLog}).
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class CardSyncService {
+    private static final int MAX_PAGE_SIZE = 500;
+
+    CardRepository cardRepository;
+    CardTombstoneRepository cardTombstoneRepository;
+    LearnerRepository learnerRepository;
+    CardService cardService;
+
+    public CardSyncDto sync(Learner learner, String token, int size) {
+        long learnerId = learner.getId();
+        CardSyncToken from = CardSyncToken.decode(token);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        // read first: every change numbered up to it is committed by now, so a caught up client may resume from it
+        long latest = learnerRepository.getCardChangeSeq(learnerId);
+        // only delta tokens are held to the floor, the pages of a full sync are numbered below it
+        boolean reset = !from.fullSync()
+                && from.version() > 0
+                && from.version() < learnerRepository.getCardSyncFloor(learnerId);
+        boolean fullSync = from.fullSync() || reset;
+        long since = reset ? 0 : from.version();
+
+        // one extra row of each tells whether there is more
+        Limit limit = Limit.of(pageSize + 1);
+        // both lists stop at latest: changes committed between the two queries could otherwise make the page
+        // hold a later deletion but not an earlier change, and the token would skip that change for good
+        List<CardVersionProjection> changed = cardRepository.findChangedSince(learnerId, since, latest, limit);
+        // a client starting from scratch has nothing to delete
+        List<CardTombstone> deleted = since == 0
+                ? List.of()
+                : cardTombstoneRepository.findByLearnerIdAndChangeVersionBetweenOrderByChangeVersion(
+                        learnerId, since + 1, latest, limit);
+
+        // the page holds the lowest numbers of both lists
+        List<Long> changedIds = new ArrayList<>();
+        List<Long> deletedIds = new ArrayList<>();
+        long version = since;
+        int nextChanged = 0;
+        int nextDeleted = 0;
+        while (changedIds.size() + deletedIds.size() < pageSize
+                && (nextChanged < changed.size() || nextDeleted < deleted.size())) {
+            if (nextDeleted == deleted.size()
+                    || (nextChanged < changed.size()
+                            && changed.get(nextChanged).changeVersion()
+                                    < deleted.get(nextDeleted).getChangeVersion())) {
+                CardVersionProjection card = changed.get(nextChanged++);
+                changedIds.add(card.id());
+                version = card.changeVersion();
+            } else {
+                CardTombstone tombstone = deleted.get(nextDeleted++);
+                deletedIds.add(tombstone.getCardId());
+                version = tombstone.getChangeVersion();
+            }
+        }
+        boolean hasMore = nextChanged < changed.size() || nextDeleted < deleted.size();
+        if (!hasMore) {
+            version = Math.max(version, latest);
+        }
+
+        // the last page of a full sync hands out a delta token
+        CardSyncToken next = new CardSyncToken(version, fullSync && hasMore);
+        return new CardSyncDto(loadCards(changedIds), deletedIds, next.encode(), hasMore, reset);
+    }
+
+    private List<CardDto> loadCards(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        // a card deleted in the meantime is skipped here, its tombstone comes with the next sync
+        Map<Long, CardProjection> rows = cardRepository.findProjectionsByIds(ids).stream()
+                .collect(Collectors.toMap(CardProjection::id, Function.identity()));
+        return cardService.toDtos(
+                ids.stream().map(rows::get).filter(Objects::nonNull).toList());
+    }
+}
@@ -0,0 +1,26 @@
+package com.almonium.card.transfer.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class CardTransferExecutorConfig {
+
+    @Value("${app.card-transfer.concurrency}")
+    private int concurrency;
+
+    @Bean
+    public ThreadPoolTaskExecutor cardImportTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("card-import-");
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        // every queued import holds a spooled upload on disk, so the queue is kept short
+        executor.setQueueCapacity(concurrency * 4);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -0,0 +1,69 @@
+package com.almonium.card.transfer.controller;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.analyzer.translator.model.enums.Language;
+import com.almonium.auth.common.annotation.Auth;
+import com.almonium.card.transfer.dto.CardImportJobDto;
+import com.almonium.card.transfer.format.CardFileFormat;
+import com.almonium.card.transfer.service.CardExportService;
+import com.almonium.card.transfer.service.CardImportService;
+import com.almonium.user.core.model.entity.User;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/cards")
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class CardTransferController {
+    CardImportService cardImportService;
+    CardExportService cardExportService;
+
+    // the deck is the raw request body, read as a stream rather than bound to a DTO
+    @PostMapping("/import")
+    public ResponseEntity<CardImportJobDto> importCards(
+            @RequestParam CardFileFormat format,
+            @RequestParam(required = false) Language lang,
+            HttpServletRequest request,
+            @Auth User user)
+            throws IOException {
+        CardImportJobDto job = cardImportService.startImport(user.getLearner(), format, lang, request.getInputStream());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    @GetMapping("/import/{id}")
+    public ResponseEntity<CardImportJobDto> getImport(@PathVariable UUID id, @Auth User user) {
+        return ResponseEntity.ok(cardImportService.getJob(id, user.getLearner()));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportCards(
+            @RequestParam CardFileFormat format, @RequestParam(required = false) Language lang, @Auth User user) {
+        String filename = "cards" + (lang == null ? "" : "-" + lang.name().toLowerCase()) + "." + format.getExtension();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .header(
+                        HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment()
+                                .filename(filename)
+                                .build()
+                                .toString())
+                .body(cardExportService.export(user.getLearner(), lang, format));
+    }
+}
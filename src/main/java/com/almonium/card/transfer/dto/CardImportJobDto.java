@@ -0,0 +1,12 @@
+package com.almonium.card.transfer.dto;
+
+import com.almonium.card.transfer.model.ImportStatus;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Progress of an import: {@code processed} records were read so far, of which {@code imported} were saved
+ * and {@code skipped} were invalid (the first of them are described in {@code errors}).
+ */
+public record CardImportJobDto(
+        UUID id, ImportStatus status, int processed, int imported, int skipped, List<String> errors) {}
@@ -0,0 +1,10 @@
+package com.almonium.card.transfer.exception;
+
+/**
+ * A record of an imported deck that can't be turned into a card. The import skips it and goes on.
+ */
+public class MalformedCardException extends RuntimeException {
+    public MalformedCardException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,63 @@
+package com.almonium.card.transfer.format;
+
+import com.almonium.analyzer.translator.model.enums.Language;
+import com.almonium.card.core.dto.CardCreationDto;
+import com.almonium.card.transfer.exception.MalformedCardException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Anki's plain text notes export: {@code front<TAB>back[<TAB>tags]} per line, where the back may hold several
+ * translations separated by {@code ;} and tags are separated by spaces. Lines starting with {@code #} are headers.
+ * The deck has no language column, every card gets the one of the import.
+ */
+class AnkiCardReader implements CardReader {
+    private static final Pattern TRANSLATION_SEPARATOR = Pattern.compile(";");
+    private static final Pattern TAG_SEPARATOR = Pattern.compile("\\s+");
+
+    private final BufferedReader reader;
+    private final Language language;
+    private int line;
+
+    AnkiCardReader(BufferedReader reader, Language language) {
+        this.reader = reader;
+        this.language = language;
+    }
+
+    @Override
+    public CardCreationDto next() throws IOException {
+        String text;
+        do {
+            text = reader.readLine();
+            line++;
+            if (text == null) {
+                return null;
+            }
+        } while (text.isBlank() || text.startsWith("#"));
+
+        String[] fields = text.split("\t", -1);
+        if (fields.length < 2) {
+            throw new MalformedCardException("Expected front and back separated by a tab");
+        }
+        return CardDecks.card(
+                fields[0],
+                null,
+                language,
+                CardDecks.split(fields[1], TRANSLATION_SEPARATOR),
+                List.of(),
+                fields.length > 2 ? CardDecks.split(fields[2], TAG_SEPARATOR) : List.of(),
+                null);
+    }
+
+    @Override
+    public String position() {
+        return "line " + line;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,44 @@
+package com.almonium.card.transfer.format;
+
+import com.almonium.card.core.dto.CardDto;
+import com.almonium.card.core.dto.TagDto;
+import com.almonium.card.core.dto.TranslationDto;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Writes cards as an Anki plain text notes file, see {@link AnkiCardReader}.
+ */
+class AnkiCardWriter implements CardWriter {
+    private final Writer writer;
+
+    AnkiCardWriter(Writer writer) throws IOException {
+        this.writer = writer;
+        writer.write("#separator:tab\n#html:false\n#tags column:3\n");
+    }
+
+    @Override
+    public void write(CardDto card) throws IOException {
+        String translations = card.getTranslations() == null
+                ? ""
+                : Arrays.stream(card.getTranslations())
+                        .map(TranslationDto::getTranslation)
+                        .collect(Collectors.joining("; "));
+        String tags = card.getTags() == null
+                ? ""
+                : Arrays.stream(card.getTags()).map(TagDto::getText).collect(Collectors.joining(" "));
+        writer.write(clean(card.getEntry()) + '\t' + clean(translations) + '\t' + clean(tags) + '\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+
+    // tabs and line breaks would split the note
+    private static String clean(String value) {
+        return value == null ? "" : value.replaceAll("[\t\r\n]+", " ");
+    }
+}
@@ -0,0 +1,62 @@
+package com.almonium.card.transfer.format;
+
+import com.almonium.analyzer.translator.model.enums.Language;
+import com.almonium.card.core.dto.CardCreationDto;
+import com.almonium.card.core.dto.ExampleDto;
+import com.almonium.card.core.dto.TagDto;
+import com.almonium.card.core.dto.TranslationDto;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Conversions shared by the flat (CSV and Anki) deck formats, where one column holds several values.
+ */
+final class CardDecks {
+    static final String VALUE_SEPARATOR = "|";
+    private static final Pattern VALUE_SPLITTER = Pattern.compile(Pattern.quote(VALUE_SEPARATOR));
+
+    private CardDecks() {}
+
+    static List<String> split(String column, Pattern separator) {
+        if (column == null || column.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(separator.split(column))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .toList();
+    }
+
+    static List<String> split(String column) {
+        return split(column, VALUE_SPLITTER);
+    }
+
+    static CardCreationDto card(
+            String entry,
+            String language,
+            Language defaultLanguage,
+            List<String> translations,
+            List<String> examples,
+            List<String> tags,
+            String notes) {
+        String lang = language == null || language.isBlank()
+                ? (defaultLanguage == null ? null : defaultLanguage.name())
+                : language.trim().toUpperCase(Locale.ROOT);
+        return CardCreationDto.builder()
+                .entry(entry == null ? null : entry.trim())
+                .language(lang)
+                .translations(translations.stream()
+                        .map(translation -> TranslationDto.builder()
+                                .translation(translation)
+                                .build())
+                        .toArray(TranslationDto[]::new))
+                .examples(examples.stream()
+                        .map(example -> ExampleDto.builder().example(example).build())
+                        .toArray(ExampleDto[]::new))
+                .tags(tags.stream().map(TagDto::new).toArray(TagDto[]::new))
+                .notes(notes == null || notes.isBlank() ? null : notes)
+                .build();
+    }
+}
@@ -0,0 +1,52 @@
+package com.almonium.card.transfer.format;
+
+import com.almonium.analyzer.translator.model.enums.Language;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum CardFileFormat {
+    CSV("text/csv", "csv"),
+    JSON("application/json", "json"),
+    ANKI("text/plain", "txt");
+
+    private final String mediaType;
+    private final String extension;
+
+    public CardReader reader(InputStream in, Language language, ObjectMapper objectMapper) throws IOException {
+        return switch (this) {
+            case CSV -> new CsvCardReader(utf8Reader(in), language);
+            case JSON -> new JsonCardReader(in, objectMapper, language);
+            case ANKI -> new AnkiCardReader(utf8Reader(in), language);
+        };
+    }
+
+    /**
+     * The writer doesn't close {@code out}, closing the writer only flushes it.
+     */
+    public CardWriter writer(OutputStream out, ObjectMapper objectMapper) throws IOException {
+        return switch (this) {
+            case CSV -> new CsvCardWriter(utf8Writer(out));
+            case JSON -> new JsonCardWriter(out, objectMapper);
+            case ANKI -> new AnkiCardWriter(utf8Writer(out));
+        };
+    }
+
+    private static BufferedReader utf8Reader(InputStream in) {
+        return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    private static BufferedWriter utf8Writer(OutputStream out) {
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,22 @@
+package com.almonium.card.transfer.format;
+
+import com.almonium.card.core.dto.CardCreationDto;
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Reads the cards of an uploaded deck one at a time, without loading the whole file.
+ */
+public interface CardReader extends Closeable {
+    /**
+     * @return the next card, or null once the deck is exhausted
+     * @throws com.almonium.card.transfer.exception.MalformedCardException if the next record is invalid;
+     *     reading can go on with the following one
+     */
+    CardCreationDto next() throws IOException;
+
+    /**
+     * Position of the last record read, for error messages (a line or an array index).
+     */
+    String position();
+}
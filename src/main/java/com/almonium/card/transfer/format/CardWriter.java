@@ -0,0 +1,9 @@
+package com.almonium.card.transfer.format;
+
+import com.almonium.card.core.dto.CardDto;
+import java.io.Closeable;
+import java.io.IOException;
+
+public interface CardWriter extends Closeable {
+    void write(CardDto card) throws IOException;
+}
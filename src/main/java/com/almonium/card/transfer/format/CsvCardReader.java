@@ -0,0 +1,81 @@
+package com.almonium.card.transfer.format;
+
+import com.almonium.analyzer.translator.model.enums.Language;
+import com.almonium.card.core.dto.CardCreationDto;
+import com.almonium.card.transfer.exception.MalformedCardException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * CSV deck with a header row naming its columns: {@code entry} and {@code translations} are required,
+ * {@code language}, {@code examples}, {@code tags} and {@code notes} are optional. Columns holding several values
+ * separate them with {@code |}.
+ */
+class CsvCardReader implements CardReader {
+    private static final List<String> REQUIRED_COLUMNS = List.of("entry", "translations");
+
+    private final BufferedReader reader;
+    private final Language defaultLanguage;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private int record;
+
+    CsvCardReader(BufferedReader reader, Language defaultLanguage) throws IOException {
+        this.reader = reader;
+        this.defaultLanguage = defaultLanguage;
+        List<String> header = Csv.readRecord(reader);
+        if (header == null) {
+            return;
+        }
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String column : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(column)) {
+                throw new IOException("CSV header lacks the '" + column + "' column");
+            }
+        }
+    }
+
+    @Override
+    public CardCreationDto next() throws IOException {
+        List<String> fields;
+        do {
+            fields = Csv.readRecord(reader);
+            record++;
+            if (fields == null) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0).isBlank());
+
+        if (fields.size() > columns.size()) {
+            throw new MalformedCardException("Expected " + columns.size() + " fields, got " + fields.size());
+        }
+        return CardDecks.card(
+                field(fields, "entry"),
+                field(fields, "language"),
+                defaultLanguage,
+                CardDecks.split(field(fields, "translations")),
+                CardDecks.split(field(fields, "examples")),
+                CardDecks.split(field(fields, "tags")),
+                field(fields, "notes"));
+    }
+
+    @Override
+    public String position() {
+        return "record " + record;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String field(List<String> fields, String column) {
+        Integer index = columns.get(column);
+        return index == null || index >= fields.size() ? null : fields.get(index);
+    }
+}
@@ -0,0 +1,51 @@
+package com.almonium.card.transfer.format;
+
+import com.almonium.card.core.dto.CardDto;
+import com.almonium.card.core.dto.ExampleDto;
+import com.almonium.card.core.dto.TagDto;
+import com.almonium.card.core.dto.TranslationDto;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Writes cards in the format {@link CsvCardReader} reads.
+ */
+class CsvCardWriter implements CardWriter {
+    private static final String HEADER = "entry,language,translations,examples,tags,notes";
+
+    private final Writer writer;
+
+    CsvCardWriter(Writer writer) throws IOException {
+        this.writer = writer;
+        writer.write(HEADER);
+        writer.write('\n');
+    }
+
+    @Override
+    public void write(CardDto card) throws IOException {
+        writer.write(String.join(
+                ",",
+                Csv.escape(card.getEntry()),
+                Csv.escape(card.getLanguage()),
+                Csv.escape(join(card.getTranslations(), TranslationDto::getTranslation)),
+                Csv.escape(join(card.getExamples(), ExampleDto::getExample)),
+                Csv.escape(join(card.getTags(), TagDto::getText)),
+                Csv.escape(card.getNotes())));
+        writer.write('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+
+    private static <T> String join(T[] values, Function<T, String> text) {
+        if (values == null) {
+            return "";
+        }
+        return Arrays.stream(values).map(text).collect(Collectors.joining(CardDecks.VALUE_SEPARATOR));
+    }
+}
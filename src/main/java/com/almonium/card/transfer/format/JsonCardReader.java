@@ -0,0 +1,67 @@
+package com.almonium.card.transfer.format;
+
+import com.almonium.analyzer.translator.model.enums.Language;
+import com.almonium.card.core.dto.CardCreationDto;
+import com.almonium.card.transfer.exception.MalformedCardException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * JSON array of cards in the shape of {@link CardCreationDto}, read element by element.
+ */
+class JsonCardReader implements CardReader {
+    private final JsonParser parser;
+    private final ObjectMapper objectMapper;
+    private final Language defaultLanguage;
+    private int index = -1;
+
+    JsonCardReader(InputStream in, ObjectMapper objectMapper, Language defaultLanguage) throws IOException {
+        this.objectMapper = objectMapper;
+        this.defaultLanguage = defaultLanguage;
+        this.parser = objectMapper.getFactory().createParser(in);
+        JsonToken first = parser.nextToken();
+        if (first != null && first != JsonToken.START_ARRAY) {
+            throw new IOException("Expected a JSON array of cards");
+        }
+    }
+
+    @Override
+    public CardCreationDto next() throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null || token == JsonToken.END_ARRAY) {
+            return null;
+        }
+        index++;
+        // the element is consumed as a whole first, so a bad one doesn't leave the parser inside it
+        JsonNode element = objectMapper.readTree(parser);
+        if (!element.isObject()) {
+            // null would be bound to no card at all, other values fail to bind
+            throw new MalformedCardException("expected a card object, got " + element.getNodeType());
+        }
+        CardCreationDto card;
+        try {
+            card = objectMapper.treeToValue(element, CardCreationDto.class);
+        } catch (JsonProcessingException e) {
+            throw new MalformedCardException(e.getOriginalMessage());
+        }
+        if (card.getLanguage() == null && defaultLanguage != null) {
+            card.setLanguage(defaultLanguage.name());
+        }
+        return card;
+    }
+
+    @Override
+    public String position() {
+        return "element " + index;
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
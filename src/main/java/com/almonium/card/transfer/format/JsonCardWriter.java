@@ -0,0 +1,30 @@
+package com.almonium.card.transfer.format;
+
+import com.almonium.card.core.dto.CardDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes cards as a JSON array, one element at a time. The output can be imported back with {@link JsonCardReader}.
+ */
+class JsonCardWriter implements CardWriter {
+    private final JsonGenerator generator;
+
+    JsonCardWriter(OutputStream out, ObjectMapper objectMapper) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(out);
+        generator.writeStartArray();
+    }
+
+    @Override
+    public void write(CardDto card) throws IOException {
+        generator.writeObject(card);
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.writeEndArray();
+        generator.flush();
+    }
+}
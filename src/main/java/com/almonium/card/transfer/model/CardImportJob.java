@@ -0,0 +1,56 @@
+package com.almonium.card.transfer.model;
+
+import com.almonium.card.transfer.dto.CardImportJobDto;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.Getter;
+
+/**
+ * State of a running or finished import, updated by the import thread and polled by the client.
+ */
+public class CardImportJob {
+    @Getter
+    private final UUID id = UUID.randomUUID();
+
+    @Getter
+    private final long learnerId;
+
+    private final int maxErrors;
+    private final List<String> errors = new ArrayList<>();
+    private ImportStatus status = ImportStatus.RUNNING;
+    private int processed;
+    private int imported;
+    private int skipped;
+
+    public CardImportJob(long learnerId, int maxErrors) {
+        this.learnerId = learnerId;
+        this.maxErrors = maxErrors;
+    }
+
+    public synchronized void imported(int count) {
+        processed += count;
+        imported += count;
+    }
+
+    public synchronized void skipped(String error) {
+        processed++;
+        skipped++;
+        if (errors.size() < maxErrors) {
+            errors.add(error);
+        }
+    }
+
+    public synchronized void complete() {
+        status = ImportStatus.COMPLETED;
+    }
+
+    public synchronized void fail(String error) {
+        status = ImportStatus.FAILED;
+        errors.add(error);
+    }
+
+    public synchronized CardImportJobDto toDto() {
+        return new CardImportJobDto(id, status, processed, imported, skipped, List.copyOf(errors));
+    }
+}
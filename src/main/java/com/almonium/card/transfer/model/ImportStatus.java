@@ -0,0 +1,7 @@
+package com.almonium.card.transfer.model;
+
+public enum ImportStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,114 @@
+package com.almonium.card.transfer.service;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.analyzer.translator.model.enums.Language;
+import com.almonium.card.core.dto.CardCreationDto;
+import com.almonium.card.core.dto.ExampleDto;
+import com.almonium.card.core.dto.TagDto;
+import com.almonium.card.core.dto.TranslationDto;
+import com.almonium.card.core.model.entity.Card;
+import com.almonium.card.core.model.entity.CardTag;
+import com.almonium.card.core.model.entity.Example;
+import com.almonium.card.core.model.entity.Tag;
+import com.almonium.card.core.model.entity.Translation;
+import com.almonium.card.core.service.TagFacetService;
+import com.almonium.card.core.tag.TagResolver;
+import com.almonium.card.enrichment.service.CardEnrichmentOutbox;
+import com.almonium.card.sync.service.CardChangeLog;
+import com.almonium.user.core.model.entity.Learner;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Saves a batch of validated cards in one transaction. Ids come from pooled sequences, so Hibernate sends
+ * the inserts of each table as JDBC batches; tags of the whole batch are resolved at once
+ * and the tag facets are adjusted once per language.
+ */
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class CardBatchWriter {
+    EntityManager entityManager;
+    TagResolver tagResolver;
+    TagFacetService tagFacetService;
+    CardChangeLog cardChangeLog;
+    CardEnrichmentOutbox cardEnrichmentOutbox;
+
+    @Transactional
+    public void write(long learnerId, List<CardCreationDto> cards) {
+        Learner owner = entityManager.getReference(Learner.class, learnerId);
+        Map<String, Tag> tags = tagResolver.resolve(
+                cards.stream().flatMap(card -> tagTexts(card).stream()).collect(Collectors.toSet()));
+        Instant now = Instant.now();
+        Map<Language, Map<Long, Integer>> facetDeltas = new EnumMap<>(Language.class);
+
+        List<Card> built = cards.stream()
+                .map(dto -> Card.builder()
+                        .entry(dto.getEntry())
+                        .language(Language.valueOf(dto.getLanguage()))
+                        .owner(owner)
+                        .createdAt(now)
+                        .updatedAt(now)
+                        .build())
+                .toList();
+        cardChangeLog.recordChanges(owner, built);
+
+        for (int i = 0; i < cards.size(); i++) {
+            CardCreationDto dto = cards.get(i);
+            Card card = built.get(i);
+            entityManager.persist(card);
+            cardEnrichmentOutbox.publish(card);
+
+            for (TranslationDto translation : listOf(dto.getTranslations())) {
+                entityManager.persist(Translation.builder()
+                        .card(card)
+                        .translation(translation.getTranslation())
+                        .build());
+            }
+            for (ExampleDto example : listOf(dto.getExamples())) {
+                entityManager.persist(Example.builder()
+                        .card(card)
+                        .example(example.getExample())
+                        .translation(example.getTranslation())
+                        .build());
+            }
+            for (String text : tagTexts(dto)) {
+                Tag tag = tags.get(text);
+                entityManager.persist(
+                        CardTag.builder().card(card).tag(tag).learner(owner).build());
+                facetDeltas
+                        .computeIfAbsent(card.getLanguage(), language -> new HashMap<>())
+                        .merge(tag.getId(), 1, Integer::sum);
+            }
+        }
+        facetDeltas.forEach((language, deltas) -> tagFacetService.adjust(owner, language, deltas));
+        // the batch is done with, keep the persistence context from growing over the whole import
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private static Set<String> tagTexts(CardCreationDto card) {
+        return listOf(card.getTags()).stream()
+                .map(TagDto::getText)
+                .filter(text -> text != null && !text.isBlank())
+                .map(Tag::normalizeText)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private static <T> List<T> listOf(T[] values) {
+        return values == null ? List.of() : Arrays.asList(values);
+    }
+}
@@ -0,0 +1,45 @@
+package com.almonium.card.transfer.service;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.analyzer.translator.model.enums.Language;
+import com.almonium.card.core.dto.CardDto;
+import com.almonium.card.core.dto.CardPageDto;
+import com.almonium.card.core.service.CardService;
+import com.almonium.card.transfer.format.CardFileFormat;
+import com.almonium.card.transfer.format.CardWriter;
+import com.almonium.user.core.model.entity.Learner;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class CardExportService {
+    private static final int PAGE_SIZE = 200;
+
+    CardService cardService;
+    ObjectMapper objectMapper;
+
+    /**
+     * Writes the learner's cards page by page while the response is sent, following the card stack cursor,
+     * so an export costs one page of memory however big the deck is.
+     */
+    public StreamingResponseBody export(Learner learner, Language language, CardFileFormat format) {
+        return out -> {
+            try (CardWriter writer = format.writer(out, objectMapper)) {
+                String cursor = null;
+                do {
+                    CardPageDto page = cardService.getCardStackPage(learner, language, cursor, PAGE_SIZE);
+                    for (CardDto card : page.cards()) {
+                        writer.write(card);
+                    }
+                    cursor = page.nextCursor();
+                } while (cursor != null);
+            }
+        };
+    }
+}
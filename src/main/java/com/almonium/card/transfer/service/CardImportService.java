@@ -0,0 +1,200 @@
+package com.almonium.card.transfer.service;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.almonium.analyzer.translator.model.enums.Language;
+import com.almonium.card.core.dto.CardCreationDto;
+import com.almonium.card.transfer.dto.CardImportJobDto;
+import com.almonium.card.transfer.exception.MalformedCardException;
+import com.almonium.card.transfer.format.CardFileFormat;
+import com.almonium.card.transfer.format.CardReader;
+import com.almonium.card.transfer.model.CardImportJob;
+import com.almonium.user.core.exception.BadUserRequestActionException;
+import com.almonium.user.core.exception.ResourceNotAccessibleException;
+import com.almonium.user.core.model.entity.Learner;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.io.ByteStreams;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Imports a deck file in the background. The upload is spooled to disk while the request is open, then read
+ * record by record and saved in batches, so neither the file nor the whole deck is ever held in memory.
+ * Bad records are skipped and reported in the job, which the client polls for progress.
+ */
+@Slf4j
+@Service
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+public class CardImportService {
+    // since the job's latest progress, so a long import stays visible while it runs
+    private static final Duration JOB_RETENTION = Duration.ofHours(1);
+
+    CardBatchWriter cardBatchWriter;
+    Validator validator;
+    ObjectMapper objectMapper;
+    ThreadPoolTaskExecutor cardImportTaskExecutor;
+    Cache<UUID, CardImportJob> jobs;
+    int batchSize;
+    long maxUploadSize;
+    int maxReportedErrors;
+
+    public CardImportService(
+            CardBatchWriter cardBatchWriter,
+            Validator validator,
+            ObjectMapper objectMapper,
+            ThreadPoolTaskExecutor cardImportTaskExecutor,
+            @Value("${app.card-transfer.batch-size}") int batchSize,
+            @Value("${app.card-transfer.max-upload-size}") long maxUploadSize,
+            @Value("${app.card-transfer.max-reported-errors}") int maxReportedErrors) {
+        this.cardBatchWriter = cardBatchWriter;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.cardImportTaskExecutor = cardImportTaskExecutor;
+        this.batchSize = batchSize;
+        this.maxUploadSize = maxUploadSize;
+        this.maxReportedErrors = maxReportedErrors;
+        this.jobs = CacheBuilder.newBuilder().expireAfterWrite(JOB_RETENTION).build();
+    }
+
+    public CardImportJobDto startImport(Learner learner, CardFileFormat format, Language language, InputStream body) {
+        Path spool = spool(body);
+        CardImportJob job = new CardImportJob(learner.getId(), maxReportedErrors);
+        try {
+            cardImportTaskExecutor.execute(() -> runImport(job, spool, format, language));
+        } catch (RejectedExecutionException e) {
+            deleteSpool(spool);
+            throw new BadUserRequestActionException("Too many imports in progress, try again later");
+        }
+        retain(job);
+        return job.toDto();
+    }
+
+    public CardImportJobDto getJob(UUID id, Learner learner) {
+        CardImportJob job = jobs.getIfPresent(id);
+        if (job == null || job.getLearnerId() != learner.getId()) {
+            throw new ResourceNotAccessibleException("Import not found with id: " + id);
+        }
+        return job.toDto();
+    }
+
+    void runImport(CardImportJob job, Path spool, CardFileFormat format, Language language) {
+        try (InputStream in = Files.newInputStream(spool);
+                CardReader reader = format.reader(in, language, objectMapper)) {
+            List<CardCreationDto> batch = new ArrayList<>(batchSize);
+            CardCreationDto card;
+            while ((card = readNext(reader, job)) != null) {
+                String error = validate(card);
+                if (error != null) {
+                    job.skipped(reader.position() + ": " + error);
+                    continue;
+                }
+                batch.add(card);
+                if (batch.size() == batchSize) {
+                    flush(job, batch);
+                }
+            }
+            flush(job, batch);
+            job.complete();
+        } catch (Exception e) {
+            log.warn("Card import {} failed", job.getId(), e);
+            job.fail("Import stopped: " + e.getMessage());
+        } finally {
+            retain(job);
+            deleteSpool(spool);
+        }
+    }
+
+    private CardCreationDto readNext(CardReader reader, CardImportJob job) throws IOException {
+        while (true) {
+            try {
+                return reader.next();
+            } catch (MalformedCardException e) {
+                job.skipped(reader.position() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private String validate(CardCreationDto card) {
+        Set<ConstraintViolation<CardCreationDto>> violations = validator.validate(card);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+        try {
+            Language.valueOf(card.getLanguage());
+            return null;
+        } catch (IllegalArgumentException e) {
+            return "unknown language " + card.getLanguage();
+        }
+    }
+
+    private void flush(CardImportJob job, List<CardCreationDto> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        cardBatchWriter.write(job.getLearnerId(), batch);
+        job.imported(batch.size());
+        batch.clear();
+        retain(job);
+    }
+
+    // written again, the job's retention starts over
+    private void retain(CardImportJob job) {
+        jobs.put(job.getId(), job);
+    }
+
+    private Path spool(InputStream body) {
+        Path spool = null;
+        try {
+            spool = Files.createTempFile("card-import-", ".upload");
+            long size;
+            try (OutputStream out = Files.newOutputStream(spool)) {
+                // one byte over the limit is enough to tell the upload is too big
+                size = ByteStreams.copy(ByteStreams.limit(body, maxUploadSize + 1), out);
+            }
+            if (size > maxUploadSize) {
+                throw new BadUserRequestActionException("The file exceeds " + maxUploadSize + " bytes");
+            }
+            return spool;
+        } catch (IOException e) {
+            deleteSpool(spool);
+            throw new UncheckedIOException("Could not receive the uploaded deck", e);
+        } catch (RuntimeException e) {
+            deleteSpool(spool);
+            throw e;
+        }
+    }
+
+    private void deleteSpool(Path spool) {
+        if (spool == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(spool);
+        } catch (IOException e) {
+            log.warn("Could not delete spooled upload {}", spool, e);
+        }
+    }
+}
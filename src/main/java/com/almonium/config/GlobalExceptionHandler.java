@@ -1,6 +1,8 @@
 package com.almonium.config;
 
+import com.almonium.analyzer.client.exception.ProviderUnavailableException;
 import com.almonium.auth.common.exception.AuthMethodNotFoundException;
+import com.almonium.auth.common.exception.AuthThrottledException;
 import com.almonium.auth.common.exception.BadAuthActionRequest;
 import com.almonium.auth.common.exception.LastAuthMethodException;
 import com.almonium.auth.common.exception.RecentLoginRequiredException;
@@ -46,6 +48,11 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
     }
 
+    @ExceptionHandler(AuthThrottledException.class)
+    public ResponseEntity<ApiResponse> handleAuthThrottledException(AuthThrottledException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(new ApiResponse(false, ex.getMessage()));
+    }
+
     @ExceptionHandler({InternalAuthenticationServiceException.class})
     public ResponseEntity<ApiResponse> handleInternalAuthenticationServiceException(
             InternalAuthenticationServiceException ex) {
@@ -131,6 +138,11 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(new ApiResponse(false, ex.getMessage()));
     }
 
+    @ExceptionHandler(ProviderUnavailableException.class)
+    public ResponseEntity<ApiResponse> handleProviderUnavailableException(ProviderUnavailableException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(new ApiResponse(false, ex.getMessage()));
+    }
+
     @ExceptionHandler(FirebaseIntegrationException.class)
     public ResponseEntity<ApiResponse> handleFirebaseIntegrationException(FirebaseIntegrationException ex) {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(new ApiResponse(false, ex.getMessage()));
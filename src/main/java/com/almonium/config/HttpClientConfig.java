@@ -0,0 +1,81 @@
+package com.almonium.config;
+
+import com.almonium.analyzer.client.resilience.ProviderGuard;
+import io.netty.channel.ChannelOption;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ReactorClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.client.RestTemplate;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Single outbound HTTP engine shared by every third-party integration.
+ *
+ * <p>Both the blocking {@link RestTemplate} used by the analyzer clients and the {@code WebClient.Builder}
+ * used by the declarative HTTP interface clients are backed by the same Reactor Netty {@link HttpClient},
+ * so connections to a provider are pooled (one pool per remote host), kept alive and reused across calls.
+ * HTTP/2 is negotiated via ALPN for TLS endpoints that support it, falling back to HTTP/1.1.
+ * Pool gauges are published to Micrometer under {@code reactor.netty.connection.provider.*}.</p>
+ */
+@Configuration
+public class HttpClientConfig {
+    private static final String POOL_NAME = "outbound";
+
+    @Value("${external.http-client.connect-timeout}")
+    private int connectTimeoutMs;
+
+    @Value("${external.http-client.read-timeout}")
+    private long readTimeoutMs;
+
+    @Value("${external.http-client.max-connections-per-host}")
+    private int maxConnectionsPerHost;
+
+    @Value("${external.http-client.pending-acquire-timeout}")
+    private long pendingAcquireTimeoutMs;
+
+    @Value("${external.http-client.max-idle-time}")
+    private long maxIdleTimeMs;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider outboundConnectionProvider() {
+        return ConnectionProvider.builder(POOL_NAME)
+                .maxConnections(maxConnectionsPerHost)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofMillis(maxIdleTimeMs))
+                .evictInBackground(Duration.ofMillis(maxIdleTimeMs))
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public HttpClient outboundHttpClient(ConnectionProvider outboundConnectionProvider) {
+        return HttpClient.create(outboundConnectionProvider)
+                .protocol(HttpProtocol.H2, HttpProtocol.HTTP11)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(Duration.ofMillis(readTimeoutMs))
+                .compress(true);
+    }
+
+    @Bean
+    public RestTemplate restTemplate(
+            RestTemplateBuilder builder, HttpClient outboundHttpClient, ProviderGuard providerGuard) {
+        return builder.requestFactory(() -> new ReactorClientHttpRequestFactory(outboundHttpClient))
+                .additionalInterceptors(providerGuard)
+                .build();
+    }
+
+    /**
+     * Picked up by Spring Boot's {@code WebClient.Builder} auto-configuration.
+     */
+    @Bean
+    public ReactorClientHttpConnector outboundHttpConnector(HttpClient outboundHttpClient) {
+        return new ReactorClientHttpConnector(outboundHttpClient);
+    }
+}
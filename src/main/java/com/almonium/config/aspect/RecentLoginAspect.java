@@ -1,19 +1,17 @@
 package com.almonium.config.aspect;
 
 import com.almonium.auth.common.exception.RecentLoginRequiredException;
-import com.almonium.auth.common.util.CookieUtil;
 import com.almonium.auth.token.service.AuthTokenService;
-import jakarta.servlet.http.Cookie;
-import jakarta.servlet.http.HttpServletRequest;
-import java.util.Objects;
+import io.jsonwebtoken.Claims;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
 
 @Aspect
 @Component
@@ -30,17 +28,16 @@ public class RecentLoginAspect {
             || within(@com.almonium.auth.common.annotation.RequireRecentLogin *)
             """)
     public Object validateRecentLogin(ProceedingJoinPoint joinPoint) throws Throwable {
-        HttpServletRequest request = ((ServletRequestAttributes)
-                        Objects.requireNonNull(RequestContextHolder.getRequestAttributes()))
-                .getRequest();
+        // the claims of the access token the request was authenticated with, see TokenAuthenticationFilter
+        boolean liveLogin = Optional.ofNullable(
+                        SecurityContextHolder.getContext().getAuthentication())
+                .map(Authentication::getDetails)
+                .filter(Claims.class::isInstance)
+                .map(Claims.class::cast)
+                .filter(claims -> !authTokenService.isAccessTokenRefreshed(claims))
+                .isPresent();
 
-        String accessToken = CookieUtil.getCookie(request, CookieUtil.ACCESS_TOKEN_COOKIE_NAME)
-                .map(Cookie::getValue)
-                .orElse(null);
-
-        if (accessToken == null
-                || !authTokenService.validateToken(accessToken)
-                || authTokenService.isAccessTokenRefreshed(accessToken)) {
+        if (!liveLogin) {
             throw new RecentLoginRequiredException(String.format(
                     "User must have logged in manually within the last %d minutes.", recentLoginDuration / 60));
         }
@@ -1,11 +1,48 @@
 package com.almonium.config.security;
 
+import com.almonium.auth.common.exception.AuthThrottledException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Component;
 
 /**
  * Custom PasswordEncoder class extending BCryptPasswordEncoder.
  * This class is kept in a separate file to avoid circular dependency problems.
+ *
+ * <p>Hashes are computed on a small dedicated pool, so a burst of sign-ins can only take that many cores
+ * and request threads serving the rest of the API aren't starved. When the pool and its queue are full,
+ * the caller is turned away right away.</p>
  */
 @Component
-public class PasswordEncoder extends BCryptPasswordEncoder {}
+public class PasswordEncoder extends BCryptPasswordEncoder {
+    private final ThreadPoolTaskExecutor passwordHashingTaskExecutor;
+
+    public PasswordEncoder(ThreadPoolTaskExecutor passwordHashingTaskExecutor) {
+        this.passwordHashingTaskExecutor = passwordHashingTaskExecutor;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return offload(() -> super.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return offload(() -> super.matches(rawPassword, encodedPassword));
+    }
+
+    private <T> T offload(Supplier<T> hashing) {
+        try {
+            return CompletableFuture.supplyAsync(hashing, passwordHashingTaskExecutor)
+                    .join();
+        } catch (RejectedExecutionException e) {
+            throw new AuthThrottledException("Too many sign-in attempts in progress, try again later.");
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+}
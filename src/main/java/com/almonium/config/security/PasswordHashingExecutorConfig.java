@@ -0,0 +1,27 @@
+package com.almonium.config.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class PasswordHashingExecutorConfig {
+
+    @Value("${app.auth.password-hashing.concurrency}")
+    private int concurrency;
+
+    @Value("${app.auth.password-hashing.queue-capacity}")
+    private int queueCapacity;
+
+    @Bean
+    public ThreadPoolTaskExecutor passwordHashingTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("password-hashing-");
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        // callers wait for their hash, a long queue would only turn a burst into timeouts
+        executor.setQueueCapacity(queueCapacity);
+        return executor;
+    }
+}
@@ -2,6 +2,7 @@ package com.almonium.subscription.service;
 
 import static lombok.AccessLevel.PRIVATE;
 
+import com.almonium.auth.common.service.PrincipalCache;
 import com.almonium.infra.email.dto.EmailDto;
 import com.almonium.infra.email.model.dto.EmailContext;
 import com.almonium.infra.email.service.EmailService;
@@ -41,15 +42,16 @@ public class PlanSubscriptionService {
     UserRepository userRepository;
     PlanService planService;
     InsiderRepository insiderRepository;
+    PrincipalCache principalCache;
 
     public String initiatePlanSubscribing(User user, long planId) {
         Plan plan = getAndValidatePlanEligibility(user, planId);
-        setCustomerIdIfNeeded(user);
+        User customer = setCustomerIdIfNeeded(user);
         plan = isInsider(user)
                 ? planService.getInsiderPlan()
                 : plan; // backdoor for insiders, they can't subscribe to regular plans
 
-        return stripeApiService.createPaymentSession(user, plan);
+        return stripeApiService.createPaymentSession(customer, plan);
     }
 
     public String initiateCustomerPortalAccess(User user) {
@@ -228,17 +230,22 @@ public class PlanSubscriptionService {
         return targetPlan;
     }
 
-    private void setCustomerIdIfNeeded(User user) {
-        Optional.ofNullable(user.getStripeCustomerId())
-                .ifPresentOrElse(
-                        customerId -> log.info("User {} has Stripe customer ID {}", user.getId(), customerId),
-                        // if user has no Stripe customer ID, create one
-                        () -> {
-                            String customerId = stripeApiService.createCustomerIdForUser(user);
-                            user.setStripeCustomerId(customerId);
-                            userRepository.save(user);
-                            log.info("Updated user {} with Stripe customer ID {}", user.getId(), customerId);
-                        });
+    // the authenticated user is a cached instance shared between requests, the customer id is set on a fresh one
+    private User setCustomerIdIfNeeded(User user) {
+        if (user.getStripeCustomerId() != null) {
+            log.info("User {} has Stripe customer ID {}", user.getId(), user.getStripeCustomerId());
+            return user;
+        }
+        User customer = userRepository.findById(user.getId()).orElseThrow();
+        if (customer.getStripeCustomerId() == null) {
+            // if user has no Stripe customer ID, create one
+            String customerId = stripeApiService.createCustomerIdForUser(customer);
+            customer.setStripeCustomerId(customerId);
+            userRepository.save(customer);
+            principalCache.evictUser(customer.getId());
+            log.info("Updated user {} with Stripe customer ID {}", customer.getId(), customerId);
+        }
+        return customer;
     }
 
     private void replaceCurrentPlanSubWithNewPremium(
@@ -53,7 +53,8 @@ public class UserController {
 
     @PutMapping("/me/langs")
     public ResponseEntity<Void> setupLanguages(@RequestBody LanguageSetupRequest request, @Auth User user) {
-        learnerService.setupLanguages(request.fluentLangs(), request.targetLangs(), user.getLearner());
+        learnerService.setupLanguages(
+                request.fluentLangs(), request.targetLangs(), user.getLearner().getId());
         return ResponseEntity.noContent().build();
     }
 
@@ -72,7 +73,8 @@ public class UserController {
     @PutMapping("/me/langs/fluent")
     public ResponseEntity<Void> updateFluentLanguages(
             @Valid @RequestBody LanguageUpdateRequest request, @Auth User user) {
-        learnerService.updateFluentLanguages(request.langCodes(), user.getLearner());
+        learnerService.updateFluentLanguages(
+                request.langCodes(), user.getLearner().getId());
         return ResponseEntity.noContent().build();
     }
 }
@@ -25,6 +25,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.FieldDefaults;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Getter
@@ -64,6 +65,16 @@ public class Learner {
     @Column(name = "lang")
     Set<Language> fluentLangs;
 
+    // last number taken from the card change sequence, only changed by queries, see CardChangeLog
+    @ColumnDefault("0")
+    @Column(insertable = false, updatable = false)
+    long cardChangeSeq;
+
+    // sync tokens below it may have missed purged deletions
+    @ColumnDefault("0")
+    @Column(insertable = false, updatable = false)
+    long cardSyncFloor;
+
     public void addCard(Card card) {
         if (card != null) {
             this.cards.add(card);
@@ -3,10 +3,23 @@ package com.almonium.user.core.repository;
 import com.almonium.user.core.model.entity.Learner;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface LearnerRepository extends JpaRepository<Learner, Long> {
 
     @Query("SELECT l FROM Learner l LEFT JOIN FETCH l.targetLangs WHERE l.id = :id")
     Optional<Learner> findLearnerWithTargetLangs(long id);
+
+    // locks the learner row until commit
+    @Modifying
+    @Query(nativeQuery = true, value = "update learner set card_change_seq = card_change_seq + :count where id = :id")
+    int advanceCardChangeSeq(@Param("id") long id, @Param("count") int count);
+
+    @Query("select l.cardChangeSeq from Learner l where l.id = :id")
+    long getCardChangeSeq(@Param("id") long id);
+
+    @Query("select l.cardSyncFloor from Learner l where l.id = :id")
+    long getCardSyncFloor(@Param("id") long id);
 }
@@ -14,6 +14,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @EntityGraph(value = "graph.User.details", type = EntityGraph.EntityGraphType.LOAD)
     Optional<User> findByEmail(String email);
 
+    // everything a password sign-in reads, principals included, in one query;
+    // the active subscription is queried on its own, see PlanSubscriptionService.getActiveSub
+    @EntityGraph(attributePaths = {"principals", "profile", "learner", "learner.targetLangs", "learner.fluentLangs"})
+    Optional<User> findForLoginByEmail(String email);
+
     boolean existsByEmail(String email);
 
     boolean existsByUsername(String username);
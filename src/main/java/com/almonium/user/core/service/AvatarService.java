@@ -2,6 +2,7 @@ package com.almonium.user.core.service;
 
 import static lombok.AccessLevel.PRIVATE;
 
+import com.almonium.auth.common.service.PrincipalCache;
 import com.almonium.infra.storage.service.FirebaseStorageService;
 import com.almonium.user.core.dto.AvatarDto;
 import com.almonium.user.core.exception.BadUserRequestActionException;
@@ -38,6 +39,7 @@ public class AvatarService {
     AvatarMapper avatarMapper;
     ProfileService profileService;
     ProfileRepository profileRepository;
+    PrincipalCache principalCache;
 
     @Transactional
     public void addAndSetNewCustomAvatar(Long id, String url) {
@@ -93,6 +95,7 @@ public class AvatarService {
     private void updateProfileAvatarUrl(String url, Profile profile) {
         profile.setAvatarUrl(url);
         profileRepository.save(profile);
+        principalCache.evictUser(profile.getId());
     }
 
     private Avatar getMyAvatar(Long id, Long avatarId) {
@@ -120,6 +123,7 @@ public class AvatarService {
     private void resetCurrentAvatar(Long id, Profile profile) {
         profile.setAvatarUrl(null);
         profileRepository.save(profile);
+        principalCache.evictUser(profile.getId());
         log.info("Deleted current avatar for profile with id: {}", id);
     }
 }
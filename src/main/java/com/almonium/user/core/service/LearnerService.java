@@ -3,6 +3,7 @@ package com.almonium.user.core.service;
 import static lombok.AccessLevel.PRIVATE;
 
 import com.almonium.analyzer.translator.model.enums.Language;
+import com.almonium.auth.common.service.PrincipalCache;
 import com.almonium.card.core.service.CardService;
 import com.almonium.subscription.model.entity.enums.PlanFeature;
 import com.almonium.subscription.service.PlanValidationService;
@@ -26,11 +27,15 @@ public class LearnerService {
     LearnerRepository learnerRepository;
     PlanValidationService planValidationService;
     CardService cardService;
+    PrincipalCache principalCache;
 
-    public void setupLanguages(Set<Language> nativeLangs, Set<Language> targetLangs, Learner user) {
-        user.setFluentLangs(new HashSet<>(nativeLangs));
-        user.setTargetLangs(new HashSet<>(targetLangs));
-        learnerRepository.save(user);
+    // the authenticated learner is a cached detached instance shared between requests, writes reload it by id
+    public void setupLanguages(Set<Language> nativeLangs, Set<Language> targetLangs, long learnerId) {
+        Learner learner = learnerRepository.findById(learnerId).orElseThrow();
+        learner.setFluentLangs(new HashSet<>(nativeLangs));
+        learner.setTargetLangs(new HashSet<>(targetLangs));
+        learnerRepository.save(learner);
+        principalCache.evictUser(learnerId);
     }
 
     public void addTargetLanguage(Language code, long learnerId) {
@@ -40,6 +45,7 @@ public class LearnerService {
                 learner.getUser(), PlanFeature.MAX_TARGET_LANGS, currentTargetLangs + 1);
         learner.getTargetLangs().add(code);
         learnerRepository.save(learner);
+        principalCache.evictUser(learnerId);
     }
 
     public void removeTargetLanguage(Language code, long learnerId) {
@@ -59,11 +65,14 @@ public class LearnerService {
         // TODO later more logic will be here. Delete everything related to this language.
         cardService.deleteByLanguage(code, learner);
         learnerRepository.save(learner);
+        principalCache.evictUser(learnerId);
     }
 
-    public void updateFluentLanguages(Set<Language> langs, Learner learner) {
+    public void updateFluentLanguages(Set<Language> langs, long learnerId) {
+        Learner learner = learnerRepository.findById(learnerId).orElseThrow();
         learner.setFluentLangs(new HashSet<>(langs));
         learnerRepository.save(learner);
+        principalCache.evictUser(learnerId);
     }
 
     private Learner getLearnerWithTargetLangs(long id) {
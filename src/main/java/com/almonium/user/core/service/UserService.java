@@ -3,6 +3,7 @@ package com.almonium.user.core.service;
 import static lombok.AccessLevel.PRIVATE;
 
 import com.almonium.auth.common.model.entity.Principal;
+import com.almonium.auth.common.service.PrincipalCache;
 import com.almonium.auth.local.model.entity.LocalPrincipal;
 import com.almonium.subscription.mapper.PlanSubscriptionMapper;
 import com.almonium.subscription.model.entity.PlanSubscription;
@@ -35,15 +36,20 @@ public class UserService implements UserDetailsService {
     UserRepository userRepository;
     PlanSubscriptionService planSubscriptionService;
     PlanService planService;
+    PrincipalCache principalCache;
     UserMapper userMapper;
     PlanSubscriptionMapper planSubscriptionMapper;
 
     public UserInfo buildUserInfoFromUser(User user) {
-        User fetchedUser = getByEmail(user.getEmail());
+        return buildUserInfo(getByEmail(user.getEmail()));
+    }
+
+    // for a user already loaded with its details, see UserRepository.findForLoginByEmail
+    public UserInfo buildUserInfo(User user) {
         PlanSubscription activePlanSubscription = planSubscriptionService.getActiveSub(user);
         Map<PlanFeature, Integer> limits =
                 planService.getPlanLimits(activePlanSubscription.getPlan().getId());
-        var userInfo = userMapper.userToUserInfo(fetchedUser);
+        var userInfo = userMapper.userToUserInfo(user);
         SubscriptionInfoDto subscriptionInfoDto =
                 planSubscriptionMapper.planSubscriptionToPlanDto(activePlanSubscription);
         userInfo.setSubscription(subscriptionInfoDto);
@@ -81,6 +87,7 @@ public class UserService implements UserDetailsService {
         }
         user.setUsername(username);
         userRepository.save(user);
+        principalCache.evictUser(id);
     }
 
     public boolean isUsernameAvailable(String username) {
@@ -88,7 +95,8 @@ public class UserService implements UserDetailsService {
     }
 
     public UserDetails loadUserByUsername(String email) {
-        return findByEmail(email)
+        return userRepository
+                .findForLoginByEmail(email)
                 .map(user -> {
                     if (user.getPrincipals().isEmpty()) {
                         throw new NoPrincipalFoundException("User exists without any principals: " + email);
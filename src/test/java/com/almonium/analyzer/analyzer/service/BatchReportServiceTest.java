@@ -0,0 +1,105 @@
+package com.almonium.analyzer.analyzer.service;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.almonium.analyzer.analyzer.dto.AnalysisDto;
+import com.almonium.analyzer.analyzer.dto.BatchReportItemDto;
+import com.almonium.analyzer.analyzer.model.NlpToken;
+import com.almonium.analyzer.analyzer.model.enums.POS;
+import com.almonium.analyzer.translator.model.enums.Language;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@FieldDefaults(level = PRIVATE)
+class BatchReportServiceTest {
+    LanguageProcessor languageProcessor;
+    CoreNLPServiceImpl coreNLPServiceImpl;
+    ThreadPoolTaskExecutor executor;
+    BatchReportService batchReportService;
+
+    @BeforeEach
+    void setUp() {
+        languageProcessor = mock(LanguageProcessor.class);
+        coreNLPServiceImpl = mock(CoreNLPServiceImpl.class);
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.initialize();
+        batchReportService = new BatchReportService(languageProcessor, coreNLPServiceImpl, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @DisplayName("Should build one report per lemma and list every entry that reduces to it")
+    @Test
+    void givenEntriesSharingLemma_whenStreamReports_thenReportedOnce() {
+        // Arrange
+        when(coreNLPServiceImpl.annotate("cats")).thenReturn(List.of(new NlpToken("cats", POS.NOUN_PLURAL, "cat")));
+        when(coreNLPServiceImpl.annotate("cat")).thenReturn(List.of(new NlpToken("cat", POS.NOUN, "cat")));
+        when(coreNLPServiceImpl.annotate("dog")).thenReturn(List.of(new NlpToken("dog", POS.NOUN, "dog")));
+        when(languageProcessor.getReport("cat", Language.EN, Language.UK)).thenReturn(new AnalysisDto());
+        when(languageProcessor.getReport("dog", Language.EN, Language.UK)).thenThrow(new IllegalStateException());
+        List<BatchReportItemDto> items = new CopyOnWriteArrayList<>();
+
+        // Act
+        batchReportService
+                .streamReports(List.of("cats", "cat", "dog"), Language.EN, Language.UK, items::add)
+                .join();
+
+        // Assert
+        assertThat(items).hasSize(2);
+        assertThat(items)
+                .filteredOn(item -> item.lemma().equals("cat"))
+                .singleElement()
+                .satisfies(item -> {
+                    assertThat(item.entries()).containsExactly("cats", "cat");
+                    assertThat(item.report()).isNotNull();
+                });
+        assertThat(items)
+                .filteredOn(item -> item.lemma().equals("dog"))
+                .singleElement()
+                .satisfies(item -> assertThat(item.error()).isNotNull());
+        verify(languageProcessor, times(1)).getReport("cat", Language.EN, Language.UK);
+    }
+
+    @DisplayName("Should start a lemma's report without waiting for the other entries to be lemmatized")
+    @Test
+    void givenSlowLemmatization_whenStreamReports_thenOtherReportsStartMeanwhile() {
+        // Arrange
+        CountDownLatch reportStarted = new CountDownLatch(1);
+        when(coreNLPServiceImpl.annotate("cat")).thenReturn(List.of(new NlpToken("cat", POS.NOUN, "cat")));
+        when(coreNLPServiceImpl.annotate("slow")).thenAnswer(invocation -> {
+            boolean started = reportStarted.await(5, TimeUnit.SECONDS);
+            return List.of(new NlpToken("slow", POS.ADJECTIVE, started ? "slow" : "late"));
+        });
+        when(languageProcessor.getReport("cat", Language.EN, Language.UK)).thenAnswer(invocation -> {
+            reportStarted.countDown();
+            return new AnalysisDto();
+        });
+        when(languageProcessor.getReport("slow", Language.EN, Language.UK)).thenReturn(new AnalysisDto());
+        List<BatchReportItemDto> items = new CopyOnWriteArrayList<>();
+
+        // Act
+        batchReportService
+                .streamReports(List.of("slow", "cat"), Language.EN, Language.UK, items::add)
+                .join();
+
+        // Assert
+        assertThat(items).extracting(BatchReportItemDto::lemma).containsExactlyInAnyOrder("slow", "cat");
+    }
+}
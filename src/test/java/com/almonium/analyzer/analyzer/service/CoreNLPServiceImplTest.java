@@ -0,0 +1,133 @@
+package com.almonium.analyzer.analyzer.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import com.almonium.analyzer.analyzer.model.NlpToken;
+import com.almonium.analyzer.analyzer.model.enums.POS;
+import edu.stanford.nlp.ling.CoreAnnotations;
+import edu.stanford.nlp.ling.CoreLabel;
+import edu.stanford.nlp.pipeline.Annotation;
+import edu.stanford.nlp.pipeline.StanfordCoreNLP;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CoreNLPServiceImplTest {
+    StanfordCoreNLP nlp;
+    AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        nlp = mock(StanfordCoreNLP.class);
+        loads = new AtomicInteger();
+        // every word is tagged as a noun, except punctuation, which is tagged as itself like CoreNLP does
+        doAnswer(invocation -> {
+                    Annotation document = invocation.getArgument(0);
+                    List<CoreLabel> tokens = new ArrayList<>();
+                    for (String word : document.toString().split(" ")) {
+                        CoreLabel token = new CoreLabel();
+                        token.setWord(word);
+                        token.setTag(word.matches("\\p{Punct}") ? word : "NN");
+                        token.setLemma(word);
+                        tokens.add(token);
+                    }
+                    document.set(CoreAnnotations.TokensAnnotation.class, tokens);
+                    return null;
+                })
+                .when(nlp)
+                .annotate(any(Annotation.class));
+    }
+
+    private CoreNLPServiceImpl service(CoreNLPServiceImpl.WarmUp warmUp, int maxSessions) {
+        return new CoreNLPServiceImpl(new SimpleMeterRegistry(), warmUp, maxSessions, () -> {
+            loads.incrementAndGet();
+            return nlp;
+        });
+    }
+
+    @DisplayName("Should not load the models before the first call when warmed up lazily")
+    @Test
+    void givenLazyWarmUp_whenInitialized_thenModelsLoadedOnFirstCallOnly() {
+        // Arrange
+        CoreNLPServiceImpl service = service(CoreNLPServiceImpl.WarmUp.LAZY, 1);
+
+        // Act
+        service.init();
+
+        // Assert
+        assertThat(loads).hasValue(0);
+        service.annotate("cat");
+        service.annotate("dog");
+        assertThat(loads).hasValue(1);
+    }
+
+    @DisplayName("Should load the models at startup when warmed up eagerly")
+    @Test
+    void givenEagerWarmUp_whenInitialized_thenModelsLoaded() {
+        // Arrange
+        CoreNLPServiceImpl service = service(CoreNLPServiceImpl.WarmUp.EAGER, 1);
+
+        // Act
+        service.init();
+
+        // Assert
+        assertThat(loads).hasValue(1);
+    }
+
+    @DisplayName("Should make callers beyond the session limit wait for the shared pipeline")
+    @Test
+    void givenSessionsTaken_whenAnnotate_thenCallerWaitsForSharedPipeline() throws Exception {
+        // Arrange
+        CoreNLPServiceImpl service = service(CoreNLPServiceImpl.WarmUp.EAGER, 1);
+        service.init();
+        CountDownLatch annotating = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+                    annotating.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    invocation.getArgument(0, Annotation.class)
+                            .set(CoreAnnotations.TokensAnnotation.class, List.of());
+                    return null;
+                })
+                .when(nlp)
+                .annotate(any(Annotation.class));
+
+        // Act
+        CompletableFuture<List<NlpToken>> first = CompletableFuture.supplyAsync(() -> service.annotate("cat"));
+        assertThat(annotating.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<List<NlpToken>> second = CompletableFuture.supplyAsync(() -> service.annotate("dog"));
+
+        // Assert
+        // a second pipeline would let it through, the semaphore holds it until the first pass is done
+        Thread.sleep(100);
+        assertThat(second).isNotDone();
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+        assertThat(loads).hasValue(1);
+    }
+
+    @DisplayName("Should leave out punctuation instead of failing on its tag")
+    @Test
+    void givenPunctuation_whenAnnotate_thenPunctuationLeftOut() {
+        // Arrange
+        CoreNLPServiceImpl service = service(CoreNLPServiceImpl.WarmUp.LAZY, 1);
+
+        // Act
+        List<NlpToken> tokens = service.annotate("cat .");
+
+        // Assert
+        assertThat(tokens).containsExactly(new NlpToken("cat", POS.NOUN, "cat"));
+        assertThat(service.annotate(".")).isEmpty();
+    }
+}
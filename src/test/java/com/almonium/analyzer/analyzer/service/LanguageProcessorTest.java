@@ -0,0 +1,166 @@
+package com.almonium.analyzer.analyzer.service;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.almonium.analyzer.analyzer.dto.AnalysisDto;
+import com.almonium.analyzer.analyzer.model.NlpToken;
+import com.almonium.analyzer.analyzer.model.enums.POS;
+import com.almonium.analyzer.client.datamuse.DatamuseClient;
+import com.almonium.analyzer.client.datamuse.dto.DatamuseEntryDto;
+import com.almonium.analyzer.client.google.GoogleClient;
+import com.almonium.analyzer.client.resilience.ProviderBulkhead;
+import com.almonium.analyzer.client.wordnik.WordnikClient;
+import com.almonium.analyzer.client.words.WordsClient;
+import com.almonium.analyzer.frequency.FrequencyIndex;
+import com.almonium.analyzer.translator.dto.TranslationCardDto;
+import com.almonium.analyzer.translator.model.enums.Language;
+import com.almonium.analyzer.translator.service.TranslationEngine;
+import com.almonium.analyzer.translator.service.TranslationService;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = PRIVATE)
+class LanguageProcessorTest {
+    @Mock
+    DatamuseClient datamuseClient;
+
+    @Mock
+    GoogleClient googleClient;
+
+    @Mock
+    WordnikClient wordnikClient;
+
+    @Mock
+    WordsClient wordsClient;
+
+    @Mock
+    CoreNLPServiceImpl coreNLPServiceImpl;
+
+    @Mock
+    FrequencyIndex frequencyIndex;
+
+    @Mock
+    TranslationService translationService;
+
+    @Mock
+    TranslationEngine translationEngine;
+
+    ThreadPoolTaskExecutor executor;
+    LanguageProcessor languageProcessor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.initialize();
+        languageProcessor = new LanguageProcessor(
+                datamuseClient,
+                googleClient,
+                wordnikClient,
+                wordsClient,
+                coreNLPServiceImpl,
+                frequencyIndex,
+                translationService,
+                translationEngine,
+                executor,
+                new ProviderBulkhead(8, 100));
+        ReflectionTestUtils.setField(languageProcessor, "stageTimeoutMs", 5000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @DisplayName("Should run the provider lookups of a report at the same time")
+    @Test
+    void givenIndependentLookups_whenGetReport_thenRunConcurrently() {
+        // Arrange
+        // each lookup only answers once the other one has started
+        CountDownLatch started = new CountDownLatch(2);
+        TranslationCardDto translation = new TranslationCardDto();
+        givenNoun("cat");
+        when(translationEngine.translate("cat", Language.EN, Language.UK)).thenAnswer(invocation -> {
+            started.countDown();
+            return started.await(5, TimeUnit.SECONDS) ? Optional.of(translation) : Optional.empty();
+        });
+        when(datamuseClient.getHomophones("cat")).thenAnswer(invocation -> {
+            started.countDown();
+            return started.await(5, TimeUnit.SECONDS) ? homophones("kat") : ResponseEntity.ok(List.of());
+        });
+
+        // Act
+        AnalysisDto report = languageProcessor.getReport("cat", Language.EN, Language.UK);
+
+        // Assert
+        assertThat(report.getTranslationCards()).isSameAs(translation);
+        assertThat(report.getHomophones()).containsExactly("kat");
+    }
+
+    @DisplayName("Should leave a stage past its deadline empty, interrupt it and keep the other stages")
+    @Test
+    void givenSlowProvider_whenGetReport_thenPartialReportAndLookupInterrupted() throws InterruptedException {
+        // Arrange
+        ReflectionTestUtils.setField(languageProcessor, "stageTimeoutMs", 200L);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        givenNoun("cat");
+        when(translationEngine.translate("cat", Language.EN, Language.UK)).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return Optional.empty();
+        });
+        when(datamuseClient.getHomophones("cat")).thenReturn(homophones("kat"));
+
+        // Act
+        AnalysisDto report = languageProcessor.getReport("cat", Language.EN, Language.UK);
+
+        // Assert
+        assertThat(report.getTranslationCards()).isNull();
+        assertThat(report.getHomophones()).containsExactly("kat");
+        assertThat(report.getFrequency()).isNotNull();
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @DisplayName("Should not start any lookup when the entry can't be annotated")
+    @Test
+    void givenAnnotationFailure_whenGetReport_thenNoStageStarted() {
+        // Arrange
+        when(coreNLPServiceImpl.annotate("cat")).thenThrow(new IllegalArgumentException("Can't find POS for: ."));
+
+        // Act & Assert
+        assertThatThrownBy(() -> languageProcessor.getReport("cat", Language.EN, Language.UK))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(frequencyIndex, googleClient, datamuseClient, translationEngine);
+    }
+
+    private void givenNoun(String entry) {
+        when(coreNLPServiceImpl.annotate(entry)).thenReturn(List.of(new NlpToken(entry, POS.NOUN, entry)));
+        when(frequencyIndex.find(Language.EN, entry)).thenReturn(OptionalDouble.of(1e-5));
+    }
+
+    private static ResponseEntity<List<DatamuseEntryDto>> homophones(String word) {
+        return ResponseEntity.ok(List.of(DatamuseEntryDto.builder().word(word).build()));
+    }
+}
@@ -0,0 +1,136 @@
+package com.almonium.analyzer.client.cache;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.almonium.analyzer.client.ApiProvider;
+import com.almonium.analyzer.client.cache.model.entity.DictionaryCacheEntry;
+import com.almonium.analyzer.client.cache.repository.DictionaryCacheEntryRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = PRIVATE)
+class DictionaryCacheTest {
+    static final TypeReference<List<String>> WORDS_TYPE = new TypeReference<>() {};
+    static final DictionaryCacheKey KEY = DictionaryCacheKey.of(ApiProvider.DATAMUSE, "rel_hom", "Sea");
+
+    @Mock
+    DictionaryCacheEntryRepository dictionaryCacheEntryRepository;
+
+    SimpleMeterRegistry meterRegistry;
+    AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loads = new AtomicInteger();
+    }
+
+    private DictionaryCache cache(boolean persistent) {
+        return new DictionaryCache(
+                dictionaryCacheEntryRepository, new ObjectMapper(), meterRegistry, 100, 3600, 60, persistent);
+    }
+
+    private Optional<List<String>> load(List<String> result) {
+        loads.incrementAndGet();
+        return Optional.of(result).filter(words -> !words.isEmpty());
+    }
+
+    @DisplayName("Should call the provider once for repeated lookups of the same word")
+    @Test
+    void givenCachedAnswer_whenGet_thenLoaderNotCalledAgain() {
+        // Arrange
+        DictionaryCache dictionaryCache = cache(false);
+
+        // Act
+        Optional<List<String>> first = dictionaryCache.get(KEY, WORDS_TYPE, () -> load(List.of("see", "c")));
+        Optional<List<String>> second = dictionaryCache.get(
+                DictionaryCacheKey.of(ApiProvider.DATAMUSE, "rel_hom", " sea "),
+                WORDS_TYPE,
+                () -> load(List.of("other")));
+
+        // Assert
+        assertThat(first).contains(List.of("see", "c"));
+        assertThat(second).contains(List.of("see", "c"));
+        assertThat(loads).hasValue(1);
+    }
+
+    @DisplayName("Should cache empty answers too")
+    @Test
+    void givenEmptyAnswer_whenGet_thenNegativeResultCached() {
+        // Arrange
+        DictionaryCache dictionaryCache = cache(false);
+
+        // Act
+        dictionaryCache.get(KEY, WORDS_TYPE, () -> load(List.of()));
+        Optional<List<String>> result = dictionaryCache.get(KEY, WORDS_TYPE, () -> load(List.of("see")));
+
+        // Assert
+        assertThat(result).isEmpty();
+        assertThat(loads).hasValue(1);
+    }
+
+    @DisplayName("Should restore an answer from the persistent tier without calling the provider")
+    @Test
+    void givenStoredEntry_whenGet_thenRestoredFromDatabase() {
+        // Arrange
+        DictionaryCache dictionaryCache = cache(true);
+        when(dictionaryCacheEntryRepository.findByCacheKeyAndExpiresAtAfter(eq(KEY.id()), any(Instant.class)))
+                .thenReturn(Optional.of(new DictionaryCacheEntry(
+                        KEY.id(),
+                        ApiProvider.DATAMUSE,
+                        "rel_hom",
+                        "[\"see\"]",
+                        Instant.now(),
+                        Instant.now().plusSeconds(60))));
+
+        // Act
+        Optional<List<String>> result = dictionaryCache.get(KEY, WORDS_TYPE, () -> load(List.of("other")));
+
+        // Assert
+        assertThat(result).contains(List.of("see"));
+        assertThat(loads).hasValue(0);
+        verify(dictionaryCacheEntryRepository, never()).save(any());
+        assertThat(meterRegistry
+                        .get("dictionary.cache.persistent")
+                        .tag("result", "hit")
+                        .counter()
+                        .count())
+                .isEqualTo(1);
+    }
+
+    @DisplayName("Should store loaded answers in the persistent tier")
+    @Test
+    void givenNoStoredEntry_whenGet_thenLoadedAndStored() {
+        // Arrange
+        DictionaryCache dictionaryCache = cache(true);
+        when(dictionaryCacheEntryRepository.findByCacheKeyAndExpiresAtAfter(eq(KEY.id()), any(Instant.class)))
+                .thenReturn(Optional.empty());
+
+        // Act
+        Optional<List<String>> result = dictionaryCache.get(KEY, WORDS_TYPE, () -> load(List.of("see")));
+
+        // Assert
+        assertThat(result).contains(List.of("see"));
+        assertThat(loads).hasValue(1);
+        verify(dictionaryCacheEntryRepository).save(any(DictionaryCacheEntry.class));
+    }
+}
@@ -0,0 +1,231 @@
+package com.almonium.analyzer.client.resilience;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.almonium.analyzer.client.ApiProvider;
+import com.almonium.analyzer.client.exception.ProviderUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+@FieldDefaults(level = PRIVATE)
+class ProviderGuardTest {
+    SimpleMeterRegistry meterRegistry;
+    ProviderGuard providerGuard;
+
+    @BeforeEach
+    void setUp() {
+        MockEnvironment environment = new MockEnvironment();
+        for (ApiProvider provider : ApiProvider.values()) {
+            environment.setProperty(
+                    "external.resilience.rate-limit." + provider.name().toLowerCase(Locale.ROOT), "1000");
+        }
+        environment.setProperty("external.resilience.rate-limit.wordnik", "0.001");
+        environment.setProperty("external.resilience.rate-limit.google", "10");
+        meterRegistry = new SimpleMeterRegistry();
+        providerGuard = new ProviderGuard(environment, meterRegistry, 3, 60_000, 1000);
+    }
+
+    private double rejected(String provider, String reason) {
+        return meterRegistry
+                .get("provider.rejected")
+                .tags("provider", provider, "reason", reason)
+                .counter()
+                .count();
+    }
+
+    private double circuitState(String provider) {
+        return meterRegistry
+                .get("provider.circuit.state")
+                .tag("provider", provider)
+                .gauge()
+                .value();
+    }
+
+    @DisplayName("Should reject calls over the provider's rate limit")
+    @Test
+    void givenExhaustedRateLimit_whenAcquire_thenRejected() {
+        // Arrange
+        providerGuard.acquire(ApiProvider.WORDNIK);
+
+        // Act & Assert
+        assertThatThrownBy(() -> providerGuard.acquire(ApiProvider.WORDNIK))
+                .isInstanceOf(ProviderUnavailableException.class);
+        assertThat(rejected("wordnik", "rate-limited")).isEqualTo(1);
+    }
+
+    @DisplayName("Should let back-to-back calls within the rate wait for their permits")
+    @Test
+    void givenBackToBackCalls_whenAcquire_thenAllAdmitted() {
+        // Act & Assert
+        for (int i = 0; i < 3; i++) {
+            assertThatCode(() -> providerGuard.acquire(ApiProvider.GOOGLE)).doesNotThrowAnyException();
+        }
+        assertThat(rejected("google", "rate-limited")).isZero();
+    }
+
+    @DisplayName("Should not spend a rate-limit permit on a call rejected by an open circuit")
+    @Test
+    void givenOpenCircuit_whenAcquire_thenPermitNotSpent() {
+        // Arrange
+        providerGuard.onResponse(ApiProvider.WORDNIK, CircuitBreaker.NOT_PROBE, 429);
+
+        // Act & Assert
+        assertThatThrownBy(() -> providerGuard.acquire(ApiProvider.WORDNIK))
+                .isInstanceOf(ProviderUnavailableException.class);
+        assertThat(rejected("wordnik", "circuit-open")).isEqualTo(1);
+        assertThat(rejected("wordnik", "rate-limited")).isZero();
+    }
+
+    @DisplayName("Should open the circuit right away when the quota is exhausted")
+    @Test
+    void givenForbiddenResponse_whenAcquire_thenCircuitOpen() {
+        // Arrange
+        long permit = providerGuard.acquire(ApiProvider.YANDEX);
+        providerGuard.onResponse(ApiProvider.YANDEX, permit, 403);
+
+        // Act & Assert
+        assertThatThrownBy(() -> providerGuard.acquire(ApiProvider.YANDEX))
+                .isInstanceOf(ProviderUnavailableException.class);
+        assertThat(rejected("yandex", "circuit-open")).isEqualTo(1);
+        assertThat(circuitState("yandex")).isEqualTo(2);
+        assertThatCode(() -> providerGuard.acquire(ApiProvider.DATAMUSE)).doesNotThrowAnyException();
+    }
+
+    @DisplayName("Should open the circuit after consecutive server errors only")
+    @Test
+    void givenServerErrors_whenThresholdReached_thenCircuitOpen() {
+        // Arrange
+        providerGuard.onResponse(ApiProvider.DATAMUSE, CircuitBreaker.NOT_PROBE, 503);
+        providerGuard.onResponse(ApiProvider.DATAMUSE, CircuitBreaker.NOT_PROBE, 200);
+        providerGuard.onResponse(ApiProvider.DATAMUSE, CircuitBreaker.NOT_PROBE, 503);
+        providerGuard.onError(ApiProvider.DATAMUSE, CircuitBreaker.NOT_PROBE);
+
+        // Act & Assert
+        assertThatCode(() -> providerGuard.acquire(ApiProvider.DATAMUSE)).doesNotThrowAnyException();
+        providerGuard.onResponse(ApiProvider.DATAMUSE, CircuitBreaker.NOT_PROBE, 500);
+        assertThatThrownBy(() -> providerGuard.acquire(ApiProvider.DATAMUSE))
+                .isInstanceOf(ProviderUnavailableException.class);
+    }
+
+    @DisplayName("Should let a single probe through once the open period is over")
+    @Test
+    void givenOpenPeriodOver_whenAcquire_thenSingleProbeAllowed() {
+        // Arrange
+        CircuitBreaker breaker = new CircuitBreaker(1, 1000);
+        breaker.onFailure(CircuitBreaker.NOT_PROBE, 0);
+
+        // Act & Assert
+        assertThat(breaker.tryAcquire(500)).isEqualTo(CircuitBreaker.REJECTED);
+        long probe = breaker.tryAcquire(1000);
+        assertThat(probe).isGreaterThan(CircuitBreaker.NOT_PROBE);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire(1001)).isEqualTo(CircuitBreaker.REJECTED);
+        breaker.release(probe);
+        long nextProbe = breaker.tryAcquire(1002);
+        assertThat(nextProbe).isGreaterThan(probe);
+        breaker.onSuccess(nextProbe);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @DisplayName("Should keep the circuit open when a call let through before it opened ends afterwards")
+    @Test
+    void givenOpenCircuit_whenEarlierCallEnds_thenCircuitStaysOpen() {
+        // Arrange
+        CircuitBreaker breaker = new CircuitBreaker(1, 1000);
+        long permit = breaker.tryAcquire(0);
+        breaker.trip(10);
+
+        // Act
+        breaker.onSuccess(permit);
+        breaker.onFailure(permit, 500);
+
+        // Assert
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire(900)).isEqualTo(CircuitBreaker.REJECTED);
+        assertThat(breaker.tryAcquire(1010)).isNotEqualTo(CircuitBreaker.REJECTED);
+    }
+
+    @DisplayName("Should let only the probe's outcome decide a half-open circuit")
+    @Test
+    void givenHalfOpenCircuit_whenLateCallEnds_thenOnlyProbeCounts() {
+        // Arrange
+        CircuitBreaker breaker = new CircuitBreaker(1, 1000);
+        long late = breaker.tryAcquire(0);
+        breaker.trip(10);
+        long probe = breaker.tryAcquire(1010);
+
+        // Act & Assert
+        breaker.onSuccess(late);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        breaker.onFailure(late, 1020);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        breaker.release(late);
+        assertThat(breaker.tryAcquire(1030)).isEqualTo(CircuitBreaker.REJECTED);
+        breaker.onSuccess(probe);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @DisplayName("Should count a runtime failure of a RestTemplate call against the circuit")
+    @Test
+    void givenRuntimeFailure_whenIntercept_thenCountedAsFailure() {
+        // Arrange
+        HttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create("https://api.datamuse.com"));
+        ClientHttpRequestExecution execution = (req, body) -> {
+            throw new IllegalStateException("connection reset");
+        };
+
+        // Act & Assert
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> providerGuard.intercept(request, new byte[0], execution))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+        assertThat(circuitState("datamuse")).isEqualTo(2);
+    }
+
+    @DisplayName("Should give the half-open probe back when a WebClient call is cancelled")
+    @Test
+    void givenHalfOpenProbe_whenWebClientCallCancelled_thenProbeReleased() throws InterruptedException {
+        // Arrange
+        MockEnvironment environment = new MockEnvironment();
+        for (ApiProvider provider : ApiProvider.values()) {
+            environment.setProperty(
+                    "external.resilience.rate-limit." + provider.name().toLowerCase(Locale.ROOT), "1000");
+        }
+        ProviderGuard guard = new ProviderGuard(environment, new SimpleMeterRegistry(), 3, 0, 1000);
+        guard.onResponse(ApiProvider.GPT, CircuitBreaker.NOT_PROBE, 429);
+        CountDownLatch exchanged = new CountDownLatch(1);
+        ExchangeFunction next = req -> {
+            exchanged.countDown();
+            return Mono.never();
+        };
+        ClientRequest request =
+                ClientRequest.create(HttpMethod.POST, URI.create("https://gpt")).build();
+
+        // Act
+        Disposable call = guard.filter(ApiProvider.GPT).filter(request, next).subscribe();
+        assertThat(exchanged.await(5, TimeUnit.SECONDS)).isTrue();
+        call.dispose();
+
+        // Assert
+        assertThatCode(() -> guard.acquire(ApiProvider.GPT)).doesNotThrowAnyException();
+    }
+}
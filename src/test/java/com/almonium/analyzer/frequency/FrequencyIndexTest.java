@@ -0,0 +1,75 @@
+package com.almonium.analyzer.frequency;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.almonium.analyzer.translator.model.enums.Language;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@FieldDefaults(level = PRIVATE)
+class FrequencyIndexTest {
+    @TempDir
+    Path directory;
+
+    private FrequencyIndex newIndex() {
+        FrequencyIndex index = new FrequencyIndex(directory.toString());
+        index.init();
+        return index;
+    }
+
+    private void writeCorpus(String fileName, String... lines) throws IOException {
+        Files.write(directory.resolve(fileName), List.of(lines));
+    }
+
+    @DisplayName("Should import a corpus found on start-up and find its words")
+    @Test
+    void givenCorpus_whenInit_thenWordsFound() throws IOException {
+        // Arrange
+        writeCorpus("de.tsv", "# word\tfrequency", "über\t0.002", "haus\t0.0004", "Haus\t0.0001", "", "zug\t0.00003");
+
+        // Act
+        FrequencyIndex index = newIndex();
+
+        // Assert
+        assertThat(index.find(Language.DE, "über")).hasValue(0.002);
+        assertThat(index.find(Language.DE, " HAUS ")).hasValue(0.0005);
+        assertThat(index.find(Language.DE, "zug")).hasValue(0.00003);
+        assertThat(Files.exists(directory.resolve("de.idx"))).isTrue();
+    }
+
+    @DisplayName("Should not find words missing from the corpus or languages without one")
+    @Test
+    void givenUnknownWord_whenFind_thenEmpty() throws IOException {
+        // Arrange
+        writeCorpus("en.tsv", "cat\t0.001", "dog\t0.002");
+        FrequencyIndex index = newIndex();
+
+        // Act & Assert
+        assertThat(index.find(Language.EN, "ca")).isEmpty();
+        assertThat(index.find(Language.EN, "cats")).isEmpty();
+        assertThat(index.find(Language.EN, "zebra")).isEmpty();
+        assertThat(index.find(Language.FR, "chat")).isEmpty();
+    }
+
+    @DisplayName("Should map the existing table after a restart without the corpus")
+    @Test
+    void givenImportedTable_whenCorpusRemoved_thenTableStillLoaded() throws IOException {
+        // Arrange
+        writeCorpus("en.tsv", "cat\t0.001");
+        newIndex();
+        Files.delete(directory.resolve("en.tsv"));
+
+        // Act
+        FrequencyIndex restarted = newIndex();
+
+        // Assert
+        assertThat(restarted.find(Language.EN, "cat")).hasValue(0.001);
+    }
+}
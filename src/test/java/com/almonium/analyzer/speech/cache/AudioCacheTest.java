@@ -0,0 +1,124 @@
+package com.almonium.analyzer.speech.cache;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.almonium.analyzer.speech.model.SpeechAudio;
+import com.google.protobuf.ByteString;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@FieldDefaults(level = PRIVATE)
+class AudioCacheTest {
+    private static final long MAX_BYTES = 10;
+
+    @TempDir
+    Path directory;
+
+    private AudioCache newCache() throws IOException {
+        return newCache(0);
+    }
+
+    private AudioCache newCache(long evictionGraceMs) throws IOException {
+        AudioCache cache = new AudioCache(new SimpleMeterRegistry(), directory.toString(), MAX_BYTES, evictionGraceMs);
+        cache.init();
+        return cache;
+    }
+
+    private static ByteString bytes(int size) {
+        return ByteString.copyFrom(new byte[size]);
+    }
+
+    @DisplayName("Should store audio in a file named after its hash")
+    @Test
+    void givenStoredAudio_whenGet_thenFileReturned() throws IOException {
+        // Arrange
+        AudioCache cache = newCache();
+
+        // Act
+        cache.put("abc", ByteString.copyFromUtf8("mp3"));
+        SpeechAudio audio = cache.get("abc").orElseThrow();
+
+        // Assert
+        assertThat(audio.file()).isEqualTo(directory.resolve("abc.mp3"));
+        assertThat(Files.readString(audio.file())).isEqualTo("mp3");
+        assertThat(audio.size()).isEqualTo(3);
+    }
+
+    @DisplayName("Should evict the least recently used audio once over the size limit")
+    @Test
+    void givenFullCache_whenPut_thenLeastRecentlyUsedEvicted() throws IOException {
+        // Arrange
+        AudioCache cache = newCache();
+        cache.put("first", bytes(4));
+        cache.put("second", bytes(4));
+        cache.get("first");
+
+        // Act
+        cache.put("third", bytes(4));
+
+        // Assert
+        assertThat(cache.get("second")).isEmpty();
+        assertThat(directory.resolve("second.mp3")).doesNotExist();
+        assertThat(cache.get("first")).isPresent();
+        assertThat(cache.get("third")).isPresent();
+        assertThat(cache.getTotalBytes()).isEqualTo(8);
+    }
+
+    @DisplayName("Should keep evicted files for the grace period, unless they are stored again")
+    @Test
+    void givenEvictedFile_whenGracePeriodOver_thenDeletedUnlessStoredAgain() throws IOException, InterruptedException {
+        // Arrange
+        AudioCache cache = newCache(100);
+        cache.put("first", bytes(4));
+        cache.put("second", bytes(4));
+        cache.put("third", bytes(4));
+
+        // Act & Assert
+        assertThat(cache.get("first")).isEmpty();
+        assertThat(directory.resolve("first.mp3")).exists();
+
+        cache.put("first", bytes(4));
+        Thread.sleep(150);
+        cache.put("fourth", bytes(4));
+
+        assertThat(directory.resolve("first.mp3")).exists();
+        assertThat(directory.resolve("second.mp3")).doesNotExist();
+        assertThat(directory.resolve("third.mp3")).exists();
+        assertThat(cache.get("first")).isPresent();
+        assertThat(cache.get("third")).isEmpty();
+    }
+
+    @DisplayName("Should pick up audio stored before a restart")
+    @Test
+    void givenFilesOnDisk_whenInit_thenIndexRebuilt() throws IOException {
+        // Arrange
+        newCache().put("kept", bytes(5));
+
+        // Act
+        AudioCache restarted = newCache();
+
+        // Assert
+        assertThat(restarted.get("kept")).isPresent();
+        assertThat(restarted.getTotalBytes()).isEqualTo(5);
+    }
+
+    @DisplayName("Should forget audio whose file was removed")
+    @Test
+    void givenDeletedFile_whenGet_thenEmpty() throws IOException {
+        // Arrange
+        AudioCache cache = newCache();
+        cache.put("gone", bytes(3));
+        Files.delete(directory.resolve("gone.mp3"));
+
+        // Act & Assert
+        assertThat(cache.get("gone")).isEmpty();
+        assertThat(cache.getTotalBytes()).isZero();
+    }
+}
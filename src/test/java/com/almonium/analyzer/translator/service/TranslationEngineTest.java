@@ -0,0 +1,180 @@
+package com.almonium.analyzer.translator.service;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.almonium.analyzer.client.ApiProvider;
+import com.almonium.analyzer.client.resilience.ProviderBulkhead;
+import com.almonium.analyzer.translator.dto.TranslationCardDto;
+import com.almonium.analyzer.translator.model.enums.Language;
+import com.almonium.analyzer.translator.model.enums.TranslatorType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@FieldDefaults(level = PRIVATE)
+class TranslationEngineTest {
+    static final TranslationCardDto YANDEX_CARD =
+            TranslationCardDto.builder().provider("YANDEX").build();
+    static final TranslationCardDto GOOGLE_CARD =
+            TranslationCardDto.builder().provider("GOOGLE").build();
+
+    TranslatorRouter translatorRouter;
+    WordTranslator yandex;
+    WordTranslator google;
+    ThreadPoolTaskExecutor executor;
+    SimpleMeterRegistry meterRegistry;
+    ProviderBulkhead providerBulkhead;
+    TranslationEngine translationEngine;
+
+    @BeforeEach
+    void setUp() {
+        translatorRouter = mock(TranslatorRouter.class);
+        yandex = mock(WordTranslator.class);
+        google = mock(WordTranslator.class);
+        when(yandex.getType()).thenReturn(TranslatorType.YANDEX);
+        when(google.getType()).thenReturn(TranslatorType.GOOGLE);
+        when(translatorRouter.route(Language.EN, Language.UK))
+                .thenReturn(List.of(TranslatorType.YANDEX, TranslatorType.GOOGLE));
+
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.initialize();
+        meterRegistry = new SimpleMeterRegistry();
+        providerBulkhead = new ProviderBulkhead(1, 10);
+
+        translationEngine = new TranslationEngine(
+                translatorRouter, List.of(yandex, google), executor, providerBulkhead, meterRegistry);
+        ReflectionTestUtils.setField(translationEngine, "timeoutMs", 2000L);
+        ReflectionTestUtils.setField(translationEngine, "hedgePercentile", 0.9);
+        ReflectionTestUtils.setField(translationEngine, "hedgeMinDelayMs", 10L);
+        ReflectionTestUtils.setField(translationEngine, "hedgeDefaultDelayMs", 100L);
+        ReflectionTestUtils.setField(translationEngine, "demotionFailureRate", 0.5);
+        ReflectionTestUtils.setField(translationEngine, "demotionLatencyMs", 1000L);
+        ReflectionTestUtils.setField(translationEngine, "demotionPeriodMs", 60_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @DisplayName("Should answer with the primary translator when it's fast")
+    @Test
+    void givenFastPrimary_whenTranslate_thenPrimaryAnswerWithoutHedging() {
+        // Arrange
+        when(yandex.translate("cat", Language.EN, Language.UK)).thenReturn(Optional.of(YANDEX_CARD));
+
+        // Act
+        Optional<TranslationCardDto> result = translationEngine.translate("cat", Language.EN, Language.UK);
+
+        // Assert
+        assertThat(result).contains(YANDEX_CARD);
+        assertThat(meterRegistry.counter("translation.hedged").count()).isZero();
+    }
+
+    @DisplayName("Should skip a translator whose provider has no free permit and ask the next one")
+    @Test
+    void givenBusyPrimaryProvider_whenTranslate_thenNextTranslatorAnswers() {
+        // Arrange
+        when(google.translate("cat", Language.EN, Language.UK)).thenReturn(Optional.of(GOOGLE_CARD));
+
+        // Act: the only Yandex permit is held for the whole call
+        Optional<TranslationCardDto> result = providerBulkhead.call(
+                ApiProvider.YANDEX, () -> translationEngine.translate("cat", Language.EN, Language.UK));
+
+        // Assert
+        assertThat(result).contains(GOOGLE_CARD);
+        verify(yandex, never()).translate(anyString(), any(), any());
+    }
+
+    @DisplayName("Should fall back to the next translator when the primary fails")
+    @Test
+    void givenFailingPrimary_whenTranslate_thenNextTranslatorAnswers() {
+        // Arrange
+        when(yandex.translate("cat", Language.EN, Language.UK)).thenThrow(new IllegalStateException("limit"));
+        when(google.translate("cat", Language.EN, Language.UK)).thenReturn(Optional.of(GOOGLE_CARD));
+
+        // Act
+        Optional<TranslationCardDto> result = translationEngine.translate("cat", Language.EN, Language.UK);
+
+        // Assert
+        assertThat(result).contains(GOOGLE_CARD);
+    }
+
+    @DisplayName("Should hedge to the next translator when the primary is slow")
+    @Test
+    void givenSlowPrimary_whenTranslate_thenHedgedAnswerWins() {
+        // Arrange
+        // the primary doesn't answer before the test is over, a result can only come from the hedge
+        CountDownLatch primaryReleased = new CountDownLatch(1);
+        when(yandex.translate("cat", Language.EN, Language.UK)).thenAnswer(invocation -> {
+            primaryReleased.await();
+            return Optional.of(YANDEX_CARD);
+        });
+        when(google.translate("cat", Language.EN, Language.UK)).thenReturn(Optional.of(GOOGLE_CARD));
+
+        // Act
+        Optional<TranslationCardDto> result;
+        try {
+            result = translationEngine.translate("cat", Language.EN, Language.UK);
+        } finally {
+            primaryReleased.countDown();
+        }
+
+        // Assert
+        assertThat(result).contains(GOOGLE_CARD);
+        InOrder inOrder = inOrder(yandex, google);
+        inOrder.verify(yandex).translate("cat", Language.EN, Language.UK);
+        inOrder.verify(google).translate("cat", Language.EN, Language.UK);
+        assertThat(meterRegistry.counter("translation.hedged").count()).isEqualTo(1);
+    }
+
+    @DisplayName("Should return empty when no translator has an answer")
+    @Test
+    void givenNoAnswers_whenTranslate_thenEmpty() {
+        // Arrange
+        when(yandex.translate("cat", Language.EN, Language.UK)).thenReturn(Optional.empty());
+        when(google.translate("cat", Language.EN, Language.UK)).thenReturn(Optional.empty());
+
+        // Act
+        Optional<TranslationCardDto> result = translationEngine.translate("cat", Language.EN, Language.UK);
+
+        // Assert
+        assertThat(result).isEmpty();
+    }
+
+    @DisplayName("Should demote a translator that keeps failing")
+    @Test
+    void givenRepeatedlyFailingPrimary_whenTranslate_thenPrimaryDemoted() {
+        // Arrange
+        when(yandex.translate(anyString(), eq(Language.EN), eq(Language.UK)))
+                .thenThrow(new IllegalStateException("down"));
+        when(google.translate(anyString(), eq(Language.EN), eq(Language.UK))).thenReturn(Optional.of(GOOGLE_CARD));
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            translationEngine.translate("cat" + i, Language.EN, Language.UK);
+        }
+
+        // Assert
+        assertThat(translationEngine.candidates(Language.EN, Language.UK)).containsExactly(google, yandex);
+    }
+}
@@ -0,0 +1,75 @@
+package com.almonium.analyzer.translator.service;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.almonium.analyzer.translator.model.entity.LangPairTranslatorMapping;
+import com.almonium.analyzer.translator.model.entity.Translator;
+import com.almonium.analyzer.translator.model.enums.Language;
+import com.almonium.analyzer.translator.model.enums.TranslatorType;
+import com.almonium.analyzer.translator.repository.LangPairTranslatorRepository;
+import java.util.List;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = PRIVATE)
+class TranslatorRouterTest {
+    static final Translator GOOGLE = new Translator(1L, "GOOGLE");
+    static final Translator YANDEX = new Translator(3L, "YANDEX");
+    static final Translator UNKNOWN = new Translator(9L, "LINGVO");
+
+    @InjectMocks
+    TranslatorRouter translatorRouter;
+
+    @Mock
+    LangPairTranslatorRepository langPairTranslatorRepository;
+
+    private static LangPairTranslatorMapping mapping(
+            Language source, Language target, Translator translator, int priority) {
+        return new LangPairTranslatorMapping(source, target, translator.getId(), translator, priority);
+    }
+
+    @DisplayName("Should route a pair to its translators in priority order")
+    @Test
+    void givenMappings_whenRefresh_thenRoutesOrderedByPriority() {
+        // Arrange
+        when(langPairTranslatorRepository.findAll())
+                .thenReturn(List.of(
+                        mapping(Language.EN, Language.UK, GOOGLE, 2),
+                        mapping(Language.EN, Language.UK, YANDEX, 1),
+                        mapping(Language.EN, Language.UK, UNKNOWN, 3),
+                        mapping(Language.DE, Language.EN, GOOGLE, 1)));
+
+        // Act
+        translatorRouter.refresh();
+
+        // Assert
+        assertThat(translatorRouter.route(Language.EN, Language.UK))
+                .containsExactly(TranslatorType.YANDEX, TranslatorType.GOOGLE);
+        assertThat(translatorRouter.route(Language.DE, Language.EN)).containsExactly(TranslatorType.GOOGLE);
+        assertThat(translatorRouter.route(Language.UK, Language.EN)).isEmpty();
+    }
+
+    @DisplayName("Should rebuild the table from the current mappings on refresh")
+    @Test
+    void givenChangedMappings_whenRefresh_thenTableRebuilt() {
+        // Arrange
+        when(langPairTranslatorRepository.findAll())
+                .thenReturn(List.of(mapping(Language.EN, Language.UK, YANDEX, 1)))
+                .thenReturn(List.of());
+        translatorRouter.refresh();
+
+        // Act
+        translatorRouter.refresh();
+
+        // Assert
+        assertThat(translatorRouter.route(Language.EN, Language.UK)).isEmpty();
+    }
+}
@@ -0,0 +1,89 @@
+package com.almonium.auth.common.service;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.almonium.auth.common.exception.AuthMethodNotFoundException;
+import com.almonium.auth.common.model.entity.Principal;
+import com.almonium.auth.common.repository.PrincipalRepository;
+import com.almonium.auth.local.model.entity.LocalPrincipal;
+import com.almonium.user.core.model.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = PRIVATE)
+class PrincipalCacheTest {
+    @Mock
+    PrincipalRepository principalRepository;
+
+    PrincipalCache principalCache;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new PrincipalCache(principalRepository, new SimpleMeterRegistry(), 60, 100);
+    }
+
+    @DisplayName("Should load a principal once and serve later requests from the cache")
+    @Test
+    void givenCachedPrincipal_whenGet_thenNoQuery() {
+        // Arrange
+        Principal principal = principal(1L, 10L);
+        when(principalRepository.findWithUserById(1L)).thenReturn(Optional.of(principal));
+
+        // Act
+        principalCache.get(1L);
+        Principal result = principalCache.get(1L);
+
+        // Assert
+        assertThat(result).isSameAs(principal);
+        verify(principalRepository, times(1)).findWithUserById(1L);
+    }
+
+    @DisplayName("Should reload the principals of a user after they are evicted and keep the others")
+    @Test
+    void givenEvictedUser_whenGet_thenReloaded() {
+        // Arrange
+        when(principalRepository.findWithUserById(1L)).thenReturn(Optional.of(principal(1L, 10L)));
+        when(principalRepository.findWithUserById(2L)).thenReturn(Optional.of(principal(2L, 20L)));
+        principalCache.get(1L);
+        principalCache.get(2L);
+
+        // Act
+        principalCache.evictUser(10L);
+        principalCache.get(1L);
+        principalCache.get(2L);
+
+        // Assert
+        verify(principalRepository, times(2)).findWithUserById(1L);
+        verify(principalRepository, times(1)).findWithUserById(2L);
+    }
+
+    @DisplayName("Should throw when the principal doesn't exist")
+    @Test
+    void givenUnknownPrincipal_whenGet_thenThrows() {
+        // Arrange
+        when(principalRepository.findWithUserById(1L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> principalCache.get(1L)).isInstanceOf(AuthMethodNotFoundException.class);
+    }
+
+    private Principal principal(long id, long userId) {
+        LocalPrincipal principal = new LocalPrincipal();
+        principal.setId(id);
+        principal.setUser(User.builder().id(userId).build());
+        return principal;
+    }
+}
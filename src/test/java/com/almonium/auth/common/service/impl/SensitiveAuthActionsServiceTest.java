@@ -14,6 +14,7 @@ import com.almonium.auth.common.factory.PrincipalFactory;
 import com.almonium.auth.common.model.entity.Principal;
 import com.almonium.auth.common.model.enums.AuthProviderType;
 import com.almonium.auth.common.repository.PrincipalRepository;
+import com.almonium.auth.common.service.PrincipalCache;
 import com.almonium.auth.common.service.SensitiveAuthActionsService;
 import com.almonium.auth.common.service.VerificationTokenManagementService;
 import com.almonium.auth.local.model.entity.LocalPrincipal;
@@ -51,6 +52,9 @@ class SensitiveAuthActionsServiceTest {
     @Mock
     PasswordEncoderService passwordEncoderService;
 
+    @Mock
+    PrincipalCache principalCache;
+
     @DisplayName("Should add local login successfully")
     @Test
     void givenValidLocalLoginRequest_whenLinkLocal_thenSuccess() {
@@ -114,6 +118,7 @@ class SensitiveAuthActionsServiceTest {
         // Assert
         verify(userService).getUserWithPrincipals(user.getId());
         verify(principalRepository).delete(principalGoogle);
+        verify(principalCache).evictUser(user.getId());
     }
 
     @DisplayName("Should throw exception when provider not found")
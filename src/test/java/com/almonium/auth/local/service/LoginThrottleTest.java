@@ -0,0 +1,46 @@
+package com.almonium.auth.local.service;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.almonium.auth.common.exception.AuthThrottledException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LoginThrottleTest {
+    private static final String IP = "203.0.113.7";
+
+    LoginThrottle loginThrottle = new LoginThrottle(300, 5, 3, 1000);
+
+    @DisplayName("Should throttle an account after its failures, whatever the client, until it signs in")
+    @Test
+    void givenFailedAccount_whenCheckAllowed_thenThrottledUntilSuccess() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            loginThrottle.recordFailure("198.51.100." + i, "John@Example.com");
+        }
+
+        // Act & Assert
+        assertThatThrownBy(() -> loginThrottle.checkAllowed(IP, "john@example.com"))
+                .isInstanceOf(AuthThrottledException.class);
+        assertThatCode(() -> loginThrottle.checkAllowed(IP, "jane@example.com")).doesNotThrowAnyException();
+
+        loginThrottle.recordSuccess("john@example.com");
+        assertThatCode(() -> loginThrottle.checkAllowed(IP, "john@example.com")).doesNotThrowAnyException();
+    }
+
+    @DisplayName("Should throttle a client failing across many accounts")
+    @Test
+    void givenClientTryingManyAccounts_whenCheckAllowed_thenThrottled() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            loginThrottle.recordFailure(IP, "user" + i + "@example.com");
+        }
+
+        // Act & Assert
+        assertThatThrownBy(() -> loginThrottle.checkAllowed(IP, "fresh@example.com"))
+                .isInstanceOf(AuthThrottledException.class);
+        assertThatCode(() -> loginThrottle.checkAllowed("198.51.100.1", "fresh@example.com"))
+                .doesNotThrowAnyException();
+    }
+}
@@ -7,11 +7,13 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.almonium.auth.common.exception.AuthThrottledException;
 import com.almonium.auth.common.factory.PrincipalFactory;
 import com.almonium.auth.common.service.UserAuthenticationService;
 import com.almonium.auth.common.service.VerificationTokenManagementService;
@@ -39,6 +41,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
@@ -50,6 +54,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 @TestPropertySource(properties = {"app.auth.email-verification-required=true"})
 class PublicLocalAuthServiceTest {
     private static final String IS_EMAIL_VERIFICATION_REQUIRED_FIELD = "emailVerificationRequired";
+    private static final String CLIENT_IP = "203.0.113.7";
 
     @InjectMocks
     PublicLocalAuthService authService;
@@ -78,6 +83,9 @@ class PublicLocalAuthServiceTest {
     @Mock
     UserAuthenticationService userAuthenticationService;
 
+    @Mock
+    LoginThrottle loginThrottle;
+
     @DisplayName("Should successfully register local user")
     @Test
     void givenValidLocalRequest_whenRegister_thenSaveUser() {
@@ -112,17 +120,19 @@ class PublicLocalAuthServiceTest {
         String expectedRefreshJwt = "xxx.yyy.zzz";
         String expectedAccessJwt = "aaa.bbb.ccc";
         LocalAuthRequest localAuthRequest = new LocalAuthRequest(email, password);
-        Authentication auth = mock(Authentication.class);
+        Authentication auth = new UsernamePasswordAuthenticationToken(new LocalPrincipal(user, email, "hash"), null);
         when(authenticationManager.authenticate(any(Authentication.class))).thenReturn(auth);
-        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
         when(userAuthenticationService.authenticateUser(
                         eq(user), any(HttpServletResponse.class), any(Authentication.class)))
                 .thenReturn(new JwtTokenResponse(expectedAccessJwt, expectedRefreshJwt));
         // Act
-        JwtAuthResponse result = authService.login(localAuthRequest, mock(HttpServletResponse.class));
+        JwtAuthResponse result = authService.login(localAuthRequest, CLIENT_IP, mock(HttpServletResponse.class));
 
         // Assert
         verify(authenticationManager).authenticate(any(Authentication.class));
+        verify(userRepository, never()).findByEmail(anyString());
+        verify(userService).buildUserInfo(user);
+        verify(loginThrottle).recordSuccess(email);
         verify(userAuthenticationService)
                 .authenticateUser(any(User.class), any(HttpServletResponse.class), any(Authentication.class));
         assertThat(result.accessToken()).isEqualTo(expectedAccessJwt);
@@ -155,11 +165,13 @@ class PublicLocalAuthServiceTest {
                 .email(localAuthRequest.email())
                 .emailVerified(false)
                 .build();
-        when(userRepository.findByEmail(localAuthRequest.email())).thenReturn(Optional.of(user));
+        when(authenticationManager.authenticate(any(Authentication.class)))
+                .thenReturn(new UsernamePasswordAuthenticationToken(
+                        new LocalPrincipal(user, localAuthRequest.email(), "hash"), null));
         ReflectionTestUtils.setField(authService, IS_EMAIL_VERIFICATION_REQUIRED_FIELD, true);
 
         // Act & Assert
-        assertThatThrownBy(() -> authService.login(localAuthRequest, mock(HttpServletResponse.class)))
+        assertThatThrownBy(() -> authService.login(localAuthRequest, CLIENT_IP, mock(HttpServletResponse.class)))
                 .isInstanceOf(EmailNotVerifiedException.class)
                 .hasMessage("Email needs to be verified before logging in.");
 
@@ -167,6 +179,36 @@ class PublicLocalAuthServiceTest {
                 .authenticateUser(any(User.class), any(HttpServletResponse.class), any(Authentication.class));
     }
 
+    @DisplayName("Should count a failed sign-in against the client and the account")
+    @Test
+    void givenBadCredentials_whenLogin_thenFailureRecorded() {
+        // Arrange
+        LocalAuthRequest localAuthRequest = TestDataGenerator.createLocalAuthRequest();
+        when(authenticationManager.authenticate(any(Authentication.class)))
+                .thenThrow(new BadCredentialsException("Email or password are incorrect"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> authService.login(localAuthRequest, CLIENT_IP, mock(HttpServletResponse.class)))
+                .isInstanceOf(BadCredentialsException.class);
+        verify(loginThrottle).recordFailure(CLIENT_IP, localAuthRequest.email());
+        verify(loginThrottle, never()).recordSuccess(anyString());
+    }
+
+    @DisplayName("Should turn a throttled sign-in down before checking its password")
+    @Test
+    void givenThrottledClient_whenLogin_thenPasswordNotChecked() {
+        // Arrange
+        LocalAuthRequest localAuthRequest = TestDataGenerator.createLocalAuthRequest();
+        doThrow(new AuthThrottledException("Too many failed sign-in attempts, try again later."))
+                .when(loginThrottle)
+                .checkAllowed(CLIENT_IP, localAuthRequest.email());
+
+        // Act & Assert
+        assertThatThrownBy(() -> authService.login(localAuthRequest, CLIENT_IP, mock(HttpServletResponse.class)))
+                .isInstanceOf(AuthThrottledException.class);
+        verify(authenticationManager, never()).authenticate(any(Authentication.class));
+    }
+
     @DisplayName("Should request password reset successfully")
     @Test
     void givenValidEmail_whenRequestPasswordReset_thenSendVerificationToken() {
@@ -0,0 +1,124 @@
+package com.almonium.auth.oauth2.other.service;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.almonium.auth.common.model.enums.AuthProviderType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Base64;
+import lombok.SneakyThrows;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = PRIVATE)
+class JwksManagerTest {
+    private static final String GOOGLE_JWKS = "https://google/certs";
+
+    @Mock
+    RestTemplate restTemplate;
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    JwksManager jwksManager;
+
+    @BeforeEach
+    void setUp() {
+        jwksManager = new JwksManager(restTemplate, meterRegistry, "https://apple/keys", GOOGLE_JWKS, 3600, 300, 30);
+    }
+
+    @DisplayName("Should fetch a key set once and serve its keys from memory, timing the fetch")
+    @Test
+    void givenFetchedKeys_whenGetKey_thenServedWithoutFetching() {
+        // Arrange
+        RSAPublicKey key = generateKey();
+        when(restTemplate.getForEntity(GOOGLE_JWKS, JsonNode.class)).thenReturn(response("max-age=600", "k1", key));
+
+        // Act
+        jwksManager.getKey(AuthProviderType.GOOGLE, "k1");
+        RSAPublicKey result = jwksManager.getKey(AuthProviderType.GOOGLE, "k1");
+
+        // Assert
+        assertThat(result.getModulus()).isEqualTo(key.getModulus());
+        verify(restTemplate, times(1)).getForEntity(GOOGLE_JWKS, JsonNode.class);
+        assertThat(meterRegistry
+                        .timer("jwks.fetch", "provider", "GOOGLE", "outcome", "success")
+                        .count())
+                .isEqualTo(1);
+    }
+
+    @DisplayName("Should refresh in the background a key set whose max-age ends within refresh-ahead")
+    @Test
+    void givenShortMaxAge_whenRefreshExpiring_thenRefetched() {
+        // Arrange
+        when(restTemplate.getForEntity(GOOGLE_JWKS, JsonNode.class))
+                .thenReturn(response("public, max-age=60", "k1", generateKey()));
+        jwksManager.getKey(AuthProviderType.GOOGLE, "k1");
+
+        // Act
+        jwksManager.refreshExpiring();
+
+        // Assert
+        verify(restTemplate, times(2)).getForEntity(GOOGLE_JWKS, JsonNode.class);
+        // Apple had no keys yet, its failed fetch is only logged
+        verify(restTemplate).getForEntity(eq("https://apple/keys"), eq(JsonNode.class));
+    }
+
+    @DisplayName("Should not refetch for an unknown key id right after a fetch")
+    @Test
+    void givenRecentFetch_whenGetUnknownKey_thenThrowsWithoutFetching() {
+        // Arrange
+        when(restTemplate.getForEntity(GOOGLE_JWKS, JsonNode.class))
+                .thenReturn(response("max-age=600", "k1", generateKey()));
+        jwksManager.getKey(AuthProviderType.GOOGLE, "k1");
+
+        // Act & Assert
+        assertThatThrownBy(() -> jwksManager.getKey(AuthProviderType.GOOGLE, "k2"))
+                .isInstanceOf(IllegalStateException.class);
+        verify(restTemplate, times(1)).getForEntity(GOOGLE_JWKS, JsonNode.class);
+    }
+
+    private ResponseEntity<JsonNode> response(String cacheControl, String kid, RSAPublicKey key) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        ObjectMapper mapper = new ObjectMapper();
+        ObjectNode jwks = mapper.createObjectNode();
+        ArrayNode keys = jwks.putArray("keys");
+        keys.addObject()
+                .put("kty", "RSA")
+                .put("kid", kid)
+                .put("n", encoder.encodeToString(key.getModulus().toByteArray()))
+                .put("e", encoder.encodeToString(key.getPublicExponent().toByteArray()));
+        keys.addObject().put("kty", "EC").put("kid", "ec");
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setCacheControl(cacheControl);
+        return new ResponseEntity<>(jwks, headers, HttpStatus.OK);
+    }
+
+    @SneakyThrows
+    private RSAPublicKey generateKey() {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return (RSAPublicKey) generator.generateKeyPair().getPublic();
+    }
+}
@@ -0,0 +1,220 @@
+package com.almonium.auth.token.service;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.almonium.auth.common.service.PrincipalCache;
+import com.almonium.auth.local.model.entity.LocalPrincipal;
+import com.almonium.auth.token.dto.response.JwtTokenResponse;
+import com.almonium.auth.token.model.entity.RefreshToken;
+import com.almonium.auth.token.repository.RefreshTokenRepository;
+import com.almonium.user.core.model.entity.User;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = PRIVATE)
+class AuthTokenServiceTest {
+    private static final String SECRET = "0123456789abcdef0123456789abcdef0123456789abcdef";
+
+    @Mock
+    PrincipalCache principalCache;
+
+    @Mock
+    RefreshTokenRepository refreshTokenRepository;
+
+    AuthTokenService authTokenService;
+
+    // refresh tokens by hash, standing in for the table
+    Map<String, RefreshToken> stored = new HashMap<>();
+
+    Authentication authentication;
+
+    @BeforeEach
+    void setUp() {
+        authTokenService = new AuthTokenService(
+                principalCache,
+                refreshTokenRepository,
+                new TokenDenylist(new SimpleMeterRegistry(), 900, 100),
+                new JwtEngine(SECRET));
+        ReflectionTestUtils.setField(authTokenService, "accessTokenLifetimeInSeconds", 900);
+        ReflectionTestUtils.setField(authTokenService, "refreshTokenLifetimeInSeconds", 3600);
+        ReflectionTestUtils.setField(authTokenService, "refreshTokenReuseGraceInSeconds", 10);
+        ReflectionTestUtils.setField(authTokenService, "refreshTokenPath", "/public/auth/refresh-token");
+        ReflectionTestUtils.setField(authTokenService, "contextPath", "/api/v1");
+        ReflectionTestUtils.setField(authTokenService, "backendDomain", "localhost");
+
+        LocalPrincipal principal = new LocalPrincipal();
+        principal.setId(1L);
+        principal.setUser(User.builder().id(10L).build());
+        authentication = new UsernamePasswordAuthenticationToken(principal, null);
+        when(principalCache.get(anyLong())).thenReturn(principal);
+        when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(invocation -> {
+            RefreshToken token = invocation.getArgument(0);
+            stored.put(token.getTokenHash(), token);
+            return token;
+        });
+    }
+
+    @DisplayName("Should use up a refresh token and issue the next one of the same family")
+    @Test
+    void givenRefreshToken_whenRotate_thenNextTokenOfFamilyIssued() {
+        // Arrange
+        JwtTokenResponse login =
+                authTokenService.createAndSetTokensForLiveLogin(authentication, new MockHttpServletResponse());
+        when(refreshTokenRepository.findByTokenHash(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(stored.get(invocation.getArgument(0, String.class))));
+
+        // Act
+        Optional<JwtTokenResponse> rotated =
+                authTokenService.rotateRefreshToken(login.refreshToken(), new MockHttpServletResponse());
+
+        // Assert
+        assertThat(rotated).isPresent();
+        assertThat(rotated.get().refreshToken()).isNotEqualTo(login.refreshToken());
+        assertThat(stored.values()).hasSize(2);
+        assertThat(stored.values()).extracting(RefreshToken::getFamilyId).containsOnly(familyId());
+        assertThat(stored.values())
+                .filteredOn(RefreshToken::isRevoked)
+                .singleElement()
+                .satisfies(used -> assertThat(stored.values())
+                        .extracting(RefreshToken::getId)
+                        .contains(used.getReplacedBy()));
+        assertThat(stored.values())
+                .allSatisfy(token -> assertThat(token.getTokenHash()).hasSize(22));
+    }
+
+    @DisplayName("Should revoke the whole family, access tokens included, when a used refresh token comes back")
+    @Test
+    void givenUsedRefreshToken_whenRotate_thenFamilyRevoked() {
+        // Arrange
+        JwtTokenResponse login =
+                authTokenService.createAndSetTokensForLiveLogin(authentication, new MockHttpServletResponse());
+        when(refreshTokenRepository.findByTokenHash(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(stored.get(invocation.getArgument(0, String.class))));
+        authTokenService.rotateRefreshToken(login.refreshToken(), new MockHttpServletResponse());
+        moveRotationsPastReuseGrace();
+
+        // Act
+        Optional<JwtTokenResponse> reused =
+                authTokenService.rotateRefreshToken(login.refreshToken(), new MockHttpServletResponse());
+
+        // Assert
+        assertThat(reused).isEmpty();
+        verify(refreshTokenRepository).revokeFamily(familyId());
+        assertThat(authTokenService.verifyToken(login.accessToken()))
+                .hasValueSatisfying(
+                        claims -> assertThat(authTokenService.isRevoked(claims)).isTrue());
+    }
+
+    @DisplayName("Should turn down a refresh token reused right after its rotation without revoking the family")
+    @Test
+    void givenJustRotatedRefreshToken_whenRotate_thenEmptyAndFamilyKept() {
+        // Arrange
+        JwtTokenResponse login =
+                authTokenService.createAndSetTokensForLiveLogin(authentication, new MockHttpServletResponse());
+        when(refreshTokenRepository.findByTokenHash(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(stored.get(invocation.getArgument(0, String.class))));
+        authTokenService.rotateRefreshToken(login.refreshToken(), new MockHttpServletResponse());
+
+        // Act
+        Optional<JwtTokenResponse> reused =
+                authTokenService.rotateRefreshToken(login.refreshToken(), new MockHttpServletResponse());
+
+        // Assert
+        assertThat(reused).isEmpty();
+        verify(refreshTokenRepository, never()).revokeFamily(any());
+        assertThat(authTokenService.verifyToken(login.accessToken()))
+                .hasValueSatisfying(
+                        claims -> assertThat(authTokenService.isRevoked(claims)).isFalse());
+    }
+
+    @DisplayName("Should not take a refresh token for an access token, and revoke it with its family")
+    @Test
+    void givenRefreshToken_whenVerifiedAsAccessToken_thenRejectedAndRevocable() {
+        // Arrange
+        JwtTokenResponse login =
+                authTokenService.createAndSetTokensForLiveLogin(authentication, new MockHttpServletResponse());
+        when(refreshTokenRepository.findByTokenHash(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(stored.get(invocation.getArgument(0, String.class))));
+        authTokenService.rotateRefreshToken(login.refreshToken(), new MockHttpServletResponse());
+        moveRotationsPastReuseGrace();
+        authTokenService.rotateRefreshToken(login.refreshToken(), new MockHttpServletResponse());
+
+        // Act & Assert
+        assertThat(authTokenService.verifyToken(login.accessToken()))
+                .hasValueSatisfying(claims ->
+                        assertThat(authTokenService.isAccessToken(claims)).isTrue());
+        assertThat(authTokenService.verifyToken(login.refreshToken())).hasValueSatisfying(claims -> {
+            assertThat(authTokenService.isAccessToken(claims)).isFalse();
+            assertThat(authTokenService.isRevoked(claims)).isTrue();
+        });
+    }
+
+    @DisplayName("Should keep the verified claims with the authentication")
+    @Test
+    void givenVerifiedClaims_whenGetAuthentication_thenClaimsAreDetails() {
+        // Arrange
+        JwtTokenResponse login =
+                authTokenService.createAndSetTokensForLiveLogin(authentication, new MockHttpServletResponse());
+        Claims claims = authTokenService.verifyToken(login.accessToken()).orElseThrow();
+
+        // Act
+        Authentication result = authTokenService.getAuthentication(claims);
+
+        // Assert
+        assertThat(result.getPrincipal()).isEqualTo(authentication.getPrincipal());
+        assertThat(result.getDetails()).isSameAs(claims);
+        assertThat(authTokenService.isAccessTokenRefreshed(claims)).isFalse();
+    }
+
+    @DisplayName("Should reject a validly signed refresh token that isn't stored")
+    @Test
+    void givenUnknownRefreshToken_whenRotate_thenEmpty() {
+        // Arrange
+        JwtTokenResponse login =
+                authTokenService.createAndSetTokensForLiveLogin(authentication, new MockHttpServletResponse());
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.empty());
+
+        // Act
+        Optional<JwtTokenResponse> rotated =
+                authTokenService.rotateRefreshToken(login.refreshToken(), new MockHttpServletResponse());
+
+        // Assert
+        assertThat(rotated).isEmpty();
+        assertThat(stored.values()).hasSize(1);
+    }
+
+    // every stored token is of the family of the sign-in
+    // a reuse within the grace is only turned down, see AuthTokenService.rotateRefreshToken
+    private void moveRotationsPastReuseGrace() {
+        stored.values().stream()
+                .filter(token -> token.getRotatedAt() != null)
+                .forEach(token -> token.setRotatedAt(token.getRotatedAt().minusSeconds(60)));
+    }
+
+    private UUID familyId() {
+        return stored.values().iterator().next().getFamilyId();
+    }
+}
@@ -0,0 +1,82 @@
+package com.almonium.auth.token.service;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Throughput of authenticating a request by its access token: {@link JwtEngine} verifying it once against
+ * a key and parser built at startup, compared with rebuilding both and parsing the token twice per request,
+ * as the token filter used to. Run {@link #main} from the IDE, or {@code org.openjdk.jmh.Main JwtEngineBenchmark}
+ * on the test classpath after {@code mvn test-compile}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class JwtEngineBenchmark {
+    private static final String SECRET = "0123456789abcdef0123456789abcdef0123456789abcdef";
+
+    JwtEngine jwtEngine;
+    String token;
+
+    @Setup
+    public void setUp() {
+        jwtEngine = new JwtEngine(SECRET);
+        token = jwtEngine
+                .builder()
+                .id("4f9b1f0e-8a4d-4a53-9d9c-5c7d3f0f6a21")
+                .subject("42")
+                .claim("is_live", true)
+                .issuedAt(new Date())
+                .expiration(Date.from(Instant.now().plusSeconds(3600)))
+                .compact();
+    }
+
+    @Benchmark
+    public Claims verifyOnce() {
+        return jwtEngine.verify(token).orElseThrow();
+    }
+
+    @Benchmark
+    public Claims rebuildAndParseTwice() {
+        parse();
+        return parse();
+    }
+
+    private Claims parse() {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(JwtEngineBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
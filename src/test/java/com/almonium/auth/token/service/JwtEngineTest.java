@@ -0,0 +1,55 @@
+package com.almonium.auth.token.service;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.jsonwebtoken.Claims;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@FieldDefaults(level = PRIVATE)
+class JwtEngineTest {
+    private static final String SECRET = "0123456789abcdef0123456789abcdef0123456789abcdef";
+
+    JwtEngine jwtEngine = new JwtEngine(SECRET);
+
+    @DisplayName("Should return the claims of a token it signed")
+    @Test
+    void givenSignedToken_whenVerify_thenClaimsReturned() {
+        // Arrange
+        String token = jwtEngine
+                .builder()
+                .subject("42")
+                .expiration(Date.from(Instant.now().plusSeconds(60)))
+                .compact();
+
+        // Act
+        Optional<Claims> claims = jwtEngine.verify(token);
+
+        // Assert
+        assertThat(claims).map(Claims::getSubject).contains("42");
+    }
+
+    @DisplayName("Should reject expired, foreign and malformed tokens without throwing")
+    @Test
+    void givenInvalidTokens_whenVerify_thenEmpty() {
+        // Arrange
+        String expired = jwtEngine
+                .builder()
+                .subject("42")
+                .expiration(Date.from(Instant.now().minusSeconds(60)))
+                .compact();
+        String foreign =
+                new JwtEngine(SECRET.replace('0', '1')).builder().subject("42").compact();
+
+        // Act & Assert
+        assertThat(jwtEngine.verify(expired)).isEmpty();
+        assertThat(jwtEngine.verify(foreign)).isEmpty();
+        assertThat(jwtEngine.verify("not.a.token")).isEmpty();
+        assertThat(jwtEngine.verify("")).isEmpty();
+    }
+}
@@ -0,0 +1,40 @@
+package com.almonium.card.core.mapper;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.almonium.card.core.dto.CardUpdateDto;
+import com.almonium.card.core.model.entity.Card;
+import java.time.Instant;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+@FieldDefaults(level = PRIVATE, makeFinal = true)
+class CardMapperTest {
+    CardMapper cardMapper = Mappers.getMapper(CardMapper.class);
+
+    @DisplayName("Should keep the review schedule when a card update carries one")
+    @Test
+    void givenUpdateWithScheduleFields_whenUpdate_thenScheduleUnchanged() {
+        // Arrange
+        Instant lastRepeat = Instant.parse("2026-10-01T10:00:00Z");
+        Card card =
+                Card.builder().entry("old").iteration(4).lastRepeat(lastRepeat).build();
+        CardUpdateDto dto = CardUpdateDto.builder()
+                .id(1L)
+                .entry("new")
+                .iteration(0)
+                .lastRepeat(Instant.parse("2020-01-01T00:00:00Z"))
+                .build();
+
+        // Act
+        cardMapper.update(dto, card);
+
+        // Assert
+        assertThat(card.getEntry()).isEqualTo("new");
+        assertThat(card.getIteration()).isEqualTo(4);
+        assertThat(card.getLastRepeat()).isEqualTo(lastRepeat);
+    }
+}
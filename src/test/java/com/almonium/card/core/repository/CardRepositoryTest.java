@@ -1,12 +1,18 @@
 package com.almonium.card.core.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 import com.almonium.analyzer.translator.model.enums.Language;
+import com.almonium.card.core.dto.CardCursor;
 import com.almonium.card.core.model.entity.Card;
+import com.almonium.card.core.model.entity.Translation;
+import com.almonium.card.core.model.projection.CardProjection;
+import com.almonium.card.core.model.projection.CardTranslationProjection;
 import com.almonium.user.core.model.entity.Learner;
 import com.almonium.user.core.model.entity.User;
 import com.almonium.util.TestDataGenerator;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -17,6 +23,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 @ExtendWith(SpringExtension.class)
@@ -32,6 +39,9 @@ class CardRepositoryTest {
     @Autowired
     private CardRepository cardRepository;
 
+    @Autowired
+    private TranslationRepository translationRepository;
+
     private Learner managedLearner;
 
     @BeforeEach
@@ -67,15 +77,6 @@ class CardRepositoryTest {
                         && card.getLanguage().equals(TEST_LANGUAGE));
     }
 
-    @DisplayName("Should find cards matching entry pattern with case insensitivity")
-    @Test
-    void givenOwnerAndEntry_whenFindAllByOwnerAndEntryLikeIgnoreCase_thenShouldReturnMatchingCards() {
-        List<Card> cards =
-                cardRepository.findAllByOwnerAndEntryLikeIgnoreCase(managedLearner, TEST_ENTRY.toLowerCase());
-        assertThat(cards).isNotEmpty();
-        assertThat(cards).anyMatch(card -> card.getEntry().equalsIgnoreCase(TEST_ENTRY));
-    }
-
     @DisplayName("Should get card by public ID with correct details")
     @Test
     void givenPublicId_whenGetByPublicId_thenShouldReturnCorrectCard() {
@@ -83,4 +84,105 @@ class CardRepositoryTest {
         assertThat(card).isPresent();
         assertThat(card.get().getPublicId()).isEqualTo(TEST_PUBLIC_ID);
     }
+
+    @DisplayName("Should page cards by update time and id, newest first")
+    @Test
+    void givenCursor_whenFindPageByOwner_thenShouldReturnCardsAfterCursorInOrder() {
+        Instant now = Instant.parse("2024-08-01T10:00:00Z");
+        Card oldest = persistCard("oldest", Language.EN, now.minusSeconds(60));
+        Card first = persistCard("first", Language.EN, now);
+        Card second = persistCard("second", Language.DE, now);
+        Card newest = persistCard("newest", Language.EN, now.plusSeconds(60));
+
+        List<CardProjection> firstPage = cardRepository.findPageByOwner(
+                managedLearner, CardCursor.START.updatedAt(), CardCursor.START.id(), Limit.of(2));
+        assertThat(firstPage).extracting(CardProjection::id).containsExactly(newest.getId(), second.getId());
+
+        CardProjection last = firstPage.get(1);
+        List<CardProjection> nextPage =
+                cardRepository.findPageByOwner(managedLearner, last.updatedAt(), last.id(), Limit.of(2));
+        assertThat(nextPage).extracting(CardProjection::id).containsExactly(first.getId(), oldest.getId());
+        assertThat(nextPage.get(0).entry()).isEqualTo("first");
+        assertThat(nextPage.get(0).ownerId()).isEqualTo(managedLearner.getId());
+
+        List<CardProjection> german = cardRepository.findPageByOwnerAndLanguage(
+                managedLearner, Language.DE, CardCursor.START.updatedAt(), CardCursor.START.id(), Limit.of(2));
+        assertThat(german).extracting(CardProjection::id).containsExactly(second.getId());
+    }
+
+    @DisplayName("Should return the due cards of the language, most overdue first")
+    @Test
+    void givenDueAndFutureCards_whenFindDueByOwnerAndLanguage_thenShouldReturnDueCardsInOrder() {
+        Instant now = Instant.parse("2024-08-01T10:00:00Z");
+        Card dueLater = persistDueCard("later", Language.DE, now.minusSeconds(60));
+        Card dueFirst = persistDueCard("first", Language.DE, now.minusSeconds(3600));
+        persistDueCard("future", Language.DE, now.plusSeconds(60));
+        persistDueCard("english", Language.EN, now.minusSeconds(7200));
+
+        List<CardProjection> due =
+                cardRepository.findDueByOwnerAndLanguage(managedLearner, Language.DE, now, Limit.of(10));
+        assertThat(due).extracting(CardProjection::id).containsExactly(dueFirst.getId(), dueLater.getId());
+
+        assertThat(cardRepository.findDueByOwnerAndLanguage(managedLearner, Language.DE, now, Limit.of(1)))
+                .extracting(CardProjection::id)
+                .containsExactly(dueFirst.getId());
+    }
+
+    @DisplayName("Should hand shared content over to the oldest sharing card")
+    @Test
+    void givenSharedCards_whenReassigned_thenSharingCardsFollowTheHeir() {
+        Card source = persistCard("source", Language.EN, Instant.now());
+        Translation translation =
+                Translation.builder().card(source).translation("translation").build();
+        entityManager.persist(translation);
+        Card heir = persistCard("heir", Language.EN, Instant.now());
+        heir.setContentSource(source);
+        Card other = persistCard("other", Language.EN, Instant.now());
+        other.setContentSource(source);
+        entityManager.flush();
+
+        assertThat(translationRepository.findProjectionsByCardIds(List.of(other.getId())))
+                .extracting(CardTranslationProjection::cardId, CardTranslationProjection::translation)
+                .containsExactly(tuple(other.getId(), "translation"));
+        assertThat(cardRepository.findFirstByContentSourceOrderById(source)).contains(heir);
+
+        translationRepository.reassignAll(source, heir);
+        cardRepository.reassignContentSource(source, heir);
+        entityManager.clear();
+
+        assertThat(entityManager
+                        .find(Card.class, other.getId())
+                        .getContentSource()
+                        .getId())
+                .isEqualTo(heir.getId());
+        assertThat(entityManager
+                        .find(Card.class, heir.getId())
+                        .getContentSource()
+                        .getId())
+                .isEqualTo(source.getId());
+        assertThat(entityManager
+                        .find(Translation.class, translation.getId())
+                        .getCard()
+                        .getId())
+                .isEqualTo(heir.getId());
+    }
+
+    private Card persistDueCard(String entry, Language language, Instant dueAt) {
+        Card card = TestDataGenerator.buildTestCard(UUID.randomUUID(), entry, managedLearner);
+        card.setLanguage(language);
+        card.setUpdatedAt(dueAt);
+        card.setDueAt(dueAt);
+        entityManager.persist(card);
+        entityManager.flush();
+        return card;
+    }
+
+    private Card persistCard(String entry, Language language, Instant updatedAt) {
+        Card card = TestDataGenerator.buildTestCard(UUID.randomUUID(), entry, managedLearner);
+        card.setLanguage(language);
+        card.setUpdatedAt(updatedAt);
+        entityManager.persist(card);
+        entityManager.flush();
+        return card;
+    }
 }
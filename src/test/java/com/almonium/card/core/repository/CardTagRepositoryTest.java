@@ -9,6 +9,7 @@ import com.almonium.card.core.model.entity.Tag;
 import com.almonium.user.core.model.entity.Learner;
 import com.almonium.user.core.model.entity.User;
 import com.almonium.util.TestDataGenerator;
+import java.util.List;
 import java.util.Set;
 import lombok.experimental.FieldDefaults;
 import org.junit.jupiter.api.BeforeEach;
@@ -74,6 +75,17 @@ class CardTagRepositoryTest {
         assertThat(cardTag.getTag()).isEqualTo(managedTag);
     }
 
+    @DisplayName("Should delete only the card's tags with the given ids")
+    @Test
+    void givenTagIds_whenDeleteAllByCardAndTagIdIn_thenDeletesThem() {
+        int deleted = cardTagRepository.deleteAllByCardAndTagIdIn(managedCard, List.of(managedTag.getId(), -1L));
+        entityManager.clear();
+
+        assertThat(deleted).isEqualTo(1);
+        assertThat(cardTagRepository.getByCardAndText(managedCard, managedTag.getText()))
+                .isNull();
+    }
+
     private Tag buildTestTag() {
         Tag tag = new Tag();
         tag.setText("tag");
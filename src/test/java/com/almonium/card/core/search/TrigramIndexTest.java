@@ -0,0 +1,49 @@
+package com.almonium.card.core.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TrigramIndexTest {
+    private TrigramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TrigramIndex();
+        index.addEntry(1L, "Apple");
+        index.addEntry(2L, "pineapple");
+        index.addEntry(3L, "application");
+        index.add(3L, "заявка", 1);
+        index.addEntry(4L, "dog");
+        index.add(4L, "an apple a day keeps the doctor away", 0.5);
+    }
+
+    @DisplayName("Should rank entries starting with the query above fuzzy matches")
+    @Test
+    void givenPrefixQuery_whenSearch_thenPrefixMatchesFirst() {
+        // both entries start with the query and contain all its trigrams, the tie goes to the newer card
+        assertThat(index.search("appl", 10, 0)).containsExactly(3L, 1L, 4L);
+    }
+
+    @DisplayName("Should tolerate typos")
+    @Test
+    void givenMisspelledQuery_whenSearch_thenFindsWord() {
+        assertThat(index.search("aple", 10, 0)).first().isEqualTo(1L);
+    }
+
+    @DisplayName("Should find cards by their translations and examples")
+    @Test
+    void givenTranslationOrExampleQuery_whenSearch_thenFindsCard() {
+        assertThat(index.search("заявк", 10, 0)).containsExactly(3L);
+        assertThat(index.search("doctor", 10, 0)).containsExactly(4L);
+    }
+
+    @DisplayName("Should page ranked results")
+    @Test
+    void givenOffset_whenSearch_thenSkipsBetterMatches() {
+        assertThat(index.search("appl", 1, 1)).containsExactly(1L);
+        assertThat(index.search("xyz", 10, 0)).isEmpty();
+    }
+}
@@ -3,19 +3,25 @@ package com.almonium.card.core.service;
 import static lombok.AccessLevel.PRIVATE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.anyLong;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.almonium.analyzer.translator.model.enums.Language;
 import com.almonium.card.core.dto.CardCreationDto;
+import com.almonium.card.core.dto.CardCursor;
 import com.almonium.card.core.dto.CardDto;
+import com.almonium.card.core.dto.CardPageDto;
 import com.almonium.card.core.dto.CardUpdateDto;
 import com.almonium.card.core.dto.ExampleDto;
 import com.almonium.card.core.dto.TagDto;
@@ -27,15 +33,21 @@ import com.almonium.card.core.model.entity.Example;
 import com.almonium.card.core.model.entity.Tag;
 import com.almonium.card.core.model.entity.Translation;
 import com.almonium.card.core.model.entity.pk.CardTagPK;
+import com.almonium.card.core.model.projection.CardProjection;
+import com.almonium.card.core.model.projection.CardTranslationProjection;
 import com.almonium.card.core.repository.CardRepository;
 import com.almonium.card.core.repository.CardTagRepository;
 import com.almonium.card.core.repository.ExampleRepository;
-import com.almonium.card.core.repository.TagRepository;
 import com.almonium.card.core.repository.TranslationRepository;
+import com.almonium.card.core.search.CardSearchEngine;
+import com.almonium.card.core.tag.TagResolver;
+import com.almonium.card.enrichment.service.CardEnrichmentOutbox;
+import com.almonium.card.sync.service.CardChangeLog;
+import com.almonium.user.core.exception.BadUserRequestActionException;
 import com.almonium.user.core.model.entity.Learner;
-import com.almonium.user.core.repository.LearnerRepository;
 import com.almonium.util.TestDataGenerator;
 import com.google.common.collect.Sets;
+import jakarta.persistence.EntityManager;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
@@ -43,7 +55,9 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -53,9 +67,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 @ExtendWith(MockitoExtension.class)
 @FieldDefaults(level = PRIVATE)
@@ -67,7 +83,7 @@ class CardServiceTest {
     CardTagRepository cardTagRepository;
 
     @Mock
-    TagRepository tagRepository;
+    TagResolver tagResolver;
 
     @Mock
     ExampleRepository exampleRepository;
@@ -76,10 +92,25 @@ class CardServiceTest {
     TranslationRepository translationRepository;
 
     @Mock
-    LearnerRepository learnerRepository;
+    CardMapper cardMapper;
 
     @Mock
-    CardMapper cardMapper;
+    CardSearchEngine cardSearchEngine;
+
+    @Mock
+    EntityManager entityManager;
+
+    @Mock
+    TagFacetService tagFacetService;
+
+    @Mock
+    CardSharingService cardSharingService;
+
+    @Mock
+    CardChangeLog cardChangeLog;
+
+    @Mock
+    CardEnrichmentOutbox cardEnrichmentOutbox;
 
     @InjectMocks
     CardService cardService;
@@ -87,29 +118,57 @@ class CardServiceTest {
     @Captor
     private ArgumentCaptor<List<CardTag>> captor;
 
-    @DisplayName("Should return a list of CardDto that match the search entry")
+    @Captor
+    private ArgumentCaptor<List<Example>> examplesCaptor;
+
+    @DisplayName("Should return a list of CardDto that match the search entry, in the order of their rank")
     @Test
     void givenSearchEntryAndUser_whenSearchByEntry_thenReturnMatchingCards() {
         // Arrange
         Learner user = new Learner();
-        Card card1 = Card.builder().id(1L).build();
-        card1.setEntry("test1");
-        Card card2 = Card.builder().id(2L).build();
-        card2.setEntry("test2");
-        List<Card> cards = Arrays.asList(card1, card2);
-        String entry = "test";
+        user.setId(7L);
+        Instant now = Instant.now();
+        CardProjection card1 =
+                new CardProjection(1L, UUID.randomUUID(), 7L, "test1", Language.EN, now, now, 0, 0, null, null);
+        CardProjection card2 =
+                new CardProjection(2L, UUID.randomUUID(), 7L, "test2", Language.EN, now, now, 0, 0, null, null);
+        String entry = " Test ";
+
+        when(cardSearchEngine.search(7L, "test", 20, 0)).thenReturn(List.of(2L, 1L));
+        when(cardRepository.findProjectionsByIds(List.of(2L, 1L))).thenReturn(List.of(card1, card2));
+        when(cardMapper.cardProjectionToDto(card1))
+                .thenReturn(CardDto.builder().id(1L).build());
+        when(cardMapper.cardProjectionToDto(card2))
+                .thenReturn(CardDto.builder().id(2L).build());
+
+        // Act
+        List<CardDto> result = cardService.searchByEntry(entry, user, 0, 20);
+
+        // Assert
+        assertThat(result).extracting(CardDto::getId).containsExactly(2L, 1L);
+    }
+
+    @DisplayName("Should leave out found cards of other learners")
+    @Test
+    void givenOtherLearnersCardFound_whenSearchByEntry_thenItIsLeftOut() {
+        // Arrange
+        Learner user = new Learner();
+        user.setId(7L);
+        Instant now = Instant.now();
+        CardProjection own =
+                new CardProjection(1L, UUID.randomUUID(), 7L, "test1", Language.EN, now, now, 0, 0, null, null);
+        CardProjection foreign =
+                new CardProjection(2L, UUID.randomUUID(), 8L, "test2", Language.EN, now, now, 0, 0, null, null);
 
-        when(cardRepository.findAllByOwnerAndEntryLikeIgnoreCase(user, "%test%"))
-                .thenReturn(cards);
-        when(cardMapper.cardEntityToDto(card1)).thenReturn(new CardDto());
-        when(cardMapper.cardEntityToDto(card2)).thenReturn(new CardDto());
+        when(cardSearchEngine.search(7L, "test", 20, 0)).thenReturn(List.of(2L, 1L));
+        when(cardRepository.findProjectionsByIds(List.of(2L, 1L))).thenReturn(List.of(own, foreign));
+        when(cardMapper.cardProjectionToDto(own)).thenReturn(CardDto.builder().id(1L).build());
 
         // Act
-        List<CardDto> result = cardService.searchByEntry(entry, user);
+        List<CardDto> result = cardService.searchByEntry("test", user, 0, 20);
 
         // Assert
-        assertThat(result).isNotNull();
-        assertThat(result.size()).isEqualTo(2);
+        assertThat(result).extracting(CardDto::getId).containsExactly(1L);
     }
 
     @DisplayName("Should return CardDto when getCardById is called")
@@ -172,6 +231,80 @@ class CardServiceTest {
         assertThat(result).isEqualTo(expectedDtos);
     }
 
+    @DisplayName("Should assemble a card page from projections and return the cursor of its last card")
+    @Test
+    void givenMoreCardsThanPageSize_whenGetCardStackPage_thenReturnPageWithNextCursor() {
+        // Arrange
+        Learner learner = new Learner();
+        Instant updatedAt = Instant.parse("2024-08-01T10:00:00Z");
+        CardProjection card1 = new CardProjection(
+                2L, UUID.randomUUID(), 7L, "two", Language.EN, updatedAt, updatedAt, 0, 0, null, null);
+        CardProjection card2 = new CardProjection(
+                1L, UUID.randomUUID(), 7L, "one", Language.EN, updatedAt, updatedAt, 0, 0, null, null);
+        CardProjection extra = new CardProjection(
+                3L,
+                UUID.randomUUID(),
+                7L,
+                "three",
+                Language.EN,
+                updatedAt.minusSeconds(1),
+                updatedAt,
+                0,
+                0,
+                null,
+                null);
+        when(cardRepository.findPageByOwner(learner, CardCursor.START.updatedAt(), CardCursor.START.id(), Limit.of(3)))
+                .thenReturn(List.of(card1, card2, extra));
+
+        CardTranslationProjection translation = new CardTranslationProjection(2L, 10L, "два", false);
+        when(translationRepository.findProjectionsByCardIds(List.of(2L, 1L))).thenReturn(List.of(translation));
+        when(exampleRepository.findProjectionsByCardIds(List.of(2L, 1L))).thenReturn(List.of());
+        when(cardTagRepository.findProjectionsByCardIds(List.of(2L, 1L))).thenReturn(List.of());
+
+        when(cardMapper.cardProjectionToDto(card1))
+                .thenReturn(CardDto.builder().id(2L).build());
+        when(cardMapper.cardProjectionToDto(card2))
+                .thenReturn(CardDto.builder().id(1L).build());
+        TranslationDto translationDto = new TranslationDto(10L, "два", false);
+        when(cardMapper.translationProjectionToDto(translation)).thenReturn(translationDto);
+
+        // Act
+        CardPageDto page = cardService.getCardStackPage(learner, null, null, 2);
+
+        // Assert
+        assertThat(page.cards()).extracting(CardDto::getId).containsExactly(2L, 1L);
+        assertThat(page.cards().get(0).getTranslations()).containsExactly(translationDto);
+        assertThat(page.cards().get(1).getTranslations()).isEmpty();
+        assertThat(page.cards().get(1).getTags()).isEmpty();
+        assertThat(CardCursor.decode(page.nextCursor())).isEqualTo(new CardCursor(updatedAt, 1L));
+        verify(cardRepository, never()).findAllByOwner(learner);
+    }
+
+    @DisplayName("Should return no cursor on the last page")
+    @Test
+    void givenLastPage_whenGetCardStackPage_thenReturnNoCursor() {
+        // Arrange
+        Learner learner = new Learner();
+        CardCursor cursor = new CardCursor(Instant.parse("2024-08-01T10:00:00Z"), 5L);
+        when(cardRepository.findPageByOwnerAndLanguage(
+                        learner, Language.DE, cursor.updatedAt(), cursor.id(), Limit.of(51)))
+                .thenReturn(List.of());
+
+        // Act
+        CardPageDto page = cardService.getCardStackPage(learner, Language.DE, cursor.encode(), 50);
+
+        // Assert
+        assertThat(page.cards()).isEmpty();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @DisplayName("Should reject a malformed cursor")
+    @Test
+    void givenMalformedCursor_whenGetCardStackPage_thenThrowException() {
+        assertThatThrownBy(() -> cardService.getCardStackPage(new Learner(), null, "not a cursor", 50))
+                .isInstanceOf(BadUserRequestActionException.class);
+    }
+
     @DisplayName("Should throw exception when getCardByHash is called with non-existent hash")
     @Test
     void givenNonExistentCardHash_whenGetCardByHash_thenThrowException() {
@@ -185,6 +318,32 @@ class CardServiceTest {
                 .isInstanceOf(NoSuchElementException.class);
     }
 
+    @DisplayName("Should queue a created card for enrichment")
+    @Test
+    void givenCardCreationDto_whenCreateCard_thenCardQueuedForEnrichment() {
+        // Arrange
+        CardCreationDto dto = CardCreationDto.builder()
+                .entry("entry")
+                .language("EN")
+                .tags(new TagDto[] {})
+                .build();
+        Card card = Card.builder()
+                .entry("entry")
+                .language(Language.EN)
+                .translations(List.of())
+                .examples(List.of())
+                .build();
+        Learner learner = Learner.builder().id(1L).cards(new HashSet<>()).build();
+        when(cardMapper.cardDtoToEntity(dto)).thenReturn(card);
+
+        // Act
+        cardService.createCard(learner, dto);
+
+        // Assert
+        verify(cardRepository).save(card);
+        verify(cardEnrichmentOutbox).publish(card);
+    }
+
     @DisplayName("Should delete card by ID")
     @Test
     void givenCardId_whenDeleteById_thenCardIsDeleted() {
@@ -197,6 +356,28 @@ class CardServiceTest {
         verify(cardRepository, times(1)).deleteById(id);
     }
 
+    @DisplayName("Should take the change number before touching the tag facets of a deleted card")
+    @Test
+    void givenTaggedCard_whenDeleteById_thenLearnerLockedBeforeFacets() {
+        // Arrange
+        Learner owner = Learner.builder().id(1L).build();
+        Card card = Card.builder()
+                .id(5L)
+                .owner(owner)
+                .language(Language.EN)
+                .cardTags(Set.of())
+                .build();
+        when(cardRepository.findById(5L)).thenReturn(Optional.of(card));
+
+        // Act
+        cardService.deleteById(5L);
+
+        // Assert
+        InOrder inOrder = inOrder(cardChangeLog, tagFacetService);
+        inOrder.verify(cardChangeLog).recordDeletion(card);
+        inOrder.verify(tagFacetService).remove(eq(owner), eq(Language.EN), any());
+    }
+
     @DisplayName("Should delete specified examples")
     @Test
     void givenCardUpdateDto_whenUpdateCard_thenExamplesDeleted() {
@@ -242,10 +423,59 @@ class CardServiceTest {
         cardService.updateCard(cardId, dto, user);
 
         // Assert
-        // Verify deletion of examples
-        for (int id : deletedExamplesIds) {
-            verify(exampleRepository).deleteById((long) id);
-        }
+        // Verify deletion of examples with one statement
+        verify(exampleRepository).deleteAllByCardAndIdIn(card, Set.of(4L, 5L));
+        verify(exampleRepository, never()).deleteById(anyLong());
+    }
+
+    @DisplayName("Should give a shared card its own copy of the content on its first edit, with the update applied")
+    @Test
+    void givenSharedCard_whenUpdateCard_thenContentForked() {
+        // Arrange
+        Card source = Card.builder()
+                .id(1L)
+                .translations(List.of(
+                        Translation.builder().id(11L).translation("first").build(),
+                        Translation.builder().id(12L).translation("second").build()))
+                .examples(List.of(Example.builder()
+                        .id(21L)
+                        .example("example")
+                        .translation("translation")
+                        .build()))
+                .build();
+        Card shared =
+                Card.builder().id(2L).contentSource(source).cardTags(Set.of()).build();
+
+        CardUpdateDto dto = CardUpdateDto.builder()
+                .id(2L)
+                .deletedTranslationsIds(new int[] {12})
+                .deletedExamplesIds(new int[] {})
+                .translations(new TranslationDto[] {
+                    new TranslationDto(11L, "changed", false), new TranslationDto(null, "new", false)
+                })
+                .examples(new ExampleDto[] {})
+                .tags(new TagDto[] {})
+                .build();
+
+        when(cardRepository.findById(2L)).thenReturn(Optional.of(shared));
+
+        // Act
+        cardService.updateCard(2L, dto, new Learner());
+
+        // Assert
+        assertThat(shared.getContentSource()).isNull();
+        verify(translationRepository)
+                .saveAll(argThat((List<Translation> translations) -> translations.stream()
+                                .map(Translation::getTranslation)
+                                .toList()
+                                .equals(List.of("changed", "new"))
+                        && translations.stream().allMatch(translation -> translation.getCard() == shared)));
+        verify(exampleRepository)
+                .saveAll(argThat((List<Example> examples) -> examples.size() == 1
+                        && examples.get(0).getCard() == shared
+                        && examples.get(0).getExample().equals("example")));
+        verify(translationRepository, never()).deleteAllByCardAndIdIn(any(), any());
+        verify(cardSharingService, never()).handOverContent(any(Card.class));
     }
 
     @DisplayName("Should delete specified translations")
@@ -284,10 +514,9 @@ class CardServiceTest {
         cardService.updateCard(cardId, dto, user);
 
         // Assert
-        // Verify deletion of translations
-        for (int id : deletedTranslationsIds) {
-            verify(translationRepository).deleteById((long) id);
-        }
+        // Verify deletion of translations with one statement
+        verify(translationRepository).deleteAllByCardAndIdIn(card, Set.of(2L, 3L));
+        verify(translationRepository, never()).deleteById(anyLong());
     }
 
     @DisplayName("Should update existing translations")
@@ -297,7 +526,7 @@ class CardServiceTest {
         Long cardId = 1L;
 
         TranslationDto[] updatedTranslations = {
-            new TranslationDto(1L, "updatedTranslation1"), new TranslationDto(2L, "updatedTranslation2")
+            new TranslationDto(1L, "updatedTranslation1", false), new TranslationDto(2L, "updatedTranslation2", false)
         };
 
         // Create a list of translations, some of which will be updated
@@ -326,25 +555,23 @@ class CardServiceTest {
 
         when(cardRepository.findById(cardId)).thenReturn(Optional.of(card));
 
-        // Mocking translation retrieval
-        for (TranslationDto translationDto : updatedTranslations) {
-            when(translationRepository.findById(translationDto.getId()))
-                    .thenReturn(Optional.of(Translation.builder()
-                            .id(translationDto.getId())
-                            .translation(translationDto.getTranslation())
-                            .build()));
-        }
+        // Mocking translation retrieval, all edited translations are fetched at once
+        when(translationRepository.findAllByCardAndIdIn(card, Set.of(1L, 2L))).thenReturn(originalTranslations);
 
         // Act
         cardService.updateCard(cardId, dto, user);
 
         // Assert
         // Verify update of translations
-        for (TranslationDto updatedTranslation : updatedTranslations) {
-            verify(translationRepository)
-                    .save(argThat(translation -> translation.getId().equals(updatedTranslation.getId())
-                            && translation.getTranslation().equals(updatedTranslation.getTranslation())));
-        }
+        verify(translationRepository, never()).findById(anyLong());
+        verify(translationRepository).saveAll(argThat(translations -> {
+            for (TranslationDto updatedTranslation : updatedTranslations) {
+                if (!translationsContain(translations, updatedTranslation)) {
+                    return false;
+                }
+            }
+            return true;
+        }));
     }
 
     @DisplayName("Should update existing examples")
@@ -390,27 +617,21 @@ class CardServiceTest {
 
         when(cardRepository.findById(cardId)).thenReturn(Optional.of(card));
 
-        // Mocking example retrieval
-        for (ExampleDto exampleDto : updatedExamples) {
-            when(exampleRepository.findById(exampleDto.getId()))
-                    .thenReturn(Optional.of(Example.builder()
-                            .id(exampleDto.getId())
-                            .example(exampleDto.getExample())
-                            .translation(exampleDto.getTranslation())
-                            .build()));
-        }
+        // Mocking example retrieval, all edited examples are fetched at once
+        when(exampleRepository.findAllByCardAndIdIn(card, Set.of(1L, 2L))).thenReturn(originalExamples);
 
         // Act
         cardService.updateCard(cardId, dto, user);
 
         // Assert
         // Verify update of examples
-        for (ExampleDto updatedExample : updatedExamples) {
-            verify(exampleRepository)
-                    .save(argThat(example -> example.getId().equals(updatedExample.getId())
-                            && example.getExample().equals(updatedExample.getExample())
-                            && example.getTranslation().equals(updatedExample.getTranslation())));
-        }
+        verify(exampleRepository, never()).findById(anyLong());
+        assertThat(originalExamples)
+                .extracting(Example::getId, Example::getExample, Example::getTranslation)
+                .containsExactly(
+                        tuple(1L, "updatedExample1", "updatedTranslation1"),
+                        tuple(2L, "updatedExample2", "updatedTranslation2"));
+        verify(exampleRepository).saveAll(originalExamples);
     }
 
     @DisplayName("Should create new translations")
@@ -420,7 +641,7 @@ class CardServiceTest {
         Long cardId = 1L;
 
         TranslationDto[] newTranslations = {
-            new TranslationDto(null, "newTranslation1"), new TranslationDto(null, "newTranslation2")
+            new TranslationDto(null, "newTranslation1", false), new TranslationDto(null, "newTranslation2", false)
         };
 
         CardUpdateDto dto = CardUpdateDto.builder()
@@ -446,12 +667,16 @@ class CardServiceTest {
         cardService.updateCard(cardId, dto, user);
 
         // Assert
-        // Verify creation of new translations
-        for (TranslationDto newTranslation : newTranslations) {
-            verify(translationRepository)
-                    .save(argThat(translation -> translation.getTranslation().equals(newTranslation.getTranslation())
-                            && translation.getCard().equals(card)));
-        }
+        // Verify creation of new translations in one batch
+        verify(translationRepository).saveAll(argThat(translations -> {
+            for (TranslationDto newTranslation : newTranslations) {
+                if (!translationsContain(translations, newTranslation)) {
+                    return false;
+                }
+            }
+            return true;
+        }));
+        verify(translationRepository, never()).save(any());
     }
 
     @DisplayName("Should create new examples")
@@ -488,13 +713,13 @@ class CardServiceTest {
         cardService.updateCard(cardId, dto, user);
 
         // Assert
-        // Verify creation of new examples
-        for (ExampleDto newExample : newExamples) {
-            verify(exampleRepository)
-                    .save(argThat(example -> example.getExample().equals(newExample.getExample())
-                            && example.getTranslation().equals(newExample.getTranslation())
-                            && example.getCard().equals(card)));
-        }
+        // Verify creation of new examples in one batch
+        verify(exampleRepository).saveAll(examplesCaptor.capture());
+        assertThat(examplesCaptor.getValue())
+                .extracting(Example::getId, Example::getExample, Example::getTranslation, Example::getCard)
+                .containsExactly(
+                        tuple(null, "newExample1", "newTranslation1", card),
+                        tuple(null, "newExample2", "newTranslation2", card));
     }
 
     @DisplayName("Should update the timestamp of the card")
@@ -571,15 +796,17 @@ class CardServiceTest {
         HashSet<CardTag> existingCardTagsSet = Sets.newHashSet(cardTagToBeDeleted, oldCardTag1, oldCardTag2);
         card.setCardTags(existingCardTagsSet);
 
-        mockCardTagRepository(List.of(cardTagToBeDeleted));
+        when(cardRepository.findById(cardId)).thenReturn(Optional.of(card));
+        when(tagResolver.resolve(Set.of(newTag))).thenReturn(Map.of(newTag, new Tag(99L, newTag)));
 
         // Act
         cardService.updateCard(cardId, dto, learner);
 
         // Assert
-        verify(cardTagRepository).delete(cardTagToBeDeleted);
-        verify(cardTagRepository, never()).delete(oldCardTag1);
-        verify(cardTagRepository, never()).delete(oldCardTag2);
+        verify(cardTagRepository)
+                .deleteAllByCardAndTagIdIn(
+                        card, List.of(cardTagToBeDeleted.getTag().getId()));
+        assertThat(card.getCardTags()).containsExactlyInAnyOrder(oldCardTag1, oldCardTag2);
         assertNewTagAddition(newTag);
     }
 
@@ -598,9 +825,10 @@ class CardServiceTest {
         };
 
         when(cardMapper.cardDtoToEntity(mockDto)).thenReturn(mockCard);
-        when(tagRepository.findByTextWithNormalization(eq("text1"))).thenReturn(Optional.empty());
-        when(tagRepository.findByTextWithNormalization(eq("text2")))
-                .thenReturn(Optional.of(Tag.builder().id(22L).text("text2").build()));
+        when(tagResolver.resolve(List.of("text1", "text2")))
+                .thenReturn(Map.of(
+                        "text1", Tag.builder().id(21L).text("text1").build(),
+                        "text2", Tag.builder().id(22L).text("text2").build()));
         when(mockCard.getExamples()).thenReturn(mockExamples);
         when(mockCard.getTranslations()).thenReturn(mockTranslations);
         when(mockDto.getTags()).thenReturn(mockTags);
@@ -617,13 +845,11 @@ class CardServiceTest {
         assertThat(capturedCardTags.get(0).getTag().getText()).isEqualTo("text1");
         assertThat(capturedCardTags.get(1).getTag().getText()).isEqualTo("text2");
 
-        verify(mockLearner).addCard(mockCard);
-        verify(tagRepository).save(eq((new Tag("text1"))));
-        verify(tagRepository).findByTextWithNormalization(eq("text1"));
-        verify(tagRepository).findByTextWithNormalization(eq("text2"));
+        verify(mockCard).setOwner(mockLearner);
+        verify(tagResolver).resolve(List.of("text1", "text2"));
         verify(translationRepository).saveAll(mockTranslations);
         verify(exampleRepository).saveAll(mockExamples);
-        verify(learnerRepository).save(mockLearner);
+        verifyNoInteractions(mockLearner);
     }
 
     @DisplayName("Should return user's cards of the specified language")
@@ -665,25 +891,18 @@ class CardServiceTest {
     }
 
     private CardTag createCardTag(Card card, Learner learner, String tagText) {
+        Tag tag = new Tag(TestDataGenerator.random().nextLong(), tagText);
         return CardTag.builder()
-                .id(new CardTagPK(card.getId(), TestDataGenerator.random().nextLong()))
+                .id(new CardTagPK(card.getId(), tag.getId()))
                 .card(card)
-                .tag(new Tag(tagText))
+                .tag(tag)
                 .learner(learner)
                 .build();
     }
 
-    private void mockCardTagRepository(List<CardTag> existingCardTags) {
-        when(cardRepository.findById(anyLong()))
-                .thenReturn(Optional.of(existingCardTags.iterator().next().getCard()));
-        existingCardTags.forEach(cardTag -> when(cardTagRepository.getByCardAndText(
-                        eq(cardTag.getCard()), eq(cardTag.getTag().getText())))
-                .thenReturn(cardTag));
-    }
-
     private void assertNewTagAddition(String newTag) {
         ArgumentCaptor<CardTag> argumentCaptor = ArgumentCaptor.forClass(CardTag.class);
-        verify(cardTagRepository, times(1)).save(argumentCaptor.capture());
+        verify(entityManager, times(1)).persist(argumentCaptor.capture());
 
         List<CardTag> capturedTags = argumentCaptor.getAllValues();
         assertThat(capturedTags)
@@ -691,4 +910,14 @@ class CardServiceTest {
                 .extracting(Tag::getText)
                 .containsExactlyInAnyOrder(newTag);
     }
+
+    private static boolean translationsContain(Iterable<Translation> translations, TranslationDto expected) {
+        for (Translation translation : translations) {
+            if (Objects.equals(translation.getId(), expected.getId())
+                    && translation.getTranslation().equals(expected.getTranslation())) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -0,0 +1,147 @@
+package com.almonium.card.core.service;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.almonium.analyzer.translator.model.enums.Language;
+import com.almonium.card.core.model.entity.Card;
+import com.almonium.card.core.repository.CardRepository;
+import com.almonium.card.core.repository.ExampleRepository;
+import com.almonium.card.core.repository.TranslationRepository;
+import com.almonium.card.enrichment.model.enums.EnrichmentStatus;
+import com.almonium.card.enrichment.service.CardEnrichmentOutbox;
+import com.almonium.card.sync.service.CardChangeLog;
+import com.almonium.user.core.model.entity.Learner;
+import java.util.Optional;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = PRIVATE)
+class CardSharingServiceTest {
+    @Mock
+    CardRepository cardRepository;
+
+    @Mock
+    TranslationRepository translationRepository;
+
+    @Mock
+    ExampleRepository exampleRepository;
+
+    @Mock
+    CardChangeLog cardChangeLog;
+
+    @Mock
+    CardEnrichmentOutbox cardEnrichmentOutbox;
+
+    @InjectMocks
+    CardSharingService cardSharingService;
+
+    @DisplayName("Should save one card pointing at the content of the shared card")
+    @Test
+    void givenCard_whenShare_thenNewCardPointsAtItsContent() {
+        // Arrange
+        Card card = Card.builder().id(1L).entry("entry").language(Language.EN).build();
+        Learner recipient = Learner.builder().id(2L).build();
+        when(cardRepository.save(any(Card.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        Card shared = cardSharingService.share(card, recipient);
+
+        // Assert
+        assertThat(shared.getId()).isNull();
+        assertThat(shared.getOwner()).isEqualTo(recipient);
+        assertThat(shared.getEntry()).isEqualTo("entry");
+        assertThat(shared.getContentSource()).isSameAs(card);
+        verify(translationRepository, never()).saveAll(any());
+        verify(exampleRepository, never()).saveAll(any());
+    }
+
+    @DisplayName("Should copy the enrichment of an enriched card and queue the copy of a card still waiting for it")
+    @Test
+    void givenEnrichmentStatus_whenShare_thenCopiedOrQueued() {
+        // Arrange
+        Card enriched = Card.builder()
+                .id(1L)
+                .frequency(7)
+                .audioUrl("https://audio")
+                .enrichmentStatus(EnrichmentStatus.ENRICHED)
+                .build();
+        Card pending =
+                Card.builder().id(2L).enrichmentStatus(EnrichmentStatus.PENDING).build();
+        when(cardRepository.save(any(Card.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        Card sharedEnriched =
+                cardSharingService.share(enriched, Learner.builder().id(3L).build());
+        Card sharedPending =
+                cardSharingService.share(pending, Learner.builder().id(3L).build());
+
+        // Assert
+        assertThat(sharedEnriched.getFrequency()).isEqualTo(7);
+        assertThat(sharedEnriched.getAudioUrl()).isEqualTo("https://audio");
+        // shared cards are new, so they are told apart by identity rather than equals
+        verify(cardEnrichmentOutbox, never()).publish(argThat(card -> card == sharedEnriched));
+        verify(cardEnrichmentOutbox).publish(argThat(card -> card == sharedPending));
+    }
+
+    @DisplayName("Should point a card shared from a shared card at the original content")
+    @Test
+    void givenSharedCard_whenShare_thenNewCardPointsAtContentSource() {
+        // Arrange
+        Card source = Card.builder().id(1L).build();
+        Card card = Card.builder().id(2L).contentSource(source).build();
+        when(cardRepository.save(any(Card.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        Card shared = cardSharingService.share(card, Learner.builder().id(3L).build());
+
+        // Assert
+        assertThat(shared.getContentSource()).isSameAs(source);
+    }
+
+    @DisplayName("Should move the content to the oldest sharing card and point the others at it")
+    @Test
+    void givenSharedContent_whenHandOverContent_thenHeirOwnsIt() {
+        // Arrange
+        Card source = Card.builder().id(1L).build();
+        Card heir = Card.builder().id(2L).contentSource(source).build();
+        when(cardRepository.findFirstByContentSourceOrderById(source)).thenReturn(Optional.of(heir));
+
+        // Act
+        Optional<Card> result = cardSharingService.handOverContent(source);
+
+        // Assert
+        assertThat(result).contains(heir);
+        assertThat(heir.getContentSource()).isNull();
+        verify(translationRepository).reassignAll(source, heir);
+        verify(exampleRepository).reassignAll(source, heir);
+        verify(cardRepository).reassignContentSource(source, heir);
+    }
+
+    @DisplayName("Should leave unshared content alone")
+    @Test
+    void givenUnsharedCard_whenHandOverContent_thenNothingMoved() {
+        // Arrange
+        Card card = Card.builder().id(1L).build();
+        when(cardRepository.findFirstByContentSourceOrderById(card)).thenReturn(Optional.empty());
+
+        // Act
+        Optional<Card> result = cardSharingService.handOverContent(card);
+
+        // Assert
+        assertThat(result).isEmpty();
+        verify(translationRepository, never()).reassignAll(any(), any());
+        verify(cardRepository, never()).reassignContentSource(any(), any());
+    }
+}
@@ -0,0 +1,116 @@
+package com.almonium.card.core.service;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.almonium.analyzer.translator.model.enums.Language;
+import com.almonium.card.core.model.entity.TagFacet;
+import com.almonium.card.core.model.entity.pk.TagFacetPK;
+import com.almonium.card.core.repository.TagFacetRepository;
+import com.almonium.card.core.tag.TagFacetStore;
+import com.almonium.user.core.model.entity.Learner;
+import com.google.common.collect.Lists;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = PRIVATE)
+class TagFacetServiceTest {
+    private static final Instant LAST_USED = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock
+    TagFacetRepository tagFacetRepository;
+
+    @Mock
+    TagFacetStore tagFacetStore;
+
+    @InjectMocks
+    TagFacetService tagFacetService;
+
+    Learner learner = Learner.builder().id(1L).build();
+
+    @DisplayName("Should increment existing facets and create missing ones")
+    @Test
+    void givenNewAndKnownTags_whenAdd_thenCountsIncremented() {
+        // Arrange
+        TagFacet known = facet(10L, 2);
+        when(tagFacetRepository.findForUpdate(1L, Language.EN, Set.of(10L, 11L)))
+                .thenReturn(List.of(known));
+
+        // Act
+        tagFacetService.add(learner, Language.EN, List.of(10L, 11L));
+
+        // Assert
+        assertThat(known.getCardCount()).isEqualTo(3);
+        assertThat(known.getLastUsedAt()).isAfter(LAST_USED);
+        verify(tagFacetStore).addAll(eq(1L), eq(Language.EN), eq(Map.of(11L, 1)), any(Instant.class));
+    }
+
+    @DisplayName("Should delete facets whose count drops to zero and never create negative ones")
+    @Test
+    void givenLastCardOfTag_whenRemove_thenFacetDeleted() {
+        // Arrange
+        TagFacet lastCard = facet(10L, 1);
+        TagFacet twoCards = facet(11L, 2);
+        when(tagFacetRepository.findForUpdate(1L, Language.EN, Set.of(10L, 11L, 12L)))
+                .thenReturn(List.of(lastCard, twoCards));
+
+        // Act
+        tagFacetService.remove(learner, Language.EN, List.of(10L, 11L, 12L));
+
+        // Assert
+        assertThat(twoCards.getCardCount()).isEqualTo(1);
+        assertThat(twoCards.getLastUsedAt()).isEqualTo(LAST_USED);
+        verify(tagFacetRepository)
+                .deleteAll(argThat(deleted -> Lists.newArrayList(deleted).equals(List.of(lastCard))));
+        verifyNoInteractions(tagFacetStore);
+    }
+
+    @DisplayName("Should move a facet by the whole delta of a batch")
+    @Test
+    void givenBatchDelta_whenAdjust_thenCountMovedByDelta() {
+        // Arrange
+        TagFacet known = facet(10L, 1);
+        when(tagFacetRepository.findForUpdate(1L, Language.EN, Set.of(10L))).thenReturn(List.of(known));
+
+        // Act
+        tagFacetService.adjust(learner, Language.EN, Map.of(10L, 3));
+
+        // Assert
+        assertThat(known.getCardCount()).isEqualTo(4);
+        verifyNoInteractions(tagFacetStore);
+    }
+
+    @DisplayName("Should not query anything when there is nothing to adjust")
+    @Test
+    void givenNoTags_whenAdd_thenNoQueries() {
+        // Act
+        tagFacetService.add(learner, Language.EN, List.of());
+
+        // Assert
+        verify(tagFacetRepository, never()).findForUpdate(anyLong(), eq(Language.EN), anyCollection());
+        verifyNoInteractions(tagFacetStore);
+    }
+
+    private TagFacet facet(long tagId, int cardCount) {
+        return new TagFacet(new TagFacetPK(1L, Language.EN, tagId), cardCount, LAST_USED);
+    }
+}
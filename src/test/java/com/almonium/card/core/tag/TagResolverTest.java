@@ -0,0 +1,75 @@
+package com.almonium.card.core.tag;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import com.almonium.card.core.model.entity.Tag;
+import com.almonium.card.core.repository.TagRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = PRIVATE)
+class TagResolverTest {
+    @Mock
+    TagStore tagStore;
+
+    @Mock
+    TagRepository tagRepository;
+
+    TagResolver tagResolver;
+
+    @BeforeEach
+    void setUp() {
+        tagResolver = new TagResolver(tagStore, tagRepository, new SimpleMeterRegistry(), 100);
+    }
+
+    @DisplayName("Should normalize texts and upsert all unknown tags at once")
+    @Test
+    void givenUnknownTags_whenResolve_thenUpsertsThemInOneCall() {
+        // Arrange
+        Tag verbs = new Tag(1L, "verbs");
+        Tag phrasalVerbs = new Tag(2L, "phrasal_verbs");
+        when(tagStore.upsertAll(Set.of("verbs", "phrasal_verbs"))).thenReturn(List.of(verbs, phrasalVerbs));
+
+        // Act
+        Map<String, Tag> tags = tagResolver.resolve(List.of("Verbs", " phrasal  verbs ", "verbs"));
+
+        // Assert
+        assertThat(tags).containsOnly(Map.entry("verbs", verbs), Map.entry("phrasal_verbs", phrasalVerbs));
+    }
+
+    @DisplayName("Should answer known tags from the cache and upsert only the new ones")
+    @Test
+    void givenKnownTag_whenResolveAgain_thenStoreIsNotAskedForIt() {
+        // Arrange
+        Tag verbs = new Tag(1L, "verbs");
+        Tag verbsReference = new Tag(1L, "verbs");
+        Tag nouns = new Tag(3L, "nouns");
+        when(tagStore.upsertAll(Set.of("verbs"))).thenReturn(List.of(verbs));
+        when(tagStore.upsertAll(Set.of("nouns"))).thenReturn(List.of(nouns));
+        when(tagRepository.getReferenceById(1L)).thenReturn(verbsReference);
+        tagResolver.resolve(List.of("verbs"));
+
+        // Act
+        Map<String, Tag> tags = tagResolver.resolve(List.of("verbs", "nouns"));
+
+        // Assert
+        assertThat(tags).containsOnly(Map.entry("verbs", verbsReference), Map.entry("nouns", nouns));
+        verify(tagStore).upsertAll(Set.of("verbs"));
+        verify(tagStore).upsertAll(Set.of("nouns"));
+        verifyNoMoreInteractions(tagStore);
+    }
+}
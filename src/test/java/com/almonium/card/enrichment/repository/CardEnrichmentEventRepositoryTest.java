@@ -0,0 +1,94 @@
+package com.almonium.card.enrichment.repository;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.almonium.analyzer.translator.model.enums.Language;
+import com.almonium.card.core.model.entity.Card;
+import com.almonium.card.enrichment.model.entity.CardEnrichmentEvent;
+import com.almonium.card.enrichment.model.projection.CardEnrichmentTarget;
+import com.almonium.user.core.model.entity.Learner;
+import com.almonium.user.core.model.entity.User;
+import com.almonium.util.TestDataGenerator;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+@DataJpaTest
+@FieldDefaults(level = PRIVATE)
+class CardEnrichmentEventRepositoryTest {
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    @Autowired
+    CardEnrichmentEventRepository cardEnrichmentEventRepository;
+
+    Learner learner;
+
+    @BeforeEach
+    void setup() {
+        User user = TestDataGenerator.buildTestUser();
+        entityManager.persist(user);
+        learner = user.getLearner();
+        entityManager.flush();
+    }
+
+    @DisplayName("Should return the available events oldest first, leaving out claimed ones")
+    @Test
+    void givenClaimedAndAvailableEvents_whenFindAvailable_thenOnlyAvailableReturned() {
+        CardEnrichmentEvent first = persistEvent(persistCard("one"), NOW.minusSeconds(60));
+        persistEvent(persistCard("two"), NOW.plusSeconds(60));
+        CardEnrichmentEvent third = persistEvent(persistCard("three"), NOW);
+
+        List<CardEnrichmentEvent> available = cardEnrichmentEventRepository.findAvailable(NOW, Limit.of(10));
+
+        assertThat(available).containsExactly(first, third);
+    }
+
+    @DisplayName("Should return a card once per fluent language of its owner")
+    @Test
+    void givenOwnerWithFluentLanguages_whenFindTargets_thenRowPerLanguage() {
+        learner.setFluentLangs(Set.of(Language.DE, Language.FR));
+        Card card = persistCard("entry");
+        CardEnrichmentEvent event = persistEvent(card, NOW);
+
+        List<CardEnrichmentTarget> targets = cardEnrichmentEventRepository.findTargets(List.of(event.getId()));
+
+        assertThat(targets)
+                .extracting(CardEnrichmentTarget::fluentLanguage)
+                .containsExactlyInAnyOrder(Language.DE, Language.FR);
+        assertThat(targets).allSatisfy(target -> assertThat(target.cardId()).isEqualTo(card.getId()));
+    }
+
+    private Card persistCard(String entry) {
+        Card card = TestDataGenerator.buildTestCard(UUID.randomUUID(), entry, learner);
+        entityManager.persist(card);
+        return card;
+    }
+
+    private CardEnrichmentEvent persistEvent(Card card, Instant availableAt) {
+        CardEnrichmentEvent event = CardEnrichmentEvent.builder()
+                .cardId(card.getId())
+                .language(card.getLanguage())
+                .availableAt(availableAt)
+                .createdAt(NOW)
+                .build();
+        entityManager.persist(event);
+        entityManager.flush();
+        return event;
+    }
+}
@@ -0,0 +1,124 @@
+package com.almonium.card.enrichment.service;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.almonium.analyzer.analyzer.service.FrequencyService;
+import com.almonium.analyzer.client.wordnik.WordnikClient;
+import com.almonium.analyzer.client.wordnik.dto.WordnikAudioDto;
+import com.almonium.analyzer.translator.dto.DefinitionDto;
+import com.almonium.analyzer.translator.dto.TranslationCardDto;
+import com.almonium.analyzer.translator.dto.TranslationDto;
+import com.almonium.analyzer.translator.model.enums.Language;
+import com.almonium.analyzer.translator.service.TranslationEngine;
+import com.almonium.card.enrichment.model.CardEnrichment;
+import com.almonium.card.enrichment.model.projection.CardEnrichmentTarget;
+import java.util.List;
+import java.util.Optional;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = PRIVATE)
+class CardEnricherTest {
+    @Mock
+    FrequencyService frequencyService;
+
+    @Mock
+    WordnikClient wordnikClient;
+
+    @Mock
+    TranslationEngine translationEngine;
+
+    @Mock
+    CardEnrichmentOutbox cardEnrichmentOutbox;
+
+    @InjectMocks
+    CardEnricher cardEnricher;
+
+    @Captor
+    ArgumentCaptor<List<CardEnrichment>> enrichments;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cardEnricher, "maxSuggestedTranslations", 2);
+    }
+
+    @DisplayName("Should look up frequency, audio and translations into the first fluent language")
+    @Test
+    void givenEnglishCard_whenEnrich_thenAllFound() {
+        // Arrange
+        when(cardEnrichmentOutbox.findTargets(List.of(1L)))
+                .thenReturn(List.of(
+                        new CardEnrichmentTarget(1L, 10L, "house", Language.EN, Language.FR),
+                        new CardEnrichmentTarget(1L, 10L, "house", Language.EN, Language.DE)));
+        when(frequencyService.getFrequency(Language.EN, "house")).thenReturn(Optional.of(80));
+        when(wordnikClient.getAudioFile("house"))
+                .thenReturn(ResponseEntity.ok(List.of(
+                        WordnikAudioDto.builder().build(),
+                        WordnikAudioDto.builder().fileUrl("https://audio").build())));
+        when(translationEngine.translate("house", Language.EN, Language.FR))
+                .thenReturn(Optional.of(translation("maison", "bâtiment", "maison", "foyer")));
+
+        // Act
+        cardEnricher.enrich(Language.EN, List.of(1L));
+
+        // Assert
+        verify(cardEnrichmentOutbox).complete(eq(List.of(1L)), enrichments.capture());
+        assertThat(enrichments.getValue())
+                .containsExactly(new CardEnrichment(10L, 80, "https://audio", List.of("maison", "bâtiment")));
+        verify(cardEnrichmentOutbox, never()).retry(any());
+    }
+
+    @DisplayName("Should retry the cards whose lookup failed and complete the others, including deleted ones")
+    @Test
+    void givenFailingLookup_whenEnrich_thenFailedCardRetried() {
+        // Arrange
+        when(cardEnrichmentOutbox.findTargets(List.of(1L, 2L, 3L)))
+                .thenReturn(List.of(
+                        new CardEnrichmentTarget(1L, 10L, "Haus", Language.DE, null),
+                        new CardEnrichmentTarget(2L, 20L, "Baum", Language.DE, null)));
+        when(frequencyService.getFrequency(Language.DE, "Haus")).thenReturn(Optional.empty());
+        when(frequencyService.getFrequency(Language.DE, "Baum")).thenThrow(new IllegalStateException("down"));
+
+        // Act
+        cardEnricher.enrich(Language.DE, List.of(1L, 2L, 3L));
+
+        // Assert
+        verify(cardEnrichmentOutbox)
+                .complete(
+                        eq(List.of(1L, 3L)),
+                        argThat(list -> list.equals(List.of(new CardEnrichment(10L, null, null, List.of())))));
+        verify(cardEnrichmentOutbox).retry(List.of(2L));
+        verifyNoInteractions(wordnikClient, translationEngine);
+    }
+
+    private static TranslationCardDto translation(String... texts) {
+        TranslationDto[] translations = new TranslationDto[texts.length];
+        for (int i = 0; i < texts.length; i++) {
+            translations[i] = TranslationDto.builder().text(texts[i]).build();
+        }
+        return TranslationCardDto.builder()
+                .definitions(new DefinitionDto[] {
+                    DefinitionDto.builder().translations(translations).build()
+                })
+                .build();
+    }
+}
@@ -0,0 +1,219 @@
+package com.almonium.card.enrichment.service;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.almonium.analyzer.translator.model.enums.Language;
+import com.almonium.card.core.model.entity.Card;
+import com.almonium.card.core.model.entity.Translation;
+import com.almonium.card.core.model.projection.CardTranslationProjection;
+import com.almonium.card.core.repository.CardRepository;
+import com.almonium.card.core.repository.TranslationRepository;
+import com.almonium.card.enrichment.model.CardEnrichment;
+import com.almonium.card.enrichment.model.entity.CardEnrichmentEvent;
+import com.almonium.card.enrichment.model.enums.EnrichmentStatus;
+import com.almonium.card.enrichment.repository.CardEnrichmentEventRepository;
+import com.almonium.card.sync.service.CardChangeLog;
+import com.almonium.user.core.model.entity.Learner;
+import com.google.common.collect.Lists;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = PRIVATE)
+class CardEnrichmentOutboxTest {
+    private static final long RETRY_DELAY_MS = 1000;
+
+    @Mock
+    CardEnrichmentEventRepository cardEnrichmentEventRepository;
+
+    @Mock
+    CardRepository cardRepository;
+
+    @Mock
+    TranslationRepository translationRepository;
+
+    @Mock
+    CardChangeLog cardChangeLog;
+
+    @Mock
+    EntityManager entityManager;
+
+    @InjectMocks
+    CardEnrichmentOutbox cardEnrichmentOutbox;
+
+    Learner owner = Learner.builder().id(1L).build();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cardEnrichmentOutbox, "retryDelayMs", RETRY_DELAY_MS);
+        ReflectionTestUtils.setField(cardEnrichmentOutbox, "maxAttempts", 3);
+    }
+
+    @DisplayName("Should store the enrichment, suggest only new translations and delete the events")
+    @Test
+    void givenEnrichment_whenComplete_thenCardEnrichedAndEventsDeleted() {
+        // Arrange
+        Card card = Card.builder().id(10L).owner(owner).language(Language.EN).build();
+        when(cardRepository.findOwnerIdsOfCardsAndTheirSharing(Set.of(10L))).thenReturn(List.of(1L));
+        when(cardRepository.findAllById(Set.of(10L))).thenReturn(List.of(card));
+        when(translationRepository.findProjectionsByCardIds(Set.of(10L)))
+                .thenReturn(List.of(new CardTranslationProjection(10L, 100L, "дім", false)));
+
+        // Act
+        cardEnrichmentOutbox.complete(
+                List.of(1L, 2L), List.of(new CardEnrichment(10L, 80, "https://audio", List.of("дім", "будинок"))));
+
+        // Assert
+        assertThat(card.getFrequency()).isEqualTo(80);
+        assertThat(card.getAudioUrl()).isEqualTo("https://audio");
+        assertThat(card.getEnrichmentStatus()).isEqualTo(EnrichmentStatus.ENRICHED);
+        verify(translationRepository).saveAll(argThat(saved -> {
+            List<Translation> translations = Lists.newArrayList(saved);
+            return translations.size() == 1
+                    && translations.get(0).getTranslation().equals("будинок")
+                    && translations.get(0).isSuggested();
+        }));
+        verify(cardChangeLog).recordChanges(owner, List.of(card));
+        verify(cardEnrichmentEventRepository).deleteAllByIdIn(List.of(1L, 2L));
+    }
+
+    @DisplayName("Should lock the owners before reading the cards, so edits committed meanwhile are kept")
+    @Test
+    void givenEnrichment_whenComplete_thenOwnersLockedBeforeCardsRead() {
+        // Arrange
+        Card card = Card.builder().id(10L).owner(owner).language(Language.EN).build();
+        when(cardRepository.findOwnerIdsOfCardsAndTheirSharing(Set.of(10L))).thenReturn(List.of(1L));
+        when(cardRepository.findAllById(Set.of(10L))).thenReturn(List.of(card));
+
+        // Act
+        cardEnrichmentOutbox.complete(List.of(1L), List.of(new CardEnrichment(10L, 80, null, List.of())));
+
+        // Assert
+        InOrder inOrder = inOrder(cardChangeLog, cardRepository);
+        inOrder.verify(cardChangeLog).lock(Set.of(1L));
+        inOrder.verify(cardRepository).findAllById(Set.of(10L));
+    }
+
+    @DisplayName("Should enrich a card claimed with several events once and delete all of its events")
+    @Test
+    void givenSeveralEventsOfOneCard_whenComplete_thenCardEnrichedOnceAndAllEventsDeleted() {
+        // Arrange
+        Card card = Card.builder().id(10L).owner(owner).language(Language.EN).build();
+        when(cardRepository.findAllById(Set.of(10L))).thenReturn(List.of(card));
+        when(translationRepository.findProjectionsByCardIds(Set.of(10L))).thenReturn(List.of());
+
+        // Act
+        cardEnrichmentOutbox.complete(
+                List.of(1L, 2L),
+                List.of(
+                        new CardEnrichment(10L, 80, null, List.of("дім")),
+                        new CardEnrichment(10L, 80, null, List.of("дім"))));
+
+        // Assert
+        assertThat(card.getEnrichmentStatus()).isEqualTo(EnrichmentStatus.ENRICHED);
+        verify(translationRepository).saveAll(argThat(saved -> Lists.newArrayList(saved).size() == 1));
+        verify(cardEnrichmentEventRepository).deleteAllByIdIn(List.of(1L, 2L));
+    }
+
+    @DisplayName("Should record a change for the cards that shared the content before it was enriched")
+    @Test
+    void givenContentSharedWhilePending_whenComplete_thenSharingCardsChanged() {
+        // Arrange
+        Learner recipient = Learner.builder().id(2L).build();
+        Card source = Card.builder().id(10L).owner(owner).language(Language.EN).build();
+        Card shared = Card.builder()
+                .id(11L)
+                .owner(recipient)
+                .language(Language.EN)
+                .contentSource(source)
+                .build();
+        when(cardRepository.findOwnerIdsOfCardsAndTheirSharing(Set.of(10L))).thenReturn(List.of(1L, 2L));
+        when(cardRepository.findAllById(Set.of(10L))).thenReturn(List.of(source));
+        when(translationRepository.findProjectionsByCardIds(Set.of(10L))).thenReturn(List.of());
+        when(cardRepository.findAllByContentSourceIn(List.of(source))).thenReturn(List.of(shared));
+
+        // Act
+        cardEnrichmentOutbox.complete(List.of(1L), List.of(new CardEnrichment(10L, null, null, List.of("дім"))));
+
+        // Assert
+        verify(cardChangeLog).recordChanges(owner, List.of(source));
+        verify(cardChangeLog).recordChanges(recipient, List.of(shared));
+        verify(entityManager, never()).refresh(shared);
+    }
+
+    @DisplayName("Should lock the owner of a card shared after the locks were taken and read it again")
+    @Test
+    void givenContentSharedAfterLocking_whenComplete_thenSharingOwnerLockedAndCardRefreshed() {
+        // Arrange
+        Learner recipient = Learner.builder().id(2L).build();
+        Card source = Card.builder().id(10L).owner(owner).language(Language.EN).build();
+        Card shared = Card.builder()
+                .id(11L)
+                .owner(recipient)
+                .language(Language.EN)
+                .contentSource(source)
+                .build();
+        when(cardRepository.findOwnerIdsOfCardsAndTheirSharing(Set.of(10L))).thenReturn(List.of(1L));
+        when(cardRepository.findAllById(Set.of(10L))).thenReturn(List.of(source));
+        when(translationRepository.findProjectionsByCardIds(Set.of(10L))).thenReturn(List.of());
+        when(cardRepository.findAllByContentSourceIn(List.of(source))).thenReturn(List.of(shared));
+
+        // Act
+        cardEnrichmentOutbox.complete(List.of(1L), List.of(new CardEnrichment(10L, null, null, List.of("дім"))));
+
+        // Assert
+        InOrder inOrder = inOrder(cardChangeLog, entityManager);
+        inOrder.verify(cardChangeLog).lock(List.of(2L));
+        inOrder.verify(entityManager).refresh(shared);
+        verify(cardChangeLog).recordChanges(recipient, List.of(shared));
+    }
+
+    @DisplayName("Should postpone a failed event with a growing delay and give up after the last attempt")
+    @Test
+    void givenFailedEvents_whenRetry_thenPostponedOrGivenUp() {
+        // Arrange
+        CardEnrichmentEvent second = event(1L, 10L, 1);
+        CardEnrichmentEvent last = event(2L, 20L, 2);
+        Card card = Card.builder().id(20L).owner(owner).build();
+        when(cardEnrichmentEventRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(second, last));
+        when(cardRepository.findAllById(List.of(20L))).thenReturn(List.of(card));
+        Instant before = Instant.now();
+
+        // Act
+        cardEnrichmentOutbox.retry(List.of(1L, 2L));
+
+        // Assert
+        assertThat(second.getAttempts()).isEqualTo(2);
+        assertThat(second.getAvailableAt()).isAfterOrEqualTo(before.plusMillis(2 * RETRY_DELAY_MS));
+        assertThat(card.getEnrichmentStatus()).isEqualTo(EnrichmentStatus.FAILED);
+        verify(cardEnrichmentEventRepository).deleteAll(List.of(last));
+        verify(cardEnrichmentEventRepository, never()).deleteAll(List.of(second, last));
+    }
+
+    private static CardEnrichmentEvent event(long id, long cardId, int attempts) {
+        return CardEnrichmentEvent.builder()
+                .id(id)
+                .cardId(cardId)
+                .language(Language.EN)
+                .attempts(attempts)
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+package com.almonium.card.review.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.almonium.card.core.model.entity.Card;
+import com.almonium.card.review.model.ReviewGrade;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ReviewSchedulerTest {
+    private static final Instant NOW = Instant.parse("2024-08-01T10:00:00Z");
+
+    private final ReviewScheduler reviewScheduler = new ReviewScheduler(600, 365);
+
+    @DisplayName("Should grow the interval 1 day, 6 days, then by the ease factor")
+    @Test
+    void givenGoodAnswers_whenApply_thenIntervalsFollowSm2() {
+        // Arrange
+        Card card = Card.builder().build();
+
+        // Act & Assert
+        reviewScheduler.apply(card, ReviewGrade.GOOD, NOW);
+        assertThat(card.getIntervalDays()).isEqualTo(1);
+        assertThat(card.getDueAt()).isEqualTo(NOW.plus(1, ChronoUnit.DAYS));
+
+        reviewScheduler.apply(card, ReviewGrade.GOOD, NOW);
+        assertThat(card.getIntervalDays()).isEqualTo(6);
+
+        reviewScheduler.apply(card, ReviewGrade.GOOD, NOW);
+        // GOOD keeps the initial ease of 2.5
+        assertThat(card.getEaseFactor()).isCloseTo(2.5, within(1e-9));
+        assertThat(card.getIntervalDays()).isEqualTo(15);
+        assertThat(card.getIteration()).isEqualTo(3);
+        assertThat(card.getLastRepeat()).isEqualTo(NOW);
+    }
+
+    @DisplayName("Should restart a failed card and show it again after the relearn delay")
+    @Test
+    void givenAgain_whenApply_thenCardIsRelearned() {
+        // Arrange
+        Card card = Card.builder().iteration(4).intervalDays(30).build();
+
+        // Act
+        reviewScheduler.apply(card, ReviewGrade.AGAIN, NOW);
+
+        // Assert
+        assertThat(card.getIteration()).isZero();
+        assertThat(card.getIntervalDays()).isZero();
+        assertThat(card.getDueAt()).isEqualTo(NOW.plus(Duration.ofMinutes(10)));
+        assertThat(card.getEaseFactor()).isCloseTo(1.96, within(1e-9));
+    }
+
+    @DisplayName("Should keep the ease factor above its minimum and the interval under the maximum")
+    @Test
+    void givenExtremeHistory_whenApply_thenBoundsHold() {
+        // Arrange
+        Card hard = Card.builder().easeFactor(1.3).iteration(2).intervalDays(10).build();
+        Card easy =
+                Card.builder().easeFactor(2.5).iteration(9).intervalDays(300).build();
+
+        // Act
+        reviewScheduler.apply(hard, ReviewGrade.HARD, NOW);
+        reviewScheduler.apply(easy, ReviewGrade.EASY, NOW);
+
+        // Assert
+        assertThat(hard.getEaseFactor()).isEqualTo(ReviewScheduler.MIN_EASE);
+        assertThat(hard.getIntervalDays()).isEqualTo(13);
+        assertThat(easy.getIntervalDays()).isEqualTo(365);
+    }
+}
@@ -0,0 +1,76 @@
+package com.almonium.card.review.service;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.when;
+
+import com.almonium.card.core.model.entity.Card;
+import com.almonium.card.core.repository.CardRepository;
+import com.almonium.card.core.service.CardService;
+import com.almonium.card.review.dto.ReviewResultDto;
+import com.almonium.card.review.dto.ReviewScheduleDto;
+import com.almonium.card.review.model.ReviewGrade;
+import com.almonium.card.sync.service.CardChangeLog;
+import com.almonium.user.core.model.entity.Learner;
+import com.google.common.collect.Lists;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = PRIVATE)
+class ReviewServiceTest {
+    @Mock
+    CardRepository cardRepository;
+
+    @Mock
+    CardService cardService;
+
+    @Mock
+    ReviewScheduler reviewScheduler;
+
+    @Mock
+    CardChangeLog cardChangeLog;
+
+    @InjectMocks
+    ReviewService reviewService;
+
+    @DisplayName("Should load the batch under the learner lock, apply answers in time order and ignore unknown cards")
+    @Test
+    void givenReviewBatch_whenReview_thenAppliesAnswersChronologically() {
+        // Arrange
+        Learner learner = Learner.builder().id(7L).build();
+        Card card = Card.builder().id(1L).build();
+        Instant first = Instant.parse("2024-08-01T10:00:00Z");
+        Instant second = first.plusSeconds(30);
+        List<ReviewResultDto> reviews = List.of(
+                new ReviewResultDto(1L, ReviewGrade.GOOD, second),
+                new ReviewResultDto(2L, ReviewGrade.GOOD, first),
+                new ReviewResultDto(1L, ReviewGrade.AGAIN, first));
+        when(cardRepository.findAllByOwnerAndIdIn(learner, Set.of(1L, 2L))).thenReturn(List.of(card));
+
+        // Act
+        List<ReviewScheduleDto> result = reviewService.review(learner, reviews);
+
+        // Assert
+        InOrder inOrder = inOrder(cardChangeLog, reviewScheduler, cardRepository);
+        inOrder.verify(cardChangeLog).lock(List.of(7L));
+        inOrder.verify(cardRepository).findAllByOwnerAndIdIn(learner, Set.of(1L, 2L));
+        inOrder.verify(reviewScheduler).apply(card, ReviewGrade.AGAIN, first);
+        inOrder.verify(reviewScheduler).apply(eq(card), eq(ReviewGrade.GOOD), eq(second));
+        inOrder.verify(cardRepository)
+                .saveAll(argThat(saved -> Lists.newArrayList(saved).equals(List.of(card))));
+        assertThat(result).extracting(ReviewScheduleDto::cardId).containsExactly(1L);
+    }
+}
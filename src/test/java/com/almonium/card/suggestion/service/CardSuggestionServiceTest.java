@@ -5,32 +5,28 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.almonium.analyzer.translator.model.enums.Language;
 import com.almonium.card.core.dto.CardDto;
-import com.almonium.card.core.mapper.CardMapper;
 import com.almonium.card.core.model.entity.Card;
-import com.almonium.card.core.model.entity.Example;
-import com.almonium.card.core.model.entity.Translation;
 import com.almonium.card.core.repository.CardRepository;
-import com.almonium.card.core.repository.ExampleRepository;
-import com.almonium.card.core.repository.TranslationRepository;
+import com.almonium.card.core.service.CardService;
+import com.almonium.card.core.service.CardSharingService;
 import com.almonium.card.suggestion.dto.CardSuggestionDto;
 import com.almonium.card.suggestion.model.entity.CardSuggestion;
+import com.almonium.card.suggestion.model.projection.SuggestedCardProjection;
 import com.almonium.card.suggestion.repository.CardSuggestionRepository;
 import com.almonium.user.core.model.entity.Learner;
 import com.almonium.user.core.repository.LearnerRepository;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 import lombok.experimental.FieldDefaults;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -49,39 +45,35 @@ class CardSuggestionServiceTest {
     CardSuggestionRepository cardSuggestionRepository;
 
     @Mock
-    ExampleRepository exampleRepository;
+    LearnerRepository learnerRepository;
 
     @Mock
-    TranslationRepository translationRepository;
+    CardService cardService;
 
     @Mock
-    LearnerRepository learnerRepository;
-
-    @Mock
-    CardMapper cardMapper;
+    CardSharingService cardSharingService;
 
     @InjectMocks
     CardSuggestionService cardSuggestionService;
 
-    @DisplayName("Should return list of suggested CardDto")
+    @DisplayName("Should return the suggested cards with their senders as users")
     @Test
     void givenUser_whenGetSuggestedCards_thenReturnListOfCardDto() {
         // Arrange
         Learner user = new Learner();
-        Long id = 1L;
-        Learner sender = Learner.builder().id(id).build();
-        Card card = Card.builder().id(id).build();
-        List<CardSuggestion> suggestions = Collections.singletonList(new CardSuggestion(sender, user, card));
-        CardDto expectedDto = CardDto.builder().userId(sender.getId()).build();
+        SuggestedCardProjection suggestion = new SuggestedCardProjection(
+                7L, 1L, UUID.randomUUID(), 2L, "entry", Language.EN, null, null, 0, 0, null, null);
+        CardDto cardDto = CardDto.builder().id(1L).userId(2L).build();
 
-        when(cardSuggestionRepository.getByRecipient(user)).thenReturn(suggestions);
-        when(cardMapper.cardEntityToDto(card)).thenReturn(expectedDto);
+        when(cardSuggestionRepository.findInbox(user)).thenReturn(List.of(suggestion));
+        when(cardService.toDtos(List.of(suggestion.card()))).thenReturn(List.of(cardDto));
 
         // Act
         List<CardDto> result = cardSuggestionService.getSuggestedCards(user);
 
         // Assert
-        assertThat(result).containsExactly(expectedDto);
+        assertThat(result).containsExactly(cardDto);
+        assertThat(cardDto.getUserId()).isEqualTo(7L);
     }
 
     @DisplayName("Should throw IllegalAccessException on accepting suggestion with unauthorized user")
@@ -145,49 +137,24 @@ class CardSuggestionServiceTest {
                 .hasMessageContaining("You aren't authorized to act on behalf of other userInfo");
     }
 
-    @DisplayName("Should clone a card and save it along with its examples, translations, and tags")
+    @DisplayName("Should share the suggested card with the recipient and delete the suggestion")
     @Test
-    void givenCardAndUser_whenCloneCard_thenSaveClonedCardAndRelatedEntities() {
-        // Arrange
-        Card card = new Card();
-
-        List<Example> examples = Arrays.asList(
-                new Example(1L, "example1", "translation1", card), new Example(2L, "example2", "translation2", card));
-        List<Translation> translations =
-                Arrays.asList(new Translation(3L, "translation1", card), new Translation(4L, "translation2", card));
-
-        card = Card.builder()
-                .examples(examples)
-                .translations(translations)
-                .cardTags(new HashSet<>())
-                .build();
-
+    void givenSuggestion_whenAcceptSuggestion_thenCardSharedWithRecipient() {
         // Arrange
-        Long suggestionId = 3L;
-        Long userId = 4L;
-        Learner recipient = Learner.builder().id(userId).cards(new HashSet<>()).build();
-        CardSuggestion cardSuggestion = CardSuggestion.builder()
-                .id(suggestionId)
-                .card(card)
-                .recipient(recipient)
-                .build();
-
-        when(cardSuggestionRepository.findById(suggestionId)).thenReturn(Optional.of(cardSuggestion));
+        Card card = Card.builder().id(1L).build();
+        Learner recipient = Learner.builder().id(4L).build();
+        CardSuggestion cardSuggestion =
+                CardSuggestion.builder().id(3L).card(card).recipient(recipient).build();
 
-        CardDto cardDto = new CardDto(); // Initialize as needed
-        when(cardMapper.cardEntityToDto(card)).thenReturn(cardDto);
-        when(cardMapper.copyCardDtoToEntity(eq(cardDto))).thenReturn(card);
+        when(cardSuggestionRepository.findById(3L)).thenReturn(Optional.of(cardSuggestion));
+        when(cardSharingService.share(card, recipient))
+                .thenReturn(Card.builder().id(2L).build());
 
         // Act
-        cardSuggestionService.acceptSuggestion(suggestionId, recipient);
+        cardSuggestionService.acceptSuggestion(3L, recipient);
 
         // Assert
-        verify(cardRepository)
-                .save(argThat(savedCard -> savedCard.getExamples().equals(examples)
-                        && savedCard.getTranslations().equals(translations)));
-        verify(translationRepository).saveAll(eq(translations));
-        verify(exampleRepository).saveAll(eq(examples));
-        verify(learnerRepository).save(eq(recipient));
+        verify(cardSharingService).share(card, recipient);
         verify(cardSuggestionRepository).delete(cardSuggestion);
     }
 
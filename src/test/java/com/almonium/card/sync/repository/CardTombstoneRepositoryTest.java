@@ -0,0 +1,90 @@
+package com.almonium.card.sync.repository;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.almonium.card.sync.model.entity.CardTombstone;
+import com.almonium.user.core.model.entity.Learner;
+import com.almonium.user.core.model.entity.User;
+import com.almonium.user.core.repository.LearnerRepository;
+import com.almonium.util.TestDataGenerator;
+import java.time.Instant;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+@DataJpaTest
+@FieldDefaults(level = PRIVATE)
+class CardTombstoneRepositoryTest {
+    private static final Instant CUTOFF = Instant.parse("2024-08-01T00:00:00Z");
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    @Autowired
+    CardTombstoneRepository cardTombstoneRepository;
+
+    @Autowired
+    LearnerRepository learnerRepository;
+
+    Learner learner;
+
+    @BeforeEach
+    void setup() {
+        User user = TestDataGenerator.buildTestUser();
+        entityManager.persist(user);
+        learner = user.getLearner();
+        entityManager.flush();
+    }
+
+    @DisplayName("Should hand out consecutive change numbers per learner")
+    @Test
+    void givenLearner_whenAdvanceCardChangeSeq_thenNumbersAreConsecutive() {
+        learnerRepository.advanceCardChangeSeq(learner.getId(), 3);
+        assertThat(learnerRepository.getCardChangeSeq(learner.getId())).isEqualTo(3);
+
+        learnerRepository.advanceCardChangeSeq(learner.getId(), 1);
+        assertThat(learnerRepository.getCardChangeSeq(learner.getId())).isEqualTo(4);
+    }
+
+    @DisplayName("Should leave out tombstones numbered after the sync's latest version")
+    @Test
+    void givenTombstonesPastLatest_whenFoundBetween_thenLeftOut() {
+        entityManager.persist(new CardTombstone(1L, learner.getId(), 4, CUTOFF));
+        entityManager.persist(new CardTombstone(2L, learner.getId(), 5, CUTOFF));
+        entityManager.persist(new CardTombstone(3L, learner.getId(), 6, CUTOFF));
+        entityManager.flush();
+
+        assertThat(cardTombstoneRepository.findByLearnerIdAndChangeVersionBetweenOrderByChangeVersion(
+                        learner.getId(), 5, 5, Limit.of(10)))
+                .extracting(CardTombstone::getCardId)
+                .containsExactly(2L);
+    }
+
+    @DisplayName("Should purge old tombstones and raise the sync floor to the newest purged one")
+    @Test
+    void givenOldAndRecentTombstones_whenPurged_thenSyncFloorRaised() {
+        entityManager.persist(new CardTombstone(1L, learner.getId(), 1, CUTOFF.minusSeconds(60)));
+        entityManager.persist(new CardTombstone(2L, learner.getId(), 2, CUTOFF.minusSeconds(30)));
+        entityManager.persist(new CardTombstone(3L, learner.getId(), 3, CUTOFF.plusSeconds(30)));
+        entityManager.flush();
+
+        cardTombstoneRepository.raiseSyncFloors(CUTOFF);
+        int deleted = cardTombstoneRepository.deleteDeletedBefore(CUTOFF);
+
+        assertThat(deleted).isEqualTo(2);
+        assertThat(learnerRepository.getCardSyncFloor(learner.getId())).isEqualTo(2);
+        assertThat(cardTombstoneRepository.findByLearnerIdAndChangeVersionBetweenOrderByChangeVersion(
+                        learner.getId(), 1, 10, Limit.of(10)))
+                .extracting(CardTombstone::getCardId)
+                .containsExactly(3L);
+    }
+}
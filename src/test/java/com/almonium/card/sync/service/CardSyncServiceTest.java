@@ -0,0 +1,185 @@
+package com.almonium.card.sync.service;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.almonium.card.core.dto.CardDto;
+import com.almonium.card.core.model.projection.CardProjection;
+import com.almonium.card.core.repository.CardRepository;
+import com.almonium.card.core.service.CardService;
+import com.almonium.card.sync.dto.CardSyncDto;
+import com.almonium.card.sync.dto.CardSyncToken;
+import com.almonium.card.sync.model.entity.CardTombstone;
+import com.almonium.card.sync.model.projection.CardVersionProjection;
+import com.almonium.card.sync.repository.CardTombstoneRepository;
+import com.almonium.user.core.exception.BadUserRequestActionException;
+import com.almonium.user.core.model.entity.Learner;
+import com.almonium.user.core.repository.LearnerRepository;
+import java.util.List;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = PRIVATE)
+class CardSyncServiceTest {
+    private static final long LEARNER_ID = 1L;
+
+    @Mock
+    CardRepository cardRepository;
+
+    @Mock
+    CardTombstoneRepository cardTombstoneRepository;
+
+    @Mock
+    LearnerRepository learnerRepository;
+
+    @Mock
+    CardService cardService;
+
+    @InjectMocks
+    CardSyncService cardSyncService;
+
+    Learner learner = Learner.builder().id(LEARNER_ID).build();
+
+    @DisplayName("Should return changes and deletions in change order, cut at the page size")
+    @Test
+    void givenChangesAndDeletions_whenSync_thenPageHoldsTheLowestVersions() {
+        // Arrange
+        String token = new CardSyncToken(10).encode();
+        when(learnerRepository.getCardChangeSeq(LEARNER_ID)).thenReturn(15L);
+        when(cardRepository.findChangedSince(LEARNER_ID, 10, 15, Limit.of(4)))
+                .thenReturn(List.of(new CardVersionProjection(100L, 11), new CardVersionProjection(101L, 14)));
+        when(cardTombstoneRepository.findByLearnerIdAndChangeVersionBetweenOrderByChangeVersion(
+                        LEARNER_ID, 11, 15, Limit.of(4)))
+                .thenReturn(List.of(tombstone(200L, 12), tombstone(201L, 13)));
+        CardProjection row = projection(100L);
+        when(cardRepository.findProjectionsByIds(List.of(100L))).thenReturn(List.of(row));
+        CardDto card = CardDto.builder().id(100L).build();
+        when(cardService.toDtos(List.of(row))).thenReturn(List.of(card));
+
+        // Act
+        CardSyncDto result = cardSyncService.sync(learner, token, 3);
+
+        // Assert
+        assertThat(result.cards()).containsExactly(card);
+        assertThat(result.deletedIds()).containsExactly(200L, 201L);
+        assertThat(result.hasMore()).isTrue();
+        assertThat(result.reset()).isFalse();
+        assertThat(CardSyncToken.decode(result.syncToken()).version()).isEqualTo(13);
+    }
+
+    @DisplayName("Should hand out the latest version once the client has caught up")
+    @Test
+    void givenNoChanges_whenSync_thenTokenMovesToLatestVersion() {
+        // Arrange
+        when(learnerRepository.getCardChangeSeq(LEARNER_ID)).thenReturn(20L);
+        when(cardRepository.findChangedSince(anyLong(), anyLong(), anyLong(), any())).thenReturn(List.of());
+        when(cardTombstoneRepository.findByLearnerIdAndChangeVersionBetweenOrderByChangeVersion(
+                        anyLong(), anyLong(), anyLong(), any()))
+                .thenReturn(List.of());
+
+        // Act
+        CardSyncDto result = cardSyncService.sync(learner, new CardSyncToken(20).encode(), 100);
+
+        // Assert
+        assertThat(result.cards()).isEmpty();
+        assertThat(result.deletedIds()).isEmpty();
+        assertThat(result.hasMore()).isFalse();
+        assertThat(CardSyncToken.decode(result.syncToken()).version()).isEqualTo(20);
+    }
+
+    @DisplayName("Should leave out changes numbered after the sequence was read, so none is skipped")
+    @Test
+    void givenChangeAndDeletionCommittedMeanwhile_whenSync_thenTokenStopsAtLatest() {
+        // Arrange
+        // 21 (a change) and 22 (a deletion) commit after the sequence was read as 20
+        when(learnerRepository.getCardChangeSeq(LEARNER_ID)).thenReturn(20L);
+        when(cardRepository.findChangedSince(LEARNER_ID, 20, 20, Limit.of(101))).thenReturn(List.of());
+        when(cardTombstoneRepository.findByLearnerIdAndChangeVersionBetweenOrderByChangeVersion(
+                        LEARNER_ID, 21, 20, Limit.of(101)))
+                .thenReturn(List.of());
+
+        // Act
+        CardSyncDto result = cardSyncService.sync(learner, new CardSyncToken(20).encode(), 100);
+
+        // Assert
+        assertThat(result.deletedIds()).isEmpty();
+        assertThat(CardSyncToken.decode(result.syncToken()).version()).isEqualTo(20);
+    }
+
+    @DisplayName("Should resync from scratch when the deletions since the token were purged")
+    @Test
+    void givenTokenBelowSyncFloor_whenSync_thenReset() {
+        // Arrange
+        when(learnerRepository.getCardChangeSeq(LEARNER_ID)).thenReturn(50L);
+        when(learnerRepository.getCardSyncFloor(LEARNER_ID)).thenReturn(30L);
+        when(cardRepository.findChangedSince(LEARNER_ID, 0, 50, Limit.of(101))).thenReturn(List.of());
+
+        // Act
+        CardSyncDto result = cardSyncService.sync(learner, new CardSyncToken(5).encode(), 100);
+
+        // Assert
+        assertThat(result.reset()).isTrue();
+        assertThat(CardSyncToken.decode(result.syncToken()).version()).isEqualTo(50);
+        verify(cardTombstoneRepository, never())
+                .findByLearnerIdAndChangeVersionBetweenOrderByChangeVersion(anyLong(), anyLong(), anyLong(), any());
+    }
+
+    @DisplayName("Should page through a full sync below the sync floor without resetting")
+    @Test
+    void givenFullSyncOverManyPages_whenSync_thenEveryPageContinuesIt() {
+        // Arrange
+        when(learnerRepository.getCardChangeSeq(LEARNER_ID)).thenReturn(50L);
+        when(cardRepository.findChangedSince(LEARNER_ID, 0, 50, Limit.of(3)))
+                .thenReturn(List.of(
+                        new CardVersionProjection(100L, 3),
+                        new CardVersionProjection(101L, 5),
+                        new CardVersionProjection(102L, 7)));
+        when(cardRepository.findChangedSince(LEARNER_ID, 5, 50, Limit.of(3)))
+                .thenReturn(List.of(new CardVersionProjection(102L, 7)));
+        when(cardTombstoneRepository.findByLearnerIdAndChangeVersionBetweenOrderByChangeVersion(
+                        LEARNER_ID, 6, 50, Limit.of(3)))
+                .thenReturn(List.of());
+        when(cardRepository.findProjectionsByIds(any())).thenReturn(List.of());
+
+        // Act
+        CardSyncDto first = cardSyncService.sync(learner, null, 2);
+        CardSyncDto second = cardSyncService.sync(learner, first.syncToken(), 2);
+
+        // Assert
+        assertThat(first.hasMore()).isTrue();
+        assertThat(CardSyncToken.decode(first.syncToken())).isEqualTo(new CardSyncToken(5, true));
+        assertThat(second.hasMore()).isFalse();
+        assertThat(second.reset()).isFalse();
+        assertThat(CardSyncToken.decode(second.syncToken())).isEqualTo(new CardSyncToken(50));
+        // the floor (above 7 here) is never consulted for a full sync
+        verify(learnerRepository, never()).getCardSyncFloor(anyLong());
+    }
+
+    @DisplayName("Should reject a malformed sync token")
+    @Test
+    void givenMalformedToken_whenSync_thenBadRequest() {
+        assertThatThrownBy(() -> cardSyncService.sync(learner, "not a token", 100))
+                .isInstanceOf(BadUserRequestActionException.class);
+    }
+
+    private static CardTombstone tombstone(long cardId, long version) {
+        return new CardTombstone(cardId, LEARNER_ID, version, null);
+    }
+
+    private static CardProjection projection(long id) {
+        return new CardProjection(id, null, LEARNER_ID, "entry", null, null, null, 0, 0, null, null);
+    }
+}
@@ -0,0 +1,153 @@
+package com.almonium.card.transfer.format;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.almonium.analyzer.translator.model.enums.Language;
+import com.almonium.card.core.dto.CardCreationDto;
+import com.almonium.card.core.dto.CardDto;
+import com.almonium.card.core.dto.TagDto;
+import com.almonium.card.core.dto.TranslationDto;
+import com.almonium.card.transfer.exception.MalformedCardException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CardFileFormatTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @DisplayName("Should read quoted CSV fields and split multi-value columns")
+    @Test
+    void givenCsvDeck_whenRead_thenParsesQuotedAndMultiValueFields() throws IOException {
+        // Arrange
+        String deck = "﻿entry,translations,tags\n"
+                + "\"to get, to receive\",\"получать|\"\"брать\"\"\",verbs|basic words\n"
+                + "\n"
+                + "apple,яблоко,\n";
+
+        // Act
+        try (CardReader reader = CardFileFormat.CSV.reader(stream(deck), Language.EN, objectMapper)) {
+            CardCreationDto first = reader.next();
+            CardCreationDto second = reader.next();
+
+            // Assert
+            assertThat(first.getEntry()).isEqualTo("to get, to receive");
+            assertThat(first.getLanguage()).isEqualTo("EN");
+            assertThat(first.getTranslations())
+                    .extracting(TranslationDto::getTranslation)
+                    .containsExactly("получать", "\"брать\"");
+            assertThat(first.getTags()).extracting(TagDto::getText).containsExactly("verbs", "basic words");
+            assertThat(second.getEntry()).isEqualTo("apple");
+            assertThat(second.getTags()).isEmpty();
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @DisplayName("Should reject a CSV deck without the required columns")
+    @Test
+    void givenCsvWithoutTranslations_whenRead_thenThrows() {
+        assertThatThrownBy(() -> CardFileFormat.CSV.reader(stream("entry,notes\n"), Language.EN, objectMapper))
+                .isInstanceOf(IOException.class);
+    }
+
+    @DisplayName("Should read Anki notes and skip header lines")
+    @Test
+    void givenAnkiDeck_whenRead_thenSkipsHeadersAndReportsMalformedLines() throws IOException {
+        // Arrange
+        String deck = "#separator:tab\nHund\tdog; hound\tanimals\nbroken line\n";
+
+        // Act
+        try (CardReader reader = CardFileFormat.ANKI.reader(stream(deck), Language.DE, objectMapper)) {
+            CardCreationDto card = reader.next();
+
+            // Assert
+            assertThat(card.getEntry()).isEqualTo("Hund");
+            assertThat(card.getLanguage()).isEqualTo("DE");
+            assertThat(card.getTranslations())
+                    .extracting(TranslationDto::getTranslation)
+                    .containsExactly("dog", "hound");
+            assertThatThrownBy(reader::next).isInstanceOf(MalformedCardException.class);
+            assertThat(reader.position()).isEqualTo("line 3");
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @DisplayName("Should skip a bad JSON element and go on with the next one")
+    @Test
+    void givenJsonWithBadElement_whenRead_thenNextElementIsStillRead() throws IOException {
+        // Arrange
+        String deck = "[{\"entry\":\"cat\",\"translations\":[{\"translation\":\"кот\"}]},"
+                + "{\"entry\":{\"nested\":true}},"
+                + "{\"entry\":\"dog\",\"language\":\"EN\",\"translations\":[{\"translation\":\"пёс\"}]}]";
+
+        // Act
+        try (CardReader reader = CardFileFormat.JSON.reader(stream(deck), Language.EN, objectMapper)) {
+            CardCreationDto first = reader.next();
+
+            // Assert
+            assertThat(first.getEntry()).isEqualTo("cat");
+            assertThat(first.getLanguage()).isEqualTo("EN");
+            assertThatThrownBy(reader::next).isInstanceOf(MalformedCardException.class);
+            assertThat(reader.position()).isEqualTo("element 1");
+            assertThat(reader.next().getEntry()).isEqualTo("dog");
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @DisplayName("Should report a null JSON element as a bad record")
+    @Test
+    void givenJsonWithNullElement_whenRead_thenMalformedAndNextElementRead() throws IOException {
+        // Arrange
+        String deck = "[null,{\"entry\":\"dog\",\"translations\":[{\"translation\":\"пёс\"}]}]";
+
+        // Act
+        try (CardReader reader = CardFileFormat.JSON.reader(stream(deck), Language.EN, objectMapper)) {
+
+            // Assert
+            assertThatThrownBy(reader::next)
+                    .isInstanceOf(MalformedCardException.class)
+                    .hasMessageContaining("NULL");
+            assertThat(reader.position()).isEqualTo("element 0");
+            assertThat(reader.next().getEntry()).isEqualTo("dog");
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @DisplayName("Should write CSV the CSV reader reads back")
+    @Test
+    void givenCard_whenWrittenAsCsv_thenReadsBack() throws IOException {
+        // Arrange
+        CardDto card = new CardDto();
+        card.setEntry("to get, to receive");
+        card.setLanguage("EN");
+        card.setTranslations(new TranslationDto[] {
+            TranslationDto.builder().translation("получать").build(),
+            TranslationDto.builder().translation("брать").build()
+        });
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        try (CardWriter writer = CardFileFormat.CSV.writer(out, objectMapper)) {
+            writer.write(card);
+        }
+
+        // Assert
+        try (CardReader reader =
+                CardFileFormat.CSV.reader(new ByteArrayInputStream(out.toByteArray()), null, objectMapper)) {
+            CardCreationDto read = reader.next();
+            assertThat(read.getEntry()).isEqualTo("to get, to receive");
+            assertThat(read.getLanguage()).isEqualTo("EN");
+            assertThat(read.getTranslations())
+                    .extracting(TranslationDto::getTranslation)
+                    .containsExactly("получать", "брать");
+        }
+    }
+
+    private static ByteArrayInputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,129 @@
+package com.almonium.card.transfer.service;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.almonium.analyzer.translator.model.enums.Language;
+import com.almonium.card.transfer.dto.CardImportJobDto;
+import com.almonium.card.transfer.format.CardFileFormat;
+import com.almonium.card.transfer.model.CardImportJob;
+import com.almonium.card.transfer.model.ImportStatus;
+import com.almonium.user.core.exception.BadUserRequestActionException;
+import com.almonium.user.core.model.entity.Learner;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = PRIVATE)
+class CardImportServiceTest {
+    private static final long LEARNER_ID = 7L;
+
+    @Mock
+    CardBatchWriter cardBatchWriter;
+
+    @Mock
+    ThreadPoolTaskExecutor cardImportTaskExecutor;
+
+    CardImportService cardImportService;
+
+    @BeforeEach
+    void setUp() {
+        cardImportService = new CardImportService(
+                cardBatchWriter,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                new ObjectMapper(),
+                cardImportTaskExecutor,
+                2,
+                64,
+                10);
+    }
+
+    @DisplayName("Should save valid cards in batches and report skipped ones")
+    @Test
+    void givenDeckWithBadRecords_whenRunImport_thenSavesValidCardsInBatches() throws IOException {
+        // Arrange
+        Path spool = spool(
+                """
+                Katze\tcat
+                no tab here
+                Hund\tdog
+                \tno front
+                Maus\tmouse
+                """);
+        CardImportJob job = new CardImportJob(LEARNER_ID, 10);
+
+        // Act
+        cardImportService.runImport(job, spool, CardFileFormat.ANKI, Language.DE);
+
+        // Assert
+        CardImportJobDto result = job.toDto();
+        assertThat(result.status()).isEqualTo(ImportStatus.COMPLETED);
+        assertThat(result.processed()).isEqualTo(5);
+        assertThat(result.imported()).isEqualTo(3);
+        assertThat(result.skipped()).isEqualTo(2);
+        assertThat(result.errors()).hasSize(2).first().asString().startsWith("line 2: ");
+        // batch size is 2: one full batch and the remainder
+        verify(cardBatchWriter, times(2)).write(eq(LEARNER_ID), anyList());
+        assertThat(spool).doesNotExist();
+        // the job is written again on progress, so its retention counts from there
+        assertThat(cardImportService.getJob(
+                        job.getId(), Learner.builder().id(LEARNER_ID).build()))
+                .isEqualTo(result);
+    }
+
+    @DisplayName("Should skip cards of an unknown language")
+    @Test
+    void givenUnknownLanguage_whenRunImport_thenCardIsSkipped() throws IOException {
+        // Arrange
+        Path spool = spool("entry,language,translations\nchat,XX,cat\n");
+        CardImportJob job = new CardImportJob(LEARNER_ID, 10);
+
+        // Act
+        cardImportService.runImport(job, spool, CardFileFormat.CSV, null);
+
+        // Assert
+        assertThat(job.toDto().skipped()).isEqualTo(1);
+        assertThat(job.toDto().errors()).containsExactly("record 1: unknown language XX");
+        verify(cardBatchWriter, never()).write(eq(LEARNER_ID), anyList());
+    }
+
+    @DisplayName("Should reject an upload over the size limit before starting the import")
+    @Test
+    void givenOversizedUpload_whenStartImport_thenThrows() {
+        // Arrange
+        Learner learner = new Learner();
+        learner.setId(LEARNER_ID);
+        ByteArrayInputStream body = new ByteArrayInputStream(new byte[65]);
+
+        // Act & Assert
+        assertThatThrownBy(() -> cardImportService.startImport(learner, CardFileFormat.CSV, Language.EN, body))
+                .isInstanceOf(BadUserRequestActionException.class);
+        verify(cardImportTaskExecutor, never()).execute(any(Runnable.class));
+    }
+
+    private static Path spool(String content) throws IOException {
+        Path file = Files.createTempFile("card-import-test-", ".upload");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+}
@@ -0,0 +1,74 @@
+package com.almonium.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.almonium.analyzer.client.resilience.ProviderGuard;
+import io.netty.channel.ChannelOption;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+class HttpClientConfigTest {
+    HttpClientConfig httpClientConfig;
+    ConnectionProvider connectionProvider;
+
+    @BeforeEach
+    void setUp() {
+        httpClientConfig = new HttpClientConfig();
+        ReflectionTestUtils.setField(httpClientConfig, "connectTimeoutMs", 2000);
+        ReflectionTestUtils.setField(httpClientConfig, "readTimeoutMs", 5000L);
+        ReflectionTestUtils.setField(httpClientConfig, "maxConnectionsPerHost", 50);
+        ReflectionTestUtils.setField(httpClientConfig, "pendingAcquireTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(httpClientConfig, "maxIdleTimeMs", 30000L);
+        connectionProvider = httpClientConfig.outboundConnectionProvider();
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionProvider.dispose();
+    }
+
+    @DisplayName("Should cap the pooled connections per host")
+    @Test
+    void givenConfiguredLimit_whenConnectionProviderBuilt_thenConnectionsCapped() {
+        assertThat(connectionProvider.maxConnections()).isEqualTo(50);
+    }
+
+    @DisplayName("Should build the client on the shared pool with the configured timeouts, HTTP/2 and compression")
+    @Test
+    void givenConfiguredTimeouts_whenHttpClientBuilt_thenApplied() {
+        // Act
+        HttpClient httpClient = httpClientConfig.outboundHttpClient(connectionProvider);
+
+        // Assert
+        assertThat(httpClient.configuration().connectionProvider()).isSameAs(connectionProvider);
+        assertThat(httpClient.configuration().options().get(ChannelOption.CONNECT_TIMEOUT_MILLIS))
+                .isEqualTo(2000);
+        assertThat(httpClient.configuration().responseTimeout()).isEqualTo(Duration.ofMillis(5000));
+        assertThat(httpClient.configuration().protocols()).containsExactly(HttpProtocol.H2, HttpProtocol.HTTP11);
+        assertThat(httpClient.configuration().isAcceptGzip()).isTrue();
+    }
+
+    @DisplayName("Should guard every RestTemplate call with the provider guard")
+    @Test
+    void givenProviderGuard_whenRestTemplateBuilt_thenGuardIntercepts() {
+        // Arrange
+        ProviderGuard providerGuard = mock(ProviderGuard.class);
+        HttpClient httpClient = httpClientConfig.outboundHttpClient(connectionProvider);
+
+        // Act
+        RestTemplate restTemplate = httpClientConfig.restTemplate(new RestTemplateBuilder(), httpClient, providerGuard);
+
+        // Assert
+        assertThat(restTemplate.getInterceptors()).containsExactly(providerGuard);
+    }
+}
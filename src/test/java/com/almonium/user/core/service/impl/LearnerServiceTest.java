@@ -2,11 +2,14 @@ package com.almonium.user.core.service.impl;
 
 import static lombok.AccessLevel.PRIVATE;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.almonium.analyzer.translator.model.enums.Language;
+import com.almonium.auth.common.service.PrincipalCache;
 import com.almonium.subscription.service.PlanValidationService;
 import com.almonium.user.core.model.entity.Learner;
 import com.almonium.user.core.model.entity.User;
@@ -36,6 +39,9 @@ class LearnerServiceTest {
     @Mock
     PlanValidationService planValidationService;
 
+    @Mock
+    PrincipalCache principalCache;
+
     @DisplayName("Should add a new target language for user")
     @Test
     void givenLangCode_whenAddTargetLang_thenNewLangIsAdded() {
@@ -53,6 +59,37 @@ class LearnerServiceTest {
         assertThat(learner.getTargetLangs()).hasSize(2).containsExactlyInAnyOrder(Language.EN, Language.DE);
         verify(learnerRepository).save(learner);
         verify(learnerRepository).findLearnerWithTargetLangs(learnerId);
+        verify(principalCache).evictUser(learnerId);
+    }
+
+    @DisplayName("Should set up languages on a freshly loaded learner, never merging the cached one")
+    @Test
+    void givenCachedLearner_whenSetupLanguages_thenFreshLearnerSavedAndCacheEvicted() {
+        // Arrange
+        long learnerId = 1L;
+        Learner cached = Learner.builder()
+                .id(learnerId)
+                .fluentLangs(new HashSet<>(Set.of(Language.EN)))
+                .targetLangs(new HashSet<>(Set.of(Language.DE)))
+                .build();
+        Learner fresh = Learner.builder()
+                .id(learnerId)
+                .fluentLangs(new HashSet<>(Set.of(Language.EN)))
+                .targetLangs(new HashSet<>(Set.of(Language.DE)))
+                .build();
+        when(learnerRepository.findById(learnerId)).thenReturn(Optional.of(fresh));
+
+        // Act
+        learnerService.setupLanguages(Set.of(Language.UK), Set.of(Language.FR), cached.getId());
+
+        // Assert
+        assertThat(fresh.getFluentLangs()).containsExactly(Language.UK);
+        assertThat(fresh.getTargetLangs()).containsExactly(Language.FR);
+        assertThat(cached.getFluentLangs()).containsExactly(Language.EN);
+        assertThat(cached.getTargetLangs()).containsExactly(Language.DE);
+        verify(learnerRepository, never()).save(argThat(learner -> learner == cached));
+        verify(learnerRepository).save(argThat(learner -> learner == fresh));
+        verify(principalCache).evictUser(learnerId);
     }
 
     @DisplayName("Should set new fluent languages for user with existing fluent languages")
@@ -60,9 +97,11 @@ class LearnerServiceTest {
     void givenUserWithExistingFluentLanguages_whenSetFluentLangs_thenNewLanguagesSet() {
         Set<Language> langCodes = Set.of(Language.DE, Language.FR, Language.ES);
         Learner learner = new Learner();
+        learner.setId(1L);
         learner.setFluentLangs(new HashSet<>(Arrays.asList(Language.EN, Language.DE, Language.FR)));
+        when(learnerRepository.findById(1L)).thenReturn(Optional.of(learner));
 
-        learnerService.updateFluentLanguages(langCodes, learner);
+        learnerService.updateFluentLanguages(langCodes, 1L);
 
         assertThat(learner.getFluentLangs())
                 .as("The new fluent languages should be set correctly")
@@ -78,10 +117,13 @@ class LearnerServiceTest {
         Set<Language> langCodes = Set.of(Language.DE, Language.EN);
 
         Learner learner = new Learner();
+        learner.setId(1L);
+        when(learnerRepository.findById(1L)).thenReturn(Optional.of(learner));
 
-        learnerService.updateFluentLanguages(langCodes, learner);
+        learnerService.updateFluentLanguages(langCodes, 1L);
 
         assertThat(learner.getFluentLangs()).hasSize(2).containsExactlyInAnyOrder(Language.EN, Language.DE);
         verify(learnerRepository, times(1)).save(learner);
+        verify(principalCache).evictUser(1L);
     }
 }
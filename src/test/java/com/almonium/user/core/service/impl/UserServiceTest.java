@@ -8,6 +8,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.almonium.auth.common.service.PrincipalCache;
 import com.almonium.subscription.mapper.PlanSubscriptionMapper;
 import com.almonium.subscription.model.entity.Plan;
 import com.almonium.subscription.model.entity.PlanSubscription;
@@ -48,6 +49,9 @@ class UserServiceTest {
     @Mock
     PlanService planService;
 
+    @Mock
+    PrincipalCache principalCache;
+
     @Mock
     PlanSubscriptionMapper planSubscriptionMapper;
 
@@ -77,6 +81,7 @@ class UserServiceTest {
         verify(userRepository).findById(id);
         verify(userRepository).existsByUsername(newUsername);
         verify(userRepository).save(any(User.class));
+        verify(principalCache).evictUser(id);
     }
 
     @DisplayName("Should return user optional for existing user")
@@ -141,7 +141,7 @@ public class TestDataGenerator {
                 .userId(1L)
                 .entry("Hello")
                 .language("English")
-                .translations(new TranslationDto[] {new TranslationDto(1L, "Hola")})
+                .translations(new TranslationDto[] {new TranslationDto(1L, "Hola", false)})
                 .createdAt(Instant.now())
                 .updatedAt(Instant.now())
                 .iteration(1)
@@ -158,7 +158,7 @@ public class TestDataGenerator {
                 .userId(2L)
                 .entry("Bonjour")
                 .language("French")
-                .translations(new TranslationDto[] {new TranslationDto(2L, "Hello")})
+                .translations(new TranslationDto[] {new TranslationDto(2L, "Hello", false)})
                 .createdAt(Instant.now())
                 .updatedAt(Instant.now())
                 .iteration(3)
@@ -290,8 +290,8 @@ public class TestDataGenerator {
         cardCreationDto.setEntry("Sample Entry");
 
         TranslationDto[] translations = new TranslationDto[2];
-        translations[0] = new TranslationDto(1L, "Translation 1");
-        translations[1] = new TranslationDto(2L, "Translation 2");
+        translations[0] = new TranslationDto(1L, "Translation 1", false);
+        translations[1] = new TranslationDto(2L, "Translation 2", false);
         cardCreationDto.setTranslations(translations);
 
         cardCreationDto.setNotes("Sample Notes");
@@ -362,7 +362,7 @@ public class TestDataGenerator {
         int numTranslations = random.nextInt(5);
         TranslationDto[] translations = new TranslationDto[numTranslations];
         for (int i = 0; i < numTranslations; i++) {
-            translations[i] = new TranslationDto(random.nextLong(), generateRandomString());
+            translations[i] = new TranslationDto(random.nextLong(), generateRandomString(), false);
         }
         return translations;
     }